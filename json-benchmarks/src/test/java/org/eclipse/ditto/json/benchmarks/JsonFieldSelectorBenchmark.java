@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks projecting three fields of the fixtures with a field selector, once on the already parsed fixture, once
+ * by parsing the whole UTF-8 encoded fixture before and once by parsing only the selected fields.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class JsonFieldSelectorBenchmark {
+
+    @Benchmark
+    public JsonObject selectFieldsOfParsedObject(final JsonFixtureState state) {
+        return state.json.get(state.fieldSelector);
+    }
+
+    @Benchmark
+    public JsonObject parseAndSelectFields(final JsonFixtureState state) {
+        return JsonFactory.newObject(state.utf8Bytes).get(state.fieldSelector);
+    }
+
+    @Benchmark
+    public JsonObject parseSelectedFields(final JsonFixtureState state) {
+        return JsonFactory.newObject(state.utf8Bytes, state.fieldSelector);
+    }
+
+}
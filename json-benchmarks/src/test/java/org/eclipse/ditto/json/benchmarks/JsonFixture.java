@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.benchmarks;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * The JSON documents the benchmarks are run with. They are modelled after the JSON representations of things, policies
+ * and Ditto headers as they are sent through the services; the ditto-json modules must not depend on the model modules
+ * though, thus the documents are built with the plain JSON API.
+ * Each document is created deterministically in three sizes.
+ */
+public enum JsonFixture {
+
+    /**
+     * A thing with {@code scale} features, each of them with nested status and configuration properties.
+     */
+    THING {
+        @Override
+        JsonObject createJson(final Size size) {
+            final JsonObjectBuilder featuresBuilder = JsonObject.newBuilder();
+            for (int i = 0; i < size.getScale(); i++) {
+                featuresBuilder.set(featureId(i), JsonObject.newBuilder()
+                        .set("definition", JsonArray.newBuilder().add("org.eclipse.ditto:sensor:1.0.0").build())
+                        .set("properties", JsonObject.newBuilder()
+                                .set("status", JsonObject.newBuilder()
+                                        .set("value", 21.5 + i)
+                                        .set("unit", "Celsius")
+                                        .set("lastUpdate", "2021-03-04T12:00:00.000Z")
+                                        .set("valid", true)
+                                        .build())
+                                .set("configuration", JsonObject.newBuilder()
+                                        .set("samplingRate", 1000 + i)
+                                        .set("thresholds", JsonArray.of(-10, 0, 10, 40))
+                                        .set("label", "Sensor number " + i + " in the \"main\" hall")
+                                        .build())
+                                .build())
+                        .build());
+            }
+            return JsonObject.newBuilder()
+                    .set("thingId", "org.eclipse.ditto.benchmark:thing-" + size.getScale())
+                    .set("policyId", "org.eclipse.ditto.benchmark:policy-" + size.getScale())
+                    .set("definition", "org.eclipse.ditto:device:1.0.0")
+                    .set("attributes", JsonObject.newBuilder()
+                            .set("manufacturer", "ACME Corporation")
+                            .set("serialNumber", "SN-0000-" + size.getScale())
+                            .set("location", JsonObject.newBuilder()
+                                    .set("latitude", 47.682170)
+                                    .set("longitude", 9.386372)
+                                    .build())
+                            .set("tags", JsonArray.of("benchmark", "sensor", "hall"))
+                            .build())
+                    .set("features", featuresBuilder.build())
+                    .set("_revision", 4711L)
+                    .set("_created", "2021-01-01T00:00:00.000Z")
+                    .set("_modified", "2021-03-04T12:00:00.000Z")
+                    .build();
+        }
+
+        @Override
+        JsonPointer getDeepPointer(final Size size) {
+            return JsonFactory.newPointer(JsonKey.of("features"), JsonKey.of(featureId(size.getScale() - 1)),
+                    JsonKey.of("properties"), JsonKey.of("status"), JsonKey.of("value"));
+        }
+
+        @Override
+        JsonFieldSelector getFieldSelector(final Size size) {
+            return JsonFactory.newFieldSelector(JsonPointer.of("thingId"), JsonPointer.of("attributes/location"),
+                    getDeepPointer(size));
+        }
+
+        private String featureId(final int index) {
+            return "sensor-" + index;
+        }
+    },
+
+    /**
+     * A policy with two fixed and {@code scale} additional entries, each of them with subjects and resources.
+     */
+    POLICY {
+        @Override
+        JsonObject createJson(final Size size) {
+            final JsonObjectBuilder entriesBuilder = JsonObject.newBuilder()
+                    .set("DEFAULT", createEntry("integration:benchmark", "thing:/", "policy:/", "message:/"))
+                    .set("OBSERVER", createEntry("google:observer", "thing:/features", "message:/features"));
+            for (int i = 0; i < size.getScale(); i++) {
+                entriesBuilder.set(label(i),
+                        createEntry(subjectId(i), "thing:/features/sensor-" + i, "message:/features/sensor-" + i));
+            }
+            return JsonObject.newBuilder()
+                    .set("policyId", "org.eclipse.ditto.benchmark:policy-" + size.getScale())
+                    .set("entries", entriesBuilder.build())
+                    .set("_revision", 42L)
+                    .set("_modified", "2021-03-04T12:00:00.000Z")
+                    .build();
+        }
+
+        private JsonObject createEntry(final String subjectId, final String... resources) {
+            final JsonObjectBuilder resourcesBuilder = JsonObject.newBuilder();
+            for (final String resource : resources) {
+                resourcesBuilder.set(JsonKey.of(resource), JsonObject.newBuilder()
+                        .set("grant", JsonArray.of("READ", "WRITE"))
+                        .set("revoke", JsonArray.empty())
+                        .build());
+            }
+            return JsonObject.newBuilder()
+                    .set("subjects", JsonObject.newBuilder()
+                            .set(JsonKey.of(subjectId), JsonObject.newBuilder().set("type", "generated").build())
+                            .set(JsonKey.of("connection:benchmark-" + subjectId.length()),
+                                    JsonObject.newBuilder().set("type", "connection").build())
+                            .build())
+                    .set("resources", resourcesBuilder.build())
+                    .build();
+        }
+
+        @Override
+        JsonPointer getDeepPointer(final Size size) {
+            return JsonFactory.newPointer(JsonKey.of("entries"), JsonKey.of(label(size.getScale() - 1)),
+                    JsonKey.of("subjects"), JsonKey.of(subjectId(size.getScale() - 1)), JsonKey.of("type"));
+        }
+
+        @Override
+        JsonFieldSelector getFieldSelector(final Size size) {
+            return JsonFactory.newFieldSelector(JsonPointer.of("policyId"), JsonPointer.of("entries/DEFAULT"),
+                    getDeepPointer(size));
+        }
+
+        private String label(final int index) {
+            return "DEVICE-" + index;
+        }
+
+        private String subjectId(final int index) {
+            return "nginx:device-" + index;
+        }
+    },
+
+    /**
+     * The headers of a command with four additional custom headers per {@code scale}.
+     */
+    HEADERS {
+        @Override
+        JsonObject createJson(final Size size) {
+            final JsonObjectBuilder headersBuilder = JsonObject.newBuilder()
+                    .set("correlation-id", "2dcb4b9c-2e1e-4fd0-a2b8-b1b6b3f1a9c3")
+                    .set("content-type", "application/json")
+                    .set("response-required", true)
+                    .set("requested-acks", "[\"twin-persisted\",\"live-response\"]")
+                    .set("timeout", "60s")
+                    .set("ditto-originator", "integration:benchmark")
+                    .set("ditto-auth-context", "{\"type\":\"pre-authenticated-http\"," +
+                            "\"subjects\":[\"integration:benchmark\",\"nginx:device-0\"]}")
+                    .set("ditto-read-subjects", "[\"integration:benchmark\",\"google:observer\"]")
+                    .set("if-match", "\"rev:4711\"")
+                    .set("schema-version", "2");
+            for (int i = 0; i < CUSTOM_HEADERS_PER_SCALE * size.getScale(); i++) {
+                headersBuilder.set("x-custom-header-" + i, "custom value number " + i);
+            }
+            return headersBuilder.build();
+        }
+
+        @Override
+        JsonPointer getDeepPointer(final Size size) {
+            return JsonPointer.of("x-custom-header-" + (CUSTOM_HEADERS_PER_SCALE * size.getScale() - 1));
+        }
+
+        @Override
+        JsonFieldSelector getFieldSelector(final Size size) {
+            return JsonFactory.newFieldSelector(JsonPointer.of("correlation-id"), JsonPointer.of("ditto-auth-context"),
+                    getDeepPointer(size));
+        }
+    };
+
+    private static final int CUSTOM_HEADERS_PER_SCALE = 4;
+
+    /**
+     * Creates the JSON document of the given size.
+     *
+     * @param size the size of the document.
+     * @return the document.
+     */
+    abstract JsonObject createJson(Size size);
+
+    /**
+     * Returns the pointer of the most deeply nested value of the document of the given size which is added last.
+     *
+     * @param size the size of the document.
+     * @return the pointer.
+     */
+    abstract JsonPointer getDeepPointer(Size size);
+
+    /**
+     * Returns a selector of three fields of the document of the given size like it is used for signal enrichment.
+     *
+     * @param size the size of the document.
+     * @return the field selector.
+     */
+    abstract JsonFieldSelector getFieldSelector(Size size);
+
+    /**
+     * Returns a merge patch for the document of the given size which changes the value at the deep pointer and removes
+     * the top level field {@code _modified} if it exists.
+     *
+     * @param size the size of the document.
+     * @return the merge patch.
+     */
+    JsonObject getMergePatch(final Size size) {
+        return JsonFactory.newObject(getDeepPointer(size), JsonValue.of("patched"))
+                .setValue("_modified", JsonValue.nullLiteral());
+    }
+
+    /**
+     * The sizes of the documents.
+     */
+    public enum Size {
+
+        /**
+         * Less than 1 KB.
+         */
+        SMALL(1),
+
+        /**
+         * About 15 KB.
+         */
+        MEDIUM(60),
+
+        /**
+         * About 800 KB.
+         */
+        HUGE(3000);
+
+        private final int scale;
+
+        Size(final int scale) {
+            this.scale = scale;
+        }
+
+        int getScale() {
+            return scale;
+        }
+
+    }
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.ditto.json.CborFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.cbor.CborKeyDictionaries;
+import org.eclipse.ditto.json.cbor.JacksonCborFactory;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Provides the fixture a benchmark is run with in all of its representations.
+ * Every benchmark method which takes this state is run for each combination of fixture and size.
+ */
+@State(Scope.Benchmark)
+public class JsonFixtureState {
+
+    static final CborFactory CBOR_FACTORY = new JacksonCborFactory();
+
+    @Param({"THING", "POLICY", "HEADERS"})
+    public JsonFixture fixture;
+
+    @Param({"SMALL", "MEDIUM", "HUGE"})
+    public JsonFixture.Size size;
+
+    JsonObject json;
+    String jsonString;
+    byte[] utf8Bytes;
+    byte[] cborBytes;
+    byte[] cborBytesWithKeyDictionary;
+    JsonPointer deepPointer;
+    JsonFieldSelector fieldSelector;
+    JsonObject mergePatch;
+
+    @Setup
+    public void setUp() throws IOException {
+        json = fixture.createJson(size);
+        jsonString = json.toString();
+        utf8Bytes = jsonString.getBytes(StandardCharsets.UTF_8);
+        cborBytes = CBOR_FACTORY.toByteArray(json);
+        cborBytesWithKeyDictionary = CBOR_FACTORY.toByteArray(json, CborKeyDictionaries.V1);
+        deepPointer = fixture.getDeepPointer(size);
+        fieldSelector = fixture.getFieldSelector(size);
+        mergePatch = fixture.getMergePatch(size);
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.benchmarks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link JsonFixture} which ensures that the benchmarks measure what they claim to.
+ */
+public final class JsonFixtureTest {
+
+    @Test
+    public void fixturesHaveTheDocumentedSizes() {
+        for (final JsonFixture fixture : JsonFixture.values()) {
+            assertThat(utf8Length(fixture.createJson(JsonFixture.Size.SMALL))).as(fixture.name())
+                    .isBetween(400, 1_000);
+            assertThat(utf8Length(fixture.createJson(JsonFixture.Size.MEDIUM))).as(fixture.name())
+                    .isBetween(10_000, 40_000);
+            assertThat(utf8Length(fixture.createJson(JsonFixture.Size.HUGE))).as(fixture.name())
+                    .isBetween(500_000, 2_000_000);
+        }
+    }
+
+    @Test
+    public void deepPointersSelectorsAndPatchesMatchTheFixtures() {
+        for (final JsonFixture fixture : JsonFixture.values()) {
+            for (final JsonFixture.Size size : JsonFixture.Size.values()) {
+                final JsonObject json = fixture.createJson(size);
+                final String description = fixture + " " + size;
+
+                assertThat(json.getValue(fixture.getDeepPointer(size))).as(description).isPresent();
+                assertThat(json.get(fixture.getFieldSelector(size)).getSize()).as(description).isGreaterThan(1);
+                assertThat(JsonFactory.mergeJsonValues(fixture.getMergePatch(size), json).asObject()
+                        .getValue(fixture.getDeepPointer(size)))
+                        .as(description)
+                        .contains(JsonValue.of("patched"));
+            }
+        }
+    }
+
+    private static int utf8Length(final JsonObject jsonObject) {
+        return jsonObject.toString().getBytes(StandardCharsets.UTF_8).length;
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks reading the fixtures lazily against parsing them completely, once accessing only the value at the deep
+ * pointer of the fixture and once accessing all values like a mapping strategy of a cluster serializer does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class JsonLazyReadBenchmark {
+
+    @Benchmark
+    public JsonValue parseUtf8BytesAndGetDeepValue(final JsonFixtureState state) {
+        return JsonFactory.readFrom(state.utf8Bytes).asObject().getValue(state.deepPointer).orElse(null);
+    }
+
+    @Benchmark
+    public JsonValue readUtf8BytesLazilyAndGetDeepValue(final JsonFixtureState state) {
+        return JsonFactory.readLazilyFrom(state.utf8Bytes).asObject().getValue(state.deepPointer).orElse(null);
+    }
+
+    @Benchmark
+    public int parseUtf8BytesAndGetAllValues(final JsonFixtureState state) {
+        return countValues(JsonFactory.readFrom(state.utf8Bytes));
+    }
+
+    @Benchmark
+    public int readUtf8BytesLazilyAndGetAllValues(final JsonFixtureState state) {
+        return countValues(JsonFactory.readLazilyFrom(state.utf8Bytes));
+    }
+
+    @Benchmark
+    public JsonValue parseCborAndGetDeepValue(final JsonFixtureState state) {
+        return JsonFixtureState.CBOR_FACTORY.readFrom(ByteBuffer.wrap(state.cborBytes))
+                .asObject()
+                .getValue(state.deepPointer)
+                .orElse(null);
+    }
+
+    @Benchmark
+    public JsonValue readCborLazilyAndGetDeepValue(final JsonFixtureState state) {
+        return JsonFixtureState.CBOR_FACTORY.readLazilyFrom(ByteBuffer.wrap(state.cborBytes))
+                .asObject()
+                .getValue(state.deepPointer)
+                .orElse(null);
+    }
+
+    @Benchmark
+    public int parseCborAndGetAllValues(final JsonFixtureState state) {
+        return countValues(JsonFixtureState.CBOR_FACTORY.readFrom(ByteBuffer.wrap(state.cborBytes)));
+    }
+
+    @Benchmark
+    public int readCborLazilyAndGetAllValues(final JsonFixtureState state) {
+        return countValues(JsonFixtureState.CBOR_FACTORY.readLazilyFrom(ByteBuffer.wrap(state.cborBytes)));
+    }
+
+    private static int countValues(final JsonValue jsonValue) {
+        if (!jsonValue.isObject()) {
+            return 1;
+        }
+        final JsonObject jsonObject = jsonValue.asObject();
+        int result = 1;
+        for (final JsonField field : jsonObject) {
+            result += countValues(field.getValue());
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.cbor.CborKeyDictionaries;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks parsing the fixtures from their JSON string, their UTF-8 encoded bytes and their CBOR representation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class JsonParseBenchmark {
+
+    @Benchmark
+    public JsonValue parseString(final JsonFixtureState state) {
+        return JsonFactory.readFrom(state.jsonString);
+    }
+
+    @Benchmark
+    public JsonValue parseUtf8Bytes(final JsonFixtureState state) {
+        return JsonFactory.readFrom(state.utf8Bytes);
+    }
+
+    @Benchmark
+    public JsonValue parseCbor(final JsonFixtureState state) {
+        return JsonFixtureState.CBOR_FACTORY.readFrom(state.cborBytes);
+    }
+
+    @Benchmark
+    public JsonValue parseCborWithKeyDictionary(final JsonFixtureState state) {
+        final byte[] bytes = state.cborBytesWithKeyDictionary;
+        return JsonFixtureState.CBOR_FACTORY.readFrom(bytes, 0, bytes.length, CborKeyDictionaries.V1);
+    }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.benchmarks;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.cbor.CborKeyDictionaries;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks serializing the fixtures to a JSON string, to UTF-8 bytes and to CBOR.
+ * JSON objects cache their serialized representations, thus each invocation serializes a fresh deep copy of the
+ * fixture which is created outside of the measurement. Writing UTF-8 bytes does not cache anything and writes the
+ * fixture itself to a re-used buffer.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Benchmark
+    public String serializeToString(final FreshCopy freshCopy) {
+        return freshCopy.json.toString();
+    }
+
+    @Benchmark
+    public int serializeToUtf8Bytes(final JsonFixtureState state, final Utf8Buffer utf8Buffer) {
+        final ByteBuffer byteBuffer = utf8Buffer.byteBuffer;
+        byteBuffer.clear();
+        state.json.writeTo(byteBuffer);
+        return byteBuffer.position();
+    }
+
+    @Benchmark
+    public byte[] serializeToCbor(final FreshCopy freshCopy) throws IOException {
+        return JsonFixtureState.CBOR_FACTORY.toByteArray(freshCopy.json);
+    }
+
+    @Benchmark
+    public byte[] serializeToCborWithKeyDictionary(final FreshCopy freshCopy) throws IOException {
+        return JsonFixtureState.CBOR_FACTORY.toByteArray(freshCopy.json, CborKeyDictionaries.V1);
+    }
+
+    /**
+     * Holds a buffer which is large enough for the UTF-8 bytes of the fixture.
+     */
+    @State(Scope.Thread)
+    public static class Utf8Buffer {
+
+        ByteBuffer byteBuffer;
+
+        @Setup
+        public void allocate(final JsonFixtureState state) {
+            byteBuffer = ByteBuffer.allocate(state.utf8Bytes.length);
+        }
+
+    }
+
+    /**
+     * Holds a deep copy of the fixture without any cached serialized representation.
+     */
+    @State(Scope.Thread)
+    public static class FreshCopy {
+
+        JsonObject json;
+
+        @Setup(Level.Invocation)
+        public void copy(final JsonFixtureState state) {
+            json = deepCopy(state.json);
+        }
+
+        private static JsonObject deepCopy(final JsonObject jsonObject) {
+            final JsonObjectBuilder builder = JsonObject.newBuilder();
+            for (final JsonField field : jsonObject) {
+                builder.set(field.getKey(), deepCopy(field.getValue()));
+            }
+            return builder.build();
+        }
+
+        private static JsonValue deepCopy(final JsonValue jsonValue) {
+            if (jsonValue.isObject()) {
+                return deepCopy(jsonValue.asObject());
+            }
+            if (jsonValue.isArray()) {
+                final JsonArrayBuilder builder = JsonArray.newBuilder();
+                for (final JsonValue element : jsonValue.asArray()) {
+                    builder.add(deepCopy(element));
+                }
+                return builder.build();
+            }
+            return jsonValue;
+        }
+
+    }
+
+}
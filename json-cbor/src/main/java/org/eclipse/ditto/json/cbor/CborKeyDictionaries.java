@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.cbor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.CborKeyDictionary;
+
+/**
+ * The published versions of the {@link CborKeyDictionary} for the keys and header names which occur in almost every
+ * signal exchanged between the Ditto services.
+ * <p>
+ * The keys of a published version must never be changed, because every cluster member has to decode the messages of
+ * every other member with the same version. New keys are added by publishing a new version.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public final class CborKeyDictionaries {
+
+    /**
+     * Version 1 of the dictionary. The 24 most frequent keys are encoded with a single byte.
+     */
+    public static final CborKeyDictionary V1 = CborKeyDictionary.newInstance(1, Arrays.asList(
+            // one byte indexes
+            "dittoHeaders", "payload", "type", "status", "thingId", "policyId", "features", "properties",
+            "desiredProperties", "attributes", "definition", "value", "path", "correlation-id", "response-required",
+            "content-type", "ditto-auth-context", "ditto-read-subjects", "ditto-originator", "requested-acks",
+            "version", "_revision", "_modified", "featureId",
+            // two byte indexes
+            "thing", "policy", "_created", "_metadata", "__schemaVersion", "__lifecycle", "_namespace", "_policy",
+            "entries", "subjects", "resources", "grant", "revoke", "timeout", "ditto-channel", "ditto-origin",
+            "ditto-reply-target", "ditto-expected-response-types", "ditto-entity-id", "ditto-read-revoked-subjects",
+            "reply-to", "etag", "if-match", "if-none-match", "declared-acks", "ditto-weak-ack", "ditto-dry-run",
+            "ditto-inbound-payload-mapper", "ditto-connection-id", "put-metadata", "timestamp", "topic", "headers",
+            "label", "subjectId", "resourceKey", "attribute", "property", "desiredProperty", "selectedFields",
+            "entityId", "entityType", "namespace", "subject", "resource", "successful", "policyEntries", "revision",
+            "_timestamp"
+    ));
+
+    private static final List<CborKeyDictionary> ALL_VERSIONS = Collections.singletonList(V1);
+
+    private CborKeyDictionaries() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Returns the latest version of the dictionary.
+     *
+     * @return the dictionary.
+     */
+    public static CborKeyDictionary latest() {
+        return ALL_VERSIONS.get(ALL_VERSIONS.size() - 1);
+    }
+
+    /**
+     * Returns the dictionary with the given version.
+     *
+     * @param version the version.
+     * @return the dictionary or an empty Optional if no dictionary with this version is published.
+     */
+    public static Optional<CborKeyDictionary> getByVersion(final int version) {
+        return ALL_VERSIONS.stream()
+                .filter(dictionary -> dictionary.getVersion() == version)
+                .findAny();
+    }
+
+}
@@ -74,14 +74,14 @@ public final class JacksonCborFactory implements CborFactory {
 
     @Override
     public JsonValue readFrom(final byte[] bytes, final int offset, final int length) {
-        // ensure that buffers position is zero so that offsets determined by CBORParser map directly to positions in
-        // this buffer.
-        final ByteBuffer byteBuffer = ByteBuffer.wrap(bytes, offset, length).slice();
+        // offsets determined by CBORParser are relative to the start of the array, not to the offset, so they map
+        // directly to positions in a buffer wrapping the whole array.
+        final ByteBuffer byteBuffer = ByteBuffer.wrap(bytes);
         try {
             final CBORParser parser = JACKSON_CBOR_FACTORY.createParser(bytes, offset, length);
             return parseValue(parser, byteBuffer);
         } catch (final IOException | IllegalArgumentException e) {
-            throw createJsonParseException(byteBuffer, e);
+            throw createJsonParseException(ByteBuffer.wrap(bytes, offset, length).slice(), e);
         }
     }
 
@@ -116,6 +116,14 @@ public final class JacksonCborFactory implements CborFactory {
         writeToOutputStream(jsonValue, byteBufferOutputStream);
     }
 
+    @Override
+    public void writeToOutputStream(final JsonValue jsonValue, final OutputStream outputStream) throws IOException {
+        final JacksonSerializationContext
+                serializationContext = new JacksonSerializationContext(JACKSON_CBOR_FACTORY, outputStream);
+        jsonValue.writeValue(serializationContext);
+        serializationContext.close();
+    }
+
     @Override
     public byte[] createCborRepresentation(final Map<String, JsonField> jsonFieldMap, final int guessedSerializedSize)
             throws IOException {
@@ -171,13 +179,6 @@ public final class JacksonCborFactory implements CborFactory {
                 .build();
     }
 
-    private static void writeToOutputStream(final JsonValue jsonValue, final OutputStream outputStream)
-            throws IOException {
-        final JacksonSerializationContext
-                serializationContext = new JacksonSerializationContext(JACKSON_CBOR_FACTORY, outputStream);
-        jsonValue.writeValue(serializationContext);
-        serializationContext.close();
-    }
 
     private static JsonValue parseValue(final CBORParser parser, final ByteBuffer byteBuffer) throws IOException {
         return parseValue(parser, byteBuffer, parser.nextToken());
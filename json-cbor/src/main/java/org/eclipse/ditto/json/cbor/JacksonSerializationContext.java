@@ -87,6 +87,13 @@ final class JacksonSerializationContext implements SerializationContext {
         informJacksonThatOneElementWasWritten();
     }
 
+    @Override
+    public void writeCachedElement(final byte[] cachedData, final int offset, final int length) throws IOException {
+        flush();
+        outputStream.write(cachedData, offset, length);
+        informJacksonThatOneElementWasWritten();
+    }
+
     @Override
     public void writeNull() throws IOException {
         jacksonGenerator.writeNull();
@@ -177,8 +184,8 @@ final class JacksonSerializationContext implements SerializationContext {
         }
 
         @Override
-        public void close() throws IOException {
-            target.close();
+        public void close() {
+            // the target is borrowed and must not be closed, see constructor of JacksonSerializationContext
         }
     }
 }
@@ -202,8 +202,9 @@ public final class CborJsonTest {
 
     @Test
     public void validateImmutableJsonObjectInternalCachingBehaviour() throws IOException {
+        // small objects use the compact layout which creates both representations on first use only
         final JsonObject objectWithSelfGeneratedCache = JsonFactory.newObjectBuilder(KNOWN_FIELDS.values()).build();
-        assertInternalCachesAreAsExpected(objectWithSelfGeneratedCache, true, false);
+        assertInternalCachesAreAsExpected(objectWithSelfGeneratedCache, false, false);
 
         final ByteBuffer byteBuffer = cborFactory.toByteBuffer(objectWithSelfGeneratedCache);
         final JsonObject objectWithCborCache = cborFactory.readFrom(byteBuffer).asObject();
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.cbor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.eclipse.ditto.json.CborKeyDictionary;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
+import org.junit.Test;
+
+/**
+ * Unit test for encoding CBOR map keys with a {@link CborKeyDictionary} and for {@link CborKeyDictionaries}.
+ */
+public final class CborKeyDictionaryTest {
+
+    private static final JsonObject KNOWN_SIGNAL = JsonFactory.newObject("{" +
+            "\"dittoHeaders\":{\"correlation-id\":\"abc\",\"response-required\":false,\"x-custom\":\"v\"}," +
+            "\"payload\":{\"type\":\"things.commands:modifyThing\",\"thingId\":\"org.eclipse.ditto:thing\"," +
+            "\"thing\":{\"thingId\":\"org.eclipse.ditto:thing\",\"attributes\":{\"value\":1.5,\"path\":null}," +
+            "\"features\":{\"f1\":{\"properties\":{\"status\":[{\"value\":1},{\"unknown\":true}]}}}}," +
+            "\"unknown\":[\"thingId\",12345678901234]}}");
+
+    private final JacksonCborFactory underTest = new JacksonCborFactory();
+
+    @Test
+    public void roundTripWithDictionary() throws IOException {
+        final byte[] bytes = underTest.toByteArray(KNOWN_SIGNAL, CborKeyDictionaries.V1);
+
+        assertThat(underTest.readFrom(bytes, 0, bytes.length, CborKeyDictionaries.V1)).isEqualTo(KNOWN_SIGNAL);
+    }
+
+    @Test
+    public void lazyReadingWithDictionary() throws IOException {
+        final ByteBuffer byteBuffer = ByteBuffer.allocate(4096);
+        underTest.writeToByteBuffer(KNOWN_SIGNAL, byteBuffer, CborKeyDictionaries.V1);
+        byteBuffer.flip();
+
+        final JsonValue lazilyRead = underTest.readLazilyFrom(byteBuffer, CborKeyDictionaries.V1);
+
+        assertThat(lazilyRead.asObject().getValue("payload/thing/features/f1/properties/status"))
+                .contains(JsonArray.of("[{\"value\":1},{\"unknown\":true}]"));
+        assertThat(lazilyRead.asObject().getValue("dittoHeaders/correlation-id")).contains(JsonValue.of("abc"));
+        assertThat(lazilyRead).isEqualTo(KNOWN_SIGNAL);
+        assertThat(lazilyRead.toString()).isEqualTo(KNOWN_SIGNAL.toString());
+    }
+
+    @Test
+    public void lazilyReadObjectIsWrittenAsPlainCbor() throws IOException {
+        final byte[] bytes = underTest.toByteArray(KNOWN_SIGNAL, CborKeyDictionaries.V1);
+        final JsonObject lazilyRead =
+                underTest.readLazilyFrom(ByteBuffer.wrap(bytes), CborKeyDictionaries.V1).asObject();
+        final JsonObject embedding = JsonObject.newBuilder()
+                .set("payload", lazilyRead.getValue("payload").orElseThrow(AssertionError::new))
+                .build();
+
+        final byte[] plainBytes = underTest.toByteArray(embedding);
+
+        assertThat(underTest.readFrom(plainBytes)).isEqualTo(embedding);
+    }
+
+    @Test
+    public void plainDataCanBeReadWithDictionary() throws IOException {
+        final byte[] plainBytes = underTest.toByteArray(KNOWN_SIGNAL);
+
+        assertThat(underTest.readFrom(plainBytes, 0, plainBytes.length, CborKeyDictionaries.V1))
+                .isEqualTo(KNOWN_SIGNAL);
+        assertThat(underTest.readLazilyFrom(ByteBuffer.wrap(plainBytes), CborKeyDictionaries.V1))
+                .isEqualTo(KNOWN_SIGNAL);
+    }
+
+    @Test
+    public void dictionaryReducesSize() throws IOException {
+        final byte[] plainBytes = underTest.toByteArray(KNOWN_SIGNAL);
+        final byte[] bytes = underTest.toByteArray(KNOWN_SIGNAL, CborKeyDictionaries.V1);
+
+        assertThat(bytes.length).isLessThan(plainBytes.length - 100);
+    }
+
+    @Test
+    public void otherDictionaryVersionIsRejected() throws IOException {
+        final CborKeyDictionary otherVersion = CborKeyDictionary.newInstance(2, CborKeyDictionaries.V1.getKeys());
+        final byte[] bytes = underTest.toByteArray(KNOWN_SIGNAL, otherVersion);
+
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> underTest.readFrom(bytes, 0, bytes.length, CborKeyDictionaries.V1));
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> underTest.readLazilyFrom(ByteBuffer.wrap(bytes), CborKeyDictionaries.V1));
+    }
+
+    @Test
+    public void unknownKeyIndexIsRejected() throws IOException {
+        final CborKeyDictionary largerDictionary = CborKeyDictionary.newInstance(1, Arrays.asList("a", "b"));
+        final CborKeyDictionary smallerDictionary = CborKeyDictionary.newInstance(1, Arrays.asList("a"));
+        final byte[] bytes = underTest.toByteArray(JsonObject.newBuilder().set("b", 1).build(), largerDictionary);
+
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> underTest.readFrom(bytes, 0, bytes.length, smallerDictionary));
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> underTest.readLazilyFrom(ByteBuffer.wrap(bytes), smallerDictionary)
+                        .asObject()
+                        .getSize());
+    }
+
+    @Test
+    public void unknownKeyIndexOfNestedMapIsRejectedWhenRead() throws IOException {
+        final CborKeyDictionary largerDictionary = CborKeyDictionary.newInstance(1, Arrays.asList("a", "b"));
+        final CborKeyDictionary smallerDictionary = CborKeyDictionary.newInstance(1, Arrays.asList("a"));
+        final JsonObject value = JsonObject.newBuilder()
+                .set("a", JsonObject.newBuilder().set("b", 1).build())
+                .build();
+        final byte[] bytes = underTest.toByteArray(value, largerDictionary);
+
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> underTest.readLazilyFrom(ByteBuffer.wrap(bytes), smallerDictionary));
+    }
+
+    @Test
+    public void truncatedMapIsRejectedWhenRead() throws IOException {
+        final byte[] bytes = underTest.toByteArray(KNOWN_SIGNAL, CborKeyDictionaries.V1);
+
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> underTest.readLazilyFrom(ByteBuffer.wrap(bytes, 0, bytes.length - 1),
+                        CborKeyDictionaries.V1));
+    }
+
+    @Test
+    public void nonObjectValuesRoundTrip() throws IOException {
+        for (final JsonValue value : Arrays.asList(JsonValue.of(42), JsonValue.of("thingId"), JsonValue.nullLiteral(),
+                JsonArray.of("[{\"thingId\":\"x\"},[{\"features\":{}}]]"))) {
+            final byte[] bytes = underTest.toByteArray(value, CborKeyDictionaries.V1);
+
+            assertThat(underTest.readFrom(bytes, 0, bytes.length, CborKeyDictionaries.V1)).isEqualTo(value);
+            assertThat(underTest.readLazilyFrom(ByteBuffer.wrap(bytes), CborKeyDictionaries.V1)).isEqualTo(value);
+        }
+    }
+
+    @Test
+    public void duplicateKeysAreRejected() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> CborKeyDictionary.newInstance(1, Arrays.asList("a", "b", "a")));
+    }
+
+    @Test
+    public void publishedVersionsAreFound() {
+        assertThat(CborKeyDictionaries.getByVersion(1)).contains(CborKeyDictionaries.V1);
+        assertThat(CborKeyDictionaries.getByVersion(2)).isEmpty();
+        assertThat(CborKeyDictionaries.latest()).isEqualTo(CborKeyDictionaries.V1);
+    }
+
+}
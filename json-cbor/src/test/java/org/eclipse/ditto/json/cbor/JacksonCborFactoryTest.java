@@ -50,6 +50,7 @@ public final class JacksonCborFactoryTest {
                 "            \"IDs\": [116, 943, 234, 38793]\n" +
                 "          }\n" +
                 "      }",
+                "[\"abc\",{\"nested\":[1,2]}]",
                 "42",
                 "false",
                 "\"someString\""
@@ -100,6 +101,26 @@ public final class JacksonCborFactoryTest {
         assertThat(result).isEqualTo(testValue);
     }
 
+    @Test
+    public void readLazilyFromByteBuffer() {
+        final JsonValue result = cborFactory.readLazilyFrom(ByteBuffer.wrap(testBytes).asReadOnlyBuffer());
+        assertThat(result).isEqualTo(testValue);
+        assertThat(testValue).isEqualTo(result);
+        assertThat(result.hashCode()).isEqualTo(testValue.hashCode());
+        assertThat(result.toString()).isEqualTo(testValue.toString());
+    }
+
+    @Test
+    public void lazilyReadValueIsWrittenUnchanged() throws IOException {
+        final JsonValue result = cborFactory.readLazilyFrom(ByteBuffer.wrap(testBytes));
+        if (result.isObject()) {
+            // access a nested object so that only a part of the bytes is materialized
+            result.asObject().getValue("Image/Thumbnail/Url");
+        }
+        assertThat(BinaryToHexConverter.toHexString(cborFactory.toByteBuffer(result)))
+                .isEqualTo(CborTestUtils.serializeToHexString(testValue));
+    }
+
     @Test
     public void toBytebufferWorks() throws IOException {
         Assertions.assertThat(BinaryToHexConverter.toHexString(cborFactory.toByteBuffer(testValue)))
@@ -27,6 +27,10 @@ abstract class AbstractJsonMerger {
     }
 
     protected static JsonObject filterNullValues(final JsonObject jsonObject) {
+        if (!jsonObject.isNull() && !containsNullValues(jsonObject)) {
+            // patches rarely contain nested nulls, thus avoid rebuilding them
+            return jsonObject;
+        }
         final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
 
         jsonObject.forEach(jsonField -> {
@@ -46,4 +50,15 @@ abstract class AbstractJsonMerger {
 
         return builder.build();
     }
+
+    private static boolean containsNullValues(final JsonObject jsonObject) {
+        for (final JsonField jsonField : jsonObject) {
+            final JsonValue value = jsonField.getValue();
+            if (value.isNull() || value.isObject() && containsNullValues(value.asObject())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
 }
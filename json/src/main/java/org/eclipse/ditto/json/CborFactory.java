@@ -13,6 +13,7 @@
 package org.eclipse.ditto.json;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
@@ -67,6 +68,63 @@ public interface CborFactory {
      */
     JsonValue readFrom(ByteBuffer byteBuffer);
 
+    /**
+     * Deserializes a {@code JsonValue} from the remaining bytes of the passed {@code byteBuffer} lazily: a CBOR map is
+     * returned as a JSON object backed by a copy of the bytes which only decodes a field when it is accessed; nested
+     * maps are decoded lazily as well and are views on the same bytes. The structure of the whole map is validated
+     * when it is read. Other data items are parsed completely. Reading all fields gains nothing over
+     * {@link #readFrom(ByteBuffer)} for small data items, thus only read lazily if few fields of large data items are
+     * accessed.
+     * The position of {@code byteBuffer} is not changed by this method.
+     *
+     * @param byteBuffer the ByteBuffer to parse with CBOR.
+     * @return the JsonValue.
+     * @throws JsonParseException if the bytes contain no valid CBOR data item.
+     * @since 2.0.0
+     */
+    default JsonValue readLazilyFrom(final ByteBuffer byteBuffer) {
+        final byte[] bytes = new byte[byteBuffer.remaining()];
+        byteBuffer.duplicate().get(bytes);
+        return RawFieldMap.readCbor(bytes, this, null);
+    }
+
+    /**
+     * Deserializes a {@code JsonValue} from the remaining bytes of the passed {@code byteBuffer} lazily like
+     * {@link #readLazilyFrom(ByteBuffer)} whose map keys were encoded with the passed {@code keyDictionary}.
+     * The position of {@code byteBuffer} is not changed by this method.
+     *
+     * @param byteBuffer the ByteBuffer to parse with CBOR.
+     * @param keyDictionary the dictionary the bytes were encoded with.
+     * @return the JsonValue.
+     * @throws JsonParseException if the bytes were encoded with another version of the dictionary.
+     * @see #toByteArray(JsonValue, CborKeyDictionary)
+     * @since 2.0.0
+     */
+    default JsonValue readLazilyFrom(final ByteBuffer byteBuffer, final CborKeyDictionary keyDictionary) {
+        final byte[] bytes = new byte[byteBuffer.remaining()];
+        byteBuffer.duplicate().get(bytes);
+        return RawFieldMap.readCbor(bytes, this, keyDictionary);
+    }
+
+    /**
+     * Deserializes a {@code JsonValue} by parsing the passed {@code bytes} with CBOR applying a {@code offset} and
+     * {@code length} whose map keys were encoded with the passed {@code keyDictionary}.
+     *
+     * @param bytes the bytes to parse with CBOR.
+     * @param offset the offset where to start reading from.
+     * @param length the length of how much bytes to read.
+     * @param keyDictionary the dictionary the bytes were encoded with.
+     * @return the parsed JsonValue.
+     * @throws JsonParseException if the bytes were encoded with another version of the dictionary or contain an
+     * unknown key index.
+     * @since 2.0.0
+     */
+    default JsonValue readFrom(final byte[] bytes, final int offset, final int length,
+            final CborKeyDictionary keyDictionary) {
+
+        return readFrom(CborKeyTranscoder.expand(bytes, offset, length, keyDictionary));
+    }
+
     /**
      * Serializes a CBOR byte array from the passed {@code jsonValue}.
      *
@@ -94,6 +152,69 @@ public interface CborFactory {
      */
     void writeToByteBuffer(JsonValue jsonValue, ByteBuffer byteBuffer) throws IOException;
 
+    /**
+     * Serializes a CBOR byte array from the passed {@code jsonValue} whose map keys are encoded with the passed
+     * {@code keyDictionary}. The result is wrapped in the CBOR tag of the dictionary version and can only be read with
+     * the same dictionary.
+     *
+     * @param jsonValue the JsonValue to serialize into CBOR.
+     * @param keyDictionary the dictionary to encode the map keys with.
+     * @return the CBOR bytes.
+     * @throws IOException in case writing the value to the backing OutputStream causes an IOException.
+     * @see #readFrom(byte[], int, int, CborKeyDictionary)
+     * @since 2.0.0
+     */
+    default byte[] toByteArray(final JsonValue jsonValue, final CborKeyDictionary keyDictionary) throws IOException {
+        return CborKeyTranscoder.compress(toByteArray(jsonValue), keyDictionary);
+    }
+
+    /**
+     * Serializes the passed {@code jsonValue} into the passed {@code byteBuffer} applying CBOR whose map keys are
+     * encoded with the passed {@code keyDictionary}.
+     *
+     * @param jsonValue the JsonValue to serialize into CBOR.
+     * @param byteBuffer the ByteBuffer to serialize into.
+     * @param keyDictionary the dictionary to encode the map keys with.
+     * @throws IOException in case writing the value to the backing OutputStream causes an IOException.
+     * @throws java.nio.BufferOverflowException if the remaining bytes of {@code byteBuffer} are not sufficient.
+     * @since 2.0.0
+     */
+    default void writeToByteBuffer(final JsonValue jsonValue, final ByteBuffer byteBuffer,
+            final CborKeyDictionary keyDictionary) throws IOException {
+
+        byteBuffer.put(toByteArray(jsonValue, keyDictionary));
+    }
+
+    /**
+     * Serializes the passed {@code jsonValue} into the passed {@code outputStream} applying CBOR.
+     * The OutputStream is neither flushed nor closed by this method.
+     *
+     * @param jsonValue the JsonValue to serialize into CBOR.
+     * @param outputStream the OutputStream to serialize into.
+     * @throws IOException in case writing the value to the OutputStream causes an IOException.
+     * @since 2.0.0
+     */
+    default void writeToOutputStream(final JsonValue jsonValue, final OutputStream outputStream) throws IOException {
+        outputStream.write(toByteArray(jsonValue));
+    }
+
+    /**
+     * Serializes the passed {@code jsonValue} into the passed {@code outputStream} applying CBOR whose map keys are
+     * encoded with the passed {@code keyDictionary}.
+     * The OutputStream is neither flushed nor closed by this method.
+     *
+     * @param jsonValue the JsonValue to serialize into CBOR.
+     * @param outputStream the OutputStream to serialize into.
+     * @param keyDictionary the dictionary to encode the map keys with.
+     * @throws IOException in case writing the value to the OutputStream causes an IOException.
+     * @since 2.0.0
+     */
+    default void writeToOutputStream(final JsonValue jsonValue, final OutputStream outputStream,
+            final CborKeyDictionary keyDictionary) throws IOException {
+
+        outputStream.write(toByteArray(jsonValue, keyDictionary));
+    }
+
     /**
      * Creates the CBOR representation of the passed JSON fieldMap and the estimated required serialized size of it.
      *
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A static, versioned dictionary of well-known keys of CBOR encoded JSON objects.
+ * When a JSON value is encoded with a key dictionary, each map key which is contained in the dictionary is replaced by
+ * its index in the dictionary as CBOR unsigned integer, if the index is encoded shorter than the key. The encoded
+ * data item is wrapped in a CBOR tag which denotes the dictionary version.
+ * <p>
+ * Data encoded with a dictionary can only be decoded with exactly the same dictionary, thus the keys of a published
+ * version must never be changed. New keys require a new version.
+ * </p>
+ *
+ * @see CborFactory#toByteArray(JsonValue, CborKeyDictionary)
+ * @see CborFactory#readLazilyFrom(java.nio.ByteBuffer, CborKeyDictionary)
+ * @since 2.0.0
+ */
+@Immutable
+public final class CborKeyDictionary {
+
+    /**
+     * The maximum number of keys of a dictionary.
+     */
+    public static final int MAX_SIZE = 65536;
+
+    /**
+     * The maximum version of a dictionary.
+     */
+    public static final int MAX_VERSION = 999;
+
+    // tags from 55000 on are not registered at the IANA CBOR tags registry
+    private static final int TAG_BASE = 55000;
+
+    private final int version;
+    private final List<String> keys;
+    private final byte[][] keyBytes;
+    private final int[] slots;
+
+    private CborKeyDictionary(final int version, final List<String> keys) {
+        this.version = version;
+        this.keys = keys;
+        keyBytes = new byte[keys.size()][];
+        for (int i = 0; i < keyBytes.length; i++) {
+            keyBytes[i] = keys.get(i).getBytes(StandardCharsets.UTF_8);
+        }
+        slots = createSlots(keyBytes);
+    }
+
+    /**
+     * Returns a new key dictionary.
+     *
+     * @param version the version of the dictionary, between {@code 1} and {@link #MAX_VERSION}.
+     * @param keys the keys of the dictionary; the index of a key is its position in the list.
+     * @return the dictionary.
+     * @throws NullPointerException if {@code keys} is or contains {@code null}.
+     * @throws IllegalArgumentException if {@code version} is out of range, if {@code keys} contains a key twice or if
+     * it contains more than {@link #MAX_SIZE} keys.
+     */
+    public static CborKeyDictionary newInstance(final int version, final List<String> keys) {
+        requireNonNull(keys, "The keys of the dictionary must not be null!");
+        if (version < 1 || version > MAX_VERSION) {
+            throw new IllegalArgumentException(MessageFormat.format(
+                    "The version <{0}> of the dictionary is not between 1 and {1}!", version, MAX_VERSION));
+        }
+        if (keys.size() > MAX_SIZE) {
+            throw new IllegalArgumentException(MessageFormat.format(
+                    "The dictionary must not contain more than {0} keys!", MAX_SIZE));
+        }
+        final List<String> keysCopy = new ArrayList<>(keys.size());
+        for (final String key : keys) {
+            requireNonNull(key, "The keys of the dictionary must not be null!");
+            if (keysCopy.contains(key)) {
+                throw new IllegalArgumentException(
+                        MessageFormat.format("The dictionary must not contain the key <{0}> twice!", key));
+            }
+            keysCopy.add(key);
+        }
+        return new CborKeyDictionary(version, Collections.unmodifiableList(keysCopy));
+    }
+
+    private static int[] createSlots(final byte[][] keyBytes) {
+        int capacity = 16;
+        while (capacity < 2 * keyBytes.length) {
+            capacity *= 2;
+        }
+        final int[] result = new int[capacity];
+        Arrays.fill(result, -1);
+        for (int i = 0; i < keyBytes.length; i++) {
+            int slot = hash(keyBytes[i], 0, keyBytes[i].length) & (capacity - 1);
+            while (-1 != result[slot]) {
+                slot = (slot + 1) & (capacity - 1);
+            }
+            result[slot] = i;
+        }
+        return result;
+    }
+
+    private static int hash(final byte[] bytes, final int offset, final int length) {
+        int result = length;
+        for (int i = offset; i < offset + length; i++) {
+            result = 31 * result + bytes[i];
+        }
+        return result ^ (result >>> 16);
+    }
+
+    /**
+     * Returns the version of this dictionary.
+     *
+     * @return the version.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the number of the CBOR tag which wraps data items encoded with this dictionary.
+     *
+     * @return the tag number.
+     */
+    public int getTag() {
+        return TAG_BASE + version;
+    }
+
+    /**
+     * Returns the keys of this dictionary in the order of their indexes.
+     *
+     * @return the unmodifiable list of keys.
+     */
+    public List<String> getKeys() {
+        return keys;
+    }
+
+    /**
+     * Returns the version of the key dictionary whose tag is the given tag number.
+     *
+     * @param tag the tag number.
+     * @return the version or {@code 0} if the tag belongs to no key dictionary.
+     */
+    static int getVersionOfTag(final long tag) {
+        return tag > TAG_BASE && tag <= TAG_BASE + MAX_VERSION ? (int) (tag - TAG_BASE) : 0;
+    }
+
+    /**
+     * Returns the key with the given index.
+     *
+     * @param index the index.
+     * @return the key or {@code null} if this dictionary has no key with this index.
+     */
+    @Nullable
+    String getKey(final long index) {
+        return 0 <= index && index < keys.size() ? keys.get((int) index) : null;
+    }
+
+    /**
+     * Returns the UTF-8 encoded key with the given index.
+     *
+     * @param index the index.
+     * @return the bytes of the key which must not be modified or {@code null} if this dictionary has no key with this
+     * index.
+     */
+    @Nullable
+    byte[] getKeyBytes(final long index) {
+        return 0 <= index && index < keyBytes.length ? keyBytes[(int) index] : null;
+    }
+
+    /**
+     * Returns the index of the key which is UTF-8 encoded in the given range of bytes.
+     *
+     * @param bytes the bytes.
+     * @param offset the index of the first byte of the key.
+     * @param length the number of bytes of the key.
+     * @return the index or {@code -1} if this dictionary does not contain the key.
+     */
+    int indexOf(final byte[] bytes, final int offset, final int length) {
+        int slot = hash(bytes, offset, length) & (slots.length - 1);
+        int index;
+        while (-1 != (index = slots[slot])) {
+            if (regionEquals(keyBytes[index], bytes, offset, length)) {
+                return index;
+            }
+            slot = (slot + 1) & (slots.length - 1);
+        }
+        return -1;
+    }
+
+    private static boolean regionEquals(final byte[] key, final byte[] bytes, final int offset, final int length) {
+        if (key.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (key[i] != bytes[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final CborKeyDictionary that = (CborKeyDictionary) o;
+        return version == that.version && keys.equals(that.keys);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * version + keys.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "version=" + version +
+                ", size=" + keys.size() +
+                "]";
+    }
+
+}
@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Converts plain CBOR data items to data items whose map keys are encoded with a {@link CborKeyDictionary} and back.
+ * <p>
+ * A map key which is contained in the dictionary is replaced by its index as unsigned integer if that is encoded
+ * shorter than the text string; all other bytes are copied unchanged. The compressed data item is wrapped in the tag of
+ * the dictionary. Nested tags, indefinite lengths and values are retained as they are.
+ * </p>
+ */
+@NotThreadSafe
+final class CborKeyTranscoder {
+
+    private static final int MAX_NESTING_LEVEL = 1000;
+
+    private static final int MAJOR_TYPE_UNSIGNED_INTEGER = 0;
+    private static final int MAJOR_TYPE_BYTE_STRING = 2;
+    private static final int MAJOR_TYPE_TEXT_STRING = 3;
+    private static final int MAJOR_TYPE_ARRAY = 4;
+    private static final int MAJOR_TYPE_MAP = 5;
+    private static final int MAJOR_TYPE_TAG = 6;
+    private static final int INDEFINITE_LENGTH = -1;
+    private static final int BREAK = 0xFF;
+
+    private final byte[] bytes;
+    private final int end;
+    private final CborKeyDictionary keyDictionary;
+    private final boolean compress;
+    private byte[] output;
+    private int outputLength;
+    private int index;
+    private int copiedUntil;
+
+    private CborKeyTranscoder(final byte[] bytes, final int offset, final int length,
+            final CborKeyDictionary keyDictionary, final boolean compress, final int expectedOutputLength) {
+
+        this.bytes = bytes;
+        end = offset + length;
+        this.keyDictionary = keyDictionary;
+        this.compress = compress;
+        output = new byte[expectedOutputLength];
+        outputLength = 0;
+        index = offset;
+        copiedUntil = offset;
+    }
+
+    /**
+     * Encodes the map keys of the given plain CBOR data item with the given dictionary.
+     *
+     * @param plainCbor the bytes of exactly one CBOR data item whose map keys are text strings.
+     * @param keyDictionary the dictionary.
+     * @return the data item wrapped in the tag of the dictionary.
+     * @throws JsonParseException if {@code plainCbor} is no valid CBOR data item with text string map keys.
+     */
+    static byte[] compress(final byte[] plainCbor, final CborKeyDictionary keyDictionary) {
+        final CborKeyTranscoder transcoder =
+                new CborKeyTranscoder(plainCbor, 0, plainCbor.length, keyDictionary, true, plainCbor.length + 5);
+        transcoder.writeHead(MAJOR_TYPE_TAG, keyDictionary.getTag());
+        return transcoder.transcode();
+    }
+
+    /**
+     * Decodes the map keys of the given CBOR data item which were encoded with the given dictionary. If the data item
+     * is wrapped in the tag of the dictionary, the tag is removed.
+     *
+     * @param bytes the bytes.
+     * @param offset the index of the first byte of the data item.
+     * @param length the number of bytes of the data item.
+     * @param keyDictionary the dictionary.
+     * @return the plain CBOR data item.
+     * @throws JsonParseException if the bytes contain no valid CBOR data item, if a key index is not contained in
+     * {@code keyDictionary} or if the data item is wrapped in the tag of another dictionary version.
+     */
+    static byte[] expand(final byte[] bytes, final int offset, final int length,
+            final CborKeyDictionary keyDictionary) {
+
+        final int itemOffset = skipDictionaryTag(bytes, offset, keyDictionary);
+        final int itemLength = length - (itemOffset - offset);
+        return new CborKeyTranscoder(bytes, itemOffset, itemLength, keyDictionary, false, itemLength + itemLength / 2)
+                .transcode();
+    }
+
+    /**
+     * Returns the index of the data item after the tag of the given dictionary at {@code offset}.
+     *
+     * @param bytes the bytes.
+     * @param offset the index of the first byte of the possibly tagged data item.
+     * @param keyDictionary the expected dictionary.
+     * @return the index of the data item which is {@code offset} if it is not tagged with a dictionary version.
+     * @throws JsonParseException if the data item is tagged with another dictionary version.
+     */
+    static int skipDictionaryTag(final byte[] bytes, final int offset, final CborKeyDictionary keyDictionary) {
+        if (offset >= bytes.length || MAJOR_TYPE_TAG != getMajorType(bytes[offset])) {
+            return offset;
+        }
+        final CborKeyTranscoder headReader = new CborKeyTranscoder(bytes, offset, bytes.length - offset,
+                keyDictionary, false, 0);
+        final long tag = headReader.readHead();
+        final int version = CborKeyDictionary.getVersionOfTag(tag);
+        if (0 == version) {
+            return offset;
+        }
+        if (version != keyDictionary.getVersion()) {
+            throw parseException("The CBOR data item was encoded with key dictionary version <{0}> instead of <{1}>!",
+                    version, keyDictionary.getVersion());
+        }
+        return headReader.index;
+    }
+
+    private static int getMajorType(final byte initialByte) {
+        return (initialByte & 0xFF) >>> 5;
+    }
+
+    private byte[] transcode() {
+        transcodeItem(1);
+        if (index != end) {
+            throw error("Unexpected data item");
+        }
+        copyUnchangedBytes(end);
+        return outputLength == output.length ? output : Arrays.copyOf(output, outputLength);
+    }
+
+    private void transcodeItem(final int nestingLevel) {
+        if (nestingLevel > MAX_NESTING_LEVEL) {
+            throw error("Nesting too deep");
+        }
+        if (index >= end) {
+            throw error("Unexpected end of input");
+        }
+        final int majorType = getMajorType(bytes[index]);
+        final long argument = readHead();
+        switch (majorType) {
+            case MAJOR_TYPE_BYTE_STRING:
+            case MAJOR_TYPE_TEXT_STRING:
+                skipString(majorType, argument);
+                break;
+            case MAJOR_TYPE_ARRAY:
+                if (INDEFINITE_LENGTH == argument) {
+                    while (!readIfBreak()) {
+                        transcodeItem(nestingLevel + 1);
+                    }
+                } else {
+                    for (long i = 0; i < argument; i++) {
+                        transcodeItem(nestingLevel + 1);
+                    }
+                }
+                break;
+            case MAJOR_TYPE_MAP:
+                for (long i = 0; INDEFINITE_LENGTH == argument ? !readIfBreak() : i < argument; i++) {
+                    transcodeKey();
+                    transcodeItem(nestingLevel + 1);
+                }
+                break;
+            case MAJOR_TYPE_TAG:
+                transcodeItem(nestingLevel + 1);
+                break;
+            default:
+                // integers, simple values and floats consist of their head only
+                if (INDEFINITE_LENGTH == argument) {
+                    throw error("Unexpected break");
+                }
+        }
+    }
+
+    private void transcodeKey() {
+        if (index >= end) {
+            throw error("Unexpected end of input");
+        }
+        final int keyOffset = index;
+        final int majorType = getMajorType(bytes[index]);
+        final long argument = readHead();
+        if (MAJOR_TYPE_TEXT_STRING == majorType) {
+            skipString(majorType, argument);
+            if (compress && INDEFINITE_LENGTH != argument) {
+                final int stringOffset = index - (int) argument;
+                final int keyIndex = keyDictionary.indexOf(bytes, stringOffset, (int) argument);
+                if (0 <= keyIndex && getHeadSize(keyIndex) < index - keyOffset) {
+                    copyUnchangedBytes(keyOffset);
+                    writeHead(MAJOR_TYPE_UNSIGNED_INTEGER, keyIndex);
+                    copiedUntil = index;
+                }
+            }
+        } else if (!compress && MAJOR_TYPE_UNSIGNED_INTEGER == majorType) {
+            final byte[] key = keyDictionary.getKeyBytes(argument);
+            if (null == key) {
+                throw error("Unknown key index " + argument);
+            }
+            copyUnchangedBytes(keyOffset);
+            writeHead(MAJOR_TYPE_TEXT_STRING, key.length);
+            write(key, 0, key.length);
+            copiedUntil = index;
+        } else {
+            throw error("Unexpected map key of major type " + majorType);
+        }
+    }
+
+    // reads the initial byte and the argument of a data item and returns the argument
+    private long readHead() {
+        final int additionalInformation = bytes[index++] & 0x1F;
+        if (additionalInformation < 24) {
+            return additionalInformation;
+        }
+        switch (additionalInformation) {
+            case 24:
+                return readUnsigned(1);
+            case 25:
+                return readUnsigned(2);
+            case 26:
+                return readUnsigned(4);
+            case 27:
+                return readUnsigned(8);
+            case 31:
+                return INDEFINITE_LENGTH;
+            default:
+                throw error("Reserved additional information " + additionalInformation);
+        }
+    }
+
+    private long readUnsigned(final int byteCount) {
+        if (index + byteCount > end) {
+            throw error("Unexpected end of input");
+        }
+        long result = 0;
+        for (int i = 0; i < byteCount; i++) {
+            result = (result << 8) | (bytes[index++] & 0xFF);
+        }
+        return result;
+    }
+
+    private boolean readIfBreak() {
+        if (index < end && BREAK == (bytes[index] & 0xFF)) {
+            index++;
+            return true;
+        }
+        return false;
+    }
+
+    private void skipString(final int majorType, final long length) {
+        if (INDEFINITE_LENGTH == length) {
+            while (!readIfBreak()) {
+                if (index >= end || majorType != getMajorType(bytes[index])) {
+                    throw error("Invalid chunk of indefinite length string");
+                }
+                skipString(majorType, readHead());
+            }
+        } else if (length < 0 || length > end - index) {
+            throw error("Unexpected end of input");
+        } else {
+            index += (int) length;
+        }
+    }
+
+    private static int getHeadSize(final long argument) {
+        if (argument < 24) {
+            return 1;
+        } else if (argument < 0x100) {
+            return 2;
+        } else if (argument < 0x10000) {
+            return 3;
+        }
+        return 5;
+    }
+
+    private void writeHead(final int majorType, final long argument) {
+        final int initialByte = majorType << 5;
+        final int headSize = getHeadSize(argument);
+        ensureCapacity(headSize);
+        if (1 == headSize) {
+            output[outputLength++] = (byte) (initialByte | argument);
+        } else {
+            output[outputLength++] = (byte) (initialByte | (24 + Integer.numberOfTrailingZeros(headSize - 1)));
+            for (int shift = 8 * (headSize - 2); shift >= 0; shift -= 8) {
+                output[outputLength++] = (byte) (argument >>> shift);
+            }
+        }
+    }
+
+    private void copyUnchangedBytes(final int until) {
+        write(bytes, copiedUntil, until - copiedUntil);
+        copiedUntil = until;
+    }
+
+    private void write(final byte[] source, final int sourceOffset, final int count) {
+        ensureCapacity(count);
+        System.arraycopy(source, sourceOffset, output, outputLength, count);
+        outputLength += count;
+    }
+
+    private void ensureCapacity(final int additionalBytes) {
+        if (outputLength + additionalBytes > output.length) {
+            output = Arrays.copyOf(output, Math.max(2 * output.length, outputLength + additionalBytes));
+        }
+    }
+
+    private JsonParseException error(final String message) {
+        return parseException("Failed to transcode CBOR keys: {0} at byte <{1}>!", message, index);
+    }
+
+    private static JsonParseException parseException(final String messagePattern, final Object... arguments) {
+        return JsonParseException.newBuilder()
+                .message(MessageFormat.format(messagePattern, arguments))
+                .build();
+    }
+
+}
@@ -21,14 +21,19 @@ import javax.annotation.concurrent.Immutable;
 
 /**
  * An immutable implementation of {@link JsonKey}.
+ * Frequently used keys are interned by a bounded {@link JsonInternCache}; the hash code is computed once.
  */
 @Immutable
 final class ImmutableJsonKey implements JsonKey {
 
+    static final JsonInternCache<JsonKey> INTERN_CACHE = JsonInternCache.newInstance("keys", ImmutableJsonKey::new);
+
     private final String keyValue;
+    private final int hashCode;
 
     private ImmutableJsonKey(final String theKeyValue) {
         keyValue = theKeyValue;
+        hashCode = calculateHashCode();
     }
 
     /**
@@ -48,7 +53,7 @@ final class ImmutableJsonKey implements JsonKey {
             throw new IllegalArgumentException("The key string must not be empty!");
         }
 
-        return new ImmutableJsonKey(keyValue.toString());
+        return INTERN_CACHE.intern(keyValue.toString());
     }
 
     @Override
@@ -80,11 +85,15 @@ final class ImmutableJsonKey implements JsonKey {
             return false;
         }
         final ImmutableJsonKey that = (ImmutableJsonKey) o;
-        return Objects.equals(keyValue, that.keyValue);
+        return hashCode == that.hashCode && Objects.equals(keyValue, that.keyValue);
     }
 
     @Override
     public int hashCode() {
+        return hashCode;
+    }
+
+    private int calculateHashCode() {
         return Objects.hash(keyValue);
     }
 
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable default implementation of {@link JsonMergeResult}.
+ */
+@Immutable
+final class ImmutableJsonMergeResult implements JsonMergeResult {
+
+    private final JsonValue mergedValue;
+    private final Set<JsonPointer> changedPointers;
+
+    private ImmutableJsonMergeResult(final JsonValue mergedValue, final Set<JsonPointer> changedPointers) {
+        this.mergedValue = requireNonNull(mergedValue, "The merged value must not be null!");
+        this.changedPointers = Collections.unmodifiableSet(new LinkedHashSet<>(
+                requireNonNull(changedPointers, "The changed pointers must not be null!")));
+    }
+
+    /**
+     * Returns a new instance of {@code ImmutableJsonMergeResult}.
+     *
+     * @param mergedValue the merged value.
+     * @param changedPointers the pointers of the values which were changed by the merge.
+     * @return the instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static ImmutableJsonMergeResult of(final JsonValue mergedValue, final Set<JsonPointer> changedPointers) {
+        return new ImmutableJsonMergeResult(mergedValue, changedPointers);
+    }
+
+    @Override
+    public JsonValue getMergedValue() {
+        return mergedValue;
+    }
+
+    @Override
+    public Set<JsonPointer> getChangedPointers() {
+        return changedPointers;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ImmutableJsonMergeResult that = (ImmutableJsonMergeResult) o;
+        return Objects.equals(mergedValue, that.mergedValue) && Objects.equals(changedPointers, that.changedPointers);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(mergedValue, changedPointers);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "mergedValue=" + mergedValue +
+                ", changedPointers=" + changedPointers +
+                "]";
+    }
+
+}
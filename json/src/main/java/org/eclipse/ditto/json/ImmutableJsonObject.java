@@ -17,9 +17,13 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.lang.ref.SoftReference;
 import java.text.MessageFormat;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.Iterator;
@@ -29,6 +33,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -44,6 +49,13 @@ import javax.annotation.concurrent.NotThreadSafe;
  * instead while the old JSON object remains unchanged.
  * Care has to be taken to assign the result of an altering method like {@code add} to a variable to have a handle to
  * the new resp. altered JSON object.
+ * <p>
+ * JSON objects with less fields than configured by the system property {@value CompactFieldMap#THRESHOLD_PROPERTY}
+ * (default: {@value CompactFieldMap#DEFAULT_THRESHOLD}) store their fields in a flat array which is searched
+ * linearly. Larger JSON objects keep their fields in a soft referenced map alongside a cached string or CBOR
+ * representation.
+ * JSON objects read lazily are views on their raw UTF-8 or CBOR bytes, see {@link RawFieldMap}.
+ * </p>
  */
 @Immutable
 final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject {
@@ -52,9 +64,9 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
 
     @Nullable private static ImmutableJsonObject emptyInstance = null;
 
-    private final SoftReferencedFieldMap fieldMap;
+    private final FieldMap fieldMap;
 
-    ImmutableJsonObject(final SoftReferencedFieldMap theFieldMap) {
+    ImmutableJsonObject(final FieldMap theFieldMap) {
         fieldMap = theFieldMap;
     }
 
@@ -66,7 +78,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
     public static ImmutableJsonObject empty() {
         ImmutableJsonObject result = emptyInstance;
         if (null == result) {
-            result = new ImmutableJsonObject(SoftReferencedFieldMap.empty());
+            result = new ImmutableJsonObject(FieldMap.empty());
             emptyInstance = result;
         }
         return result;
@@ -80,7 +92,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
      * @throws NullPointerException if {@code fields} is {@code null}.
      */
     public static ImmutableJsonObject of(final Map<String, JsonField> fields) {
-        return new ImmutableJsonObject(SoftReferencedFieldMap.of(fields));
+        return new ImmutableJsonObject(FieldMap.of(fields));
     }
 
     /**
@@ -94,7 +106,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
     public static ImmutableJsonObject of(final Map<String, JsonField> fields,
             @Nullable final String stringRepresentation) {
 
-        return new ImmutableJsonObject(SoftReferencedFieldMap.of(fields, stringRepresentation));
+        return new ImmutableJsonObject(FieldMap.of(fields, stringRepresentation));
     }
 
     /**
@@ -109,7 +121,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
     public static ImmutableJsonObject of(final Map<String, JsonField> fields,
             @Nullable final byte[] cborRepresentation) {
 
-        return new ImmutableJsonObject(SoftReferencedFieldMap.of(
+        return new ImmutableJsonObject(FieldMap.of(
                 fields,
                 cborRepresentation != null ? cborRepresentation.clone() : null
         ));
@@ -146,7 +158,8 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         final JsonKey leafKey = pointer.getLeaf().orElse(ROOT_KEY);
         final Optional<JsonFieldDefinition> keyDefinition = getDefinitionForKey(leafKey);
 
-        return setFieldInHierarchy(this, pointer, JsonField.newInstance(leafKey, value, keyDefinition.orElse(null)));
+        return setFieldInHierarchy(this, pointer, JsonField.newInstance(leafKey, value, keyDefinition.orElse(null)),
+                isPersistent());
     }
 
     private Optional<JsonFieldDefinition> getDefinitionForKey(final CharSequence key) {
@@ -164,11 +177,11 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             return new IllegalArgumentException(MessageFormat.format(msgTemplate, fieldDefinition));
         });
         final JsonField field = JsonField.newInstance(leafKey, JsonValue.of(value), fieldDefinition);
-        return setFieldInHierarchy(this, pointer, field);
+        return setFieldInHierarchy(this, pointer, field, isPersistent());
     }
 
     private static JsonObject setFieldInHierarchy(final JsonObject target, final JsonPointer pointer,
-            final JsonField jsonField) {
+            final JsonField jsonField, final boolean persistentPath) {
 
         if (1 >= pointer.getLevelCount()) {
             return target.set(jsonField);
@@ -180,10 +193,50 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
                 .filter(JsonValue::isObject)
                 .filter(jsonValue -> !jsonValue.isNull())
                 .map(JsonValue::asObject)
+                .map(child -> adoptPersistence(child, persistentPath))
                 .orElseGet(ImmutableJsonObject::empty);
 
         // let the recursion begin ]:-)
-        return target.setValue(rootKey, setFieldInHierarchy(newTarget, pointer.nextLevel(), jsonField));
+        return target.setValue(rootKey,
+                setFieldInHierarchy(newTarget, pointer.nextLevel(), jsonField, persistentPath));
+    }
+
+    /**
+     * Nested JSON objects on the path of an update of a persistent JSON object become persistent as well if they keep
+     * their fields in a map or are large lazily read views. Otherwise each update of the nested object would still copy
+     * all of its fields. Compact nested objects are cheap to copy and stay compact.
+     */
+    static JsonObject adoptPersistence(final JsonObject child, final boolean persistentPath) {
+        if (persistentPath && child instanceof ImmutableJsonObject) {
+            final FieldMap childFieldMap = ((ImmutableJsonObject) child).fieldMap;
+            if (childFieldMap instanceof SoftReferencedFieldMap ||
+                    childFieldMap instanceof RawFieldMap && !CompactFieldMap.isApplicable(childFieldMap.getSize())) {
+                return ((ImmutableJsonObject) child).toPersistent();
+            }
+        }
+        return child;
+    }
+
+    /**
+     * Indicates whether this JSON object shares the structure of its fields with the JSON objects derived from it.
+     *
+     * @return {@code true} if this object is persistent.
+     */
+    boolean isPersistent() {
+        return fieldMap instanceof PersistentFieldMap;
+    }
+
+    /**
+     * Returns a JSON object with the same fields as this one whose updates only copy the touched path instead of all
+     * fields.
+     *
+     * @return this object if it is already persistent or a persistent copy of it.
+     */
+    ImmutableJsonObject toPersistent() {
+        if (isPersistent()) {
+            return this;
+        }
+        return new ImmutableJsonObject(PersistentFieldMap.of(fieldMap.getIterator()));
     }
 
     @Override
@@ -399,10 +452,10 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
     @Override
     public JsonObject remove(final CharSequence key) {
         requireNonNull(key, "The key or pointer of the field to be removed must not be null!");
-        return removeForPointer(JsonPointer.of(key));
+        return removeForPointer(JsonPointer.of(key), isPersistent());
     }
 
-    private JsonObject removeForPointer(final JsonPointer pointer) {
+    private JsonObject removeForPointer(final JsonPointer pointer, final boolean persistentPath) {
         final JsonObject result;
 
         final JsonKey rootKey = pointer.getRoot().orElse(ROOT_KEY);
@@ -422,7 +475,8 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
                     .filter(JsonValue::isObject)
                     .map(JsonValue::asObject)
                     .filter(containsNextLevelRootKey)
-                    .map(jsonObject -> jsonObject.remove(nextPointerLevel)) // Recursion
+                    .map(jsonObject -> adoptPersistence(jsonObject, persistentPath))
+                    .map(jsonObject -> removeFromChild(jsonObject, nextPointerLevel, persistentPath)) // Recursion
                     .map(withoutValue -> JsonField.newInstance(rootKey, withoutValue, rootKeyDefinition.orElse(null)))
                     .map(this::set)
                     .orElse(this);
@@ -431,6 +485,15 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         return result;
     }
 
+    private static JsonObject removeFromChild(final JsonObject child, final JsonPointer pointer,
+            final boolean persistentPath) {
+
+        if (child instanceof ImmutableJsonObject) {
+            return ((ImmutableJsonObject) child).removeForPointer(pointer, persistentPath);
+        }
+        return child.remove(pointer);
+    }
+
     private JsonObject removeValueForKey(final CharSequence key) {
         JsonObject result = this;
 
@@ -540,11 +603,180 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         return fieldMap.upperBoundForStringSize();
     }
 
+    /**
+     * The internal storage of the fields of an {@code ImmutableJsonObject}.
+     */
     @Immutable
-    static final class SoftReferencedFieldMap {
+    interface FieldMap {
+
+        /**
+         * Returns an empty field map.
+         *
+         * @return the field map.
+         */
+        static FieldMap empty() {
+            if (0 < CompactFieldMap.THRESHOLD) {
+                return CompactFieldMap.empty();
+            }
+            return SoftReferencedFieldMap.empty();
+        }
+
+        /**
+         * Returns a field map containing the given fields in the layout which suits their number.
+         *
+         * @param jsonFieldMap the fields.
+         * @return the field map.
+         * @throws NullPointerException if {@code jsonFieldMap} is {@code null}.
+         */
+        static FieldMap of(final Map<String, JsonField> jsonFieldMap) {
+            return of(jsonFieldMap, null, null);
+        }
+
+        /**
+         * Returns a field map containing the given fields in the layout which suits their number.
+         *
+         * @param jsonFieldMap the fields.
+         * @param stringRepresentation the already known string representation of the fields or {@code null}.
+         * @return the field map.
+         * @throws NullPointerException if {@code jsonFieldMap} is {@code null}.
+         */
+        static FieldMap of(final Map<String, JsonField> jsonFieldMap, @Nullable final String stringRepresentation) {
+            return of(jsonFieldMap, stringRepresentation, null);
+        }
+
+        /**
+         * Returns a field map containing the given fields in the layout which suits their number.
+         *
+         * @param jsonFieldMap the fields.
+         * @param cborObjectRepresentation the already known CBOR representation of the fields or {@code null}.
+         * @return the field map.
+         * @throws NullPointerException if {@code jsonFieldMap} is {@code null}.
+         */
+        static FieldMap of(final Map<String, JsonField> jsonFieldMap,
+                @Nullable final byte[] cborObjectRepresentation) {
+
+            return of(jsonFieldMap, null, cborObjectRepresentation);
+        }
+
+        /**
+         * Returns a field map containing the given fields in the layout which suits their number.
+         *
+         * @param jsonFieldMap the fields.
+         * @param stringRepresentation the already known string representation of the fields or {@code null}.
+         * @param cborObjectRepresentation the already known CBOR representation of the fields or {@code null}.
+         * @return the field map.
+         * @throws NullPointerException if {@code jsonFieldMap} is {@code null}.
+         */
+        static FieldMap of(final Map<String, JsonField> jsonFieldMap,
+                @Nullable final String stringRepresentation,
+                @Nullable final byte[] cborObjectRepresentation) {
+
+            requireNonNull(jsonFieldMap, "The fields of JSON object must not be null!");
+            if (CompactFieldMap.isApplicable(jsonFieldMap.size())) {
+                return CompactFieldMap.of(jsonFieldMap.values(), stringRepresentation, cborObjectRepresentation);
+            }
+            return SoftReferencedFieldMap.of(jsonFieldMap, stringRepresentation, cborObjectRepresentation);
+        }
+
+        int getSize();
+
+        boolean isEmpty();
+
+        boolean containsKey(String key);
+
+        @Nullable
+        JsonField getOrNull(String key);
+
+        FieldMap put(String key, JsonField value);
+
+        FieldMap putAll(Iterable<JsonField> jsonFields);
+
+        FieldMap remove(String key);
+
+        Stream<JsonField> getStream();
+
+        Iterator<JsonField> getIterator();
+
+        /**
+         * Returns an unmodifiable map of the fields in insertion order.
+         * The returned map is not necessarily a copy.
+         *
+         * @return the map.
+         */
+        Map<String, JsonField> asMap();
+
+        String asJsonObjectString();
+
+        void writeValue(SerializationContext serializationContext) throws IOException;
+
+        long upperBoundForStringSize();
+
+        /**
+         * Returns the minimal JSON string representation of a JSON object with the given fields.
+         *
+         * @param jsonFields the fields in the order in which they should be written.
+         * @return the string representation.
+         */
+        static String toJsonObjectString(final Iterator<JsonField> jsonFields) {
+            final StringBuilder stringBuilder = new StringBuilder();
+            stringBuilder.append('{');
+            String delimiter = "";
+            while (jsonFields.hasNext()) {
+                stringBuilder.append(delimiter);
+                stringBuilder.append(jsonFields.next());
+                delimiter = ",";
+            }
+            stringBuilder.append('}');
+            return stringBuilder.toString();
+        }
+
+        /**
+         * Computes the upper bound for the length of the string representation of the given fields without creating
+         * it.
+         *
+         * @param fieldMap the fields.
+         * @return the upper bound.
+         */
+        static long upperBoundForStringSize(final FieldMap fieldMap) {
+            // braces and commas
+            long result = 2L + Math.max(0, fieldMap.getSize() - 1);
+            final Iterator<JsonField> iterator = fieldMap.getIterator();
+            while (iterator.hasNext()) {
+                final JsonField field = iterator.next();
+                // quotes and colon plus each char of the key name escaped as unicode sequence in the worst case
+                result += 3L + 6L * field.getKeyName().length() + field.getValue().getUpperBoundForStringSize();
+            }
+            return result;
+        }
+
+        /**
+         * Indicates whether the given fields are equal.
+         * Like {@link SoftReferencedFieldMap} comparing string representations, fields with values of different
+         * JsonValue implementations are equal if the JSON representations of the values are.
+         *
+         * @param field the field to be compared.
+         * @param otherField the field to compare with or {@code null}.
+         * @return {@code true} if both fields are equal.
+         */
+        static boolean areEqual(final JsonField field, @Nullable final JsonField otherField) {
+            if (field.equals(otherField)) {
+                return true;
+            }
+            if (null == otherField || !field.getKey().equals(otherField.getKey())) {
+                return false;
+            }
+            final JsonValue value = field.getValue();
+            final JsonValue otherValue = otherField.getValue();
+            return value.getClass() != otherValue.getClass() && value.toString().equals(otherValue.toString());
+        }
+
+    }
+
+    @Immutable
+    static final class SoftReferencedFieldMap implements FieldMap {
 
         private static final long CBOR_MAX_COMPRESSION_RATIO = 5; // "false" compressed to one byte
-        private static final CborFactory CBOR_FACTORY;
+        static final CborFactory CBOR_FACTORY;
 
         static {
             final ServiceLoader<CborFactory> sl = ServiceLoader.load(CborFactory.class);
@@ -619,53 +851,67 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             return stringBuilder.toString();
         }
 
-        int getSize() {
+        @Override
+        public int getSize() {
             return fields().size();
         }
 
-        boolean isEmpty() {
+        @Override
+        public boolean isEmpty() {
             return fields().isEmpty();
         }
 
-        boolean containsKey(final String key) {
+        @Override
+        public boolean containsKey(final String key) {
             return fields().containsKey(key);
         }
 
+        @Override
         @Nullable
-        JsonField getOrNull(final String key) {
+        public JsonField getOrNull(final String key) {
             return fields().get(key);
         }
 
-        SoftReferencedFieldMap put(final String key, final JsonField value) {
+        @Override
+        public FieldMap put(final String key, final JsonField value) {
             final Map<String, JsonField> fieldsCopy = copyFields();
             fieldsCopy.put(key, value);
-            return of(fieldsCopy);
+            return FieldMap.of(fieldsCopy);
         }
 
         private Map<String, JsonField> copyFields() {
             return new LinkedHashMap<>(fields());
         }
 
-        SoftReferencedFieldMap putAll(final Iterable<JsonField> jsonFields) {
+        @Override
+        public FieldMap putAll(final Iterable<JsonField> jsonFields) {
             final Map<String, JsonField> fieldsCopy = copyFields();
             jsonFields.forEach(jsonField -> fieldsCopy.put(jsonField.getKeyName(), jsonField));
-            return of(fieldsCopy);
+            return FieldMap.of(fieldsCopy);
         }
 
-        SoftReferencedFieldMap remove(final String key) {
+        @Override
+        public FieldMap remove(final String key) {
             final Map<String, JsonField> fieldsCopy = copyFields();
             fieldsCopy.remove(key);
-            return of(fieldsCopy);
+            return FieldMap.of(fieldsCopy);
         }
 
-        Stream<JsonField> getStream() {
+        @Override
+        public Stream<JsonField> getStream() {
             return fields().values().stream();
         }
 
-        Iterator<JsonField> getIterator() {
+        @Override
+        public Iterator<JsonField> getIterator() {
             return fields().values().iterator();
         }
 
+        @Override
+        public Map<String, JsonField> asMap() {
+            return fields();
+        }
+
         private Map<String, JsonField> fields() {
             Map<String, JsonField> result = fieldsReference.get();
             if (null == result) {
@@ -705,6 +951,9 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             if (this == o) {
                 return true;
             }
+            if (o instanceof CompactFieldMap || o instanceof PersistentFieldMap || o instanceof RawFieldMap) {
+                return o.equals(this);
+            }
             if (o == null || getClass() != o.getClass()) {
                 return false;
             }
@@ -735,14 +984,16 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             return result;
         }
 
-        String asJsonObjectString() {
+        @Override
+        public String asJsonObjectString() {
             if (jsonObjectStringRepresentation == null) {
                 jsonObjectStringRepresentation = createStringRepresentation(this.fields());
             }
             return jsonObjectStringRepresentation;
         }
 
-        void writeValue(final SerializationContext serializationContext) throws IOException {
+        @Override
+        public void writeValue(final SerializationContext serializationContext) throws IOException {
             if (CBOR_FACTORY.isCborAvailable() && cborObjectRepresentation == null) {
                 cborObjectRepresentation = CBOR_FACTORY.createCborRepresentation(this.fields(), guessSerializedSize());
             }
@@ -760,6 +1011,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             return 512;
         }
 
+        @Override
         public long upperBoundForStringSize() {
             if (jsonObjectStringRepresentation != null) {
                 return jsonObjectStringRepresentation.length();
@@ -773,6 +1025,294 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
 
     }
 
+    /**
+     * Stores the fields of a small JSON object in a flat array in insertion order.
+     * Lookups search the array linearly which is faster than hashing for a few fields.
+     * No map is retained. The string and CBOR representations are computed on first use and cached like in
+     * {@link SoftReferencedFieldMap}.
+     */
+    @Immutable
+    static final class CompactFieldMap implements FieldMap {
+
+        /**
+         * System property name of the property defining the number of fields below which JSON objects are stored
+         * in the compact layout. A value of {@code 0} disables the compact layout.
+         */
+        static final String THRESHOLD_PROPERTY = "ditto.json.compact-object-threshold";
+
+        /**
+         * The default number of fields below which JSON objects are stored in the compact layout.
+         */
+        static final int DEFAULT_THRESHOLD = 8;
+
+        static final int THRESHOLD = Math.max(0, Integer.getInteger(THRESHOLD_PROPERTY, DEFAULT_THRESHOLD));
+
+        private static final int GUESSED_CBOR_SIZE = 64;
+        private static final JsonField[] NO_FIELDS = new JsonField[0];
+        private static final CompactFieldMap EMPTY = new CompactFieldMap(NO_FIELDS, "{}", new byte[]{(byte) 0xA0});
+
+        private final JsonField[] fields;
+        @Nullable private String jsonObjectStringRepresentation;
+        @Nullable private byte[] cborObjectRepresentation;
+        private int hashCode;
+
+        private CompactFieldMap(final JsonField[] fields, @Nullable final String stringRepresentation,
+                @Nullable final byte[] cborObjectRepresentation) {
+
+            this.fields = fields;
+            jsonObjectStringRepresentation = stringRepresentation;
+            this.cborObjectRepresentation = cborObjectRepresentation;
+            hashCode = 0;
+        }
+
+        private CompactFieldMap(final JsonField[] fields) {
+            this(fields, null, null);
+        }
+
+        static boolean isApplicable(final int fieldCount) {
+            return fieldCount < THRESHOLD;
+        }
+
+        static CompactFieldMap empty() {
+            return EMPTY;
+        }
+
+        static CompactFieldMap of(final Collection<JsonField> jsonFields) {
+            return of(jsonFields, null, null);
+        }
+
+        static CompactFieldMap of(final Collection<JsonField> jsonFields, @Nullable final String stringRepresentation,
+                @Nullable final byte[] cborObjectRepresentation) {
+
+            if (jsonFields.isEmpty()) {
+                return EMPTY;
+            }
+            return new CompactFieldMap(jsonFields.toArray(NO_FIELDS), stringRepresentation, cborObjectRepresentation);
+        }
+
+        @Override
+        public int getSize() {
+            return fields.length;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return 0 == fields.length;
+        }
+
+        @Override
+        public boolean containsKey(final String key) {
+            return 0 <= indexOf(key);
+        }
+
+        @Override
+        @Nullable
+        public JsonField getOrNull(final String key) {
+            final int index = indexOf(key);
+            return 0 <= index ? fields[index] : null;
+        }
+
+        private int indexOf(final String key) {
+            for (int i = 0; i < fields.length; i++) {
+                if (fields[i].getKeyName().equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public FieldMap put(final String key, final JsonField value) {
+            final int index = indexOf(key);
+            final FieldMap result;
+            if (0 <= index) {
+                final JsonField[] fieldsCopy = fields.clone();
+                fieldsCopy[index] = value;
+                result = new CompactFieldMap(fieldsCopy);
+            } else if (isApplicable(fields.length + 1)) {
+                final JsonField[] fieldsCopy = Arrays.copyOf(fields, fields.length + 1);
+                fieldsCopy[fields.length] = value;
+                result = new CompactFieldMap(fieldsCopy);
+            } else {
+                final Map<String, JsonField> fieldsCopy = copyFields();
+                fieldsCopy.put(key, value);
+                result = FieldMap.of(fieldsCopy);
+            }
+            return result;
+        }
+
+        private Map<String, JsonField> copyFields() {
+            final Map<String, JsonField> result = new LinkedHashMap<>();
+            for (final JsonField field : fields) {
+                result.put(field.getKeyName(), field);
+            }
+            return result;
+        }
+
+        @Override
+        public FieldMap putAll(final Iterable<JsonField> jsonFields) {
+            final Map<String, JsonField> fieldsCopy = copyFields();
+            jsonFields.forEach(jsonField -> fieldsCopy.put(jsonField.getKeyName(), jsonField));
+            return FieldMap.of(fieldsCopy);
+        }
+
+        @Override
+        public FieldMap remove(final String key) {
+            final int index = indexOf(key);
+            if (0 > index) {
+                return this;
+            }
+            if (1 == fields.length) {
+                return EMPTY;
+            }
+            final JsonField[] fieldsCopy = new JsonField[fields.length - 1];
+            System.arraycopy(fields, 0, fieldsCopy, 0, index);
+            System.arraycopy(fields, index + 1, fieldsCopy, index, fields.length - index - 1);
+            return new CompactFieldMap(fieldsCopy);
+        }
+
+        @Override
+        public Stream<JsonField> getStream() {
+            return Arrays.stream(fields);
+        }
+
+        @Override
+        public Iterator<JsonField> getIterator() {
+            return Collections.unmodifiableList(Arrays.asList(fields)).iterator();
+        }
+
+        @Override
+        public Map<String, JsonField> asMap() {
+            return new FieldMapView(this);
+        }
+
+        @Override
+        public String asJsonObjectString() {
+            String result = jsonObjectStringRepresentation;
+            if (null == result) {
+                result = FieldMap.toJsonObjectString(getIterator());
+                jsonObjectStringRepresentation = result;
+            }
+            return result;
+        }
+
+        @Override
+        public void writeValue(final SerializationContext serializationContext) throws IOException {
+            byte[] result = cborObjectRepresentation;
+            if (null == result) {
+                final CborFactory cborFactory = SoftReferencedFieldMap.CBOR_FACTORY;
+                result = cborFactory.createCborRepresentation(asMap(), GUESSED_CBOR_SIZE);
+                cborObjectRepresentation = result;
+            }
+            serializationContext.writeCachedElement(result);
+        }
+
+        @Override
+        public long upperBoundForStringSize() {
+            final String stringRepresentation = jsonObjectStringRepresentation;
+            if (null != stringRepresentation) {
+                return stringRepresentation.length();
+            }
+            return FieldMap.upperBoundForStringSize(this);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof FieldMap)) {
+                return false;
+            }
+            final FieldMap that = (FieldMap) o;
+            if (fields.length != that.getSize()) {
+                return false;
+            }
+            for (final JsonField field : fields) {
+                if (!FieldMap.areEqual(field, that.getOrNull(field.getKeyName()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = hashCode;
+            if (0 == result) {
+                // same as Map#hashCode to be consistent with SoftReferencedFieldMap
+                for (final JsonField field : fields) {
+                    result += field.getKeyName().hashCode() ^ field.hashCode();
+                }
+                hashCode = result;
+            }
+            return result;
+        }
+
+    }
+
+    /**
+     * An unmodifiable read-only map view on the fields of a {@link FieldMap} which does not retain a map itself.
+     */
+    static final class FieldMapView extends AbstractMap<String, JsonField> {
+
+        private final FieldMap fieldMap;
+
+        FieldMapView(final FieldMap fieldMap) {
+            this.fieldMap = fieldMap;
+        }
+
+        @Override
+        public int size() {
+            return fieldMap.getSize();
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return null != get(key);
+        }
+
+        @Override
+        @Nullable
+        public JsonField get(final Object key) {
+            return key instanceof String ? fieldMap.getOrNull((String) key) : null;
+        }
+
+        @Override
+        public Collection<JsonField> values() {
+            return new AbstractCollection<JsonField>() {
+                @Override
+                public Iterator<JsonField> iterator() {
+                    return fieldMap.getIterator();
+                }
+
+                @Override
+                public int size() {
+                    return fieldMap.getSize();
+                }
+            };
+        }
+
+        @Override
+        public Set<Entry<String, JsonField>> entrySet() {
+            return new AbstractSet<Entry<String, JsonField>>() {
+                @Override
+                public Iterator<Entry<String, JsonField>> iterator() {
+                    return fieldMap.getStream()
+                            .<Entry<String, JsonField>>map(field -> new SimpleImmutableEntry<>(field.getKeyName(),
+                                    field))
+                            .iterator();
+                }
+
+                @Override
+                public int size() {
+                    return fieldMap.getSize();
+                }
+            };
+        }
+
+    }
+
     /**
      * This JsonHandler creates a Map instead of a JsonObject as Map is the internal structure of ImmutableJsonObject.
      * All method calls which do not affect JSON object creation are delegated to {@link DefaultDittoJsonHandler}.
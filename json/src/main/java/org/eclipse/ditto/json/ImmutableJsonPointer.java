@@ -26,10 +26,13 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 /**
  * This class represents a JSON pointer consisting of at least one {@link JsonKey}.
+ * Frequently parsed pointers are interned by a bounded {@link JsonInternCache}; the hash code is computed once and the
+ * string representation on first use.
  */
 @Immutable
 final class ImmutableJsonPointer implements JsonPointer {
@@ -43,10 +46,17 @@ final class ImmutableJsonPointer implements JsonPointer {
 
     private static final ImmutableJsonPointer EMPTY = new ImmutableJsonPointer(Collections.emptyList());
 
+    static final JsonInternCache<JsonPointer> INTERN_CACHE =
+            JsonInternCache.newInstance("pointers", ImmutableJsonPointer::parse);
+
     private final List<JsonKey> jsonKeyHierarchy;
+    private final int hashCode;
+    @Nullable private String stringRepresentation;
 
     private ImmutableJsonPointer(final List<JsonKey> theJsonKeys) {
         jsonKeyHierarchy = Collections.unmodifiableList(new ArrayList<>(theJsonKeys));
+        hashCode = calculateHashCode();
+        stringRepresentation = null;
     }
 
     /**
@@ -79,22 +89,27 @@ final class ImmutableJsonPointer implements JsonPointer {
             result = newInstance(Collections.singletonList(((JsonKey) slashDelimitedCharSequence)));
         } else if (0 == slashDelimitedCharSequence.length()) {
             result = empty();
-        } else if (DOUBLE_SLASH_PATTERN.matcher(slashDelimitedCharSequence).find()) {
-            throw JsonPointerInvalidException.newBuilderForConsecutiveSlashes(slashDelimitedCharSequence)
-                    .build();
         } else {
-            final List<JsonKey> jsonKeys = Stream.of(SINGLE_SLASH_REGEX_PATTERN.split(slashDelimitedCharSequence))
-                    .filter(keyName -> !keyName.isEmpty()) // ignore empty segments
-                    .map(ImmutableJsonPointer::decodeTilde)
-                    .map(JsonFactory::newKey)
-                    .collect(toList());
-
-            result = newInstance(jsonKeys);
+            result = INTERN_CACHE.intern(slashDelimitedCharSequence.toString());
         }
 
         return result;
     }
 
+    private static JsonPointer parse(final String slashDelimitedString) {
+        if (DOUBLE_SLASH_PATTERN.matcher(slashDelimitedString).find()) {
+            throw JsonPointerInvalidException.newBuilderForConsecutiveSlashes(slashDelimitedString)
+                    .build();
+        }
+        final List<JsonKey> jsonKeys = Stream.of(SINGLE_SLASH_REGEX_PATTERN.split(slashDelimitedString))
+                .filter(keyName -> !keyName.isEmpty()) // ignore empty segments
+                .map(ImmutableJsonPointer::decodeTilde)
+                .map(JsonFactory::newKey)
+                .collect(toList());
+
+        return newInstance(jsonKeys);
+    }
+
     private static String decodeTilde(final CharSequence keyString) {
         final Matcher matcher = ESCAPED_TILDE_PATTERN.matcher(keyString);
         return matcher.replaceAll(DECODED_TILDE_PATTERN.toString());
@@ -287,11 +302,15 @@ final class ImmutableJsonPointer implements JsonPointer {
             return false;
         }
         final ImmutableJsonPointer jsonKeys = (ImmutableJsonPointer) o;
-        return Objects.equals(jsonKeyHierarchy, jsonKeys.jsonKeyHierarchy);
+        return hashCode == jsonKeys.hashCode && Objects.equals(jsonKeyHierarchy, jsonKeys.jsonKeyHierarchy);
     }
 
     @Override
     public int hashCode() {
+        return hashCode;
+    }
+
+    private int calculateHashCode() {
         return Objects.hash(jsonKeyHierarchy);
     }
 
@@ -323,15 +342,18 @@ final class ImmutableJsonPointer implements JsonPointer {
      */
     @Override
     public String toString() {
-        final String stringRepresentation;
-        if (jsonKeyHierarchy.isEmpty()) {
-            stringRepresentation = SLASH;
-        } else {
-            stringRepresentation = SLASH + jsonKeyHierarchy.stream()
-                    .map(ImmutableJsonPointer::escapeTilde)
-                    .collect(Collectors.joining(SLASH));
+        String result = stringRepresentation;
+        if (null == result) {
+            if (jsonKeyHierarchy.isEmpty()) {
+                result = SLASH;
+            } else {
+                result = SLASH + jsonKeyHierarchy.stream()
+                        .map(ImmutableJsonPointer::escapeTilde)
+                        .collect(Collectors.joining(SLASH));
+            }
+            stringRepresentation = result;
         }
-        return stringRepresentation;
+        return result;
     }
 
     private static String escapeTilde(final JsonKey jsonKey) {
@@ -14,9 +14,8 @@ package org.eclipse.ditto.json;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.ByteArrayInputStream;
-import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.util.Arrays;
@@ -201,6 +200,93 @@ public final class JsonFactory {
         return JsonValueParser.fromReader().apply(reader);
     }
 
+    /**
+     * Reads the given UTF-8 encoded bytes and creates a JSON value based on the read data.
+     * The bytes are parsed directly without decoding them to a Java String first.
+     *
+     * @param jsonData the UTF-8 encoded JSON document to read.
+     * @return a JSON value representing the read document. This value can be a JSON literal, a JSON object and so on.
+     * @throws NullPointerException if {@code jsonData} is {@code null}.
+     * @throws JsonParseException if {@code jsonData} is empty or if it is no valid JSON.
+     * @since 2.0.0
+     */
+    public static JsonValue readFrom(final byte[] jsonData) {
+        requireNonNull(jsonData, "The JSON data to read from must not be null!");
+        if (0 == jsonData.length) {
+            throw new JsonParseException("The JSON data to read from must not be empty!");
+        }
+
+        return JsonValueParser.fromBytes().apply(jsonData);
+    }
+
+    /**
+     * Reads the remaining UTF-8 encoded bytes of the given ByteBuffer and creates a JSON value based on the read data.
+     * The bytes are parsed directly without decoding them to a Java String first.
+     * The position of {@code byteBuffer} is not changed by this method.
+     *
+     * @param byteBuffer the buffer containing the UTF-8 encoded JSON document to read.
+     * @return a JSON value representing the read document. This value can be a JSON literal, a JSON object and so on.
+     * @throws NullPointerException if {@code byteBuffer} is {@code null}.
+     * @throws JsonParseException if {@code byteBuffer} has no remaining bytes or if it contains no valid JSON.
+     * @since 2.0.0
+     */
+    public static JsonValue readFrom(final ByteBuffer byteBuffer) {
+        requireNonNull(byteBuffer, "The ByteBuffer to read from must not be null!");
+        if (!byteBuffer.hasRemaining()) {
+            throw new JsonParseException("The ByteBuffer to read from must not be empty!");
+        }
+
+        return JsonValueParser.fromByteBuffer().apply(byteBuffer);
+    }
+
+    /**
+     * Reads the given UTF-8 encoded bytes lazily. If they contain a JSON object, the returned object is a view on a
+     * copy of the bytes which only indexes the offsets of its fields on first access and parses a value only when it
+     * is accessed; nested JSON objects are read lazily as well. Setting or removing a value copies the fields to a
+     * regular JSON object. Any other JSON value is parsed completely.
+     * <p>
+     * Use this method if only a few fields of large documents are accessed; reading all fields of small documents gains
+     * nothing over parsing them with {@link #readFrom(byte[])}. The whole document is validated when it is read, thus
+     * accessing a value never fails because of invalid JSON. Nested JSON objects are views on the same bytes, thus a
+     * retained nested object retains the whole document.
+     * </p>
+     *
+     * @param jsonData the UTF-8 encoded JSON document to read.
+     * @return a JSON value representing the read document.
+     * @throws NullPointerException if {@code jsonData} is {@code null}.
+     * @throws JsonParseException if {@code jsonData} is empty or if it is no valid JSON.
+     * @since 2.0.0
+     */
+    public static JsonValue readLazilyFrom(final byte[] jsonData) {
+        requireNonNull(jsonData, "The JSON data to read from must not be null!");
+        if (0 == jsonData.length) {
+            throw new JsonParseException("The JSON data to read from must not be empty!");
+        }
+
+        return RawFieldMap.readUtf8Json(jsonData.clone());
+    }
+
+    /**
+     * Reads the remaining UTF-8 encoded bytes of the given ByteBuffer lazily like {@link #readLazilyFrom(byte[])}.
+     * The position of {@code byteBuffer} is not changed by this method.
+     *
+     * @param byteBuffer the buffer containing the UTF-8 encoded JSON document to read.
+     * @return a JSON value representing the read document.
+     * @throws NullPointerException if {@code byteBuffer} is {@code null}.
+     * @throws JsonParseException if {@code byteBuffer} has no remaining bytes or if it contains no valid JSON.
+     * @since 2.0.0
+     */
+    public static JsonValue readLazilyFrom(final ByteBuffer byteBuffer) {
+        requireNonNull(byteBuffer, "The ByteBuffer to read from must not be null!");
+        if (!byteBuffer.hasRemaining()) {
+            throw new JsonParseException("The ByteBuffer to read from must not be empty!");
+        }
+
+        final byte[] jsonData = new byte[byteBuffer.remaining()];
+        byteBuffer.duplicate().get(jsonData);
+        return RawFieldMap.readUtf8Json(jsonData);
+    }
+
     /**
      * Returns a new mutable builder for a {@code JsonObject}.
      *
@@ -287,8 +373,7 @@ public final class JsonFactory {
         if (isJsonNullLiteralData(jsonData)) {
             return nullObject();
         } else {
-            final Reader reader = new InputStreamReader(new ByteArrayInputStream(jsonData));
-            final JsonValue jsonValue = JsonValueParser.fromReader().apply(reader);
+            final JsonValue jsonValue = JsonValueParser.fromBytes().apply(jsonData);
             if (!jsonValue.isObject()) {
                 final String msgPattern = "<{0}> is not a valid JSON object!";
                 throw JsonParseException.newBuilder()
@@ -298,6 +383,87 @@ public final class JsonFactory {
         }
     }
 
+    /**
+     * Creates a JSON object from the given string which contains only the fields selected by the given field selector.
+     * The result is equal to {@code newObject(jsonString).get(fieldSelector)}, but the values of unselected fields are
+     * skipped while parsing instead of being created and discarded afterwards.
+     * Skipped values are only checked for a well-formed structure and valid strings.
+     *
+     * @param jsonString the string that represents the JSON object.
+     * @param fieldSelector selects the fields to be parsed.
+     * @return the JSON object that has been created from the selected fields of the string.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonString} is empty.
+     * @throws JsonParseException if {@code jsonString} does not contain a valid JSON object.
+     * @since 2.0.0
+     */
+    public static JsonObject newObject(final String jsonString, final JsonFieldSelector fieldSelector) {
+        requireNonNull(jsonString, "The JSON string to create a JSON object from must not be null!");
+        if (jsonString.isEmpty()) {
+            throw new IllegalArgumentException("The JSON string to create a JSON object from must not be empty!");
+        }
+
+        return newObject(jsonString.getBytes(StandardCharsets.UTF_8), fieldSelector);
+    }
+
+    /**
+     * Creates a JSON object from the given UTF-8 encoded bytes which contains only the fields selected by the given
+     * field selector.
+     * The result is equal to {@code newObject(jsonData).get(fieldSelector)}, but the values of unselected fields are
+     * skipped while parsing instead of being created and discarded afterwards.
+     * Skipped values are only checked for a well-formed structure and valid strings.
+     *
+     * @param jsonData the byte array that represents the JSON object.
+     * @param fieldSelector selects the fields to be parsed.
+     * @return the JSON object that has been created from the selected fields of the data.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonData} is empty.
+     * @throws JsonParseException if {@code jsonData} does not contain a valid JSON object.
+     * @since 2.0.0
+     */
+    public static JsonObject newObject(final byte[] jsonData, final JsonFieldSelector fieldSelector) {
+        requireNonNull(jsonData, "The JSON data to create a JSON object from must not be null!");
+        requireNonNull(fieldSelector, "The JSON field selector must not be null!");
+        if (jsonData.length == 0) {
+            throw new IllegalArgumentException("The JSON data to create a JSON object from must not be empty!");
+        }
+
+        if (isJsonNullLiteralData(jsonData)) {
+            return nullObject();
+        }
+        final JsonValue jsonValue =
+                JsonValueParser.fromBytes(jsonData, JsonFieldSelectorTrie.of(fieldSelector.getPointers()));
+        if (!jsonValue.isObject()) {
+            final String msgPattern = "<{0}> is not a valid JSON object!";
+            throw JsonParseException.newBuilder()
+                    .message(MessageFormat.format(msgPattern, jsonValue)).build();
+        }
+        return jsonValue.asObject();
+    }
+
+    /**
+     * Returns a JSON object with the same fields as the given one which is optimized for frequent updates.
+     * Setting or removing a value of the returned object only copies the path to the affected field instead of all
+     * fields; the unchanged parts are shared between the original and the updated object. Nested JSON objects are
+     * converted on demand when a value inside them is set or removed.
+     *
+     * @param jsonObject the JSON object to be converted.
+     * @return {@code jsonObject} if it already is persistent or a null object, else a persistent copy of it.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @since 2.0.0
+     */
+    public static JsonObject newPersistentObject(final JsonObject jsonObject) {
+        requireNonNull(jsonObject, "The JSON object to be converted must not be null!");
+
+        if (jsonObject instanceof ImmutableJsonObject) {
+            return ((ImmutableJsonObject) jsonObject).toPersistent();
+        }
+        if (jsonObject.isNull()) {
+            return jsonObject;
+        }
+        return new ImmutableJsonObject(PersistentFieldMap.of(jsonObject.iterator()));
+    }
+
     private static boolean isJsonNullLiteralString(final String s) {
         return NULL_STRING.equals(s);
     }
@@ -380,6 +546,24 @@ public final class JsonFactory {
         return JsonValueMerger.mergeJsonValues(jsonValue1, jsonValue2);
     }
 
+    /**
+     * Applies the given JSON merge patch to the given JSON value like {@link #mergeJsonValues(JsonValue, JsonValue)}
+     * and reports which values were changed by the patch.
+     * Only the patch is walked and all subtrees of {@code jsonValue} which are not changed by the patch are shared by
+     * the merged value.
+     *
+     * @param mergePatch the JSON merge patch to apply, overrides conflicting fields.
+     * @param jsonValue the JSON value to apply the patch to.
+     * @return the merged value together with the pointers of the values which were added, replaced or removed.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @since 2.0.0
+     */
+    public static JsonMergeResult applyMergePatch(final JsonValue mergePatch, final JsonValue jsonValue) {
+        requireNonNull(mergePatch, "The merge patch must not be null!");
+        requireNonNull(jsonValue, "The JSON value to be patched must not be null!");
+        return JsonValueMerger.mergeJsonValuesWithChanges(mergePatch, jsonValue);
+    }
+
     /**
      * Returns a JSON NULL literal which is typed as JSON object.
      *
@@ -553,6 +737,17 @@ public final class JsonFactory {
         return ImmutableJsonPointer.ofParsed(slashDelimitedCharSequence);
     }
 
+    /**
+     * Returns the current statistics of the caches which intern frequently used JSON keys and parsed JSON pointers.
+     *
+     * @return the statistics of the key cache followed by those of the pointer cache.
+     * @since 2.0.0
+     */
+    public static List<JsonInternCacheStatistics> getInternCacheStatistics() {
+        return Collections.unmodifiableList(Arrays.asList(ImmutableJsonKey.INTERN_CACHE.getStatistics(),
+                ImmutableJsonPointer.INTERN_CACHE.getStatistics()));
+    }
+
     /**
      * Returns a new mutable builder for {@code JsonParseOptions}.
      *
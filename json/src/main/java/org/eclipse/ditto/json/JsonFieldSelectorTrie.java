@@ -19,6 +19,7 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
 /**
@@ -136,4 +137,15 @@ final class JsonFieldSelectorTrie {
         return child != null ? child : new JsonFieldSelectorTrie();
     }
 
+    /**
+     * Retrieves a child without creating an empty trie if it does not exist.
+     *
+     * @param key label of the child.
+     * @return the child or {@code null} if this trie has no child with label {@code key}.
+     */
+    @Nullable
+    JsonFieldSelectorTrie getChild(final JsonKey key) {
+        return children.get(key);
+    }
+
 }
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A bounded cache which interns immutable values created from strings, e. g. JSON keys and parsed JSON pointers.
+ * The cache is a two-way set associative table of fixed capacity: each string maps to two adjacent slots and a miss
+ * replaces one of them. Thus the same few hundred hot keys and pointers are shared while rarely used ones are
+ * evicted without any bookkeeping or locking.
+ * <p>
+ * The capacity is configured by the system property {@value #CAPACITY_PROPERTY} (default: {@value #DEFAULT_CAPACITY})
+ * and rounded up to a power of two. A capacity of {@code 0} disables interning.
+ * </p>
+ *
+ * @param <T> the type of the interned values.
+ */
+@ThreadSafe
+final class JsonInternCache<T> {
+
+    /**
+     * System property name of the property defining the number of entries of each intern cache.
+     */
+    static final String CAPACITY_PROPERTY = "ditto.json.intern-cache-capacity";
+
+    /**
+     * The default number of entries of each intern cache.
+     */
+    static final int DEFAULT_CAPACITY = 4096;
+
+    /**
+     * Strings longer than this are not interned as they are unlikely to recur and expensive to compare.
+     */
+    static final int MAX_INTERNED_LENGTH = 256;
+
+    private final String name;
+    private final Function<String, T> factory;
+
+    // the slots are not volatile: entries are immutable and safely published by their final fields, a stale read only
+    // causes an additional miss
+    private final Entry<T>[] slots;
+    private final int mask;
+    private final LongAdder hitCount;
+    private final LongAdder missCount;
+
+    @SuppressWarnings("unchecked")
+    private JsonInternCache(final String name, final int capacity, final Function<String, T> factory) {
+        this.name = name;
+        this.factory = factory;
+        slots = new Entry[capacity];
+        mask = capacity - 1;
+        hitCount = new LongAdder();
+        missCount = new LongAdder();
+    }
+
+    /**
+     * Returns a new intern cache with the capacity configured by system property.
+     *
+     * @param name the name of the cache which is reported in its statistics.
+     * @param factory creates the value for a string which is not interned yet.
+     * @param <T> the type of the interned values.
+     * @return the cache.
+     */
+    static <T> JsonInternCache<T> newInstance(final String name, final Function<String, T> factory) {
+        return newInstance(name, Integer.getInteger(CAPACITY_PROPERTY, DEFAULT_CAPACITY), factory);
+    }
+
+    static <T> JsonInternCache<T> newInstance(final String name, final int capacity,
+            final Function<String, T> factory) {
+
+        return new JsonInternCache<>(name, roundUpToPowerOfTwo(capacity), factory);
+    }
+
+    private static int roundUpToPowerOfTwo(final int capacity) {
+        if (capacity <= 0) {
+            return 0;
+        }
+        final int highestOneBit = Integer.highestOneBit(Math.min(capacity, 1 << 20));
+        return highestOneBit < capacity ? highestOneBit << 1 : highestOneBit;
+    }
+
+    /**
+     * Returns the interned value for the given string and creates it if necessary.
+     * Exceptions of the factory are propagated and nothing is interned in that case.
+     *
+     * @param string the string to get the value for.
+     * @return the interned or a new value.
+     */
+    T intern(final String string) {
+        if (slots.length < 2 || string.length() > MAX_INTERNED_LENGTH) {
+            return factory.apply(string);
+        }
+        final int hash = spread(string.hashCode());
+        final int index = hash & mask & ~1;
+        @Nullable final T cached = lookup(index, string);
+        if (null != cached) {
+            hitCount.increment();
+            return cached;
+        }
+        missCount.increment();
+        final T result = factory.apply(string);
+        final int victim = null == slots[index] ? index : index | ((hash >>> 16) & 1);
+        slots[victim] = new Entry<>(string, result);
+        return result;
+    }
+
+    @Nullable
+    private T lookup(final int index, final String string) {
+        final Entry<T> first = slots[index];
+        if (null != first && first.hash == string.hashCode() && first.string.equals(string)) {
+            return first.value;
+        }
+        final Entry<T> second = slots[index + 1];
+        if (null != second && second.hash == string.hashCode() && second.string.equals(string)) {
+            return second.value;
+        }
+        return null;
+    }
+
+    private static int spread(final int hashCode) {
+        return hashCode ^ (hashCode >>> 16);
+    }
+
+    /**
+     * Returns a snapshot of the statistics of this cache.
+     *
+     * @return the statistics.
+     */
+    JsonInternCacheStatistics getStatistics() {
+        return new Statistics(name, slots.length, hitCount.sum(), missCount.sum());
+    }
+
+    @Immutable
+    private static final class Entry<T> {
+
+        private final String string;
+        private final int hash;
+        private final T value;
+
+        private Entry(final String string, final T value) {
+            this.string = string;
+            hash = string.hashCode();
+            this.value = value;
+        }
+
+    }
+
+    @Immutable
+    private static final class Statistics implements JsonInternCacheStatistics {
+
+        private final String cacheName;
+        private final int capacity;
+        private final long hitCount;
+        private final long missCount;
+
+        private Statistics(final String cacheName, final int capacity, final long hitCount, final long missCount) {
+            this.cacheName = cacheName;
+            this.capacity = capacity;
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+        }
+
+        @Override
+        public String getCacheName() {
+            return cacheName;
+        }
+
+        @Override
+        public int getCapacity() {
+            return capacity;
+        }
+
+        @Override
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        @Override
+        public long getMissCount() {
+            return missCount;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Statistics that = (Statistics) o;
+            return capacity == that.capacity &&
+                    hitCount == that.hitCount &&
+                    missCount == that.missCount &&
+                    Objects.equals(cacheName, that.cacheName);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(cacheName, capacity, hitCount, missCount);
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "cacheName=" + cacheName +
+                    ", capacity=" + capacity +
+                    ", hitCount=" + hitCount +
+                    ", missCount=" + missCount +
+                    "]";
+        }
+
+    }
+
+}
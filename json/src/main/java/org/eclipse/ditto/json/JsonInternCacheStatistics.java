@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+/**
+ * A snapshot of the statistics of a cache which interns frequently used JSON keys or JSON pointers.
+ * The counts are cumulative since the start of the JVM.
+ *
+ * @see JsonFactory#getInternCacheStatistics()
+ * @since 2.0.0
+ */
+public interface JsonInternCacheStatistics {
+
+    /**
+     * Returns the name of the cache, e. g. {@code "keys"} or {@code "pointers"}.
+     *
+     * @return the name.
+     */
+    String getCacheName();
+
+    /**
+     * Returns the maximum number of entries the cache holds.
+     * A capacity of {@code 0} means that the cache is disabled.
+     *
+     * @return the capacity.
+     */
+    int getCapacity();
+
+    /**
+     * Returns the number of lookups which returned an already interned instance.
+     *
+     * @return the hit count.
+     */
+    long getHitCount();
+
+    /**
+     * Returns the number of lookups which had to create a new instance.
+     *
+     * @return the miss count.
+     */
+    long getMissCount();
+
+    /**
+     * Returns the ratio of hits to all lookups or {@code 1.0} if there was no lookup yet.
+     *
+     * @return the hit rate.
+     */
+    default double getHitRate() {
+        final long requestCount = getHitCount() + getMissCount();
+        return 0 == requestCount ? 1.0 : (double) getHitCount() / requestCount;
+    }
+
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.util.Set;
+
+/**
+ * The result of applying a JSON merge patch according to <a href="https://tools.ietf.org/html/rfc7396">RFC 7396</a>
+ * to a JSON value. Besides the merged value it provides the pointers of all values which were added, replaced or
+ * removed by the patch. All parts of the merged value which were not changed by the patch are the very same instances
+ * as in the patched value.
+ * <p>
+ * <em>Implementations of this interface are required to be immutable!</em>
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public interface JsonMergeResult {
+
+    /**
+     * Returns the merged JSON value.
+     *
+     * @return the merged value.
+     */
+    JsonValue getMergedValue();
+
+    /**
+     * Returns the pointers of the values which were added, replaced or removed by the patch, relative to the root of
+     * the patched value and in the order of the patch. If a whole subtree was replaced, only the pointer of its root
+     * is contained. Values which were set to an equal value are not regarded as changed.
+     *
+     * @return the unmodifiable set of changed pointers which is empty if the patch did not change anything.
+     */
+    Set<JsonPointer> getChangedPointers();
+
+    /**
+     * Indicates whether the patch changed the patched value.
+     *
+     * @return {@code true} if at least one value was added, replaced or removed, {@code false} else.
+     */
+    default boolean hasChanges() {
+        return !getChangedPointers().isEmpty();
+    }
+
+}
@@ -13,6 +13,8 @@
 package org.eclipse.ditto.json;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 import javax.annotation.Nullable;
 
@@ -276,6 +278,35 @@ public interface JsonValue {
         return isString() ? asString() : toString();
     }
 
+    /**
+     * Writes the JSON string of this value in its minimal form as UTF-8 encoded bytes to the given OutputStream.
+     * The bytes are streamed directly from this value without building the JSON string of the whole value first.
+     * The OutputStream is neither flushed nor closed by this method.
+     *
+     * @param outputStream the stream to write the UTF-8 encoded JSON to.
+     * @throws NullPointerException if {@code outputStream} is {@code null}.
+     * @throws IOException if writing to {@code outputStream} failed.
+     * @since 2.0.0
+     */
+    default void writeTo(final OutputStream outputStream) throws IOException {
+        Utf8JsonWriter.write(this, outputStream);
+    }
+
+    /**
+     * Writes the JSON string of this value in its minimal form as UTF-8 encoded bytes to the given ByteBuffer,
+     * starting at its current position.
+     * The bytes are streamed directly from this value without building the JSON string of the whole value first.
+     *
+     * @param byteBuffer the buffer to write the UTF-8 encoded JSON to.
+     * @throws NullPointerException if {@code byteBuffer} is {@code null}.
+     * @throws java.nio.BufferOverflowException if {@code byteBuffer} has not enough space remaining.
+     * @throws java.nio.ReadOnlyBufferException if {@code byteBuffer} is read-only.
+     * @since 2.0.0
+     */
+    default void writeTo(final ByteBuffer byteBuffer) {
+        Utf8JsonWriter.write(this, byteBuffer);
+    }
+
     /**
      * Writes this JsonValue into the provided serialization context.
      * This is intended to be used by serialization logic only.
@@ -12,13 +12,23 @@
  */
 package org.eclipse.ditto.json;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 /**
  * Package-private function to merge 2 {@link org.eclipse.ditto.json.JsonValue}s into 1.
  * Implementation is conform to <a href="https://tools.ietf.org/html/rfc7396">RFC 7396</a>.
+ * <p>
+ * Only the first value, i. e. the merge patch, is walked. All fields of the second value which are not touched by the
+ * patch are kept as they are, thus the merged value shares every unchanged subtree with the second value. Only the
+ * objects on the paths to changed values are copied; large ones of them become persistent.
+ * </p>
  */
 @Immutable
 final class JsonValueMerger extends AbstractJsonMerger {
@@ -31,57 +41,127 @@ final class JsonValueMerger extends AbstractJsonMerger {
      * @return the merged json value.
      */
     public static JsonValue mergeJsonValues(final JsonValue value1, final JsonValue value2) {
-        final JsonValue result;
-        if (areJsonObjects(value1, value2)) {
-            result = mergeJsonObjects(value1.asObject(), value2.asObject());
-        } else if (areJsonArrays(value1, value2)) {
-            result = value1.asArray();
-        } else {
-            if (value1.isObject()) {
-                result = filterNullValues(value1.asObject());
-            } else {
-                result = value1;
-            }
-        }
+        return merge(value1, value2, JsonPointer.empty(), null);
+    }
 
-        return result;
+    /**
+     * Merge 2 JSON values recursively into one like {@link #mergeJsonValues(JsonValue, JsonValue)} and collect the
+     * pointers of the values of the second value which were changed by the first value.
+     *
+     * @param value1 the first json value to merge, overrides conflicting fields.
+     * @param value2 the second json value to merge.
+     * @return the merged json value together with the pointers of the changed values.
+     */
+    public static JsonMergeResult mergeJsonValuesWithChanges(final JsonValue value1, final JsonValue value2) {
+        final Set<JsonPointer> changedPointers = new LinkedHashSet<>();
+        final JsonValue mergedValue = merge(value1, value2, JsonPointer.empty(), changedPointers);
+        return ImmutableJsonMergeResult.of(mergedValue, changedPointers);
     }
 
-    private static JsonObject mergeJsonObjects(final JsonObject jsonObject1, final JsonObject jsonObject2) {
+    private static JsonValue merge(final JsonValue value1, final JsonValue value2, final JsonPointer pointer,
+            @Nullable final Set<JsonPointer> changedPointers) {
+
+        if (areJsonObjects(value1, value2) && !value1.isNull() && !value2.isNull()) {
+            return mergeJsonObjects(value1.asObject(), value2.asObject(), pointer, changedPointers);
+        }
 
-        if(jsonObject1.isNull() || (jsonObject1.isNull() && jsonObject2.isNull())) {
-            return JsonFactory.nullObject();
+        final JsonValue replacement;
+        if (areJsonObjects(value1, value2) && value1.isNull()) {
+            replacement = JsonFactory.nullObject();
+        } else if (value1.isObject()) {
+            replacement = filterNullValues(value1.asObject());
+        } else {
+            replacement = value1;
         }
+        if (replacement.equals(value2)) {
+            return value2;
+        }
+        if (null != changedPointers) {
+            changedPointers.add(pointer);
+        }
+        return replacement;
+    }
+
+    private static JsonObject mergeJsonObjects(final JsonObject jsonObject1, final JsonObject jsonObject2,
+            final JsonPointer pointer, @Nullable final Set<JsonPointer> changedPointers) {
 
-        final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
-        // add fields of jsonObject1
-        jsonObject1.forEach(jsonField -> {
+        // the fields of jsonObject2 which have to be replaced; null values denote removed fields
+        List<JsonKey> changedKeys = null;
+        List<JsonValue> changedValues = null;
+        for (final JsonField jsonField : jsonObject1) {
             final JsonKey key = jsonField.getKey();
             final JsonValue value1 = jsonField.getValue();
             final Optional<JsonValue> maybeValue2 = jsonObject2.getValue(key);
 
+            @Nullable final JsonValue mergedValue;
             if (value1.isNull()) {
-                return;
-            }
-            if (maybeValue2.isPresent()) {
-                builder.set(key, mergeJsonValues(value1, maybeValue2.get()));
+                if (!maybeValue2.isPresent()) {
+                    continue;
+                }
+                mergedValue = null;
+                if (null != changedPointers) {
+                    changedPointers.add(pointer.addLeaf(key));
+                }
+            } else if (maybeValue2.isPresent()) {
+                mergedValue = merge(value1, maybeValue2.get(), pointer.addLeaf(key), changedPointers);
+                if (mergedValue == maybeValue2.get()) {
+                    continue;
+                }
             } else {
-                if (value1.isObject()) {
-                    builder.set(key, filterNullValues(value1.asObject()));
-                } else {
-                    builder.set(jsonField);
+                mergedValue = value1.isObject() ? filterNullValues(value1.asObject()) : value1;
+                if (null != changedPointers) {
+                    changedPointers.add(pointer.addLeaf(key));
                 }
             }
-        });
 
-        // add fields of jsonObject2 not present in jsonObject1
-        jsonObject2.forEach(jsonField -> {
-            if (!jsonObject1.contains(jsonField.getKey())) {
-                builder.set(jsonField);
+            if (null == changedKeys) {
+                changedKeys = new ArrayList<>();
+                changedValues = new ArrayList<>();
             }
-        });
+            changedKeys.add(key);
+            changedValues.add(mergedValue);
+        }
+
+        if (null == changedKeys) {
+            return jsonObject2;
+        }
+        return applyChanges(jsonObject2, changedKeys, changedValues);
+    }
+
+    private static JsonObject applyChanges(final JsonObject jsonObject, final List<JsonKey> changedKeys,
+            final List<JsonValue> changedValues) {
 
+        // large objects become persistent so that their changes neither copy nor serialize all of their fields
+        final JsonObject target = ImmutableJsonObject.adoptPersistence(jsonObject, true);
+        final int changeCount = changedKeys.size();
+        if (1 == changeCount || isPersistent(target)) {
+            JsonObject result = target;
+            for (int i = 0; i < changeCount; i++) {
+                @Nullable final JsonValue changedValue = changedValues.get(i);
+                result = null == changedValue
+                        ? result.remove(changedKeys.get(i))
+                        : result.setValue(changedKeys.get(i), changedValue);
+            }
+            return result;
+        }
+
+        // small objects copy their fields only once instead of once per change
+        final JsonObjectBuilder builder = JsonFactory.newObjectBuilder(jsonObject);
+        for (int i = 0; i < changeCount; i++) {
+            final JsonKey key = changedKeys.get(i);
+            @Nullable final JsonValue changedValue = changedValues.get(i);
+            if (null == changedValue) {
+                builder.remove(key);
+            } else {
+                builder.set(JsonField.newInstance(key, changedValue,
+                        jsonObject.getField(key).flatMap(JsonField::getDefinition).orElse(null)));
+            }
+        }
         return builder.build();
     }
 
+    private static boolean isPersistent(final JsonObject jsonObject) {
+        return jsonObject instanceof ImmutableJsonObject && ((ImmutableJsonObject) jsonObject).isPersistent();
+    }
+
 }
@@ -16,6 +16,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.text.MessageFormat;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -78,6 +79,117 @@ final class JsonValueParser {
         return JsonValueParser::tryToReadJsonValueFrom;
     }
 
+    /**
+     * Returns a Function for parsing UTF-8 encoded bytes to an instance of {@link JsonValue}.
+     * The bytes are parsed directly without decoding them to a Java String first.
+     *
+     * @return the function.
+     */
+    public static Function<byte[], JsonValue> fromBytes() {
+        return bytes -> {
+            requireNonNull(bytes, "The JSON bytes to be parsed must not be null!");
+            return tryToParseJsonValue(bytes, 0, bytes.length, DefaultDittoJsonHandler.newInstance());
+        };
+    }
+
+    /**
+     * Returns a parser which accepts UTF-8 encoded bytes and which uses the given handler for object creation.
+     * The parsed JsonValue can be obtained from the given handler finally.
+     *
+     * @param jsonHandler receives parser events in order to create a {@link JsonValue}.
+     * @param <A> the type to be used for parsing JSON arrays.
+     * @param <O> the type to be used for parsing JSON objects.
+     * @param <V> the type of the value this handler returns.
+     * @return the parse Consumer.
+     * @throws NullPointerException if {@code jsonHandler} is {@code null}.
+     */
+    public static <A, O, V> Consumer<byte[]> fromBytes(final DittoJsonHandler<A, O, V> jsonHandler) {
+        requireNonNull(jsonHandler, "The JSON handler must not be null!");
+        return bytes -> {
+            requireNonNull(bytes, "The JSON bytes to be parsed must not be null!");
+            tryToParseJsonValue(bytes, 0, bytes.length, jsonHandler);
+        };
+    }
+
+    /**
+     * Parses the specified range of the given UTF-8 encoded bytes to an instance of {@link JsonValue}.
+     *
+     * @param bytes the UTF-8 encoded JSON document.
+     * @param offset the index of the first byte to be parsed.
+     * @param length the number of bytes to be parsed.
+     * @return the parsed JSON value.
+     * @throws JsonParseException if the bytes do not contain valid JSON.
+     */
+    static JsonValue fromBytes(final byte[] bytes, final int offset, final int length) {
+        return tryToParseJsonValue(bytes, offset, length, DefaultDittoJsonHandler.newInstance());
+    }
+
+    /**
+     * Parses the given UTF-8 encoded bytes to an instance of {@link JsonValue}.
+     * If the bytes contain a JSON object, only the fields selected by the given trie are parsed; the values of all
+     * other fields are skipped without being decoded.
+     *
+     * @param bytes the UTF-8 encoded JSON document.
+     * @param selection the trie of the fields to be parsed.
+     * @return the parsed JSON value.
+     * @throws JsonParseException if the bytes do not contain valid JSON.
+     */
+    static JsonValue fromBytes(final byte[] bytes, final JsonFieldSelectorTrie selection) {
+        final DefaultDittoJsonHandler jsonHandler = DefaultDittoJsonHandler.newInstance();
+        try {
+            Utf8JsonParser.parse(jsonHandler, bytes, 0, bytes.length, selection);
+            return jsonHandler.getValue();
+        } catch (final UnsupportedOperationException | StackOverflowError | IllegalArgumentException |
+                IndexOutOfBoundsException | NullPointerException e) {
+            throw JsonParseException.newBuilder()
+                    .message("Failed to parse JSON value from bytes!")
+                    .cause(e)
+                    .build();
+        }
+    }
+
+    /**
+     * Returns a Function for parsing the remaining UTF-8 encoded bytes of a {@code ByteBuffer} to an instance of
+     * {@link JsonValue}.
+     * The position of the ByteBuffer is not changed by the returned function.
+     * Heap buffers are parsed in place, the content of direct buffers is copied once to a byte array.
+     *
+     * @return the function.
+     */
+    public static Function<ByteBuffer, JsonValue> fromByteBuffer() {
+        return JsonValueParser::tryToParseJsonValue;
+    }
+
+    private static JsonValue tryToParseJsonValue(final ByteBuffer byteBuffer) {
+        requireNonNull(byteBuffer, "The ByteBuffer to be parsed must not be null!");
+        final DefaultDittoJsonHandler jsonHandler = DefaultDittoJsonHandler.newInstance();
+        if (byteBuffer.hasArray()) {
+            return tryToParseJsonValue(byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(),
+                    byteBuffer.remaining(), jsonHandler);
+        }
+        final byte[] bytes = new byte[byteBuffer.remaining()];
+        byteBuffer.duplicate().get(bytes);
+        return tryToParseJsonValue(bytes, 0, bytes.length, jsonHandler);
+    }
+
+    private static <T> T tryToParseJsonValue(final byte[] bytes, final int offset, final int length,
+            final DittoJsonHandler<?, ?, T> dittoJsonHandler) {
+
+        try {
+            Utf8JsonParser.parse(dittoJsonHandler, bytes, offset, length);
+            return dittoJsonHandler.getValue();
+        } catch (final UnsupportedOperationException | StackOverflowError | IllegalArgumentException |
+                IndexOutOfBoundsException | NullPointerException e) {
+            // "ditto-json" library also throws IllegalArgumentException when for example strings which may not be empty
+            // (e.g. keys) are empty
+            // "ditto-json" library also throws NullPointerException when for example non-nullable objects are null
+            throw JsonParseException.newBuilder()
+                    .message("Failed to parse JSON value from bytes!")
+                    .cause(e)
+                    .build();
+        }
+    }
+
     private static <T> T tryToParseJsonValue(final String jsonString,
             final DittoJsonHandler<?, ?, T> dittoJsonHandler) {
 
@@ -0,0 +1,542 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A {@link ImmutableJsonObject.FieldMap} for JSON objects which are updated frequently.
+ * The fields are kept in insertion order in a persistent 32-ary vector of slots and their keys are indexed by a hash
+ * array mapped trie (HAMT) pointing to the slots. A put or remove only copies the few small arrays on the path to the
+ * touched slot while all other nodes are shared with the original field map. Removed fields leave an empty slot
+ * behind; the slots are rebuilt once they are more than half empty.
+ * <p>
+ * The string and the CBOR representation are computed on first use only. The hash code is maintained incrementally.
+ * </p>
+ */
+@Immutable
+final class PersistentFieldMap implements ImmutableJsonObject.FieldMap {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final int NOT_FOUND = -1;
+
+    private static final PersistentFieldMap EMPTY =
+            new PersistentFieldMap(BitmapIndexNode.EMPTY, FieldVector.EMPTY, 0, 0);
+
+    private final IndexNode index;
+    private final FieldVector slots;
+    private final int size;
+    private final int hashCode;
+    @Nullable private String jsonObjectStringRepresentation;
+    @Nullable private byte[] cborObjectRepresentation;
+
+    private PersistentFieldMap(final IndexNode index, final FieldVector slots, final int size, final int hashCode) {
+        this.index = index;
+        this.slots = slots;
+        this.size = size;
+        this.hashCode = hashCode;
+        jsonObjectStringRepresentation = null;
+        cborObjectRepresentation = null;
+    }
+
+    /**
+     * Returns a persistent field map containing the given fields in the given order.
+     *
+     * @param jsonFields the fields.
+     * @return the field map.
+     */
+    static PersistentFieldMap of(final Iterator<JsonField> jsonFields) {
+        PersistentFieldMap result = EMPTY;
+        while (jsonFields.hasNext()) {
+            final JsonField jsonField = jsonFields.next();
+            result = result.put(jsonField.getKeyName(), jsonField);
+        }
+        return result;
+    }
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return 0 == size;
+    }
+
+    @Override
+    public boolean containsKey(final String key) {
+        return NOT_FOUND != index.find(0, key.hashCode(), key);
+    }
+
+    @Override
+    @Nullable
+    public JsonField getOrNull(final String key) {
+        final int slot = index.find(0, key.hashCode(), key);
+        return NOT_FOUND != slot ? slots.get(slot) : null;
+    }
+
+    @Override
+    public PersistentFieldMap put(final String key, final JsonField value) {
+        final int keyHash = key.hashCode();
+        final int slot = index.find(0, keyHash, key);
+        if (NOT_FOUND != slot) {
+            final JsonField existingField = slots.get(slot);
+            return new PersistentFieldMap(index, slots.set(slot, value), size,
+                    hashCode - entryHash(existingField) + entryHash(value));
+        }
+        return new PersistentFieldMap(index.put(0, keyHash, key, slots.length()), slots.append(value), size + 1,
+                hashCode + entryHash(value));
+    }
+
+    @Override
+    public PersistentFieldMap putAll(final Iterable<JsonField> jsonFields) {
+        PersistentFieldMap result = this;
+        for (final JsonField jsonField : jsonFields) {
+            result = result.put(jsonField.getKeyName(), jsonField);
+        }
+        return result;
+    }
+
+    @Override
+    public PersistentFieldMap remove(final String key) {
+        final int keyHash = key.hashCode();
+        final int slot = index.find(0, keyHash, key);
+        if (NOT_FOUND == slot) {
+            return this;
+        }
+        if (1 == size) {
+            return EMPTY;
+        }
+        final JsonField existingField = slots.get(slot);
+        final PersistentFieldMap result = new PersistentFieldMap(index.remove(0, keyHash, key),
+                slots.set(slot, null), size - 1, hashCode - entryHash(existingField));
+        if (WIDTH < result.slots.length() && result.size < result.slots.length() / 2) {
+            return of(result.getIterator());
+        }
+        return result;
+    }
+
+    private static int entryHash(@Nullable final JsonField jsonField) {
+        // same as an entry of Map#hashCode to be consistent with the other field maps
+        return null != jsonField ? jsonField.getKeyName().hashCode() ^ jsonField.hashCode() : 0;
+    }
+
+    @Override
+    public Stream<JsonField> getStream() {
+        final Spliterator<JsonField> spliterator = Spliterators.spliterator(getIterator(), size,
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    @Override
+    public Iterator<JsonField> getIterator() {
+        return new FieldIterator(slots);
+    }
+
+    @Override
+    public Map<String, JsonField> asMap() {
+        return new ImmutableJsonObject.FieldMapView(this);
+    }
+
+    @Override
+    public String asJsonObjectString() {
+        String result = jsonObjectStringRepresentation;
+        if (null == result) {
+            result = ImmutableJsonObject.FieldMap.toJsonObjectString(getIterator());
+            jsonObjectStringRepresentation = result;
+        }
+        return result;
+    }
+
+    @Override
+    public void writeValue(final SerializationContext serializationContext) throws IOException {
+        final CborFactory cborFactory = ImmutableJsonObject.SoftReferencedFieldMap.CBOR_FACTORY;
+        if (cborFactory.isCborAvailable() && null == cborObjectRepresentation) {
+            cborObjectRepresentation = cborFactory.createCborRepresentation(asMap(), guessSerializedSize());
+        }
+        serializationContext.writeCachedElement(cborObjectRepresentation);
+    }
+
+    private int guessSerializedSize() {
+        if (null != jsonObjectStringRepresentation) {
+            return jsonObjectStringRepresentation.length();
+        }
+        return 512;
+    }
+
+    @Override
+    public long upperBoundForStringSize() {
+        if (null != jsonObjectStringRepresentation) {
+            return jsonObjectStringRepresentation.length();
+        }
+        return ImmutableJsonObject.FieldMap.upperBoundForStringSize(this);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ImmutableJsonObject.FieldMap)) {
+            return false;
+        }
+        final ImmutableJsonObject.FieldMap that = (ImmutableJsonObject.FieldMap) o;
+        if (size != that.getSize()) {
+            return false;
+        }
+        if (o instanceof PersistentFieldMap && hashCode != o.hashCode()) {
+            // both hash codes are known without iterating the fields
+            return false;
+        }
+        final Iterator<JsonField> iterator = getIterator();
+        while (iterator.hasNext()) {
+            final JsonField field = iterator.next();
+            if (!ImmutableJsonObject.FieldMap.areEqual(field, that.getOrNull(field.getKeyName()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    /**
+     * A node of the hash array mapped trie which maps the key names to the slots of their fields.
+     */
+    @Immutable
+    private interface IndexNode {
+
+        int find(int shift, int keyHash, String key);
+
+        IndexNode put(int shift, int keyHash, String key, int slot);
+
+        /**
+         * @return this node if it does not contain the key, {@code null} if the node became empty.
+         */
+        @Nullable
+        IndexNode remove(int shift, int keyHash, String key);
+
+    }
+
+    /**
+     * An index node holding up to 32 entries which are either a key with its slot or a sub node for keys whose hash
+     * codes share the same 5 bits at this level.
+     * The array stores two elements per entry: the key and the boxed slot, or {@code null} and the sub node.
+     */
+    @Immutable
+    private static final class BitmapIndexNode implements IndexNode {
+
+        private static final BitmapIndexNode EMPTY = new BitmapIndexNode(0, new Object[0]);
+
+        private final int bitmap;
+        private final Object[] entries;
+
+        private BitmapIndexNode(final int bitmap, final Object[] entries) {
+            this.bitmap = bitmap;
+            this.entries = entries;
+        }
+
+        private static int bit(final int keyHash, final int shift) {
+            return 1 << ((keyHash >>> shift) & MASK);
+        }
+
+        private int position(final int bit) {
+            return 2 * Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Override
+        public int find(final int shift, final int keyHash, final String key) {
+            final int bit = bit(keyHash, shift);
+            if (0 == (bitmap & bit)) {
+                return NOT_FOUND;
+            }
+            final int position = position(bit);
+            final Object entryKey = entries[position];
+            if (null == entryKey) {
+                return ((IndexNode) entries[position + 1]).find(shift + BITS, keyHash, key);
+            }
+            return key.equals(entryKey) ? (Integer) entries[position + 1] : NOT_FOUND;
+        }
+
+        @Override
+        public IndexNode put(final int shift, final int keyHash, final String key, final int slot) {
+            final int bit = bit(keyHash, shift);
+            final int position = position(bit);
+            if (0 == (bitmap & bit)) {
+                final Object[] newEntries = new Object[entries.length + 2];
+                System.arraycopy(entries, 0, newEntries, 0, position);
+                newEntries[position] = key;
+                newEntries[position + 1] = slot;
+                System.arraycopy(entries, position, newEntries, position + 2, entries.length - position);
+                return new BitmapIndexNode(bitmap | bit, newEntries);
+            }
+            final Object entryKey = entries[position];
+            final Object entryValue = entries[position + 1];
+            final Object[] newEntries = entries.clone();
+            if (null == entryKey) {
+                newEntries[position + 1] = ((IndexNode) entryValue).put(shift + BITS, keyHash, key, slot);
+            } else if (key.equals(entryKey)) {
+                newEntries[position + 1] = slot;
+            } else {
+                newEntries[position] = null;
+                newEntries[position + 1] =
+                        createSubNode(shift + BITS, (String) entryKey, (Integer) entryValue, keyHash, key, slot);
+            }
+            return new BitmapIndexNode(bitmap, newEntries);
+        }
+
+        private static IndexNode createSubNode(final int shift, final String key1, final int slot1,
+                final int keyHash2, final String key2, final int slot2) {
+
+            final int keyHash1 = key1.hashCode();
+            if (keyHash1 == keyHash2) {
+                return new CollisionIndexNode(keyHash1, new String[]{key1, key2}, new int[]{slot1, slot2});
+            }
+            return EMPTY.put(shift, keyHash1, key1, slot1).put(shift, keyHash2, key2, slot2);
+        }
+
+        @Override
+        @Nullable
+        public IndexNode remove(final int shift, final int keyHash, final String key) {
+            final int bit = bit(keyHash, shift);
+            if (0 == (bitmap & bit)) {
+                return this;
+            }
+            final int position = position(bit);
+            final Object entryKey = entries[position];
+            if (null == entryKey) {
+                final IndexNode subNode = (IndexNode) entries[position + 1];
+                final IndexNode newSubNode = subNode.remove(shift + BITS, keyHash, key);
+                if (newSubNode == subNode) {
+                    return this;
+                }
+                if (null != newSubNode) {
+                    final Object[] newEntries = entries.clone();
+                    newEntries[position + 1] = newSubNode;
+                    return new BitmapIndexNode(bitmap, newEntries);
+                }
+                return removeEntry(bit, position);
+            }
+            return key.equals(entryKey) ? removeEntry(bit, position) : this;
+        }
+
+        @Nullable
+        private BitmapIndexNode removeEntry(final int bit, final int position) {
+            if (bitmap == bit) {
+                return null;
+            }
+            final Object[] newEntries = new Object[entries.length - 2];
+            System.arraycopy(entries, 0, newEntries, 0, position);
+            System.arraycopy(entries, position + 2, newEntries, position, newEntries.length - position);
+            return new BitmapIndexNode(bitmap ^ bit, newEntries);
+        }
+
+    }
+
+    /**
+     * An index node for keys which all have the same hash code.
+     */
+    @Immutable
+    private static final class CollisionIndexNode implements IndexNode {
+
+        private final int keyHash;
+        private final String[] keys;
+        private final int[] keySlots;
+
+        private CollisionIndexNode(final int keyHash, final String[] keys, final int[] keySlots) {
+            this.keyHash = keyHash;
+            this.keys = keys;
+            this.keySlots = keySlots;
+        }
+
+        private int indexOf(final String key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i].equals(key)) {
+                    return i;
+                }
+            }
+            return NOT_FOUND;
+        }
+
+        @Override
+        public int find(final int shift, final int keyHash, final String key) {
+            if (this.keyHash != keyHash) {
+                return NOT_FOUND;
+            }
+            final int i = indexOf(key);
+            return NOT_FOUND != i ? keySlots[i] : NOT_FOUND;
+        }
+
+        @Override
+        public IndexNode put(final int shift, final int keyHash, final String key, final int slot) {
+            if (this.keyHash != keyHash) {
+                final int bit = BitmapIndexNode.bit(this.keyHash, shift);
+                return new BitmapIndexNode(bit, new Object[]{null, this}).put(shift, keyHash, key, slot);
+            }
+            final int i = indexOf(key);
+            if (NOT_FOUND != i) {
+                final int[] newKeySlots = keySlots.clone();
+                newKeySlots[i] = slot;
+                return new CollisionIndexNode(keyHash, keys, newKeySlots);
+            }
+            final String[] newKeys = Arrays.copyOf(keys, keys.length + 1);
+            final int[] newKeySlots = Arrays.copyOf(keySlots, keySlots.length + 1);
+            newKeys[keys.length] = key;
+            newKeySlots[keySlots.length] = slot;
+            return new CollisionIndexNode(keyHash, newKeys, newKeySlots);
+        }
+
+        @Override
+        @Nullable
+        public IndexNode remove(final int shift, final int keyHash, final String key) {
+            final int i = this.keyHash == keyHash ? indexOf(key) : NOT_FOUND;
+            if (NOT_FOUND == i) {
+                return this;
+            }
+            if (1 == keys.length) {
+                return null;
+            }
+            final String[] newKeys = new String[keys.length - 1];
+            final int[] newKeySlots = new int[keySlots.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, i);
+            System.arraycopy(keys, i + 1, newKeys, i, newKeys.length - i);
+            System.arraycopy(keySlots, 0, newKeySlots, 0, i);
+            System.arraycopy(keySlots, i + 1, newKeySlots, i, newKeySlots.length - i);
+            return new CollisionIndexNode(keyHash, newKeys, newKeySlots);
+        }
+
+    }
+
+    /**
+     * A persistent vector of field slots backed by a trie of 32 element arrays.
+     * Empty slots are {@code null}.
+     */
+    @Immutable
+    private static final class FieldVector {
+
+        private static final FieldVector EMPTY = new FieldVector(0, 0, new Object[WIDTH]);
+
+        private final int length;
+        private final int shift;
+        private final Object[] root;
+
+        private FieldVector(final int length, final int shift, final Object[] root) {
+            this.length = length;
+            this.shift = shift;
+            this.root = root;
+        }
+
+        int length() {
+            return length;
+        }
+
+        @Nullable
+        JsonField get(final int slot) {
+            Object[] node = root;
+            for (int level = shift; 0 < level; level -= BITS) {
+                node = (Object[]) node[(slot >>> level) & MASK];
+            }
+            return (JsonField) node[slot & MASK];
+        }
+
+        FieldVector set(final int slot, @Nullable final JsonField jsonField) {
+            return new FieldVector(length, shift, set(root, shift, slot, jsonField));
+        }
+
+        FieldVector append(final JsonField jsonField) {
+            if (length == 1 << (shift + BITS)) {
+                // the trie is full, so it grows by one level
+                final Object[] newRoot = new Object[WIDTH];
+                newRoot[0] = root;
+                final int newShift = shift + BITS;
+                return new FieldVector(length + 1, newShift, set(newRoot, newShift, length, jsonField));
+            }
+            return new FieldVector(length + 1, shift, set(root, shift, length, jsonField));
+        }
+
+        private static Object[] set(@Nullable final Object[] node, final int level, final int slot,
+                @Nullable final JsonField jsonField) {
+
+            final Object[] result = null != node ? node.clone() : new Object[WIDTH];
+            if (0 == level) {
+                result[slot & MASK] = jsonField;
+            } else {
+                final int i = (slot >>> level) & MASK;
+                result[i] = set((Object[]) result[i], level - BITS, slot, jsonField);
+            }
+            return result;
+        }
+
+    }
+
+    /**
+     * Iterates the non-empty slots of a field vector in order.
+     */
+    private static final class FieldIterator implements Iterator<JsonField> {
+
+        private final FieldVector slots;
+        private int nextSlot;
+        @Nullable private JsonField next;
+
+        private FieldIterator(final FieldVector slots) {
+            this.slots = slots;
+            nextSlot = 0;
+            next = advance();
+        }
+
+        @Nullable
+        private JsonField advance() {
+            while (nextSlot < slots.length()) {
+                final JsonField jsonField = slots.get(nextSlot++);
+                if (null != jsonField) {
+                    return jsonField;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return null != next;
+        }
+
+        @Override
+        public JsonField next() {
+            final JsonField result = next;
+            if (null == result) {
+                throw new NoSuchElementException();
+            }
+            next = advance();
+            return result;
+        }
+
+    }
+
+}
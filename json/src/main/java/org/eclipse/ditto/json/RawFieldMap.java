@@ -0,0 +1,890 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A {@link ImmutableJsonObject.FieldMap} which is a read-only view on the raw UTF-8 encoded JSON or CBOR bytes of a
+ * JSON object.
+ * The offsets of the top-level fields are indexed on first access and a field value is only parsed when it is
+ * accessed. Nested JSON objects are views on their part of the bytes again, thus reading a single field of a large
+ * document does not parse the rest of it. Putting or removing a field copies all fields to one of the regular field
+ * maps. The keys of CBOR maps may be encoded with a {@link CborKeyDictionary}.
+ * <p>
+ * The documents read by {@link #readUtf8Json(byte[])} and {@link #readCbor(byte[], CborFactory, CborKeyDictionary)}
+ * are validated completely, thus malformed bytes are rejected when they are read and not when a value is accessed.
+ * A nested JSON object is a view on the same bytes with its own offset and length; its bytes are never copied.
+ * </p>
+ */
+@Immutable
+final class RawFieldMap implements ImmutableJsonObject.FieldMap {
+
+    private static final int MAX_NESTING_LEVEL = 1000;
+
+    // neither JSON nor CBOR bytes expand to more than six characters of the string representation per byte
+    private static final long MAX_CHARS_PER_BYTE = 6;
+
+    private final byte[] bytes;
+    private final int offset;
+    private final int length;
+    private final Format format;
+    @Nullable private final CborKeyDictionary keyDictionary;
+    @Nullable private Index index;
+    @Nullable private String jsonObjectStringRepresentation;
+    private int hashCode;
+
+    private RawFieldMap(final byte[] bytes, final int offset, final int length, final Format format,
+            @Nullable final CborKeyDictionary keyDictionary) {
+
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+        this.format = format;
+        this.keyDictionary = keyDictionary;
+        index = null;
+        jsonObjectStringRepresentation = null;
+        hashCode = 0;
+    }
+
+    /**
+     * Returns a field map on the given range of UTF-8 encoded bytes which must contain exactly one JSON object without
+     * leading or trailing white space. The bytes are not copied.
+     *
+     * @param bytes the bytes.
+     * @param offset the index of the opening brace of the JSON object.
+     * @param length the number of bytes of the JSON object.
+     * @return the field map.
+     */
+    static RawFieldMap ofUtf8Json(final byte[] bytes, final int offset, final int length) {
+        return new RawFieldMap(bytes, offset, length, Format.UTF8_JSON, null);
+    }
+
+    /**
+     * Returns a field map on the given range of bytes which must contain exactly one CBOR map.
+     * The bytes are not copied.
+     *
+     * @param bytes the bytes.
+     * @param offset the index of the initial byte of the CBOR map.
+     * @param length the number of bytes of the CBOR map.
+     * @param keyDictionary the dictionary the keys of the map are encoded with or {@code null} if they are plain text
+     * strings.
+     * @return the field map.
+     */
+    static RawFieldMap ofCbor(final byte[] bytes, final int offset, final int length,
+            @Nullable final CborKeyDictionary keyDictionary) {
+
+        return new RawFieldMap(bytes, offset, length, Format.CBOR, keyDictionary);
+    }
+
+    /**
+     * Reads the given UTF-8 encoded JSON document lazily: a JSON object is validated and returned as view on the given
+     * bytes, any other value is parsed completely. The bytes are not copied and must not be modified afterwards.
+     *
+     * @param bytes the bytes.
+     * @return the JSON value.
+     * @throws JsonParseException if {@code bytes} contain no valid JSON value.
+     */
+    static JsonValue readUtf8Json(final byte[] bytes) {
+        int first = 0;
+        while (first < bytes.length && Utf8JsonIndexer.isWhiteSpace(bytes[first])) {
+            first++;
+        }
+        int last = bytes.length - 1;
+        while (last > first && Utf8JsonIndexer.isWhiteSpace(bytes[last])) {
+            last--;
+        }
+        if (first < bytes.length && '{' == bytes[first]) {
+            Utf8JsonParser.validate(bytes, first, last - first + 1);
+            return new ImmutableJsonObject(ofUtf8Json(bytes, first, last - first + 1));
+        }
+        return JsonValueParser.fromBytes(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Reads the given CBOR data item lazily: a CBOR map is validated, indexed and returned as JSON object view on the
+     * given bytes, any other data item is decoded completely. The bytes are not copied and must not be modified
+     * afterwards.
+     *
+     * @param bytes the bytes.
+     * @param cborFactory the factory for decoding data items which are no maps.
+     * @param keyDictionary the dictionary the data item was encoded with or {@code null} if it is plain CBOR.
+     * @return the JSON value.
+     * @throws JsonParseException if {@code bytes} contain no valid CBOR data item or if they were encoded with another
+     * key dictionary.
+     */
+    static JsonValue readCbor(final byte[] bytes, final CborFactory cborFactory,
+            @Nullable final CborKeyDictionary keyDictionary) {
+
+        final int itemOffset = null != keyDictionary ? CborKeyTranscoder.skipDictionaryTag(bytes, 0, keyDictionary) : 0;
+        if (itemOffset < bytes.length && CborIndexer.MAJOR_TYPE_MAP == CborIndexer.getMajorType(bytes[itemOffset])) {
+            final RawFieldMap fieldMap = ofCbor(bytes, itemOffset, bytes.length - itemOffset, keyDictionary);
+            // indexing skips all nested data items by their heads and thereby validates the whole structure
+            fieldMap.index();
+            return new ImmutableJsonObject(fieldMap);
+        }
+        if (null != keyDictionary) {
+            return cborFactory.readFrom(bytes, 0, bytes.length, keyDictionary);
+        }
+        return cborFactory.readFrom(bytes);
+    }
+
+    private Index index() {
+        Index result = index;
+        if (null == result) {
+            result = format.index(bytes, offset, length, keyDictionary);
+            index = result;
+        }
+        return result;
+    }
+
+    @Override
+    public int getSize() {
+        return index().size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return 0 == getSize();
+    }
+
+    @Override
+    public boolean containsKey(final String key) {
+        return 0 <= index().indexOf(key);
+    }
+
+    @Override
+    @Nullable
+    public JsonField getOrNull(final String key) {
+        final Index theIndex = index();
+        final int slot = theIndex.indexOf(key);
+        return 0 <= slot ? getField(theIndex, slot) : null;
+    }
+
+    private JsonField getField(final Index theIndex, final int slot) {
+        JsonField result = theIndex.fields[slot];
+        if (null == result) {
+            final JsonValue value = format.readValue(bytes, theIndex.valueOffsets[slot], theIndex.valueLengths[slot],
+                    keyDictionary);
+            result = JsonField.newInstance(theIndex.keys[slot], value);
+            theIndex.fields[slot] = result;
+        }
+        return result;
+    }
+
+    @Override
+    public ImmutableJsonObject.FieldMap put(final String key, final JsonField value) {
+        final Map<String, JsonField> fieldsCopy = copyFields();
+        fieldsCopy.put(key, value);
+        return ImmutableJsonObject.FieldMap.of(fieldsCopy);
+    }
+
+    @Override
+    public ImmutableJsonObject.FieldMap putAll(final Iterable<JsonField> jsonFields) {
+        final Map<String, JsonField> fieldsCopy = copyFields();
+        jsonFields.forEach(jsonField -> fieldsCopy.put(jsonField.getKeyName(), jsonField));
+        return ImmutableJsonObject.FieldMap.of(fieldsCopy);
+    }
+
+    @Override
+    public ImmutableJsonObject.FieldMap remove(final String key) {
+        if (!containsKey(key)) {
+            return this;
+        }
+        final Map<String, JsonField> fieldsCopy = copyFields();
+        fieldsCopy.remove(key);
+        return ImmutableJsonObject.FieldMap.of(fieldsCopy);
+    }
+
+    private Map<String, JsonField> copyFields() {
+        final Map<String, JsonField> result = new LinkedHashMap<>();
+        final Iterator<JsonField> iterator = getIterator();
+        while (iterator.hasNext()) {
+            final JsonField field = iterator.next();
+            result.put(field.getKeyName(), field);
+        }
+        return result;
+    }
+
+    @Override
+    public Stream<JsonField> getStream() {
+        final Spliterator<JsonField> spliterator = Spliterators.spliterator(getIterator(), getSize(),
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    @Override
+    public Iterator<JsonField> getIterator() {
+        final Index theIndex = index();
+        return new Iterator<JsonField>() {
+            private int slot = 0;
+
+            @Override
+            public boolean hasNext() {
+                return slot < theIndex.size;
+            }
+
+            @Override
+            public JsonField next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return getField(theIndex, slot++);
+            }
+        };
+    }
+
+    @Override
+    public Map<String, JsonField> asMap() {
+        return new ImmutableJsonObject.FieldMapView(this);
+    }
+
+    @Override
+    public String asJsonObjectString() {
+        String result = jsonObjectStringRepresentation;
+        if (null == result) {
+            result = ImmutableJsonObject.FieldMap.toJsonObjectString(getIterator());
+            jsonObjectStringRepresentation = result;
+        }
+        return result;
+    }
+
+    @Override
+    public void writeValue(final SerializationContext serializationContext) throws IOException {
+        if (Format.CBOR == format && null != keyDictionary) {
+            // the written representation must be plain CBOR as it may be embedded in any other data item
+            serializationContext.writeCachedElement(CborKeyTranscoder.expand(bytes, offset, length, keyDictionary));
+        } else if (Format.CBOR == format) {
+            // the bytes already are the CBOR representation
+            serializationContext.writeCachedElement(bytes, offset, length);
+        } else {
+            final CborFactory cborFactory = ImmutableJsonObject.SoftReferencedFieldMap.CBOR_FACTORY;
+            serializationContext.writeCachedElement(cborFactory.createCborRepresentation(asMap(), length));
+        }
+    }
+
+    @Override
+    public long upperBoundForStringSize() {
+        if (null != jsonObjectStringRepresentation) {
+            return jsonObjectStringRepresentation.length();
+        }
+        return MAX_CHARS_PER_BYTE * length;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ImmutableJsonObject.FieldMap)) {
+            return false;
+        }
+        final ImmutableJsonObject.FieldMap that = (ImmutableJsonObject.FieldMap) o;
+        if (o instanceof RawFieldMap) {
+            final RawFieldMap thatRaw = (RawFieldMap) o;
+            if (format == thatRaw.format && Objects.equals(keyDictionary, thatRaw.keyDictionary) &&
+                    length == thatRaw.length &&
+                    rangeEquals(bytes, offset, thatRaw.bytes, thatRaw.offset, length)) {
+                return true;
+            }
+        }
+        if (getSize() != that.getSize()) {
+            return false;
+        }
+        final Iterator<JsonField> iterator = getIterator();
+        while (iterator.hasNext()) {
+            final JsonField field = iterator.next();
+            if (!ImmutableJsonObject.FieldMap.areEqual(field, that.getOrNull(field.getKeyName()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean rangeEquals(final byte[] bytes, final int offset, final byte[] otherBytes,
+            final int otherOffset, final int length) {
+
+        for (int i = 0; i < length; i++) {
+            if (bytes[offset + i] != otherBytes[otherOffset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = hashCode;
+        if (0 == result) {
+            final Iterator<JsonField> iterator = getIterator();
+            while (iterator.hasNext()) {
+                final JsonField field = iterator.next();
+                // same as an entry of Map#hashCode to be consistent with the other field maps
+                result += field.getKeyName().hashCode() ^ field.hashCode();
+            }
+            hashCode = result;
+        }
+        return result;
+    }
+
+    private static JsonParseException parseException(final String messagePattern, final Object... arguments) {
+        return JsonParseException.newBuilder()
+                .message(MessageFormat.format(messagePattern, arguments))
+                .build();
+    }
+
+    /**
+     * The encoding of the raw bytes.
+     */
+    private enum Format {
+
+        UTF8_JSON {
+            @Override
+            Index index(final byte[] bytes, final int offset, final int length,
+                    @Nullable final CborKeyDictionary keyDictionary) {
+
+                return new Utf8JsonIndexer(bytes, offset, length).index();
+            }
+
+            @Override
+            JsonValue readValue(final byte[] bytes, final int offset, final int length,
+                    @Nullable final CborKeyDictionary keyDictionary) {
+
+                if ('{' == bytes[offset]) {
+                    return new ImmutableJsonObject(ofUtf8Json(bytes, offset, length));
+                }
+                return JsonValueParser.fromBytes(bytes, offset, length);
+            }
+        },
+
+        CBOR {
+            @Override
+            Index index(final byte[] bytes, final int offset, final int length,
+                    @Nullable final CborKeyDictionary keyDictionary) {
+
+                return new CborIndexer(bytes, offset, length, keyDictionary).index();
+            }
+
+            @Override
+            JsonValue readValue(final byte[] bytes, final int offset, final int length,
+                    @Nullable final CborKeyDictionary keyDictionary) {
+
+                if (CborIndexer.MAJOR_TYPE_MAP == CborIndexer.getMajorType(bytes[offset])) {
+                    return new ImmutableJsonObject(ofCbor(bytes, offset, length, keyDictionary));
+                }
+                final CborFactory cborFactory = ImmutableJsonObject.SoftReferencedFieldMap.CBOR_FACTORY;
+                if (null != keyDictionary) {
+                    return cborFactory.readFrom(bytes, offset, length, keyDictionary);
+                }
+                return cborFactory.readFrom(bytes, offset, length);
+            }
+        };
+
+        abstract Index index(byte[] bytes, int offset, int length, @Nullable CborKeyDictionary keyDictionary);
+
+        abstract JsonValue readValue(byte[] bytes, int offset, int length,
+                @Nullable CborKeyDictionary keyDictionary);
+
+    }
+
+    /**
+     * The keys and value offsets of the top-level fields in insertion order. If a key occurs more than once, the
+     * last value is kept at the position of the first occurrence.
+     */
+    private static final class Index {
+
+        private static final int LINEAR_SEARCH_LIMIT = 8;
+
+        private final String[] keys;
+        private final int[] valueOffsets;
+        private final int[] valueLengths;
+        private final int size;
+        @Nullable private final Map<String, Integer> slots;
+
+        // the materialized fields; the array elements are written at most once per field on access
+        private final JsonField[] fields;
+
+        private Index(final IndexBuilder builder) {
+            size = builder.size;
+            keys = Arrays.copyOf(builder.keys, size);
+            valueOffsets = Arrays.copyOf(builder.valueOffsets, size);
+            valueLengths = Arrays.copyOf(builder.valueLengths, size);
+            slots = builder.slots;
+            fields = new JsonField[size];
+        }
+
+        private int indexOf(final String key) {
+            if (null != slots) {
+                final Integer slot = slots.get(key);
+                return null != slot ? slot : -1;
+            }
+            for (int i = 0; i < size; i++) {
+                if (keys[i].equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+    }
+
+    private static final class IndexBuilder {
+
+        private String[] keys;
+        private int[] valueOffsets;
+        private int[] valueLengths;
+        private int size;
+        @Nullable private Map<String, Integer> slots;
+
+        private IndexBuilder() {
+            keys = new String[Index.LINEAR_SEARCH_LIMIT];
+            valueOffsets = new int[Index.LINEAR_SEARCH_LIMIT];
+            valueLengths = new int[Index.LINEAR_SEARCH_LIMIT];
+            size = 0;
+            slots = null;
+        }
+
+        private void add(final String key, final int valueOffset, final int valueLength) {
+            final int existingSlot = indexOf(key);
+            if (0 <= existingSlot) {
+                valueOffsets[existingSlot] = valueOffset;
+                valueLengths[existingSlot] = valueLength;
+                return;
+            }
+            if (size == keys.length) {
+                final int newCapacity = size * 2;
+                keys = Arrays.copyOf(keys, newCapacity);
+                valueOffsets = Arrays.copyOf(valueOffsets, newCapacity);
+                valueLengths = Arrays.copyOf(valueLengths, newCapacity);
+            }
+            keys[size] = key;
+            valueOffsets[size] = valueOffset;
+            valueLengths[size] = valueLength;
+            if (null != slots) {
+                slots.put(key, size);
+            } else if (Index.LINEAR_SEARCH_LIMIT == size) {
+                slots = new HashMap<>();
+                for (int i = 0; i <= size; i++) {
+                    slots.put(keys[i], i);
+                }
+            }
+            size++;
+        }
+
+        private int indexOf(final String key) {
+            if (null != slots) {
+                final Integer slot = slots.get(key);
+                return null != slot ? slot : -1;
+            }
+            for (int i = 0; i < size; i++) {
+                if (keys[i].equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private Index build() {
+            return new Index(this);
+        }
+
+    }
+
+    /**
+     * Finds the keys and value offsets of the top-level fields of a UTF-8 encoded JSON object. Values are skipped by
+     * matching brackets outside of strings; they were validated when the document was read.
+     */
+    private static final class Utf8JsonIndexer {
+
+        private final byte[] bytes;
+        private final int end;
+        private int index;
+
+        private Utf8JsonIndexer(final byte[] bytes, final int offset, final int length) {
+            this.bytes = bytes;
+            end = offset + length;
+            index = offset;
+        }
+
+        private Index index() {
+            final IndexBuilder builder = new IndexBuilder();
+            read('{');
+            skipWhiteSpace();
+            if (!readIf('}')) {
+                do {
+                    skipWhiteSpace();
+                    final String key = readKey();
+                    skipWhiteSpace();
+                    read(':');
+                    skipWhiteSpace();
+                    final int valueOffset = index;
+                    skipValue();
+                    builder.add(key, valueOffset, index - valueOffset);
+                    skipWhiteSpace();
+                } while (readIf(','));
+                read('}');
+            }
+            if (index != end) {
+                throw error("Unexpected character");
+            }
+            return builder.build();
+        }
+
+        private String readKey() {
+            final int keyOffset = index;
+            final boolean escaped = skipString();
+            if (escaped) {
+                return JsonValueParser.fromBytes(bytes, keyOffset, index - keyOffset).asString();
+            }
+            return new String(bytes, keyOffset + 1, index - keyOffset - 2, StandardCharsets.UTF_8);
+        }
+
+        private void skipValue() {
+            if (index >= end) {
+                throw error("Unexpected end of input");
+            }
+            switch (bytes[index]) {
+                case '"':
+                    skipString();
+                    break;
+                case '{':
+                case '[':
+                    skipContainer();
+                    break;
+                default:
+                    skipLiteralOrNumber();
+            }
+        }
+
+        private boolean skipString() {
+            if (index >= end || '"' != bytes[index]) {
+                throw error("Expected string");
+            }
+            boolean escaped = false;
+            index++;
+            while (index < end) {
+                final byte b = bytes[index];
+                if ('"' == b) {
+                    index++;
+                    return escaped;
+                } else if ('\\' == b) {
+                    escaped = true;
+                    index += 2;
+                } else if (b >= 0 && b < 0x20) {
+                    throw error("Control character in string");
+                } else {
+                    index++;
+                }
+            }
+            throw error("Unterminated string");
+        }
+
+        private void skipContainer() {
+            int depth = 0;
+            while (index < end) {
+                final byte b = bytes[index];
+                if ('"' == b) {
+                    skipString();
+                    continue;
+                }
+                if ('{' == b || '[' == b) {
+                    depth++;
+                    if (depth > MAX_NESTING_LEVEL) {
+                        throw error("Nesting too deep");
+                    }
+                } else if ('}' == b || ']' == b) {
+                    depth--;
+                    if (0 == depth) {
+                        index++;
+                        return;
+                    }
+                }
+                index++;
+            }
+            throw error("Unterminated object or array");
+        }
+
+        private void skipLiteralOrNumber() {
+            final int valueOffset = index;
+            while (index < end && !isDelimiter(bytes[index])) {
+                index++;
+            }
+            if (valueOffset == index) {
+                throw error("Expected value");
+            }
+        }
+
+        private static boolean isDelimiter(final byte b) {
+            return ',' == b || '}' == b || ']' == b || isWhiteSpace(b);
+        }
+
+        static boolean isWhiteSpace(final byte b) {
+            return ' ' == b || '\t' == b || '\n' == b || '\r' == b;
+        }
+
+        private void skipWhiteSpace() {
+            while (index < end && isWhiteSpace(bytes[index])) {
+                index++;
+            }
+        }
+
+        private void read(final char expected) {
+            if (!readIf(expected)) {
+                throw error("Expected ''" + expected + "''");
+            }
+        }
+
+        private boolean readIf(final char expected) {
+            if (index < end && expected == bytes[index]) {
+                index++;
+                return true;
+            }
+            return false;
+        }
+
+        private JsonParseException error(final String message) {
+            return parseException("Failed to index JSON object: {0} at byte <{1}>!", message, index);
+        }
+
+    }
+
+    /**
+     * Finds the keys and value offsets of the top-level fields of a CBOR map (RFC 7049). Values are skipped by their
+     * encoded lengths, which checks their structure and the keys of nested maps; they are decoded on access only.
+     */
+    private static final class CborIndexer {
+
+        static final int MAJOR_TYPE_MAP = 5;
+
+        private static final int MAJOR_TYPE_UNSIGNED_INTEGER = 0;
+        private static final int MAJOR_TYPE_BYTE_STRING = 2;
+        private static final int MAJOR_TYPE_TEXT_STRING = 3;
+        private static final int MAJOR_TYPE_ARRAY = 4;
+        private static final int MAJOR_TYPE_TAG = 6;
+        private static final int INDEFINITE_LENGTH = -1;
+        private static final int BREAK = 0xFF;
+
+        private final byte[] bytes;
+        private final int end;
+        @Nullable private final CborKeyDictionary keyDictionary;
+        private int index;
+
+        private CborIndexer(final byte[] bytes, final int offset, final int length,
+                @Nullable final CborKeyDictionary keyDictionary) {
+
+            this.bytes = bytes;
+            end = offset + length;
+            this.keyDictionary = keyDictionary;
+            index = offset;
+        }
+
+        static int getMajorType(final byte initialByte) {
+            return (initialByte & 0xFF) >>> 5;
+        }
+
+        private Index index() {
+            final IndexBuilder builder = new IndexBuilder();
+            final long pairCount = readHead(MAJOR_TYPE_MAP);
+            for (long i = 0; INDEFINITE_LENGTH == pairCount ? !readIfBreak() : i < pairCount; i++) {
+                final String key = readKey();
+                final int valueOffset = index;
+                skipItem(1);
+                builder.add(key, valueOffset, index - valueOffset);
+            }
+            if (index != end) {
+                throw error("Unexpected data item");
+            }
+            return builder.build();
+        }
+
+        private long readHead(final int expectedMajorType) {
+            if (index >= end) {
+                throw error("Unexpected end of input");
+            }
+            final int majorType = getMajorType(bytes[index]);
+            if (expectedMajorType != majorType) {
+                throw error("Expected major type " + expectedMajorType + " but got " + majorType);
+            }
+            return readHead();
+        }
+
+        // reads the initial byte and the argument of a data item and returns the argument
+        private long readHead() {
+            if (index >= end) {
+                throw error("Unexpected end of input");
+            }
+            final int additionalInformation = bytes[index++] & 0x1F;
+            if (additionalInformation < 24) {
+                return additionalInformation;
+            }
+            switch (additionalInformation) {
+                case 24:
+                    return readUnsigned(1);
+                case 25:
+                    return readUnsigned(2);
+                case 26:
+                    return readUnsigned(4);
+                case 27:
+                    return readUnsigned(8);
+                case 31:
+                    return INDEFINITE_LENGTH;
+                default:
+                    throw error("Reserved additional information " + additionalInformation);
+            }
+        }
+
+        private long readUnsigned(final int byteCount) {
+            if (index + byteCount > end) {
+                throw error("Unexpected end of input");
+            }
+            long result = 0;
+            for (int i = 0; i < byteCount; i++) {
+                result = (result << 8) | (bytes[index++] & 0xFF);
+            }
+            return result;
+        }
+
+        private boolean readIfBreak() {
+            if (index < end && BREAK == (bytes[index] & 0xFF)) {
+                index++;
+                return true;
+            }
+            return false;
+        }
+
+        private String readKey() {
+            if (null != keyDictionary && index < end &&
+                    MAJOR_TYPE_UNSIGNED_INTEGER == getMajorType(bytes[index])) {
+                final long keyIndex = readHead();
+                final String key = keyDictionary.getKey(keyIndex);
+                if (null == key) {
+                    throw error("Unknown key index " + keyIndex);
+                }
+                return key;
+            }
+            return readTextString();
+        }
+
+        private String readTextString() {
+            final long length = readHead(MAJOR_TYPE_TEXT_STRING);
+            if (INDEFINITE_LENGTH == length) {
+                final StringBuilder stringBuilder = new StringBuilder();
+                while (!readIfBreak()) {
+                    stringBuilder.append(readTextString());
+                }
+                return stringBuilder.toString();
+            }
+            final int stringOffset = index;
+            skipBytes(length);
+            return new String(bytes, stringOffset, (int) length, StandardCharsets.UTF_8);
+        }
+
+        private void skipBytes(final long count) {
+            if (count < 0 || count > end - index) {
+                throw error("Unexpected end of input");
+            }
+            index += (int) count;
+        }
+
+        private void skipItem(final int nestingLevel) {
+            if (nestingLevel > MAX_NESTING_LEVEL) {
+                throw error("Nesting too deep");
+            }
+            if (index >= end) {
+                throw error("Unexpected end of input");
+            }
+            final int majorType = getMajorType(bytes[index]);
+            final long argument = readHead();
+            switch (majorType) {
+                case MAJOR_TYPE_BYTE_STRING:
+                case MAJOR_TYPE_TEXT_STRING:
+                    if (INDEFINITE_LENGTH == argument) {
+                        while (!readIfBreak()) {
+                            skipBytes(readHead(majorType));
+                        }
+                    } else {
+                        skipBytes(argument);
+                    }
+                    break;
+                case MAJOR_TYPE_ARRAY:
+                    skipItems(argument, nestingLevel);
+                    break;
+                case MAJOR_TYPE_MAP:
+                    skipEntries(argument, nestingLevel);
+                    break;
+                case MAJOR_TYPE_TAG:
+                    skipItem(nestingLevel + 1);
+                    break;
+                default:
+                    // integers, simple values and floats consist of their head only
+                    if (INDEFINITE_LENGTH == argument) {
+                        throw error("Unexpected break");
+                    }
+            }
+        }
+
+        private void skipItems(final long count, final int nestingLevel) {
+            for (long i = 0; INDEFINITE_LENGTH == count ? !readIfBreak() : i < count; i++) {
+                skipItem(nestingLevel + 1);
+            }
+        }
+
+        private void skipEntries(final long count, final int nestingLevel) {
+            for (long i = 0; INDEFINITE_LENGTH == count ? !readIfBreak() : i < count; i++) {
+                skipKey();
+                skipItem(nestingLevel + 1);
+            }
+        }
+
+        private void skipKey() {
+            if (null != keyDictionary && index < end &&
+                    MAJOR_TYPE_UNSIGNED_INTEGER == getMajorType(bytes[index])) {
+                final long keyIndex = readHead();
+                if (null == keyDictionary.getKey(keyIndex)) {
+                    throw error("Unknown key index " + keyIndex);
+                }
+                return;
+            }
+            final long length = readHead(MAJOR_TYPE_TEXT_STRING);
+            if (INDEFINITE_LENGTH == length) {
+                while (!readIfBreak()) {
+                    skipBytes(readHead(MAJOR_TYPE_TEXT_STRING));
+                }
+            } else {
+                skipBytes(length);
+            }
+        }
+
+        private JsonParseException error(final String message) {
+            return parseException("Failed to index CBOR map: {0} at byte <{1}>!", message, index);
+        }
+
+    }
+
+}
@@ -15,6 +15,7 @@ package org.eclipse.ditto.json;
 import java.io.Closeable;
 import java.io.Flushable;
 import java.io.IOException;
+import java.util.Arrays;
 
 /**
  * Bundles state and configuration for serialization. Must be recreated for each serialization target.
@@ -36,6 +37,19 @@ public interface SerializationContext extends Closeable, Flushable {
      */
     void writeCachedElement(byte[] cachedData) throws IOException;
 
+    /**
+     * Allows the caller to directly embed cached data in the Buffer which is the specified range of an array.
+     * This can only be used to write exactly one element.
+     *
+     * @param cachedData the array containing the data to write.
+     * @param offset the index of the first byte of the data.
+     * @param length the number of bytes of the data.
+     * @since 2.0.0
+     */
+    default void writeCachedElement(final byte[] cachedData, final int offset, final int length) throws IOException {
+        writeCachedElement(Arrays.copyOfRange(cachedData, offset, offset + length));
+    }
+
     /**
      * Writes {@code null} to the serialization context.
      */
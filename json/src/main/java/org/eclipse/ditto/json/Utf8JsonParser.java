@@ -0,0 +1,694 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A streaming parser which reads JSON directly from UTF-8 encoded bytes and reports the parse events to a
+ * {@link DittoJsonHandler}.
+ * In contrast to the string based parser of minimal-json the bytes do not have to be decoded to a Java String before
+ * parsing; strings and numbers are decoded from the underlying byte array while scanning.
+ * <p>
+ * <em>Instances of this class are not safe to be re-used!</em>
+ * </p>
+ *
+ * @param <A> the type to be used for parsing JSON arrays.
+ * @param <O> the type to be used for parsing JSON objects.
+ */
+@NotThreadSafe
+final class Utf8JsonParser<A, O> {
+
+    private static final int MAX_NESTING_LEVEL = 1000;
+    private static final int DEFAULT_STRING_BUILDER_CAPACITY = 64;
+
+    // null if the bytes are only validated
+    @Nullable private final DittoJsonHandler<A, O, ?> handler;
+    private final byte[] bytes;
+    private final int end;
+    private int index;
+    private int nestingLevel;
+    @Nullable private StringBuilder captureBuffer;
+
+    private Utf8JsonParser(@Nullable final DittoJsonHandler<A, O, ?> handler, final byte[] bytes, final int offset,
+            final int length) {
+
+        this.handler = handler;
+        this.bytes = requireNonNull(bytes, "The bytes to be parsed must not be null!");
+        if (offset < 0 || length < 0 || offset + length > bytes.length) {
+            throw new IndexOutOfBoundsException(
+                    MessageFormat.format("Invalid offset <{0}> and length <{1}> for <{2}> bytes!", offset, length,
+                            bytes.length));
+        }
+        end = offset + length;
+        index = offset;
+        nestingLevel = 0;
+        captureBuffer = null;
+    }
+
+    /**
+     * Parses the specified range of the given UTF-8 encoded bytes and reports the parse events to the given handler.
+     *
+     * @param handler receives the parse events.
+     * @param bytes the UTF-8 encoded JSON document.
+     * @param offset the index of the first byte to be parsed.
+     * @param length the number of bytes to be parsed.
+     * @param <A> the type to be used for parsing JSON arrays.
+     * @param <O> the type to be used for parsing JSON objects.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code offset} and {@code length} do not denote a range of {@code bytes}.
+     * @throws JsonParseException if the bytes do not contain valid JSON.
+     */
+    static <A, O> void parse(final DittoJsonHandler<A, O, ?> handler, final byte[] bytes, final int offset,
+            final int length) {
+
+        requireNonNull(handler, "The JSON handler must not be null!");
+        new Utf8JsonParser<>(handler, bytes, offset, length).parse(null);
+    }
+
+    /**
+     * Parses the specified range of the given UTF-8 encoded bytes and reports only the fields selected by the given
+     * trie to the handler.
+     * If the bytes contain a JSON object, the values of unselected fields are skipped on token level without being
+     * decoded or reported; they are only checked for a well-formed structure and valid strings.
+     * A selected field whose trie has children is reported only if its value is an object which contains at least one
+     * selected field itself.
+     * The name and the start of the value of such a field are reported to the handler nevertheless, thus the handler has
+     * to add fields to an object in {@link DittoJsonHandler#endObjectValue(Object, String)} like
+     * {@link DefaultDittoJsonHandler} does.
+     * If the bytes contain any other JSON value, it is reported completely.
+     *
+     * @param handler receives the parse events.
+     * @param bytes the UTF-8 encoded JSON document.
+     * @param offset the index of the first byte to be parsed.
+     * @param length the number of bytes to be parsed.
+     * @param selection the trie of the fields to be reported.
+     * @param <A> the type to be used for parsing JSON arrays.
+     * @param <O> the type to be used for parsing JSON objects.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code offset} and {@code length} do not denote a range of {@code bytes}.
+     * @throws JsonParseException if the bytes do not contain valid JSON.
+     */
+    static <A, O> void parse(final DittoJsonHandler<A, O, ?> handler, final byte[] bytes, final int offset,
+            final int length, final JsonFieldSelectorTrie selection) {
+
+        requireNonNull(handler, "The JSON handler must not be null!");
+        requireNonNull(selection, "The selection must not be null!");
+        new Utf8JsonParser<>(handler, bytes, offset, length).parse(selection);
+    }
+
+    /**
+     * Checks that the specified range of the given UTF-8 encoded bytes contains exactly one well-formed JSON value.
+     * The value is scanned on token level like the unselected fields of
+     * {@link #parse(DittoJsonHandler, byte[], int, int, JsonFieldSelectorTrie)} without being decoded.
+     *
+     * @param bytes the UTF-8 encoded JSON document.
+     * @param offset the index of the first byte to be checked.
+     * @param length the number of bytes to be checked.
+     * @throws NullPointerException if {@code bytes} is {@code null}.
+     * @throws IndexOutOfBoundsException if {@code offset} and {@code length} do not denote a range of {@code bytes}.
+     * @throws JsonParseException if the bytes do not contain valid JSON.
+     */
+    static void validate(final byte[] bytes, final int offset, final int length) {
+        new Utf8JsonParser<Object, Object>(null, bytes, offset, length).validate();
+    }
+
+    private void validate() {
+        skipWhiteSpace();
+        requireInput("Unexpected end of input");
+        skipValue();
+        skipWhiteSpace();
+        if (!isEndOfInput()) {
+            throw error("Unexpected character");
+        }
+    }
+
+    private void parse(@Nullable final JsonFieldSelectorTrie selection) {
+        skipWhiteSpace();
+        if (isEndOfInput()) {
+            throw error("Unexpected end of input");
+        }
+        if (null != selection && '{' == bytes[index]) {
+            readSelectedFields(selection);
+        } else {
+            readValue();
+        }
+        skipWhiteSpace();
+        if (!isEndOfInput()) {
+            throw error("Unexpected character");
+        }
+    }
+
+    private void readValue() {
+        switch (bytes[index]) {
+            case 'n':
+                handler.startNull();
+                readLiteral("null");
+                handler.endNull();
+                break;
+            case 't':
+                handler.startBoolean();
+                readLiteral("true");
+                handler.endBoolean(true);
+                break;
+            case 'f':
+                handler.startBoolean();
+                readLiteral("false");
+                handler.endBoolean(false);
+                break;
+            case '"':
+                handler.startString();
+                handler.endString(readStringInternal());
+                break;
+            case '[':
+                readArray();
+                break;
+            case '{':
+                readObject();
+                break;
+            case '-':
+            case '0':
+            case '1':
+            case '2':
+            case '3':
+            case '4':
+            case '5':
+            case '6':
+            case '7':
+            case '8':
+            case '9':
+                readNumber();
+                break;
+            default:
+                throw error("Expected value");
+        }
+    }
+
+    private void readArray() {
+        final A array = handler.startArray();
+        index++;
+        increaseNestingLevel();
+        skipWhiteSpace();
+        if (readChar(']')) {
+            nestingLevel--;
+            handler.endArray(array);
+            return;
+        }
+        do {
+            skipWhiteSpace();
+            handler.startArrayValue(array);
+            requireInput("Expected value");
+            readValue();
+            handler.endArrayValue(array);
+            skipWhiteSpace();
+        } while (readChar(','));
+        if (!readChar(']')) {
+            throw error("Expected ',' or ']'");
+        }
+        nestingLevel--;
+        handler.endArray(array);
+    }
+
+    private void readObject() {
+        final O object = handler.startObject();
+        index++;
+        increaseNestingLevel();
+        skipWhiteSpace();
+        if (readChar('}')) {
+            nestingLevel--;
+            handler.endObject(object);
+            return;
+        }
+        do {
+            skipWhiteSpace();
+            handler.startObjectName(object);
+            final String name = readName();
+            handler.endObjectName(object, name);
+            skipWhiteSpace();
+            if (!readChar(':')) {
+                throw error("Expected ':'");
+            }
+            skipWhiteSpace();
+            handler.startObjectValue(object, name);
+            requireInput("Expected value");
+            readValue();
+            handler.endObjectValue(object, name);
+            skipWhiteSpace();
+        } while (readChar(','));
+        if (!readChar('}')) {
+            throw error("Expected ',' or '}'");
+        }
+        nestingLevel--;
+        handler.endObject(object);
+    }
+
+    private int readSelectedFields(final JsonFieldSelectorTrie selection) {
+        final O object = handler.startObject();
+        index++;
+        increaseNestingLevel();
+        skipWhiteSpace();
+        int reportedFieldCount = 0;
+        if (!readChar('}')) {
+            do {
+                skipWhiteSpace();
+                final String name = readName();
+                skipWhiteSpace();
+                if (!readChar(':')) {
+                    throw error("Expected ':'");
+                }
+                skipWhiteSpace();
+                requireInput("Expected value");
+                final JsonFieldSelectorTrie childSelection = selection.getChild(JsonKey.of(name));
+                if (null == childSelection || !childSelection.isEmpty() && '{' != bytes[index]) {
+                    skipValue();
+                } else if (readSelectedValue(object, name, childSelection)) {
+                    handler.endObjectValue(object, name);
+                    reportedFieldCount++;
+                }
+                skipWhiteSpace();
+            } while (readChar(','));
+            if (!readChar('}')) {
+                throw error("Expected ',' or '}'");
+            }
+        }
+        nestingLevel--;
+        handler.endObject(object);
+        return reportedFieldCount;
+    }
+
+    private boolean readSelectedValue(final O object, final String name, final JsonFieldSelectorTrie selection) {
+        handler.startObjectName(object);
+        handler.endObjectName(object, name);
+        handler.startObjectValue(object, name);
+        if (selection.isEmpty()) {
+            readValue();
+            return true;
+        }
+        return 0 < readSelectedFields(selection);
+    }
+
+    private void skipValue() {
+        switch (bytes[index]) {
+            case 'n':
+                readLiteral("null");
+                break;
+            case 't':
+                readLiteral("true");
+                break;
+            case 'f':
+                readLiteral("false");
+                break;
+            case '"':
+                skipString();
+                break;
+            case '[':
+                skipArray();
+                break;
+            case '{':
+                skipObject();
+                break;
+            case '-':
+            case '0':
+            case '1':
+            case '2':
+            case '3':
+            case '4':
+            case '5':
+            case '6':
+            case '7':
+            case '8':
+            case '9':
+                scanNumber();
+                break;
+            default:
+                throw error("Expected value");
+        }
+    }
+
+    private void skipArray() {
+        index++;
+        increaseNestingLevel();
+        skipWhiteSpace();
+        if (!readChar(']')) {
+            do {
+                skipWhiteSpace();
+                requireInput("Expected value");
+                skipValue();
+                skipWhiteSpace();
+            } while (readChar(','));
+            if (!readChar(']')) {
+                throw error("Expected ',' or ']'");
+            }
+        }
+        nestingLevel--;
+    }
+
+    private void skipObject() {
+        index++;
+        increaseNestingLevel();
+        skipWhiteSpace();
+        if (!readChar('}')) {
+            do {
+                skipWhiteSpace();
+                if (isEndOfInput() || '"' != bytes[index]) {
+                    throw error("Expected name");
+                }
+                skipString();
+                skipWhiteSpace();
+                if (!readChar(':')) {
+                    throw error("Expected ':'");
+                }
+                skipWhiteSpace();
+                requireInput("Expected value");
+                skipValue();
+                skipWhiteSpace();
+            } while (readChar(','));
+            if (!readChar('}')) {
+                throw error("Expected ',' or '}'");
+            }
+        }
+        nestingLevel--;
+    }
+
+    private void skipString() {
+        index++; // skip the opening quote
+        while (true) {
+            requireInput("Unexpected end of input");
+            final int b = bytes[index];
+            if ('"' == b) {
+                index++;
+                return;
+            } else if ('\\' == b) {
+                index++;
+                skipEscape();
+            } else if (b < 0) {
+                readMultiByteCodePoint(b & 0xFF);
+            } else if (b < 0x20) {
+                throw error("Expected valid string character");
+            } else {
+                index++;
+            }
+        }
+    }
+
+    private void skipEscape() {
+        requireInput("Unexpected end of input");
+        switch (bytes[index++]) {
+            case '"':
+            case '/':
+            case '\\':
+            case 'b':
+            case 'f':
+            case 'n':
+            case 'r':
+            case 't':
+                break;
+            case 'u':
+                readHexQuad();
+                break;
+            default:
+                index--;
+                throw error("Expected valid escape sequence");
+        }
+    }
+
+    private void increaseNestingLevel() {
+        if (++nestingLevel > MAX_NESTING_LEVEL) {
+            throw error("Nesting too deep");
+        }
+    }
+
+    private String readName() {
+        if (isEndOfInput() || '"' != bytes[index]) {
+            throw error("Expected name");
+        }
+        return readStringInternal();
+    }
+
+    private void readLiteral(final String literal) {
+        final int literalLength = literal.length();
+        if (end - index < literalLength) {
+            throw error("Unexpected end of input");
+        }
+        for (int i = 0; i < literalLength; i++) {
+            if (bytes[index + i] != literal.charAt(i)) {
+                index += i;
+                throw error("Expected '" + literal.charAt(i) + "'");
+            }
+        }
+        index += literalLength;
+    }
+
+    private String readStringInternal() {
+        index++; // skip the opening quote
+        final int start = index;
+
+        // fast path: plain ASCII without escapes can be copied directly to a compact Latin-1 string
+        while (index < end) {
+            final byte b = bytes[index];
+            if ('"' == b) {
+                final String result = new String(bytes, start, index - start, StandardCharsets.ISO_8859_1);
+                index++;
+                return result;
+            }
+            if ('\\' == b || b < 0x20) {
+                break;
+            }
+            index++;
+        }
+        return readStringSlowPath(start);
+    }
+
+    private String readStringSlowPath(final int start) {
+        final StringBuilder stringBuilder = getCaptureBuffer(index - start);
+        stringBuilder.append(new String(bytes, start, index - start, StandardCharsets.ISO_8859_1));
+        while (true) {
+            requireInput("Unexpected end of input");
+            final int b = bytes[index];
+            if ('"' == b) {
+                index++;
+                return stringBuilder.toString();
+            } else if ('\\' == b) {
+                index++;
+                readEscape(stringBuilder);
+            } else if (b < 0) {
+                readMultiByteChar(stringBuilder, b & 0xFF);
+            } else if (b < 0x20) {
+                throw error("Expected valid string character");
+            } else {
+                stringBuilder.append((char) b);
+                index++;
+            }
+        }
+    }
+
+    private StringBuilder getCaptureBuffer(final int minCapacity) {
+        StringBuilder result = captureBuffer;
+        if (null == result) {
+            result = new StringBuilder(Math.max(minCapacity, DEFAULT_STRING_BUILDER_CAPACITY));
+            captureBuffer = result;
+        } else {
+            result.setLength(0);
+        }
+        return result;
+    }
+
+    private void readEscape(final StringBuilder stringBuilder) {
+        requireInput("Unexpected end of input");
+        final byte escaped = bytes[index++];
+        switch (escaped) {
+            case '"':
+            case '/':
+            case '\\':
+                stringBuilder.append((char) escaped);
+                break;
+            case 'b':
+                stringBuilder.append('\b');
+                break;
+            case 'f':
+                stringBuilder.append('\f');
+                break;
+            case 'n':
+                stringBuilder.append('\n');
+                break;
+            case 'r':
+                stringBuilder.append('\r');
+                break;
+            case 't':
+                stringBuilder.append('\t');
+                break;
+            case 'u':
+                stringBuilder.append((char) readHexQuad());
+                break;
+            default:
+                index--;
+                throw error("Expected valid escape sequence");
+        }
+    }
+
+    private int readHexQuad() {
+        if (end - index < 4) {
+            throw error("Unexpected end of input");
+        }
+        int result = 0;
+        for (int i = 0; i < 4; i++) {
+            final int digit = Character.digit(bytes[index], 16);
+            if (digit < 0) {
+                throw error("Expected hexadecimal digit");
+            }
+            result = (result << 4) | digit;
+            index++;
+        }
+        return result;
+    }
+
+    private void readMultiByteChar(final StringBuilder stringBuilder, final int leadingByte) {
+        stringBuilder.appendCodePoint(readMultiByteCodePoint(leadingByte));
+    }
+
+    private int readMultiByteCodePoint(final int leadingByte) {
+        final int additionalBytes;
+        int codePoint;
+        if ((leadingByte & 0xE0) == 0xC0) {
+            additionalBytes = 1;
+            codePoint = leadingByte & 0x1F;
+        } else if ((leadingByte & 0xF0) == 0xE0) {
+            additionalBytes = 2;
+            codePoint = leadingByte & 0x0F;
+        } else if ((leadingByte & 0xF8) == 0xF0) {
+            additionalBytes = 3;
+            codePoint = leadingByte & 0x07;
+        } else {
+            throw error("Malformed UTF-8 sequence");
+        }
+        if (end - index <= additionalBytes) {
+            throw error("Unexpected end of input");
+        }
+        for (int i = 1; i <= additionalBytes; i++) {
+            final int continuationByte = bytes[index + i] & 0xFF;
+            if ((continuationByte & 0xC0) != 0x80) {
+                throw error("Malformed UTF-8 sequence");
+            }
+            codePoint = (codePoint << 6) | (continuationByte & 0x3F);
+        }
+        if (!isShortestForm(codePoint, additionalBytes) || isSurrogate(codePoint)) {
+            throw error("Malformed UTF-8 sequence");
+        }
+        index += additionalBytes + 1;
+        return codePoint;
+    }
+
+    private static boolean isShortestForm(final int codePoint, final int additionalBytes) {
+        switch (additionalBytes) {
+            case 1:
+                return codePoint >= 0x80;
+            case 2:
+                return codePoint >= 0x800;
+            default:
+                return codePoint >= 0x10000 && codePoint <= Character.MAX_CODE_POINT;
+        }
+    }
+
+    private static boolean isSurrogate(final int codePoint) {
+        return codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE;
+    }
+
+    private void readNumber() {
+        handler.startNumber();
+        final int start = index;
+        scanNumber();
+        handler.endNumber(new String(bytes, start, index - start, StandardCharsets.ISO_8859_1));
+    }
+
+    private void scanNumber() {
+        readChar('-');
+        requireInput("Expected digit");
+        final byte firstDigit = bytes[index];
+        if (!readDigit()) {
+            throw error("Expected digit");
+        }
+        if ('0' != firstDigit) {
+            while (readDigit()) {
+                // consume all digits
+            }
+        }
+        if (readChar('.')) {
+            readDigits();
+        }
+        if (readChar('e') || readChar('E')) {
+            if (!readChar('+')) {
+                readChar('-');
+            }
+            readDigits();
+        }
+    }
+
+    private void readDigits() {
+        if (!readDigit()) {
+            throw error("Expected digit");
+        }
+        while (readDigit()) {
+            // consume all digits
+        }
+    }
+
+    private boolean readDigit() {
+        if (index < end && bytes[index] >= '0' && bytes[index] <= '9') {
+            index++;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean readChar(final char ch) {
+        if (index < end && bytes[index] == ch) {
+            index++;
+            return true;
+        }
+        return false;
+    }
+
+    private void skipWhiteSpace() {
+        while (index < end) {
+            final byte b = bytes[index];
+            if (' ' != b && '\t' != b && '\n' != b && '\r' != b) {
+                return;
+            }
+            index++;
+        }
+    }
+
+    private boolean isEndOfInput() {
+        return index >= end;
+    }
+
+    private void requireInput(final String message) {
+        if (isEndOfInput()) {
+            throw error(message);
+        }
+    }
+
+    private JsonParseException error(final String message) {
+        final String description = isEndOfInput() ? "end of input" : "offset " + index;
+        return JsonParseException.newBuilder()
+                .message(MessageFormat.format("{0} at {1}!", message, description))
+                .build();
+    }
+
+}
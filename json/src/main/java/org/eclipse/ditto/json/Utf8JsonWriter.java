@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Writes the minimal JSON representation of a {@link JsonValue} as UTF-8 encoded bytes directly from the value tree.
+ * No intermediate Java String of the whole value is built; strings are escaped with the help of
+ * {@link JsonCharEscaper} and encoded while being written. The intermediate byte buffer is re-used by all writes of
+ * a thread, so that writing does not allocate it per value.
+ * <p>
+ * <em>Instances of this class are not safe to be re-used!</em>
+ * </p>
+ */
+@NotThreadSafe
+abstract class Utf8JsonWriter {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * The maximum number of bytes a single char may occupy in the buffer, i. e. a six byte unicode escape sequence.
+     */
+    private static final int MAX_BYTES_PER_CHAR = 6;
+
+    private static final byte[] NULL_BYTES = {'n', 'u', 'l', 'l'};
+    private static final byte[] TRUE_BYTES = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE_BYTES = {'f', 'a', 'l', 's', 'e'};
+
+    /**
+     * Holds the buffer of each thread while it is not in use; {@code null} while a write of the thread uses it.
+     */
+    private static final ThreadLocal<byte[]> BUFFERS = ThreadLocal.withInitial(() -> new byte[BUFFER_SIZE]);
+
+    private final JsonCharEscaper jsonCharEscaper;
+    private final byte[] buffer;
+    private int count;
+
+    private Utf8JsonWriter(final byte[] buffer) {
+        jsonCharEscaper = JsonCharEscaper.getInstance();
+        this.buffer = buffer;
+        count = 0;
+    }
+
+    /**
+     * Writes the given JSON value to the given OutputStream.
+     * The OutputStream is neither flushed nor closed by this method.
+     *
+     * @param jsonValue the JSON value to be written.
+     * @param outputStream the stream to write the UTF-8 bytes to.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IOException if writing to {@code outputStream} failed.
+     */
+    static void write(final JsonValue jsonValue, final OutputStream outputStream) throws IOException {
+        requireNonNull(jsonValue, "The JSON value to be written must not be null!");
+        requireNonNull(outputStream, "The OutputStream must not be null!");
+        final byte[] buffer = acquireBuffer();
+        try {
+            final Utf8JsonWriter writer = new OutputStreamWriter(outputStream, buffer);
+            writer.writeValue(jsonValue);
+            writer.flushBuffer();
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+
+    /**
+     * Writes the given JSON value to the given ByteBuffer, starting at its current position.
+     * The position of the buffer is advanced by the number of written bytes.
+     *
+     * @param jsonValue the JSON value to be written.
+     * @param byteBuffer the buffer to write the UTF-8 bytes to.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws java.nio.BufferOverflowException if {@code byteBuffer} has not enough remaining space.
+     * @throws java.nio.ReadOnlyBufferException if {@code byteBuffer} is read-only.
+     */
+    static void write(final JsonValue jsonValue, final ByteBuffer byteBuffer) {
+        requireNonNull(jsonValue, "The JSON value to be written must not be null!");
+        requireNonNull(byteBuffer, "The ByteBuffer must not be null!");
+        final byte[] buffer = acquireBuffer();
+        try {
+            final Utf8JsonWriter writer = new ByteBufferWriter(byteBuffer, buffer);
+            writer.writeValue(jsonValue);
+            writer.flushBuffer();
+        } catch (final IOException e) {
+            // ByteBufferWriter does not throw IOExceptions
+            throw new IllegalStateException(e);
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+
+    private static byte[] acquireBuffer() {
+        final byte[] result = BUFFERS.get();
+        if (null == result) {
+            // a write of this thread is in progress, e. g. the OutputStream writes another JSON value
+            return new byte[BUFFER_SIZE];
+        }
+        BUFFERS.set(null);
+        return result;
+    }
+
+    private static void releaseBuffer(final byte[] buffer) {
+        BUFFERS.set(buffer);
+    }
+
+    /**
+     * Transfers the given range of bytes to the target of this writer.
+     *
+     * @param bytes the bytes to be transferred.
+     * @param length the number of bytes starting at index 0 to be transferred.
+     * @throws IOException if the target could not be written.
+     */
+    protected abstract void flush(byte[] bytes, int length) throws IOException;
+
+    private void writeValue(final JsonValue jsonValue) throws IOException {
+        if (jsonValue.isNull()) {
+            writeBytes(NULL_BYTES);
+        } else if (jsonValue.isObject()) {
+            writeObject(jsonValue.asObject());
+        } else if (jsonValue.isArray()) {
+            writeArray(jsonValue.asArray());
+        } else if (jsonValue.isString()) {
+            writeString(jsonValue.asString());
+        } else if (jsonValue.isBoolean()) {
+            writeBytes(jsonValue.asBoolean() ? TRUE_BYTES : FALSE_BYTES);
+        } else if (jsonValue instanceof ImmutableJsonInt || jsonValue instanceof ImmutableJsonLong) {
+            writeLong(jsonValue.asLong());
+        } else {
+            // decimal numbers and other implementations; the string representation of those is always ASCII
+            writeAscii(jsonValue.toString());
+        }
+    }
+
+    private void writeObject(final JsonObject jsonObject) throws IOException {
+        writeByte('{');
+        boolean isFirst = true;
+        for (final JsonField jsonField : jsonObject) {
+            if (!isFirst) {
+                writeByte(',');
+            }
+            writeString(jsonField.getKeyName());
+            writeByte(':');
+            writeValue(jsonField.getValue());
+            isFirst = false;
+        }
+        writeByte('}');
+    }
+
+    private void writeArray(final JsonArray jsonArray) throws IOException {
+        writeByte('[');
+        boolean isFirst = true;
+        for (final JsonValue jsonValue : jsonArray) {
+            if (!isFirst) {
+                writeByte(',');
+            }
+            writeValue(jsonValue);
+            isFirst = false;
+        }
+        writeByte(']');
+    }
+
+    private void writeString(final String string) throws IOException {
+        writeByte('"');
+        final int length = string.length();
+        for (int i = 0; i < length; i++) {
+            ensureCapacity(MAX_BYTES_PER_CHAR);
+            final char c = string.charAt(i);
+            if (c < 0x80) {
+                @Nullable final String replacement = jsonCharEscaper.apply((int) c);
+                if (null == replacement) {
+                    buffer[count++] = (byte) c;
+                } else {
+                    writeAsciiUnchecked(replacement);
+                }
+            } else if (c < 0x800) {
+                buffer[count++] = (byte) (0xC0 | (c >> 6));
+                buffer[count++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length &&
+                    Character.isLowSurrogate(string.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(c, string.charAt(++i));
+                buffer[count++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[count++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // unpaired surrogates can't be encoded in UTF-8; replace them like String#getBytes does
+                buffer[count++] = '?';
+            } else {
+                buffer[count++] = (byte) (0xE0 | (c >> 12));
+                buffer[count++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[count++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        writeByte('"');
+    }
+
+    private void writeLong(final long value) throws IOException {
+        if (Long.MIN_VALUE == value) {
+            writeAscii(Long.toString(value));
+            return;
+        }
+        ensureCapacity(20);
+        long remainder = value;
+        if (remainder < 0) {
+            buffer[count++] = '-';
+            remainder = -remainder;
+        }
+        final int digits = countDigits(remainder);
+        int position = count + digits;
+        count = position;
+        do {
+            buffer[--position] = (byte) ('0' + remainder % 10);
+            remainder /= 10;
+        } while (remainder > 0);
+    }
+
+    private static int countDigits(final long positiveValue) {
+        int result = 1;
+        long threshold = 10;
+        while (result < 19 && positiveValue >= threshold) {
+            result++;
+            threshold *= 10;
+        }
+        return result;
+    }
+
+    private void writeAscii(final String asciiString) throws IOException {
+        final int length = asciiString.length();
+        for (int i = 0; i < length; i++) {
+            writeByte(asciiString.charAt(i));
+        }
+    }
+
+    private void writeAsciiUnchecked(final String asciiString) {
+        final int length = asciiString.length();
+        for (int i = 0; i < length; i++) {
+            buffer[count++] = (byte) asciiString.charAt(i);
+        }
+    }
+
+    private void writeBytes(final byte[] bytes) throws IOException {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, count, bytes.length);
+        count += bytes.length;
+    }
+
+    private void writeByte(final int b) throws IOException {
+        ensureCapacity(1);
+        buffer[count++] = (byte) b;
+    }
+
+    private void ensureCapacity(final int requiredBytes) throws IOException {
+        if (buffer.length - count < requiredBytes) {
+            flushBuffer();
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if (0 < count) {
+            flush(buffer, count);
+            count = 0;
+        }
+    }
+
+    private static final class OutputStreamWriter extends Utf8JsonWriter {
+
+        private final OutputStream outputStream;
+
+        private OutputStreamWriter(final OutputStream outputStream, final byte[] buffer) {
+            super(buffer);
+            this.outputStream = outputStream;
+        }
+
+        @Override
+        protected void flush(final byte[] bytes, final int length) throws IOException {
+            outputStream.write(bytes, 0, length);
+        }
+
+    }
+
+    private static final class ByteBufferWriter extends Utf8JsonWriter {
+
+        private final ByteBuffer byteBuffer;
+
+        private ByteBufferWriter(final ByteBuffer byteBuffer, final byte[] buffer) {
+            super(buffer);
+            this.byteBuffer = byteBuffer;
+        }
+
+        @Override
+        protected void flush(final byte[] bytes, final int length) {
+            byteBuffer.put(bytes, 0, length);
+        }
+
+    }
+
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks comparing the memory layouts of {@link ImmutableJsonObject}.
+ * The subclasses determine the layout by the JVM arguments of the forked benchmark JVM.
+ * <p>
+ * Run with the test classpath, e.g. {@code java -cp ... org.openjdk.jmh.Main JsonObjectLayoutBenchmark -prof gc}.
+ * {@code retainThings} reports the retained heap per thing as {@code retainedBytesPerThing}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+public abstract class AbstractJsonObjectLayoutBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final int FEATURE_COUNT = 20;
+    private static final int RETAINED_THINGS = 10_000;
+
+    private static final JsonPointer TOP_LEVEL_POINTER = JsonPointer.of("policyId");
+    private static final JsonPointer FEATURE_PROPERTY_POINTER =
+            JsonPointer.of("features/feature13/properties/status/value");
+
+    private String thingJsonString;
+    private JsonObject thing;
+
+    @Setup
+    public void setup() {
+        final JsonObjectBuilder featuresBuilder = JsonObject.newBuilder();
+        for (int i = 0; i < FEATURE_COUNT; i++) {
+            featuresBuilder.set("feature" + i, JsonObject.newBuilder()
+                    .set("definition", JsonArray.newBuilder()
+                            .add("org.eclipse.ditto:feature" + i + ":1.0.0")
+                            .build())
+                    .set("properties", JsonObject.newBuilder()
+                            .set("status", JsonObject.newBuilder()
+                                    .set("value", i)
+                                    .set("unit", "celsius")
+                                    .set("timestamp", "2021-03-04T12:00:00Z")
+                                    .build())
+                            .set("configuration", JsonObject.newBuilder()
+                                    .set("enabled", true)
+                                    .set("interval", 1000L * i)
+                                    .build())
+                            .build())
+                    .build());
+        }
+        thing = JsonObject.newBuilder()
+                .set("thingId", "org.eclipse.ditto:benchmark")
+                .set("policyId", "org.eclipse.ditto:benchmark")
+                .set("attributes", JsonObject.newBuilder()
+                        .set("manufacturer", "ACME")
+                        .set("location", JsonObject.newBuilder().set("lat", 48.1).set("lon", 11.6).build())
+                        .build())
+                .set("features", featuresBuilder.build())
+                .build();
+        thingJsonString = thing.toString();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public JsonValue getTopLevelValue() {
+        return thing.getValue(TOP_LEVEL_POINTER).orElseThrow(IllegalStateException::new);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public JsonValue getFeaturePropertyValue() {
+        return thing.getValue(FEATURE_PROPERTY_POINTER).orElseThrow(IllegalStateException::new);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public JsonObject parseThing() {
+        return JsonFactory.newObject(thingJsonString);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public String thingToString() {
+        return thing.toString();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String setFeaturePropertyValueToString() {
+        return thing.setValue(FEATURE_PROPERTY_POINTER, 42).toString();
+    }
+
+    @Benchmark
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public JsonObject[] retainThings(final HeapCounter heapCounter) {
+        final long usedBefore = usedHeapAfterGc();
+        final JsonObject[] things = new JsonObject[RETAINED_THINGS];
+        for (int i = 0; i < RETAINED_THINGS; i++) {
+            things[i] = JsonFactory.newObject(thingJsonString);
+        }
+        heapCounter.retainedBytesPerThing = (usedHeapAfterGc() - usedBefore) / RETAINED_THINGS;
+        return things;
+    }
+
+    private static long usedHeapAfterGc() {
+        final Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Reports the heap retained by a single parsed thing.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapCounter {
+
+        public long retainedBytesPerThing;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            retainedBytesPerThing = 0;
+        }
+
+    }
+
+}
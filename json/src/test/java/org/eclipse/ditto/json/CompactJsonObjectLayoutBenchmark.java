@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import org.openjdk.jmh.annotations.Fork;
+
+/**
+ * Runs the {@link AbstractJsonObjectLayoutBenchmark} with the default compact layout for small JSON objects.
+ */
+@Fork(1)
+public class CompactJsonObjectLayoutBenchmark extends AbstractJsonObjectLayoutBenchmark {
+}
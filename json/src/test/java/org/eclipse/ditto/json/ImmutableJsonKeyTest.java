@@ -35,7 +35,10 @@ public final class ImmutableJsonKeyTest {
     /** */
     @Test
     public void testHashCodeAndEquals() {
-        EqualsVerifier.forClass(ImmutableJsonKey.class).suppress(Warning.NULL_FIELDS).verify();
+        EqualsVerifier.forClass(ImmutableJsonKey.class)
+                .withCachedHashCode("hashCode", "calculateHashCode", (ImmutableJsonKey) ImmutableJsonKey.of("foo"))
+                .suppress(Warning.NULL_FIELDS)
+                .verify();
     }
 
     /** */
@@ -74,23 +74,20 @@ public final class ImmutableJsonObjectTest {
     public void assertImmutability() {
         assertInstancesOf(ImmutableJsonObject.class,
                 areImmutable(),
-                provided(ImmutableJsonObject.SoftReferencedFieldMap.class).isAlsoImmutable());
+                provided(ImmutableJsonObject.FieldMap.class).isAlsoImmutable());
     }
 
     @Test
     public void testHashCodeAndEquals() {
         final Map<String, JsonField> jsonFieldsRed = toMap("foo", JsonValue.of(1));
         final Map<String, JsonField> jsonFieldsBlack = toMap("foo", JsonValue.of(2));
-        final ImmutableJsonObject.SoftReferencedFieldMap
-                redFieldMap = ImmutableJsonObject.SoftReferencedFieldMap.of(jsonFieldsRed);
-        final ImmutableJsonObject.SoftReferencedFieldMap
-                blackFieldMap = ImmutableJsonObject.SoftReferencedFieldMap
-                .of(jsonFieldsBlack);
+        final ImmutableJsonObject.FieldMap redFieldMap = ImmutableJsonObject.FieldMap.of(jsonFieldsRed);
+        final ImmutableJsonObject.FieldMap blackFieldMap = ImmutableJsonObject.FieldMap.of(jsonFieldsBlack);
         final ImmutableJsonObject redObject = ImmutableJsonObject.of(jsonFieldsRed);
         final ImmutableJsonObject blackObject = ImmutableJsonObject.of(jsonFieldsBlack);
 
         EqualsVerifier.forClass(ImmutableJsonObject.class)
-                .withPrefabValues(ImmutableJsonObject.SoftReferencedFieldMap.class, redFieldMap, blackFieldMap)
+                .withPrefabValues(ImmutableJsonObject.FieldMap.class, redFieldMap, blackFieldMap)
                 .withPrefabValues(ImmutableJsonObject.class, redObject, blackObject)
                 .withNonnullFields("fieldMap")
                 .verify();
@@ -1392,8 +1389,76 @@ public final class ImmutableJsonObjectTest {
     }
 
     @Test
-    public void validateSoftReferenceStrategy() throws IllegalAccessException, NoSuchFieldException {
+    public void smallObjectsUseCompactLayout() throws IllegalAccessException, NoSuchFieldException {
         final ImmutableJsonObject jsonObject = ImmutableJsonObject.of(KNOWN_FIELDS);
+
+        assertThat(getFieldMap(jsonObject)).isInstanceOf(ImmutableJsonObject.CompactFieldMap.class);
+        assertThat(getFieldMap(ImmutableJsonObject.empty())).isInstanceOf(ImmutableJsonObject.CompactFieldMap.class);
+        assertThat(getFieldMap(ImmutableJsonObject.of(createFieldsExceedingCompactThreshold())))
+                .isInstanceOf(ImmutableJsonObject.SoftReferencedFieldMap.class);
+    }
+
+    @Test
+    public void layoutFollowsNumberOfFields() throws IllegalAccessException, NoSuchFieldException {
+        final int threshold = ImmutableJsonObject.CompactFieldMap.THRESHOLD;
+        JsonObject jsonObject = ImmutableJsonObject.empty();
+        for (int i = 0; i < threshold; i++) {
+            jsonObject = jsonObject.setValue("key" + i, i);
+        }
+
+        assertThat(jsonObject.getSize()).isEqualTo(threshold);
+        assertThat(getFieldMap(jsonObject)).isInstanceOf(ImmutableJsonObject.SoftReferencedFieldMap.class);
+
+        final JsonObject shrunk = jsonObject.remove("key0");
+
+        assertThat(getFieldMap(shrunk)).isInstanceOf(ImmutableJsonObject.CompactFieldMap.class);
+        assertThat(shrunk.getKeys()).isEqualTo(jsonObject.getKeys().subList(1, threshold));
+        assertThat(shrunk.setValue("key0", 0)).isEqualTo(jsonObject);
+    }
+
+    @Test
+    public void compactLayoutKeepsInsertionOrderOnReplaceAndRemove() {
+        final JsonObject underTest = ImmutableJsonObject.of(KNOWN_FIELDS);
+
+        final JsonObject replaced = underTest.setValue(KNOWN_KEY_FOO, KNOWN_INT_42);
+        final JsonObject removed = underTest.remove(KNOWN_KEY_BAR);
+
+        assertThat(replaced.getKeys()).containsExactly(KNOWN_KEY_FOO, KNOWN_KEY_BAR, KNOWN_KEY_BAZ);
+        assertThat(replaced.getValue(KNOWN_KEY_FOO)).contains(JsonValue.of(KNOWN_INT_42));
+        assertThat(removed.getKeys()).containsExactly(KNOWN_KEY_FOO, KNOWN_KEY_BAZ);
+        assertThat(removed.remove("unknown")).isSameAs(removed);
+        assertThat(removed.toString()).isEqualTo(JsonFactory.readFrom(removed.toString()).toString());
+    }
+
+    @Test
+    public void compactAndMapLayoutAreEqual() {
+        final ImmutableJsonObject compact =
+                new ImmutableJsonObject(ImmutableJsonObject.CompactFieldMap.of(KNOWN_FIELDS.values()));
+        final ImmutableJsonObject map = new ImmutableJsonObject(ImmutableJsonObject.SoftReferencedFieldMap.of(
+                KNOWN_FIELDS));
+
+        assertThat(compact).isEqualTo(map);
+        assertThat(map).isEqualTo(compact);
+        assertThat(compact.hashCode()).isEqualTo(map.hashCode());
+        assertThat(compact.toString()).isEqualTo(map.toString());
+        assertThat(compact.getUpperBoundForStringSize()).isGreaterThanOrEqualTo(compact.toString().length());
+    }
+
+    @Test
+    public void compactLayoutCachesStringRepresentation() {
+        final String knownJsonString = ImmutableJsonObject.of(KNOWN_FIELDS).toString();
+        final ImmutableJsonObject parsed = (ImmutableJsonObject) JsonFactory.newObject(knownJsonString);
+        final ImmutableJsonObject built =
+                new ImmutableJsonObject(ImmutableJsonObject.CompactFieldMap.of(KNOWN_FIELDS.values()));
+
+        assertThat(parsed.toString()).isSameAs(parsed.toString());
+        assertThat(built.toString()).isEqualTo(knownJsonString).isSameAs(built.toString());
+        assertThat(built.getUpperBoundForStringSize()).isEqualTo(knownJsonString.length());
+    }
+
+    @Test
+    public void validateSoftReferenceStrategy() throws IllegalAccessException, NoSuchFieldException {
+        final ImmutableJsonObject jsonObject = ImmutableJsonObject.of(createFieldsExceedingCompactThreshold());
         assertInternalCachesAreAsExpected(jsonObject, true);
 
         final Field valueListField = jsonObject.getClass().getDeclaredField("fieldMap");
@@ -1410,6 +1475,22 @@ public final class ImmutableJsonObjectTest {
         assertThat(jsonObject.getValue(KNOWN_KEY_FOO).isPresent()).isTrue();
     }
 
+    private static Map<String, JsonField> createFieldsExceedingCompactThreshold() {
+        final Map<String, JsonField> result = new LinkedHashMap<>(KNOWN_FIELDS);
+        for (int i = result.size(); i < ImmutableJsonObject.CompactFieldMap.THRESHOLD; i++) {
+            result.put("key" + i, toField("key" + i, JsonValue.of(i)));
+        }
+        return result;
+    }
+
+    private static ImmutableJsonObject.FieldMap getFieldMap(final JsonObject jsonObject)
+            throws NoSuchFieldException, IllegalAccessException {
+
+        final Field fieldMapField = ImmutableJsonObject.class.getDeclaredField("fieldMap");
+        fieldMapField.setAccessible(true);
+        return (ImmutableJsonObject.FieldMap) fieldMapField.get(jsonObject);
+    }
+
     private void assertInternalCachesAreAsExpected(final JsonObject jsonObject, final boolean jsonExpected) {
         try {
             final Field valueListField = jsonObject.getClass().getDeclaredField("fieldMap");
@@ -41,12 +41,15 @@ public final class ImmutableJsonPointerTest {
     public void assertImmutability() {
         assertInstancesOf(ImmutableJsonPointer.class,
                 areImmutable(),
-                provided(JsonKey.class).isAlsoImmutable(), assumingFields("jsonFields").areNotModifiedAndDoNotEscape());
+                provided(JsonKey.class).isAlsoImmutable(), assumingFields("jsonFields").areNotModifiedAndDoNotEscape(),
+                assumingFields("stringRepresentation").areModifiedAsPartOfAnUnobservableCachingStrategy());
     }
 
     @Test
     public void testHashCodeAndEquals() {
         EqualsVerifier.forClass(ImmutableJsonPointer.class)
+                .withCachedHashCode("hashCode", "calculateHashCode", ImmutableJsonPointer.of(JsonKey.of("foo"), JsonKey.of("bar")))
+                .withIgnoredFields("stringRepresentation")
                 .suppress(Warning.NULL_FIELDS)
                 .verify();
     }
@@ -21,6 +21,8 @@ import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable
 
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -226,6 +228,23 @@ public final class JsonFactoryTest {
         assertThat(underTest).contains(JsonFactory.newKey("properties"), expectedProperties);
     }
 
+    @Test
+    public void newObjectWithFieldSelectorReturnsSelectedFields() {
+        final JsonFieldSelector fieldSelector =
+                JsonFactory.newFieldSelector("featureId", "properties/someObj/aKey", "properties/missing");
+        final JsonObject expected = JsonFactory.newObject(KNOWN_JSON_OBJECT_STRING).get(fieldSelector);
+
+        assertThat(JsonFactory.newObject(KNOWN_JSON_OBJECT_STRING, fieldSelector)).isEqualTo(expected);
+        assertThat(JsonFactory.newObject(KNOWN_JSON_OBJECT_STRING.getBytes(StandardCharsets.UTF_8), fieldSelector))
+                .isEqualTo(expected);
+        assertThat(JsonFactory.newObject("null", fieldSelector)).isEqualTo(JsonFactory.nullObject());
+    }
+
+    @Test(expected = JsonParseException.class)
+    public void tryToCreateNewObjectWithFieldSelectorFromArray() {
+        JsonFactory.newObject("[1,2]", JsonFactory.newFieldSelector("a"));
+    }
+
     @Test(expected = NullPointerException.class)
     public void tryToCreateNewObjectBuilderFromNullIterable() {
         JsonFactory.newArrayBuilder(null);
@@ -305,6 +324,47 @@ public final class JsonFactoryTest {
         assertThat((JsonArray) jsonValue).contains("two");
     }
 
+    @Test
+    public void readFromJsonObjectBytes() {
+        final JsonValue expected = JsonFactory.readFrom(KNOWN_JSON_OBJECT_STRING);
+        final JsonValue actual = JsonFactory.readFrom(KNOWN_JSON_OBJECT_STRING.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test(expected = JsonParseException.class)
+    public void tryToReadFromEmptyBytes() {
+        JsonFactory.readFrom(new byte[0]);
+    }
+
+    @Test(expected = JsonParseException.class)
+    public void tryToReadJsonValueFromInvalidBytes() {
+        JsonFactory.readFrom("{\"foo\":\"bar\"".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void readFromHeapByteBufferDoesNotChangePosition() {
+        final byte[] bytes = ("xx" + KNOWN_JSON_ARRAY_STRING).getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer byteBuffer = ByteBuffer.wrap(bytes);
+        byteBuffer.position(2);
+
+        final JsonValue jsonValue = JsonFactory.readFrom(byteBuffer);
+
+        assertThat(jsonValue).isEqualTo(JsonFactory.newArray(KNOWN_JSON_ARRAY_STRING));
+        assertThat(byteBuffer.position()).isEqualTo(2);
+    }
+
+    @Test
+    public void readFromDirectByteBuffer() {
+        final byte[] bytes = KNOWN_JSON_OBJECT_STRING.getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(bytes.length);
+        byteBuffer.put(bytes).flip();
+
+        final JsonValue jsonValue = JsonFactory.readFrom(byteBuffer);
+
+        assertThat(jsonValue).isEqualTo(JsonFactory.readFrom(KNOWN_JSON_OBJECT_STRING));
+    }
+
     @Test(expected = NullPointerException.class)
     public void tryToCreateNewFieldSelectorWithNullSet() {
         JsonFactory.newFieldSelector((Iterable<JsonPointer>) null);
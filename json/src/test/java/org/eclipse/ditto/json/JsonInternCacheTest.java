@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link JsonInternCache}.
+ */
+public final class JsonInternCacheTest {
+
+    @Test
+    public void returnsInternedInstanceAndCountsHitsAndMisses() {
+        final JsonInternCache<StringBuilder> underTest = JsonInternCache.newInstance("test", 16, StringBuilder::new);
+
+        final StringBuilder first = underTest.intern("foo");
+        final StringBuilder second = underTest.intern(new String("foo"));
+
+        assertThat(second).isSameAs(first);
+        final JsonInternCacheStatistics statistics = underTest.getStatistics();
+        assertThat(statistics.getCacheName()).isEqualTo("test");
+        assertThat(statistics.getCapacity()).isEqualTo(16);
+        assertThat(statistics.getHitCount()).isEqualTo(1L);
+        assertThat(statistics.getMissCount()).isEqualTo(1L);
+        assertThat(statistics.getHitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    public void capacityIsBoundedAndRoundedUpToPowerOfTwo() {
+        final AtomicInteger createdCount = new AtomicInteger();
+        final JsonInternCache<String> underTest = JsonInternCache.newInstance("test", 100, string -> {
+            createdCount.incrementAndGet();
+            return string;
+        });
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(underTest.intern("key" + i)).isEqualTo("key" + i);
+        }
+
+        assertThat(underTest.getStatistics().getCapacity()).isEqualTo(128);
+        assertThat(createdCount).hasValue(10_000);
+    }
+
+    @Test
+    public void disabledCacheCreatesNewInstances() {
+        final JsonInternCache<StringBuilder> underTest = JsonInternCache.newInstance("test", 0, StringBuilder::new);
+
+        assertThat(underTest.intern("foo")).isNotSameAs(underTest.intern("foo"));
+        assertThat(underTest.getStatistics().getHitRate()).isEqualTo(1.0);
+    }
+
+    @Test
+    public void exceptionOfFactoryIsPropagatedAndNothingIsInterned() {
+        final JsonInternCache<JsonPointer> underTest =
+                JsonInternCache.newInstance("test", 16, JsonFactory::newPointer);
+
+        assertThatExceptionOfType(JsonPointerInvalidException.class)
+                .isThrownBy(() -> underTest.intern("foo//bar"));
+        assertThat((Object) underTest.intern("foo/bar")).isEqualTo(JsonPointer.of("/foo/bar"));
+    }
+
+    @Test
+    public void parsedPointersAndKeysAreInterned() {
+        final JsonPointer pointer = JsonFactory.newPointer("features/interned/properties/value");
+
+        assertThat((Object) JsonFactory.newPointer(new String("features/interned/properties/value")))
+                .isSameAs(pointer);
+        assertThat((Object) JsonFactory.newKey(new String("interned"))).isSameAs(pointer.get(1).orElse(null));
+        assertThat(JsonFactory.getInternCacheStatistics())
+                .extracting(JsonInternCacheStatistics::getCacheName)
+                .containsExactly("keys", "pointers");
+    }
+
+}
@@ -320,4 +320,111 @@ public class JsonValueMergerTest {
 
         Assertions.assertThat(mergedObject).isEqualTo(expectedObject);
     }
+
+    @Test
+    public void mergeWithChangesReportsChangedPointersAndSharesUntouchedSubtrees() {
+        final JsonObject untouchedFeature = JsonFactory.newObjectBuilder()
+                .set("properties", JsonFactory.newObjectBuilder().set("value", 1).build())
+                .build();
+        final JsonObject originalObject = JsonFactory.newObjectBuilder()
+                .set("attributes", JsonFactory.newObjectBuilder()
+                        .set("manufacturer", "ACME")
+                        .set("serial", "4711")
+                        .build())
+                .set("features", JsonFactory.newObjectBuilder()
+                        .set("untouched", untouchedFeature)
+                        .set("sensor", JsonFactory.newObjectBuilder()
+                                .set("properties", JsonFactory.newObjectBuilder()
+                                        .set("value", 21.5)
+                                        .set("unit", "Celsius")
+                                        .build())
+                                .build())
+                        .build())
+                .set("definition", "org.eclipse.ditto:device:1.0.0")
+                .build();
+
+        final JsonObject mergePatch = JsonFactory.newObjectBuilder()
+                .set("attributes", JsonFactory.newObjectBuilder()
+                        .set("manufacturer", "ACME")
+                        .set("serial", JsonValue.nullLiteral())
+                        .set("missing", JsonValue.nullLiteral())
+                        .build())
+                .set("features", JsonFactory.newObjectBuilder()
+                        .set("sensor", JsonFactory.newObjectBuilder()
+                                .set("properties", JsonFactory.newObjectBuilder()
+                                        .set("value", 22.0)
+                                        .set("unit", "Celsius")
+                                        .build())
+                                .build())
+                        .set("added", JsonFactory.newObjectBuilder()
+                                .set("properties", JsonFactory.newObjectBuilder()
+                                        .set("on", true)
+                                        .set("off", JsonValue.nullLiteral())
+                                        .build())
+                                .build())
+                        .build())
+                .build();
+
+        final JsonMergeResult mergeResult = JsonFactory.applyMergePatch(mergePatch, originalObject);
+
+        Assertions.assertThat(mergeResult.getMergedValue()).isEqualTo(merge(mergePatch, originalObject));
+        Assertions.assertThat(mergeResult.getMergedValue()).isEqualTo(originalObject
+                .remove("attributes/serial")
+                .setValue(JsonPointer.of("features/sensor/properties/value"), 22.0)
+                .setValue(JsonPointer.of("features/added/properties/on"), true));
+        Assertions.assertThat(mergeResult.getChangedPointers()).containsExactly(
+                JsonPointer.of("attributes/serial"),
+                JsonPointer.of("features/sensor/properties/value"),
+                JsonPointer.of("features/added"));
+        Assertions.assertThat(mergeResult.hasChanges()).isTrue();
+        Assertions.assertThat(mergeResult.getMergedValue().asObject().getValue("features/untouched"))
+                .hasValueSatisfying(feature -> Assertions.assertThat(feature).isSameAs(untouchedFeature));
+    }
+
+    @Test
+    public void mergeWithoutChangesReturnsPatchedValue() {
+        final JsonObject originalObject = JsonFactory.newObjectBuilder()
+                .set("a", JsonFactory.newObjectBuilder().set("b", 1).set("c", JsonArray.of(1, 2)).build())
+                .set("d", "e")
+                .build();
+        final JsonObject mergePatch = JsonFactory.newObjectBuilder()
+                .set("a", JsonFactory.newObjectBuilder().set("c", JsonArray.of(1, 2)).build())
+                .set("x", JsonValue.nullLiteral())
+                .build();
+
+        final JsonMergeResult mergeResult = JsonFactory.applyMergePatch(mergePatch, originalObject);
+
+        Assertions.assertThat(mergeResult.getMergedValue()).isSameAs(originalObject);
+        Assertions.assertThat(mergeResult.getChangedPointers()).isEmpty();
+        Assertions.assertThat(mergeResult.hasChanges()).isFalse();
+    }
+
+    @Test
+    public void mergeWithChangesReportsRootIfValueIsReplaced() {
+        final JsonMergeResult mergeResult = JsonFactory.applyMergePatch(JsonValue.of(42), JsonObject.empty());
+
+        Assertions.assertThat(mergeResult.getMergedValue()).isEqualTo(JsonValue.of(42));
+        Assertions.assertThat(mergeResult.getChangedPointers()).containsExactly(JsonPointer.empty());
+    }
+
+    @Test
+    public void mergeIntoPersistentObjectKeepsItPersistent() {
+        final JsonObject originalObject = JsonFactory.newObjectBuilder()
+                .set("a", 1)
+                .set("b", 2)
+                .set("c", 3)
+                .build();
+        final ImmutableJsonObject persistentObject = ((ImmutableJsonObject) originalObject).toPersistent();
+        final JsonObject mergePatch = JsonFactory.newObjectBuilder()
+                .set("a", JsonValue.nullLiteral())
+                .set("b", 4)
+                .set("d", 5)
+                .build();
+
+        final JsonValue mergedObject = merge(mergePatch, persistentObject);
+
+        Assertions.assertThat(mergedObject).isEqualTo(JsonFactory.newObject("{\"b\":4,\"c\":3,\"d\":5}"));
+        Assertions.assertThat(((ImmutableJsonObject) mergedObject).isPersistent()).isTrue();
+    }
+
 }
@@ -18,6 +18,8 @@ import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstance
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -89,6 +91,36 @@ public final class JsonValueParserTest {
         assertThat(actual).isEqualTo(knownJsonObject);
     }
 
+    @Test
+    public void parseBytesToObject() {
+        final Function<byte[], JsonValue> underTest = JsonValueParser.fromBytes();
+
+        final JsonValue actual = underTest.apply(knownJsonObject.toString().getBytes(StandardCharsets.UTF_8));
+
+        assertThat(actual).isEqualTo(knownJsonObject);
+    }
+
+    @Test
+    public void parseByteBufferToArray() {
+        final Function<ByteBuffer, JsonValue> underTest = JsonValueParser.fromByteBuffer();
+
+        final JsonValue actual =
+                underTest.apply(ByteBuffer.wrap(knownJsonArray.toString().getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(actual).isEqualTo(knownJsonArray);
+    }
+
+    @Test
+    public void wrapsNumberFormatExceptionWhenParsingBytes() {
+        final String jsonLong = BigDecimal.valueOf(Long.MAX_VALUE).add(BigDecimal.TEN).toPlainString();
+        final Function<byte[], JsonValue> underTest = JsonValueParser.fromBytes();
+
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> underTest.apply(jsonLong.getBytes(StandardCharsets.UTF_8)))
+                .withMessage("Failed to parse JSON value from bytes!")
+                .withCauseExactlyInstanceOf(java.lang.NumberFormatException.class);
+    }
+
     @Test
     public void parseStringToBoolean() {
         final JsonValue jsonBoolean = JsonValue.of(true);
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark of reading the ID of a thing with many properties from its UTF-8 encoded JSON, once by parsing the
+ * whole document, once by parsing only the selected field and once by reading it lazily.
+ * <p>
+ * Run with the test classpath, e.g. {@code java -cp ... org.openjdk.jmh.Main LazyJsonObjectBenchmark -prof gc}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+public class LazyJsonObjectBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final JsonPointer THING_ID = JsonPointer.of("thingId");
+    private static final JsonFieldSelector THING_ID_SELECTOR = JsonFieldSelector.newInstance("thingId");
+
+    @Param({"10", "1000"})
+    public int propertyCount;
+
+    private byte[] thingBytes;
+
+    @Setup
+    public void setup() {
+        final JsonObjectBuilder propertiesBuilder = JsonObject.newBuilder();
+        for (int i = 0; i < propertyCount; i++) {
+            propertiesBuilder.set("property" + i, JsonObject.newBuilder()
+                    .set("value", i)
+                    .set("timestamp", "2021-03-04T12:00:00Z")
+                    .build());
+        }
+        final JsonObject thing = JsonObject.newBuilder()
+                .set("policyId", "org.eclipse.ditto:benchmark")
+                .set(JsonPointer.of("features/feature/properties"), propertiesBuilder.build())
+                .set("thingId", "org.eclipse.ditto:benchmark")
+                .build();
+        thingBytes = thing.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public JsonValue readThingIdEagerly() {
+        return JsonFactory.readFrom(thingBytes).asObject().getValue(THING_ID).orElse(null);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public JsonValue readThingIdSelected() {
+        return JsonFactory.newObject(thingBytes, THING_ID_SELECTOR).getValue(THING_ID).orElse(null);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public JsonValue readThingIdLazily() {
+        return JsonFactory.readLazilyFrom(thingBytes).asObject().getValue(THING_ID).orElse(null);
+    }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PersistentFieldMap} and persistent {@link ImmutableJsonObject}s.
+ */
+public final class PersistentFieldMapTest {
+
+    @Test
+    public void behavesLikeLinkedHashMapForRandomOperations() {
+        final Random random = new Random(42L);
+        final Map<String, JsonField> expected = new LinkedHashMap<>();
+        PersistentFieldMap underTest = PersistentFieldMap.of(expected.values().iterator());
+
+        for (int i = 0; i < 20_000; i++) {
+            // "Aa" and "BB" have the same hash code, so colliding keys are covered as well
+            final String key = (random.nextBoolean() ? "Aa" : "BB") + random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                underTest = underTest.remove(key);
+            } else {
+                final JsonField field = JsonField.newInstance(key, JsonValue.of(i));
+                expected.put(key, field);
+                underTest = underTest.put(key, field);
+            }
+        }
+
+        assertThat(underTest.getSize()).isEqualTo(expected.size());
+        assertThat(underTest.asMap()).containsExactlyEntriesOf(expected);
+        assertThat(underTest.getStream()).containsExactlyElementsOf(expected.values());
+        assertThat(underTest.hashCode()).isEqualTo(expected.hashCode());
+        for (final String key : expected.keySet()) {
+            assertThat(underTest.getOrNull(key)).isEqualTo(expected.get(key));
+        }
+        assertThat(underTest.getOrNull("Aa-1")).isNull();
+    }
+
+    @Test
+    public void updatesDoNotChangeTheOriginal() {
+        final JsonObject original = JsonFactory.newPersistentObject(createObject(100));
+
+        final JsonObject modified = original.setValue("key7", "modified").remove("key8").setValue("new", true);
+
+        assertThat(original).isEqualTo(createObject(100));
+        assertThat(modified.getValue("key7")).contains(JsonValue.of("modified"));
+        assertThat(modified.contains("key8")).isFalse();
+        assertThat(modified.getKeys()).endsWith(JsonKey.of("new"));
+        assertThat(modified.getSize()).isEqualTo(100);
+    }
+
+    @Test
+    public void persistentObjectEqualsObjectWithOtherLayout() {
+        final JsonObject jsonObject = createObject(100);
+
+        final JsonObject persistentObject = JsonFactory.newPersistentObject(jsonObject);
+
+        assertThat(persistentObject).isEqualTo(jsonObject);
+        assertThat(jsonObject).isEqualTo(persistentObject);
+        assertThat(persistentObject.hashCode()).isEqualTo(jsonObject.hashCode());
+        assertThat(persistentObject.toString()).isEqualTo(jsonObject.toString());
+        assertThat(persistentObject.getUpperBoundForStringSize())
+                .isGreaterThanOrEqualTo(persistentObject.toString().length());
+    }
+
+    @Test
+    public void newPersistentObjectReturnsPersistentObjectItself() {
+        final JsonObject persistentObject = JsonFactory.newPersistentObject(createObject(10));
+
+        assertThat(JsonFactory.newPersistentObject(persistentObject)).isSameAs(persistentObject);
+        assertThat(JsonFactory.newPersistentObject(JsonFactory.nullObject())).isSameAs(JsonFactory.nullObject());
+    }
+
+    @Test
+    public void nestedObjectsOnUpdatedPathBecomePersistent() {
+        final JsonObject nested = createObject(100);
+        final JsonObject small = createObject(2);
+        final JsonObject persistentObject = JsonFactory.newPersistentObject(JsonObject.newBuilder()
+                .set("nested", nested)
+                .set("small", small)
+                .build());
+
+        final JsonObject modified = persistentObject
+                .setValue(JsonPointer.of("nested/key1/deeper"), 1)
+                .setValue(JsonPointer.of("small/key1"), 1);
+
+        assertThat(isPersistent(modified.getValue("nested").get())).isTrue();
+        assertThat(isPersistent(modified.getValue("nested/key1").get())).isFalse();
+        assertThat(isPersistent(modified.getValue("small").get())).isFalse();
+        assertThat(modified.getValue(JsonPointer.of("nested/key1/deeper"))).contains(JsonValue.of(1));
+        assertThat(modified.remove("nested/key2").getValue("nested/key2")).isEmpty();
+        assertThat(isPersistent(persistentObject.getValue("nested").get())).isFalse();
+    }
+
+    @Test
+    public void removingMostFieldsKeepsRemainingFieldsInOrder() {
+        JsonObject underTest = JsonFactory.newPersistentObject(createObject(1_000));
+        final List<JsonKey> expectedKeys = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            if (i % 10 == 0) {
+                expectedKeys.add(JsonKey.of("key" + i));
+            } else {
+                underTest = underTest.remove("key" + i);
+            }
+        }
+
+        assertThat(underTest.getKeys()).containsExactlyElementsOf(expectedKeys);
+        assertThat(underTest.getValue("key990")).contains(JsonValue.of(990));
+    }
+
+    private static JsonObject createObject(final int size) {
+        final JsonObjectBuilder builder = JsonObject.newBuilder();
+        for (int i = 0; i < size; i++) {
+            builder.set("key" + i, i);
+        }
+        return builder.build();
+    }
+
+    private static boolean isPersistent(final JsonValue jsonValue) {
+        return ((ImmutableJsonObject) jsonValue).isPersistent();
+    }
+
+}
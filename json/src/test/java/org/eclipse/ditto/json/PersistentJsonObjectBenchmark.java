@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark of updating and removing a single property of a thing with many properties, once with the regular
+ * and once with the persistent layout of {@link ImmutableJsonObject}.
+ * <p>
+ * Run with the test classpath, e.g. {@code java -cp ... org.openjdk.jmh.Main PersistentJsonObjectBenchmark -prof gc}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+public class PersistentJsonObjectBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final JsonPointer UPDATED_POINTER = JsonPointer.of("features/feature/properties/property42/value");
+    private static final JsonPointer REMOVED_POINTER = JsonPointer.of("features/feature/properties/property42");
+
+    @Param({"100", "5000"})
+    public int propertyCount;
+
+    @Param({"false", "true"})
+    public boolean persistent;
+
+    private JsonObject thing;
+    private int counter;
+
+    @Setup
+    public void setup() {
+        final JsonObjectBuilder propertiesBuilder = JsonObject.newBuilder();
+        for (int i = 0; i < propertyCount; i++) {
+            propertiesBuilder.set("property" + i, JsonObject.newBuilder()
+                    .set("value", i)
+                    .set("timestamp", "2021-03-04T12:00:00Z")
+                    .build());
+        }
+        final JsonObject regularThing = JsonObject.newBuilder()
+                .set("thingId", "org.eclipse.ditto:benchmark")
+                .set(JsonPointer.of("features/feature/properties"), propertiesBuilder.build())
+                .build();
+        // updating once converts the objects on the path to the property
+        thing = persistent
+                ? JsonFactory.newPersistentObject(regularThing).setValue(UPDATED_POINTER, -1)
+                : regularThing;
+        counter = 0;
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public JsonObject setFeatureProperty() {
+        return thing.setValue(UPDATED_POINTER, counter++);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public JsonObject removeFeatureProperty() {
+        return thing.remove(REMOVED_POINTER);
+    }
+
+}
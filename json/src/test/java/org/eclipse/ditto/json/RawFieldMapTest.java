@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link RawFieldMap} and lazily read {@link ImmutableJsonObject}s.
+ */
+public final class RawFieldMapTest {
+
+    private static final String KNOWN_JSON = "{\"thingId\":\"org.eclipse.ditto:lazy\",\"_revision\":42," +
+            "\"features\":{\"f1\":{\"properties\":{\"on\":true,\"list\":[1,{\"a\":\"}\"}],\"n\":null}}}," +
+            "\"escaped\\\"key\":\"value with \\\" and \\u00e9\",\"double\":1.5}";
+
+    @Test
+    public void lazyObjectEqualsEagerlyParsedObject() {
+        final JsonObject expected = JsonFactory.newObject(KNOWN_JSON);
+
+        final JsonValue underTest = readLazily(KNOWN_JSON);
+
+        assertThat(underTest).isEqualTo(expected);
+        assertThat(expected).isEqualTo(underTest);
+        assertThat(underTest.hashCode()).isEqualTo(expected.hashCode());
+        assertThat(underTest.toString()).isEqualTo(expected.toString());
+        assertThat(underTest.asObject().getKeys()).isEqualTo(expected.getKeys());
+    }
+
+    @Test
+    public void nestedObjectsAreReadLazily() {
+        final JsonObject underTest = readLazily(KNOWN_JSON).asObject();
+
+        final JsonValue features = underTest.getValue("features").orElseThrow(AssertionError::new);
+
+        assertThat(features).isInstanceOf(ImmutableJsonObject.class);
+        assertThat(((ImmutableJsonObject) features).toString())
+                .isEqualTo("{\"f1\":{\"properties\":{\"on\":true,\"list\":[1,{\"a\":\"}\"}],\"n\":null}}}");
+        assertThat(underTest.getValue("features/f1/properties/on")).contains(JsonValue.of(true));
+        assertThat(underTest.getValue("escaped\"key")).contains(JsonValue.of("value with \" and \u00e9"));
+        assertThat(underTest.getValue("_revision")).contains(JsonValue.of(42));
+        assertThat(underTest.contains("missing")).isFalse();
+    }
+
+    @Test
+    public void invalidNestedValuesAreRejectedWhenRead() {
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> readLazily("{\"thingId\":\"x:y\",\"broken\":{\"a\":tru}}"));
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> readLazily("{\"thingId\":\"x:y\",\"broken\":[\"\\x\"]}"));
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> readLazily("{\"thingId\":\"x:y\",\"broken\":{\"a\":[1,2}}"));
+    }
+
+    @Test
+    public void truncatedDocumentIsRejectedWhenRead() {
+        final String truncated = KNOWN_JSON.substring(0, KNOWN_JSON.length() / 2);
+
+        assertThatExceptionOfType(JsonParseException.class).isThrownBy(() -> readLazily(truncated));
+    }
+
+    @Test
+    public void mutationsFallBackToRegularObject() {
+        final JsonObject underTest = readLazily(KNOWN_JSON).asObject();
+
+        final JsonObject modified = underTest.setValue(JsonPointer.of("features/f1/properties/on"), false)
+                .remove("double");
+
+        assertThat(modified.getValue("features/f1/properties/on")).contains(JsonValue.of(false));
+        assertThat(modified.contains("double")).isFalse();
+        assertThat(modified).isEqualTo(JsonFactory.newObject(KNOWN_JSON)
+                .setValue(JsonPointer.of("features/f1/properties/on"), false)
+                .remove("double"));
+        assertThat(underTest).isEqualTo(JsonFactory.newObject(KNOWN_JSON));
+    }
+
+    @Test
+    public void whiteSpaceAndDuplicateKeysAreHandledLikeParser() {
+        final String json = " {\n \"a\" : 1 ,\t\"b\":[ ] , \"a\" : { } }\r\n";
+
+        final JsonValue underTest = readLazily(json);
+
+        assertThat(underTest).isEqualTo(JsonFactory.readFrom(json));
+        assertThat(underTest.toString()).isEqualTo("{\"a\":{},\"b\":[]}");
+    }
+
+    @Test
+    public void manyFieldsAreFoundByKey() {
+        final JsonObjectBuilder builder = JsonObject.newBuilder();
+        for (int i = 0; i < 100; i++) {
+            builder.set("key" + i, i);
+        }
+        final JsonObject expected = builder.build();
+
+        final JsonObject underTest = readLazily(expected.toString()).asObject();
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(underTest.getValue("key" + i)).contains(JsonValue.of(i));
+        }
+        assertThat(underTest).isEqualTo(expected);
+    }
+
+    @Test
+    public void otherValuesAreParsedCompletely() {
+        assertThat(readLazily(" [1,2] ")).isEqualTo(JsonFactory.readFrom("[1,2]"));
+        assertThat(JsonFactory.readLazilyFrom(ByteBuffer.wrap("\"foo\"".getBytes(StandardCharsets.UTF_8))))
+                .isEqualTo(JsonValue.of("foo"));
+    }
+
+    @Test
+    public void invalidTopLevelStructureIsRejectedWhenRead() {
+        assertThatExceptionOfType(JsonParseException.class).isThrownBy(() -> readLazily("{\"a\":1,}"));
+    }
+
+    private static JsonValue readLazily(final String json) {
+        return JsonFactory.readLazilyFrom(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link Utf8JsonParser}.
+ */
+public final class Utf8JsonParserTest {
+
+    private static final String KNOWN_JSON_OBJECT_STRING = "{\n" +
+            "  \"thingId\": \"org.eclipse.ditto:myThing\",\n" +
+            "  \"attributes\": {\"manufacturer\": \"Bosch\", \"enabled\": true, \"nothing\": null},\n" +
+            "  \"features\": {\n" +
+            "    \"temp\": {\"properties\": {\"value\": -23.42e-1, \"int\": 42, \"long\": 2147483648, \"zero\": 0}},\n" +
+            "    \"array\": {\"properties\": {\"list\": [1, [], {}, [\"a\", false]]}}\n" +
+            "  }\n" +
+            "}";
+
+    @Test
+    public void parseObjectEqualsMinimalJsonResult() {
+        final JsonValue expected = JsonValueParser.fromString().apply(KNOWN_JSON_OBJECT_STRING);
+
+        final JsonValue actual = parse(KNOWN_JSON_OBJECT_STRING);
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.toString()).isEqualTo(expected.toString());
+    }
+
+    @Test
+    public void parseOffsetAndLength() {
+        final byte[] bytes = "xx[1,2]yy".getBytes(StandardCharsets.UTF_8);
+        final DefaultDittoJsonHandler handler = DefaultDittoJsonHandler.newInstance();
+
+        Utf8JsonParser.parse(handler, bytes, 2, 5);
+
+        assertThat(handler.getValue()).isEqualTo(JsonArray.of(1, 2));
+    }
+
+    @Test
+    public void parseEscapedString() {
+        final String expected = "quote\" backslash\\ slash/ \b\f\n\r\t unicode\u00e4\u20ac";
+
+        final JsonValue actual = parse("\"quote\\\" backslash\\\\ slash\\/ \\b\\f\\n\\r\\t unicode\\u00e4\\u20AC\"");
+
+        assertThat(actual).isEqualTo(JsonValue.of(expected));
+    }
+
+    @Test
+    public void parseMultiByteCharacters() {
+        final String expected = "\u00e4\u00f6\u00fc \u20ac \uD83D\uDE00 ascii";
+
+        final JsonValue actual = parse("{\"" + expected + "\":\"" + expected + "\"}");
+
+        assertThat(actual).isEqualTo(JsonObject.newBuilder().set(expected, expected).build());
+    }
+
+    @Test
+    public void parseLiteralsWithWhitespace() {
+        assertThat(parse(" true ")).isEqualTo(JsonValue.of(true));
+        assertThat(parse("\tfalse\r\n")).isEqualTo(JsonValue.of(false));
+        assertThat(parse("null")).isEqualTo(JsonFactory.nullLiteral());
+    }
+
+    @Test
+    public void parseNumbers() {
+        assertThat(parse("0")).isEqualTo(JsonValue.of(0));
+        assertThat(parse("-1")).isEqualTo(JsonValue.of(-1));
+        assertThat(parse(String.valueOf(Long.MAX_VALUE))).isEqualTo(JsonValue.of(Long.MAX_VALUE));
+        assertThat(parse("1.5E+3")).isEqualTo(JsonValue.of(1500.0));
+    }
+
+    @Test
+    public void rejectsInvalidDocuments() {
+        final String[] invalidDocuments = {
+                "", " ", "{", "[1,]", "{\"a\"}", "{\"a\":1,}", "{a:1}", "01", "1.", "-", "1e", "tru", "nul",
+                "\"unterminated", "\"\\x\"", "\"\\u12\"", "\"control\u0001\"", "[1] 2", "{\"a\":1}}"
+        };
+        for (final String invalidDocument : invalidDocuments) {
+            assertThatExceptionOfType(JsonParseException.class)
+                    .as(invalidDocument)
+                    .isThrownBy(() -> parse(invalidDocument));
+        }
+    }
+
+    @Test
+    public void rejectsMalformedUtf8() {
+        final byte[] truncatedSequence = {'"', (byte) 0xE2, (byte) 0x82, '"'};
+        final byte[] overlongEncoding = {'"', (byte) 0xC0, (byte) 0xAF, '"'};
+        final byte[] encodedSurrogate = {'"', (byte) 0xED, (byte) 0xA0, (byte) 0x80, '"'};
+
+        assertThatExceptionOfType(JsonParseException.class).isThrownBy(() -> parse(truncatedSequence));
+        assertThatExceptionOfType(JsonParseException.class).isThrownBy(() -> parse(overlongEncoding));
+        assertThatExceptionOfType(JsonParseException.class).isThrownBy(() -> parse(encodedSurrogate));
+    }
+
+    @Test
+    public void rejectsTooDeepNesting() {
+        final StringBuilder stringBuilder = new StringBuilder();
+        for (int i = 0; i < 1001; i++) {
+            stringBuilder.append('[');
+        }
+
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> parse(stringBuilder.toString()))
+                .withMessageStartingWith("Nesting too deep");
+    }
+
+    @Test
+    public void parseSelectedFieldsEqualsGetWithFieldSelector() {
+        final JsonObject completeObject = JsonFactory.newObject(KNOWN_JSON_OBJECT_STRING);
+        final String[] selectors = {
+                "thingId", "attributes/manufacturer,features/temp/properties/value", "features/array",
+                "attributes,attributes/enabled", "thingId/nested,attributes/missing", "features/*/properties", "",
+                "missing"
+        };
+        for (final String selector : selectors) {
+            final JsonFieldSelector fieldSelector = JsonFactory.newFieldSelector(selector,
+                    JsonFactory.newParseOptionsBuilder().withoutUrlDecoding().build());
+            final JsonObject expected = completeObject.get(fieldSelector);
+
+            final JsonValue actual = parse(KNOWN_JSON_OBJECT_STRING, fieldSelector);
+
+            assertThat(actual).as(selector).isEqualTo(expected);
+            assertThat(JsonFactory.readFrom(actual.toString())).as(selector).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void parseSelectedFieldsChecksSkippedValues() {
+        final JsonFieldSelector fieldSelector = JsonFactory.newFieldSelector("b");
+
+        assertThat(parse("{\"a\":{\"x\":[\"\\n\\u00e4\u00f6\",-0.5e3,{}]},\"b\":1}", fieldSelector))
+                .isEqualTo(JsonObject.newBuilder().set("b", 1).build());
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> parse("{\"a\":{\"x\":[\"\\x\"]},\"b\":1}", fieldSelector));
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> parse("{\"a\":\"\\u00g0\",\"b\":1}", fieldSelector));
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> parse("{\"a\":[1,],\"b\":1}", fieldSelector));
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> parse("{\"a\":{\"x\" 1},\"b\":1}", fieldSelector));
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> parse("{\"a\":\"unterminated}", fieldSelector));
+    }
+
+    @Test
+    public void parseSelectedFieldsOfOtherValuesReportsCompleteValue() {
+        final JsonFieldSelector fieldSelector = JsonFactory.newFieldSelector("a");
+
+        assertThat(parse("[{\"a\":1,\"b\":2}]", fieldSelector)).isEqualTo(JsonFactory.readFrom("[{\"a\":1,\"b\":2}]"));
+    }
+
+    private static JsonValue parse(final String json, final JsonFieldSelector fieldSelector) {
+        final byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        final DefaultDittoJsonHandler handler = DefaultDittoJsonHandler.newInstance();
+        Utf8JsonParser.parse(handler, bytes, 0, bytes.length, JsonFieldSelectorTrie.of(fieldSelector.getPointers()));
+        return handler.getValue();
+    }
+
+    private static JsonValue parse(final String json) {
+        return parse(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static JsonValue parse(final byte[] bytes) {
+        final DefaultDittoJsonHandler handler = DefaultDittoJsonHandler.newInstance();
+        Utf8JsonParser.parse(handler, bytes, 0, bytes.length);
+        return handler.getValue();
+    }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link Utf8JsonWriter}.
+ */
+public final class Utf8JsonWriterTest {
+
+    private static final JsonObject KNOWN_JSON_OBJECT = JsonObject.newBuilder()
+            .set("thingId", "org.eclipse.ditto:myThing")
+            .set("escaped \"key\"", "quote\" backslash\\ \b\f\n\r\t control\u0001 end")
+            .set("unicode", "äöü € 😀")
+            .set("numbers", JsonArray.of(0, -1, Integer.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, 23.42, 1.0, -0.5e-10))
+            .set("literals", JsonArray.newBuilder().add(true).add(false).add(JsonFactory.nullLiteral()).build())
+            .set("nullObject", JsonFactory.nullObject())
+            .set("nullArray", JsonFactory.nullArray())
+            .set("nested", JsonObject.newBuilder()
+                    .set("empty", JsonObject.empty())
+                    .set("emptyArray", JsonArray.empty())
+                    .set("deeper", JsonObject.newBuilder().set("value", 42L).build())
+                    .build())
+            .build();
+
+    @Test
+    public void writeToOutputStreamEqualsUtf8EncodedToString() throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        KNOWN_JSON_OBJECT.writeTo(outputStream);
+
+        assertThat(outputStream.toByteArray()).isEqualTo(utf8(KNOWN_JSON_OBJECT));
+    }
+
+    @Test
+    public void writeToByteBufferEqualsUtf8EncodedToString() {
+        final byte[] expected = utf8(KNOWN_JSON_OBJECT);
+        final ByteBuffer byteBuffer = ByteBuffer.allocate(expected.length + 2);
+        byteBuffer.put((byte) 'x');
+
+        KNOWN_JSON_OBJECT.writeTo(byteBuffer);
+
+        assertThat(byteBuffer.position()).isEqualTo(expected.length + 1);
+        assertThat(Arrays.copyOfRange(byteBuffer.array(), 1, expected.length + 1)).isEqualTo(expected);
+    }
+
+    @Test
+    public void writeValueLargerThanInternalBuffer() throws IOException {
+        final char[] chars = new char[20_000];
+        Arrays.fill(chars, '€');
+        final String longString = new String(chars);
+        final JsonArray jsonArray = JsonArray.newBuilder()
+                .add(longString)
+                .add(longString.replace('€', '"'))
+                .add(longString.replace('€', 'a'))
+                .build();
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        jsonArray.writeTo(outputStream);
+
+        assertThat(outputStream.toByteArray()).isEqualTo(utf8(jsonArray));
+    }
+
+    @Test
+    public void writtenBytesCanBeParsedAgain() throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        KNOWN_JSON_OBJECT.writeTo(outputStream);
+
+        assertThat(JsonFactory.readFrom(outputStream.toByteArray())).isEqualTo(KNOWN_JSON_OBJECT);
+    }
+
+    @Test
+    public void writeUnpairedSurrogateLikeStringGetBytes() throws IOException {
+        final JsonValue jsonString = JsonValue.of("a\uD83Db\uDE00");
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        jsonString.writeTo(outputStream);
+
+        assertThat(outputStream.toByteArray()).isEqualTo(utf8(jsonString));
+    }
+
+    @Test
+    public void writeToTooSmallByteBufferThrowsBufferOverflowException() {
+        final ByteBuffer byteBuffer = ByteBuffer.allocate(10);
+
+        assertThatExceptionOfType(BufferOverflowException.class)
+                .isThrownBy(() -> KNOWN_JSON_OBJECT.writeTo(byteBuffer));
+    }
+
+    @Test
+    public void writeAfterFailedWriteEqualsUtf8EncodedToString() throws IOException {
+        assertThatExceptionOfType(BufferOverflowException.class)
+                .isThrownBy(() -> KNOWN_JSON_OBJECT.writeTo(ByteBuffer.allocate(10)));
+        final JsonValue jsonString = JsonValue.of("abc");
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        jsonString.writeTo(outputStream);
+
+        assertThat(outputStream.toByteArray()).isEqualTo(utf8(jsonString));
+    }
+
+    @Test
+    public void writeToOutputStreamWhichWritesAnotherValue() throws IOException {
+        final ByteArrayOutputStream nestedOutputStream = new ByteArrayOutputStream();
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream() {
+            @Override
+            public synchronized void write(final byte[] b, final int off, final int len) {
+                super.write(b, off, len);
+                try {
+                    KNOWN_JSON_OBJECT.writeTo(nestedOutputStream);
+                } catch (final IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        };
+
+        KNOWN_JSON_OBJECT.writeTo(outputStream);
+
+        assertThat(outputStream.toByteArray()).isEqualTo(utf8(KNOWN_JSON_OBJECT));
+        assertThat(nestedOutputStream.toByteArray()).isEqualTo(utf8(KNOWN_JSON_OBJECT));
+    }
+
+    private static byte[] utf8(final JsonValue jsonValue) {
+        return jsonValue.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+}
@@ -18,9 +18,11 @@ import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 import java.text.MessageFormat;
 import java.time.Duration;
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -29,6 +31,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -54,6 +57,9 @@ import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 
 /**
  * Abstract immutable implementation of {@link DittoHeaders} which is heavily based on {@link AbstractMap}.
+ * The headers are stored in a slot array indexed by {@link DittoHeaderDefinition} which is shared with builders and
+ * other instances until they modify it. Typed values like the authorization context are parsed lazily and cached
+ * together with the header they were parsed from; accessors returning collections return a copy of the cached value.
  */
 @Immutable
 @SuppressWarnings("squid:S2160")
@@ -62,6 +68,32 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
 
     private static final String ISSUER_DIVIDER = ":";
 
+    private static final Function<String, AuthorizationContext> AUTHORIZATION_CONTEXT_PARSER =
+            value -> duplicateSubjectsByStrippingIssuerPrefix(
+                    AuthorizationModelFactory.newAuthContext(JsonObject.of(value)));
+
+    private static final Function<String, Set<AcknowledgementRequest>> ACKNOWLEDGEMENT_REQUESTS_PARSER =
+            AbstractDittoHeaders::parseAcknowledgementRequests;
+
+    private static final Function<String, Duration> TIMEOUT_PARSER =
+            value -> DittoDuration.parseDuration(value).getDuration();
+
+    private static final Function<String, Set<AuthorizationSubject>> AUTHORIZATION_SUBJECT_SET_PARSER =
+            AbstractDittoHeaders::parseAuthorizationSubjects;
+
+    private static final Function<String, List<ResponseType>> RESPONSE_TYPES_PARSER =
+            AbstractDittoHeaders::parseResponseTypes;
+
+    private static final Function<String, JsonSchemaVersion> SCHEMA_VERSION_PARSER =
+            value -> JsonSchemaVersion.forInt(Integer.parseInt(value)).orElse(null);
+
+    private static final Function<String, EntityTag> ENTITY_TAG_PARSER = EntityTag::fromString;
+
+    private static final Function<String, EntityTagMatchers> ENTITY_TAG_MATCHERS_PARSER =
+            EntityTagMatchers::fromCommaSeparatedString;
+
+    private static final Function<String, Integer> REPLY_TARGET_PARSER = Integer::valueOf;
+
     final Map<String, Header> headers;
 
     /**
@@ -91,8 +123,31 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
     @SuppressWarnings("unused")
     protected AbstractDittoHeaders(final Map<String, Header> headers, final boolean flag) {
         checkNotNull(headers, "headers");
-        final Map<String, Header> candidate = keepAuthContextSubjectsWithIssuer(headers, Header::of);
-        this.headers = candidate != headers ? candidate : new LinkedHashMap<>(candidate);
+        this.headers = IndexedHeaderMap.of(keepAuthContextSubjectsWithIssuer(headers, Header::of));
+    }
+
+    /**
+     * Constructs a new {@code AbstractDittoHeaders} object from the headers of a builder whose authorization context
+     * was already normalized.
+     *
+     * @param builderHeaders the headers of the builder which are shared until the builder modifies them.
+     */
+    AbstractDittoHeaders(final IndexedHeaderMap builderHeaders) {
+        headers = builderHeaders.share();
+    }
+
+    /**
+     * Constructs a new {@code AbstractDittoHeaders} object from headers which were validated before, e.g. by the
+     * sender of serialized headers. The headers are neither validated nor normalized again.
+     *
+     * @param validatedHeaders the headers in their original order.
+     */
+    AbstractDittoHeaders(final Header[] validatedHeaders) {
+        final IndexedHeaderMap headersByLowerCaseKey = IndexedHeaderMap.newInstance();
+        for (final Header header : validatedHeaders) {
+            headersByLowerCaseKey.put(header.getKey().toLowerCase(), header);
+        }
+        headers = headersByLowerCaseKey;
     }
 
     @Override
@@ -208,11 +263,29 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
         return getContentType().map(ContentType::of);
     }
 
+    /**
+     * Returns the value of the header with the key of the passed definition parsed by the passed parser. The parsed
+     * value is cached together with the header, thus it is parsed only once even if the header is shared with other
+     * DittoHeaders.
+     *
+     * @param definition the definition of the header.
+     * @param parser the parser of the header value which has to be a constant and return an immutable value.
+     * @param <T> the type of the parsed value.
+     * @return the parsed value or an empty Optional if the header is absent or the parser returned {@code null}.
+     */
+    private <T> Optional<T> getParsedValueForDefinition(final HeaderDefinition definition,
+            final Function<String, T> parser) {
+
+        @Nullable final Header header = headers.get(definition.getKey());
+        if (null != header) {
+            return Optional.ofNullable(header.getParsedValue(parser));
+        }
+        return Optional.empty();
+    }
+
     @Override
     public Optional<JsonSchemaVersion> getSchemaVersion() {
-        return getStringForDefinition(DittoHeaderDefinition.SCHEMA_VERSION)
-                .map(Integer::valueOf)
-                .flatMap(JsonSchemaVersion::forInt);
+        return getParsedValueForDefinition(DittoHeaderDefinition.SCHEMA_VERSION, SCHEMA_VERSION_PARSER);
     }
 
     @Override
@@ -226,8 +299,9 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
         /*
          * TODO: remove this duplication when removing {@link JsonSchemaVersion#V_1}.
          */
-        return duplicateSubjectsByStrippingIssuerPrefix(AuthorizationModelFactory.newAuthContext(
-                getAuthorizationContextAsJson(headers)));
+        return getParsedValueForDefinition(DittoHeaderDefinition.AUTHORIZATION_CONTEXT, AUTHORIZATION_CONTEXT_PARSER)
+                .orElseGet(() -> duplicateSubjectsByStrippingIssuerPrefix(
+                        AuthorizationModelFactory.newAuthContext(JsonObject.empty())));
     }
 
     private static AuthorizationContext duplicateSubjectsByStrippingIssuerPrefix(
@@ -254,10 +328,12 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
 
     @Override
     public Set<String> getReadSubjects() {
-        final JsonArray jsonValueArray = getJsonArrayForDefinition(DittoHeaderDefinition.READ_SUBJECTS);
-        return jsonValueArray.stream()
-                .map(JsonValue::asString)
-                .collect(Collectors.toSet());
+        // derived from the authorization subjects as a header value caches the result of one parser only
+        return getParsedValueForDefinition(DittoHeaderDefinition.READ_SUBJECTS, AUTHORIZATION_SUBJECT_SET_PARSER)
+                .map(subjects -> subjects.stream()
+                        .map(AuthorizationSubject::getId)
+                        .collect(Collectors.toCollection(HashSet::new)))
+                .orElseGet(HashSet::new);
     }
 
     protected JsonArray getJsonArrayForDefinition(final HeaderDefinition definition) {
@@ -277,11 +353,17 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
     }
 
     private Set<AuthorizationSubject> getAuthorizationSubjectSet(final HeaderDefinition definition) {
-        final JsonArray jsonValueArray = getJsonArrayForDefinition(definition);
-        return jsonValueArray.stream()
+        return new HashSet<>(getParsedValueForDefinition(definition, AUTHORIZATION_SUBJECT_SET_PARSER)
+                .orElseGet(Collections::emptySet));
+    }
+
+    private static Set<AuthorizationSubject> parseAuthorizationSubjects(final String value) {
+        final Set<AuthorizationSubject> authorizationSubjects = JsonArray.of(value)
+                .stream()
                 .map(JsonValue::asString)
                 .map(AuthorizationSubject::newInstance)
                 .collect(Collectors.toSet());
+        return Collections.unmodifiableSet(authorizationSubjects);
     }
 
     @Override
@@ -356,20 +438,17 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
 
     @Override
     public Optional<EntityTag> getETag() {
-        return getStringForDefinition(DittoHeaderDefinition.ETAG)
-                .map(EntityTag::fromString);
+        return getParsedValueForDefinition(DittoHeaderDefinition.ETAG, ENTITY_TAG_PARSER);
     }
 
     @Override
     public Optional<EntityTagMatchers> getIfMatch() {
-        return getStringForDefinition(DittoHeaderDefinition.IF_MATCH)
-                .map(EntityTagMatchers::fromCommaSeparatedString);
+        return getParsedValueForDefinition(DittoHeaderDefinition.IF_MATCH, ENTITY_TAG_MATCHERS_PARSER);
     }
 
     @Override
     public Optional<EntityTagMatchers> getIfNoneMatch() {
-        return getStringForDefinition(DittoHeaderDefinition.IF_NONE_MATCH)
-                .map(EntityTagMatchers::fromCommaSeparatedString);
+        return getParsedValueForDefinition(DittoHeaderDefinition.IF_NONE_MATCH, ENTITY_TAG_MATCHERS_PARSER);
     }
 
     @Override
@@ -380,34 +459,46 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
     @Override
     public Optional<Integer> getReplyTarget() {
         // This is an internal header. If NumberFormatException occurs then there is a bug.
-        return getStringForDefinition(DittoHeaderDefinition.REPLY_TARGET).map(Integer::valueOf);
+        return getParsedValueForDefinition(DittoHeaderDefinition.REPLY_TARGET, REPLY_TARGET_PARSER);
     }
 
     @Override
     public Collection<ResponseType> getExpectedResponseTypes() {
-        final JsonArray jsonValueArray = getJsonArrayForDefinition(DittoHeaderDefinition.EXPECTED_RESPONSE_TYPES);
-        return jsonValueArray.stream()
+        return new ArrayList<>(
+                getParsedValueForDefinition(DittoHeaderDefinition.EXPECTED_RESPONSE_TYPES, RESPONSE_TYPES_PARSER)
+                        .orElseGet(Collections::emptyList));
+    }
+
+    private static List<ResponseType> parseResponseTypes(final String value) {
+        final List<ResponseType> responseTypes = JsonArray.of(value)
+                .stream()
                 .map(JsonValue::asString)
                 .map(ResponseType::fromName)
                 .filter(Optional::isPresent)
                 .map(Optional::get)
                 .collect(Collectors.toList()); // toList() to keep original order
+        return Collections.unmodifiableList(responseTypes);
     }
 
     @Override
     public Set<AcknowledgementRequest> getAcknowledgementRequests() {
-        final JsonArray jsonValueArray = getJsonArrayForDefinition(DittoHeaderDefinition.REQUESTED_ACKS);
-        return jsonValueArray.stream()
+        return new LinkedHashSet<>(
+                getParsedValueForDefinition(DittoHeaderDefinition.REQUESTED_ACKS, ACKNOWLEDGEMENT_REQUESTS_PARSER)
+                        .orElseGet(Collections::emptySet));
+    }
+
+    private static Set<AcknowledgementRequest> parseAcknowledgementRequests(final String value) {
+        final Set<AcknowledgementRequest> acknowledgementRequests = JsonArray.of(value)
+                .stream()
                 .map(JsonValue::asString)
                 .map(AcknowledgementRequest::parseAcknowledgementRequest)
                 .collect(Collectors.toCollection(LinkedHashSet::new));
+        return Collections.unmodifiableSet(acknowledgementRequests);
     }
 
     @Override
     public Optional<Duration> getTimeout() {
-        return getStringForDefinition(DittoHeaderDefinition.TIMEOUT)
-                .map(DittoDuration::parseDuration)
-                .map(DittoDuration::getDuration);
+        return getParsedValueForDefinition(DittoHeaderDefinition.TIMEOUT, TIMEOUT_PARSER);
     }
 
     @Override
@@ -549,8 +640,8 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
     }
 
     private static Map<String, Header> indexByLowerCase(final Map<String, String> map) {
-        final Map<String, Header> headers = new LinkedHashMap<>();
+        final IndexedHeaderMap headers = IndexedHeaderMap.newInstance();
         map.forEach((key, value) -> headers.put(key.toLowerCase(), Header.of(key, value)));
-        return Collections.unmodifiableMap(headers);
+        return headers;
     }
 }
@@ -34,10 +34,12 @@ import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonCollectors;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.json.JsonValueContainer;
 import org.eclipse.ditto.model.base.acks.AcknowledgementRequest;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationModelFactory;
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
 import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
 import org.eclipse.ditto.model.base.common.ResponseType;
@@ -52,9 +54,13 @@ import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 
 /**
  * An abstract base implementation for subclasses of {@link DittoHeadersBuilder}. This implementation does already
- * most of the work including header value validation. Insertion order and re-insertion order is maintained via
- * a linked hash map. Since Java linked hash map does not maintain re-insertion order, each entry is removed from
- * the map before they are added.
+ * most of the work including header value validation. Well-known headers are kept in the order of their definitions,
+ * the insertion order and re-insertion order of all other headers is maintained. Since Java linked hash map does not
+ * maintain re-insertion order, each entry is removed from the map before they are added.
+ * <p>
+ * A builder created from {@code DittoHeaders} shares their headers until it modifies them; headers which are not
+ * modified are neither copied nor validated or parsed again.
+ * </p>
  */
 @NotThreadSafe
 public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeadersBuilder<S, R>, R extends DittoHeaders>
@@ -72,7 +78,8 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
     }
 
     protected final S myself;
-    private final Map<String, Header> headers;
+    private final IndexedHeaderMap headers;
+    @Nullable private Header normalizedAuthorizationContext;
     private MetadataHeaders metadataHeaders;
     private final Map<String, HeaderDefinition> definitions;
 
@@ -95,6 +102,7 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
         validateValueTypes(initialHeaders, definitions); // this constructor does validate the known value types
         myself = (S) selfType.cast(this);
         headers = preserveCaseSensitivity(initialHeaders);
+        normalizedAuthorizationContext = null;
         metadataHeaders = MetadataHeaders.newInstance();
         metadataHeaders.addAll(extractMetadataHeaders(headers));
         this.definitions = getHeaderDefinitionsAsMap(definitions);
@@ -144,6 +152,12 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
         checkNotNull(definitions, "definitions");
         myself = (S) selfType.cast(this);
         headers = preserveCaseSensitivity(initialHeaders);
+        if (initialHeaders instanceof AbstractDittoHeaders) {
+            // the authorization context of built headers is already normalized
+            normalizedAuthorizationContext = headers.get(DittoHeaderDefinition.AUTHORIZATION_CONTEXT.getKey());
+        } else {
+            normalizedAuthorizationContext = null;
+        }
         metadataHeaders = MetadataHeaders.newInstance();
         metadataHeaders.addAll(extractMetadataHeaders(headers));
         this.definitions = getHeaderDefinitionsAsMap(definitions);
@@ -547,10 +561,26 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
     public R build() {
         // do it here
         putMetadataHeadersToRegularHeaders();
+        normalizeAuthorizationContext();
         final ImmutableDittoHeaders dittoHeaders = ImmutableDittoHeaders.fromBuilder(headers);
         return doBuild(dittoHeaders);
     }
 
+    /*
+     * Removes the subjects without issuer of the authorization context which are duplicates of subjects with issuer.
+     * This is skipped if the authorization context was not changed since it was normalized.
+     */
+    private void normalizeAuthorizationContext() {
+        final String key = DittoHeaderDefinition.AUTHORIZATION_CONTEXT.getKey();
+        @Nullable final Header authorizationContext = headers.get(key);
+        if (null != authorizationContext && authorizationContext != normalizedAuthorizationContext) {
+            final AuthorizationContext normalized = AbstractDittoHeaders.keepAuthContextSubjectsWithIssuer(
+                    AuthorizationModelFactory.newAuthContext(JsonObject.of(authorizationContext.getValue())));
+            normalizedAuthorizationContext = Header.of(key, normalized.toJsonString());
+            headers.put(key, normalizedAuthorizationContext);
+        }
+    }
+
     private void putMetadataHeadersToRegularHeaders() {
         if (!metadataHeaders.isEmpty()) {
             headers.put(DittoHeaderDefinition.PUT_METADATA.getKey(),
@@ -566,11 +596,11 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
 
     protected abstract R doBuild(DittoHeaders dittoHeaders);
 
-    private static Map<String, Header> preserveCaseSensitivity(final Map<String, String> headers) {
+    private static IndexedHeaderMap preserveCaseSensitivity(final Map<String, String> headers) {
         if (headers instanceof AbstractDittoHeaders) {
-            return new LinkedHashMap<>(((AbstractDittoHeaders) headers).headers);
+            return IndexedHeaderMap.of(((AbstractDittoHeaders) headers).headers);
         } else {
-            final LinkedHashMap<String, Header> result = new LinkedHashMap<>();
+            final IndexedHeaderMap result = IndexedHeaderMap.newInstance();
             headers.forEach((k, v) -> result.put(k.toLowerCase(), Header.of(k, v)));
             return result;
         }
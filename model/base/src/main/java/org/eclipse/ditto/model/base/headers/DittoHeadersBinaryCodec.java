@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.base.headers;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.base.exceptions.DittoHeaderInvalidException;
+
+/**
+ * Encodes {@link DittoHeaders} into a compact binary representation and decodes them again without validating the
+ * header values a second time.
+ * <p>
+ * Each header is encoded as a variable length integer which references the key of a well-known
+ * {@link DittoHeaderDefinition} and denotes the type of the value, followed by the key if it is not well-known and the
+ * value. Booleans and non-negative integers in their canonical string representation are encoded as such, all other
+ * values as UTF-8 encoded strings. Decoding thus always yields exactly the encoded keys and values.
+ * </p>
+ * <p>
+ * The table of well-known keys must never be changed, because every cluster member has to decode the headers of every
+ * other member. Header definitions which are added later are encoded with their key like any unknown header.
+ * </p>
+ * <p>
+ * <b>This is a Ditto internal class which is not intended for re-use.</b>
+ * It therefore is not treated as API which is held binary compatible to previous versions.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+@Immutable
+public final class DittoHeadersBinaryCodec {
+
+    private static final String[] WELL_KNOWN_KEYS = Arrays.stream(new DittoHeaderDefinition[]{
+            DittoHeaderDefinition.AUTHORIZATION_CONTEXT,
+            DittoHeaderDefinition.CORRELATION_ID,
+            DittoHeaderDefinition.SCHEMA_VERSION,
+            DittoHeaderDefinition.RESPONSE_REQUIRED,
+            DittoHeaderDefinition.DRY_RUN,
+            DittoHeaderDefinition.READ_SUBJECTS,
+            DittoHeaderDefinition.READ_REVOKED_SUBJECTS,
+            DittoHeaderDefinition.CONTENT_TYPE,
+            DittoHeaderDefinition.REPLY_TO,
+            DittoHeaderDefinition.CHANNEL,
+            DittoHeaderDefinition.ORIGIN,
+            DittoHeaderDefinition.ETAG,
+            DittoHeaderDefinition.IF_MATCH,
+            DittoHeaderDefinition.IF_NONE_MATCH,
+            DittoHeaderDefinition.REPLY_TARGET,
+            DittoHeaderDefinition.EXPECTED_RESPONSE_TYPES,
+            DittoHeaderDefinition.INBOUND_PAYLOAD_MAPPER,
+            DittoHeaderDefinition.ORIGINATOR,
+            DittoHeaderDefinition.REQUESTED_ACKS,
+            DittoHeaderDefinition.DECLARED_ACKS,
+            DittoHeaderDefinition.TIMEOUT,
+            DittoHeaderDefinition.ENTITY_ID,
+            DittoHeaderDefinition.WWW_AUTHENTICATE,
+            DittoHeaderDefinition.LOCATION,
+            DittoHeaderDefinition.CONNECTION_ID,
+            DittoHeaderDefinition.PUT_METADATA,
+            DittoHeaderDefinition.ALLOW_POLICY_LOCKOUT,
+            DittoHeaderDefinition.WEAK_ACK,
+            DittoHeaderDefinition.POLICY_ENFORCER_INVALIDATED_PREEMPTIVELY
+    }).map(DittoHeaderDefinition::getKey).toArray(String[]::new);
+
+    private static final Map<String, Integer> KEY_REFERENCES = createKeyReferences();
+
+    // the two lowest bits of the header code denote the kind of the value, the others reference the key
+    private static final int VALUE_KIND_BITS = 2;
+    private static final int VALUE_KIND_STRING = 0;
+    private static final int VALUE_KIND_FALSE = 1;
+    private static final int VALUE_KIND_TRUE = 2;
+    private static final int VALUE_KIND_NUMBER = 3;
+
+    // the key reference of a header whose key follows as string
+    private static final int UNKNOWN_KEY = 0;
+
+    // longer digit sequences might exceed the range of long
+    private static final int MAX_NUMBER_DIGITS = 18;
+
+    private DittoHeadersBinaryCodec() {
+        throw new AssertionError();
+    }
+
+    private static Map<String, Integer> createKeyReferences() {
+        final Map<String, Integer> result = new HashMap<>();
+        for (int i = 0; i < WELL_KNOWN_KEYS.length; i++) {
+            result.put(WELL_KNOWN_KEYS[i], i + 1);
+        }
+        return result;
+    }
+
+    /**
+     * Encodes the given headers.
+     *
+     * @param dittoHeaders the headers to encode.
+     * @return the binary representation of {@code dittoHeaders}.
+     * @throws NullPointerException if {@code dittoHeaders} is {@code null}.
+     */
+    public static byte[] encode(final DittoHeaders dittoHeaders) {
+        checkNotNull(dittoHeaders, "dittoHeaders");
+        final Collection<Header> headers = getHeaders(dittoHeaders);
+        final Output output = new Output(16 * headers.size() + 16);
+        output.writeUnsigned(headers.size());
+        for (final Header header : headers) {
+            encodeHeader(header.getKey(), header.getValue(), output);
+        }
+        return output.toByteArray();
+    }
+
+    private static Collection<Header> getHeaders(final DittoHeaders dittoHeaders) {
+        if (dittoHeaders instanceof AbstractDittoHeaders) {
+            return ((AbstractDittoHeaders) dittoHeaders).headers.values();
+        }
+        return dittoHeaders.asCaseSensitiveMap()
+                .entrySet()
+                .stream()
+                .map(entry -> Header.of(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    private static void encodeHeader(final String key, final String value, final Output output) {
+        final int keyReference = KEY_REFERENCES.getOrDefault(key, UNKNOWN_KEY);
+        final int valueKind = getValueKind(value);
+        output.writeUnsigned(((long) keyReference << VALUE_KIND_BITS) | valueKind);
+        if (UNKNOWN_KEY == keyReference) {
+            output.writeString(key);
+        }
+        if (VALUE_KIND_STRING == valueKind) {
+            output.writeString(value);
+        } else if (VALUE_KIND_NUMBER == valueKind) {
+            output.writeUnsigned(Long.parseLong(value));
+        }
+    }
+
+    private static int getValueKind(final String value) {
+        if ("true".equals(value)) {
+            return VALUE_KIND_TRUE;
+        } else if ("false".equals(value)) {
+            return VALUE_KIND_FALSE;
+        } else if (isCanonicalNumber(value)) {
+            return VALUE_KIND_NUMBER;
+        }
+        return VALUE_KIND_STRING;
+    }
+
+    private static boolean isCanonicalNumber(final String value) {
+        final int length = value.length();
+        if (0 == length || length > MAX_NUMBER_DIGITS || (length > 1 && '0' == value.charAt(0))) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decodes headers from the given buffer starting at its current position. The position is advanced to the first
+     * byte after the headers.
+     *
+     * @param byteBuffer the buffer containing the binary representation of headers.
+     * @return the decoded headers.
+     * @throws NullPointerException if {@code byteBuffer} is {@code null}.
+     * @throws DittoHeaderInvalidException if {@code byteBuffer} does not contain valid binary headers.
+     */
+    public static DittoHeaders decode(final ByteBuffer byteBuffer) {
+        checkNotNull(byteBuffer, "byteBuffer");
+        try {
+            final int size = toInt(readUnsigned(byteBuffer));
+            if (0 == size) {
+                return DittoHeaders.empty();
+            }
+            // each header takes at least one byte, thus a larger size can only be read from a corrupt buffer
+            if (size > byteBuffer.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            final Header[] headers = new Header[size];
+            for (int i = 0; i < size; i++) {
+                headers[i] = decodeHeader(byteBuffer);
+            }
+            return ImmutableDittoHeaders.ofValidated(headers);
+        } catch (final BufferUnderflowException e) {
+            throw invalidBinaryHeaders("Unexpected end of binary headers.");
+        }
+    }
+
+    private static Header decodeHeader(final ByteBuffer byteBuffer) {
+        final long code = readUnsigned(byteBuffer);
+        final long keyReference = code >>> VALUE_KIND_BITS;
+        final String key;
+        if (UNKNOWN_KEY == keyReference) {
+            key = readString(byteBuffer);
+        } else if (keyReference <= WELL_KNOWN_KEYS.length) {
+            key = WELL_KNOWN_KEYS[(int) keyReference - 1];
+        } else {
+            throw invalidBinaryHeaders(MessageFormat.format("Unknown header key reference <{0}>.", keyReference));
+        }
+        final String value;
+        switch ((int) (code & ((1 << VALUE_KIND_BITS) - 1))) {
+            case VALUE_KIND_FALSE:
+                value = "false";
+                break;
+            case VALUE_KIND_TRUE:
+                value = "true";
+                break;
+            case VALUE_KIND_NUMBER:
+                value = Long.toString(readUnsigned(byteBuffer));
+                break;
+            default:
+                value = readString(byteBuffer);
+        }
+        return Header.of(key, value);
+    }
+
+    private static long readUnsigned(final ByteBuffer byteBuffer) {
+        long result = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            final byte b = byteBuffer.get();
+            result |= (long) (b & 0x7F) << shift;
+            if (0 == (b & 0x80)) {
+                return result;
+            }
+        }
+        throw invalidBinaryHeaders("Too long variable length integer.");
+    }
+
+    private static String readString(final ByteBuffer byteBuffer) {
+        final int length = toInt(readUnsigned(byteBuffer));
+        if (length > byteBuffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        final String result;
+        if (byteBuffer.hasArray()) {
+            result = new String(byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(), length,
+                    StandardCharsets.UTF_8);
+            byteBuffer.position(byteBuffer.position() + length);
+        } else {
+            final byte[] bytes = new byte[length];
+            byteBuffer.get(bytes);
+            result = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return result;
+    }
+
+    private static int toInt(final long length) {
+        if (length < 0 || length > Integer.MAX_VALUE) {
+            throw invalidBinaryHeaders(MessageFormat.format("Invalid length <{0}>.", length));
+        }
+        return (int) length;
+    }
+
+    private static DittoHeaderInvalidException invalidBinaryHeaders(final String message) {
+        return DittoHeaderInvalidException.newCustomMessageBuilder("Failed to decode binary headers: " + message)
+                .build();
+    }
+
+    /**
+     * A growing array of the encoded bytes.
+     */
+    private static final class Output {
+
+        private byte[] bytes;
+        private int length;
+
+        private Output(final int initialCapacity) {
+            bytes = new byte[initialCapacity];
+            length = 0;
+        }
+
+        private void writeUnsigned(final long value) {
+            ensureCapacity(10);
+            long remaining = value;
+            while (0 != (remaining & ~0x7FL)) {
+                bytes[length++] = (byte) ((remaining & 0x7F) | 0x80);
+                remaining >>>= 7;
+            }
+            bytes[length++] = (byte) remaining;
+        }
+
+        private void writeString(final String value) {
+            final byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeUnsigned(utf8.length);
+            ensureCapacity(utf8.length);
+            System.arraycopy(utf8, 0, bytes, length, utf8.length);
+            length += utf8.length;
+        }
+
+        private void ensureCapacity(final int additionalBytes) {
+            if (length + additionalBytes > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(2 * bytes.length, length + additionalBytes));
+            }
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(bytes, length);
+        }
+
+    }
+
+}
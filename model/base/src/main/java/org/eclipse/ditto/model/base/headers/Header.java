@@ -13,7 +13,9 @@
 package org.eclipse.ditto.model.base.headers;
 
 import java.util.Objects;
+import java.util.function.Function;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 /**
@@ -21,6 +23,8 @@ import javax.annotation.concurrent.Immutable;
  * The key is only for information. Object identity only takes value into account.
  * This is important because as cache keys of CachingSignalEnrichmentFacade, where header keys should be interpreted
  * case-insensitively.
+ * The typed value parsed from the value is cached, thus headers which are shared between DittoHeaders instances are
+ * parsed only once.
  *
  * @since 2.0.0
  */
@@ -29,6 +33,7 @@ final class Header implements CharSequence {
 
     private final String key;
     private final String value;
+    @Nullable private volatile ParsedValue<?> parsedValue;
 
     private Header(final String key, final String value) {
         this.key = key;
@@ -47,6 +52,26 @@ final class Header implements CharSequence {
         return value;
     }
 
+    /**
+     * Returns the value parsed by the passed parser. The result is cached for the parser, therefore the parser has to
+     * be a constant and the parsed value has to be immutable. Only the result of the last parser is cached, thus each
+     * header has to be parsed by a single parser; other views on its value are derived from that parser's result.
+     *
+     * @param parser the parser of the value.
+     * @param <T> the type of the parsed value.
+     * @return the parsed value.
+     */
+    @SuppressWarnings("unchecked")
+    <T> T getParsedValue(final Function<String, T> parser) {
+        @Nullable final ParsedValue<?> cached = parsedValue;
+        if (null != cached && cached.parser == parser) {
+            return (T) cached.value;
+        }
+        final T result = parser.apply(value);
+        parsedValue = new ParsedValue<>(parser, result);
+        return result;
+    }
+
     @Override
     public boolean equals(final Object other) {
         if (other instanceof CharSequence) {
@@ -80,4 +105,17 @@ final class Header implements CharSequence {
     public Header subSequence(final int i, final int j) {
         return new Header(key, value.substring(i, j));
     }
+
+    private static final class ParsedValue<T> {
+
+        private final Function<String, T> parser;
+        private final T value;
+
+        private ParsedValue(final Function<String, T> parser, final T value) {
+            this.parser = parser;
+            this.value = value;
+        }
+
+    }
+
 }
@@ -27,8 +27,12 @@ final class ImmutableDittoHeaders extends AbstractDittoHeaders implements DittoH
         super(headers);
     }
 
-    private ImmutableDittoHeaders(final Map<String, Header> headers, final boolean flag) {
-        super(headers, flag);
+    private ImmutableDittoHeaders(final Header[] validatedHeaders) {
+        super(validatedHeaders);
+    }
+
+    private ImmutableDittoHeaders(final IndexedHeaderMap builderHeaders) {
+        super(builderHeaders);
     }
 
     /**
@@ -42,8 +46,25 @@ final class ImmutableDittoHeaders extends AbstractDittoHeaders implements DittoH
         return new ImmutableDittoHeaders(headers);
     }
 
-    static ImmutableDittoHeaders fromBuilder(final Map<String, Header> builderHeaders) {
-        return new ImmutableDittoHeaders(builderHeaders, true);
+    /**
+     * Returns an instance of {@code ImmutableDittoHeaders} with the specified headers which are not validated again.
+     *
+     * @param validatedHeaders the validated headers in their original order.
+     * @return the instance.
+     */
+    static ImmutableDittoHeaders ofValidated(final Header[] validatedHeaders) {
+        return new ImmutableDittoHeaders(validatedHeaders);
+    }
+
+    /**
+     * Returns an instance of {@code ImmutableDittoHeaders} which shares the headers of a builder until the builder
+     * modifies them.
+     *
+     * @param builderHeaders the headers of the builder whose authorization context is already normalized.
+     * @return the instance.
+     */
+    static ImmutableDittoHeaders fromBuilder(final IndexedHeaderMap builderHeaders) {
+        return new ImmutableDittoHeaders(builderHeaders);
     }
 
     @Override
@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.base.headers;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Package internal map of headers indexed by their lower-case keys.
+ * Well-known headers are stored in a fixed slot array indexed by the ordinal of their {@link DittoHeaderDefinition},
+ * all other headers in a small side map in insertion order. The map iterates the well-known headers in the order of
+ * their definitions followed by the other headers.
+ * <p>
+ * Copies created with {@link #share()} share the slot array and the side map with the original until one of them is
+ * modified; only then the modified part is copied. Maps which are shared by immutable {@code DittoHeaders} are never
+ * modified.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+@NotThreadSafe
+final class IndexedHeaderMap extends AbstractMap<String, Header> {
+
+    private static final DittoHeaderDefinition[] DEFINITIONS = DittoHeaderDefinition.values();
+    private static final Map<String, DittoHeaderDefinition> DEFINITIONS_BY_KEY;
+
+    static {
+        final Map<String, DittoHeaderDefinition> definitionsByKey = new HashMap<>();
+        for (final DittoHeaderDefinition definition : DEFINITIONS) {
+            definitionsByKey.put(definition.getKey(), definition);
+        }
+        DEFINITIONS_BY_KEY = Collections.unmodifiableMap(definitionsByKey);
+    }
+
+    private Header[] slots;
+    private Map<String, Header> extras;
+    private int slotCount;
+    private boolean slotsShared;
+    private boolean extrasShared;
+
+    private IndexedHeaderMap(final Header[] slots, final Map<String, Header> extras, final int slotCount,
+            final boolean slotsShared, final boolean extrasShared) {
+
+        this.slots = slots;
+        this.extras = extras;
+        this.slotCount = slotCount;
+        this.slotsShared = slotsShared;
+        this.extrasShared = extrasShared;
+    }
+
+    /**
+     * Returns a new empty modifiable map.
+     *
+     * @return the map.
+     */
+    static IndexedHeaderMap newInstance() {
+        // the empty side map is replaced on the first put
+        return new IndexedHeaderMap(new Header[DEFINITIONS.length], Collections.emptyMap(), 0, false, true);
+    }
+
+    /**
+     * Returns a new modifiable map containing the passed headers. If {@code headers} is an {@code IndexedHeaderMap},
+     * the result shares its data with it.
+     *
+     * @param headers the headers indexed by their lower-case keys.
+     * @return the map.
+     */
+    static IndexedHeaderMap of(final Map<String, Header> headers) {
+        if (headers instanceof IndexedHeaderMap) {
+            return ((IndexedHeaderMap) headers).share();
+        }
+        final IndexedHeaderMap result = newInstance();
+        headers.forEach(result::put);
+        return result;
+    }
+
+    /**
+     * Returns a copy of this map which shares the data of this map until one of both maps is modified.
+     *
+     * @return the copy.
+     */
+    IndexedHeaderMap share() {
+        // only written if necessary as maps of immutable headers are shared between threads
+        if (!slotsShared) {
+            slotsShared = true;
+        }
+        if (!extrasShared) {
+            extrasShared = true;
+        }
+        return new IndexedHeaderMap(slots, extras, slotCount, true, true);
+    }
+
+    @Nullable
+    private static DittoHeaderDefinition getDefinition(final Object lowerCaseKey) {
+        return DEFINITIONS_BY_KEY.get(lowerCaseKey);
+    }
+
+    @Override
+    public int size() {
+        return slotCount + extras.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return 0 == size();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return null != get(key);
+    }
+
+    @Override
+    @Nullable
+    public Header get(final Object key) {
+        @Nullable final DittoHeaderDefinition definition = getDefinition(key);
+        if (null != definition) {
+            return slots[definition.ordinal()];
+        }
+        return extras.get(key);
+    }
+
+    @Override
+    @Nullable
+    public Header put(final String key, final Header header) {
+        @Nullable final DittoHeaderDefinition definition = getDefinition(key);
+        if (null != definition) {
+            final int slot = definition.ordinal();
+            if (slotsShared) {
+                slots = slots.clone();
+                slotsShared = false;
+            }
+            final Header previous = slots[slot];
+            slots[slot] = header;
+            if (null == previous) {
+                slotCount++;
+            }
+            return previous;
+        }
+        if (extrasShared) {
+            extras = new LinkedHashMap<>(extras);
+            extrasShared = false;
+        }
+        return extras.put(key, header);
+    }
+
+    @Override
+    @Nullable
+    public Header remove(final Object key) {
+        @Nullable final DittoHeaderDefinition definition = getDefinition(key);
+        if (null != definition) {
+            final int slot = definition.ordinal();
+            final Header previous = slots[slot];
+            if (null != previous) {
+                if (slotsShared) {
+                    slots = slots.clone();
+                    slotsShared = false;
+                }
+                slots[slot] = null;
+                slotCount--;
+            }
+            return previous;
+        }
+        if (!extras.containsKey(key)) {
+            return null;
+        }
+        if (extrasShared) {
+            extras = new LinkedHashMap<>(extras);
+            extrasShared = false;
+        }
+        return extras.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        slots = new Header[DEFINITIONS.length];
+        slotsShared = false;
+        slotCount = 0;
+        extras = Collections.emptyMap();
+        extrasShared = true;
+    }
+
+    @Override
+    public void forEach(final BiConsumer<? super String, ? super Header> action) {
+        for (int i = 0; i < slots.length; i++) {
+            final Header header = slots[i];
+            if (null != header) {
+                action.accept(DEFINITIONS[i].getKey(), header);
+            }
+        }
+        extras.forEach(action);
+    }
+
+    @Override
+    public Set<Entry<String, Header>> entrySet() {
+        return new EntrySet();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        for (int i = 0; i < slots.length; i++) {
+            final Header header = slots[i];
+            if (null != header) {
+                result += DEFINITIONS[i].getKey().hashCode() ^ header.hashCode();
+            }
+        }
+        return result + extras.hashCode();
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Header>> {
+
+        @Override
+        public int size() {
+            return IndexedHeaderMap.this.size();
+        }
+
+        @Override
+        public Iterator<Entry<String, Header>> iterator() {
+            return new EntryIterator(slots, extras.entrySet().iterator());
+        }
+
+    }
+
+    /*
+     * Iterates a snapshot of the slots followed by the side map. Entries can only be removed by the methods of the map.
+     */
+    private static final class EntryIterator implements Iterator<Entry<String, Header>> {
+
+        private final Header[] slots;
+        private final Iterator<Entry<String, Header>> extrasIterator;
+        private int nextSlot;
+
+        private EntryIterator(final Header[] slots, final Iterator<Entry<String, Header>> extrasIterator) {
+            this.slots = slots;
+            this.extrasIterator = extrasIterator;
+            nextSlot = findSlot(0);
+        }
+
+        private int findSlot(final int start) {
+            int slot = start;
+            while (slot < slots.length && null == slots[slot]) {
+                slot++;
+            }
+            return slot;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextSlot < slots.length || extrasIterator.hasNext();
+        }
+
+        @Override
+        public Entry<String, Header> next() {
+            if (nextSlot < slots.length) {
+                final Entry<String, Header> result =
+                        new SimpleImmutableEntry<>(DEFINITIONS[nextSlot].getKey(), slots[nextSlot]);
+                nextSlot = findSlot(nextSlot + 1);
+                return result;
+            }
+            if (!extrasIterator.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final Entry<String, Header> extra = extrasIterator.next();
+            return new SimpleImmutableEntry<>(extra);
+        }
+
+    }
+
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.base.headers;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.acks.AcknowledgementRequest;
+import org.eclipse.ditto.model.base.acks.DittoAcknowledgementLabel;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationModelFactory;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmark of the header accesses of a {@code ModifyFeatureProperty} command on its way through the
+ * {@code EnforcerActor} of concierge: the headers are deserialized, the authorization context is read for enforcement
+ * and logging, the read granted subjects are added, the requested acknowledgements and the timeout are read for setting
+ * default headers and starting the acknowledgement aggregator, and the read granted subjects and the read subjects
+ * are read alternately for publishing.
+ * <p>
+ * {@code enforcerPathParsingEveryAccess} parses the header values on every access like the accessors did before they
+ * cached their parsed values; {@code enforcerPathWithCachedValues} uses the accessors. Both share the same
+ * deserialization and builder round trip, thus the difference is the saving of the cached values alone.
+ * </p>
+ * <p>
+ * Run with the test classpath, e.g. {@code java -cp ... org.openjdk.jmh.Main DittoHeadersAccessorBenchmark -prof gc}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+public class DittoHeadersAccessorBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final String AUTH_CONTEXT_KEY = DittoHeaderDefinition.AUTHORIZATION_CONTEXT.getKey();
+
+    private JsonObject headersJson;
+    private Set<AuthorizationSubject> readGrantedSubjects;
+
+    @Setup
+    public void setup() {
+        final AuthorizationContext authorizationContext =
+                AuthorizationModelFactory.newAuthContext(DittoAuthorizationContextType.PRE_AUTHENTICATED_HTTP,
+                        AuthorizationSubject.newInstance("integration:benchmark"),
+                        AuthorizationSubject.newInstance("nginx:device-0"));
+        headersJson = DittoHeaders.newBuilder()
+                .correlationId("2dcb4b9c-2e1e-4fd0-a2b8-b1b6b3f1a9c3")
+                .contentType("application/json")
+                .authorizationContext(authorizationContext)
+                .acknowledgementRequest(AcknowledgementRequest.of(DittoAcknowledgementLabel.TWIN_PERSISTED),
+                        AcknowledgementRequest.parseAcknowledgementRequest("custom-ack"))
+                .timeout(Duration.ofSeconds(60))
+                .responseRequired(true)
+                .putHeader("x-custom-header", "custom value")
+                .build()
+                .toJson();
+        readGrantedSubjects = new LinkedHashSet<>(List.of(AuthorizationSubject.newInstance("integration:benchmark"),
+                AuthorizationSubject.newInstance("google:observer")));
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void enforcerPathWithCachedValues(final Blackhole blackhole) {
+        final DittoHeaders received = DittoHeaders.newBuilder(headersJson).build();
+        blackhole.consume(received.getAuthorizationContext());
+        blackhole.consume(received.getAuthorizationContext());
+        final DittoHeaders enforced = received.toBuilder().readGrantedSubjects(readGrantedSubjects).build();
+        blackhole.consume(enforced.getAcknowledgementRequests());
+        blackhole.consume(enforced.getTimeout());
+        blackhole.consume(enforced.getAuthorizationContext());
+        blackhole.consume(enforced.getAcknowledgementRequests());
+        blackhole.consume(enforced.getTimeout());
+        blackhole.consume(enforced.getReadGrantedSubjects());
+        blackhole.consume(enforced.getReadSubjects());
+        blackhole.consume(enforced.getReadGrantedSubjects());
+        blackhole.consume(enforced.getReadSubjects());
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void enforcerPathParsingEveryAccess(final Blackhole blackhole) {
+        final DittoHeaders received = DittoHeaders.newBuilder(headersJson).build();
+        blackhole.consume(parseAuthorizationContext(received));
+        blackhole.consume(parseAuthorizationContext(received));
+        final DittoHeaders enforced = received.toBuilder().readGrantedSubjects(readGrantedSubjects).build();
+        blackhole.consume(parseAcknowledgementRequests(enforced));
+        blackhole.consume(parseTimeout(enforced));
+        blackhole.consume(parseAuthorizationContext(enforced));
+        blackhole.consume(parseAcknowledgementRequests(enforced));
+        blackhole.consume(parseTimeout(enforced));
+        blackhole.consume(parseReadGrantedSubjects(enforced));
+        blackhole.consume(parseReadSubjects(enforced));
+        blackhole.consume(parseReadGrantedSubjects(enforced));
+        blackhole.consume(parseReadSubjects(enforced));
+    }
+
+    private static AuthorizationContext parseAuthorizationContext(final DittoHeaders dittoHeaders) {
+        return AuthorizationModelFactory.newAuthContext(JsonObject.of(dittoHeaders.get(AUTH_CONTEXT_KEY)));
+    }
+
+    private static Set<AcknowledgementRequest> parseAcknowledgementRequests(final DittoHeaders dittoHeaders) {
+        return JsonArray.of(dittoHeaders.get(DittoHeaderDefinition.REQUESTED_ACKS.getKey()))
+                .stream()
+                .map(JsonValue::asString)
+                .map(AcknowledgementRequest::parseAcknowledgementRequest)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static Duration parseTimeout(final DittoHeaders dittoHeaders) {
+        return DittoDuration.parseDuration(dittoHeaders.get(DittoHeaderDefinition.TIMEOUT.getKey())).getDuration();
+    }
+
+    private static Set<AuthorizationSubject> parseReadGrantedSubjects(final DittoHeaders dittoHeaders) {
+        return JsonArray.of(dittoHeaders.get(DittoHeaderDefinition.READ_SUBJECTS.getKey()))
+                .stream()
+                .map(JsonValue::asString)
+                .map(AuthorizationSubject::newInstance)
+                .collect(Collectors.toSet());
+    }
+
+    private static Set<String> parseReadSubjects(final DittoHeaders dittoHeaders) {
+        return JsonArray.of(dittoHeaders.get(DittoHeaderDefinition.READ_SUBJECTS.getKey()))
+                .stream()
+                .map(JsonValue::asString)
+                .collect(Collectors.toSet());
+    }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.base.headers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+
+import org.eclipse.ditto.model.base.acks.AcknowledgementRequest;
+import org.eclipse.ditto.model.base.acks.DittoAcknowledgementLabel;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.model.base.exceptions.DittoHeaderInvalidException;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link DittoHeadersBinaryCodec}.
+ */
+public final class DittoHeadersBinaryCodecTest {
+
+    private static final DittoHeaders KNOWN_HEADERS = DittoHeaders.newBuilder()
+            .correlationId("2dcb4b9c-2e1e-4fd0-a2b8-b1b6b3f1a9c3")
+            .schemaVersion(JsonSchemaVersion.V_2)
+            .responseRequired(true)
+            .dryRun(false)
+            .authorizationContext(AuthorizationContext.newInstance(DittoAuthorizationContextType.PRE_AUTHENTICATED_HTTP,
+                    AuthorizationSubject.newInstance("integration:benchmark")))
+            .readGrantedSubjects(Arrays.asList(AuthorizationSubject.newInstance("integration:benchmark")))
+            .acknowledgementRequest(AcknowledgementRequest.of(DittoAcknowledgementLabel.TWIN_PERSISTED))
+            .timeout(Duration.ofSeconds(60))
+            .putHeader("X-Custom-Header", "custom value é")
+            .putHeader("x-number", "12345")
+            .putHeader("x-not-a-canonical-number", "007")
+            .putHeader("x-negative-number", "-1")
+            .putHeader("x-huge-number", "123456789012345678901234567890")
+            .putHeader("x-empty", "")
+            .build();
+
+    @Test
+    public void encodedHeadersAreDecodedToEqualHeaders() {
+        final DittoHeaders decoded = DittoHeadersBinaryCodec.decode(
+                ByteBuffer.wrap(DittoHeadersBinaryCodec.encode(KNOWN_HEADERS)));
+
+        assertThat(decoded).isEqualTo(KNOWN_HEADERS);
+        assertThat(decoded.asCaseSensitiveMap()).containsExactlyEntriesOf(KNOWN_HEADERS.asCaseSensitiveMap());
+        assertThat(decoded.toJson()).isEqualTo(KNOWN_HEADERS.toJson());
+        assertThat(decoded.getAuthorizationContext()).isEqualTo(KNOWN_HEADERS.getAuthorizationContext());
+        assertThat(decoded.get("x-custom-header")).isEqualTo("custom value é");
+    }
+
+    @Test
+    public void emptyHeadersAreDecodedToEmptyHeaders() {
+        final byte[] encoded = DittoHeadersBinaryCodec.encode(DittoHeaders.empty());
+
+        assertThat(encoded).hasSize(1);
+        assertThat(DittoHeadersBinaryCodec.decode(ByteBuffer.wrap(encoded))).isEqualTo(DittoHeaders.empty());
+    }
+
+    @Test
+    public void decodingAdvancesPositionToTheEndOfTheHeaders() {
+        final byte[] encoded = DittoHeadersBinaryCodec.encode(KNOWN_HEADERS);
+        final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(encoded.length + 3);
+        byteBuffer.put(encoded).put(new byte[]{1, 2, 3}).flip();
+
+        assertThat(DittoHeadersBinaryCodec.decode(byteBuffer)).isEqualTo(KNOWN_HEADERS);
+        assertThat(byteBuffer.remaining()).isEqualTo(3);
+    }
+
+    @Test
+    public void encodedHeadersAreSmallerThanJson() {
+        final byte[] json = KNOWN_HEADERS.toJsonString().getBytes(StandardCharsets.UTF_8);
+
+        assertThat(DittoHeadersBinaryCodec.encode(KNOWN_HEADERS).length).isLessThan(json.length * 3 / 4);
+    }
+
+    @Test
+    public void truncatedHeadersCannotBeDecoded() {
+        final byte[] encoded = DittoHeadersBinaryCodec.encode(KNOWN_HEADERS);
+
+        assertThatExceptionOfType(DittoHeaderInvalidException.class)
+                .isThrownBy(() -> DittoHeadersBinaryCodec.decode(ByteBuffer.wrap(encoded, 0, encoded.length - 1)));
+    }
+
+    @Test
+    public void unknownKeyReferenceCannotBeDecoded() {
+        // one header with key reference 127 and a boolean value
+        final byte[] encoded = {1, (byte) 0xFD, 0x03};
+
+        assertThatExceptionOfType(DittoHeaderInvalidException.class)
+                .isThrownBy(() -> DittoHeadersBinaryCodec.decode(ByteBuffer.wrap(encoded)));
+    }
+
+    @Test
+    public void headerCountLargerThanBufferCannotBeDecoded() {
+        // header count of 2^28 followed by a single byte
+        final byte[] encoded = {(byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x01, 0x03};
+
+        assertThatExceptionOfType(DittoHeaderInvalidException.class)
+                .isThrownBy(() -> DittoHeadersBinaryCodec.decode(ByteBuffer.wrap(encoded)));
+    }
+
+    @Test
+    public void negativeHeaderCountCannotBeDecoded() {
+        // a ten byte varint with the sign bit set
+        final byte[] encoded = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x01};
+
+        assertThatExceptionOfType(DittoHeaderInvalidException.class)
+                .isThrownBy(() -> DittoHeadersBinaryCodec.decode(ByteBuffer.wrap(encoded)));
+    }
+
+}
@@ -226,6 +226,57 @@ public final class ImmutableDittoHeadersTest {
         assertThat(underTest.getAuthorizationContext()).isEqualTo(AUTH_CONTEXT);
     }
 
+    @Test
+    public void typedValuesAreParsedOnceAndSharedWithUnchangedCopies() {
+        final DittoHeaders underTest = DittoHeaders.newBuilder()
+                .authorizationContext(AUTH_CONTEXT)
+                .acknowledgementRequests(KNOWN_ACK_REQUESTS)
+                .timeout(KNOWN_TIMEOUT)
+                .build();
+
+        final DittoHeaders copy = underTest.toBuilder().correlationId(KNOWN_CORRELATION_ID).build();
+
+        assertThat(underTest.getAuthorizationContext()).isSameAs(underTest.getAuthorizationContext())
+                .isSameAs(copy.getAuthorizationContext());
+        assertThat(copy.getAcknowledgementRequests()).containsExactlyElementsOf(KNOWN_ACK_REQUESTS);
+        assertThat(copy.getTimeout()).contains(KNOWN_TIMEOUT);
+        assertThat(underTest.getCorrelationId()).isEmpty();
+    }
+
+    @Test
+    public void modifiedReadGrantedSubjectsAreNotReflected() {
+        final DittoHeaders underTest =
+                DittoHeaders.newBuilder().readGrantedSubjects(KNOWN_READ_GRANTED_SUBJECTS).build();
+
+        underTest.getReadGrantedSubjects().clear();
+
+        assertThat(underTest.getReadGrantedSubjects()).containsExactlyInAnyOrderElementsOf(KNOWN_READ_GRANTED_SUBJECTS);
+    }
+
+    @Test
+    public void readSubjectsAndReadGrantedSubjectsAreViewsOfTheSameHeader() {
+        final DittoHeaders underTest =
+                DittoHeaders.newBuilder().readGrantedSubjects(KNOWN_READ_GRANTED_SUBJECTS).build();
+        final Set<String> expectedReadSubjects = KNOWN_READ_GRANTED_SUBJECTS.stream()
+                .map(AuthorizationSubject::getId)
+                .collect(Collectors.toSet());
+
+        underTest.getReadSubjects().clear();
+
+        assertThat(underTest.getReadSubjects()).isEqualTo(expectedReadSubjects);
+        assertThat(underTest.getReadGrantedSubjects()).containsExactlyInAnyOrderElementsOf(KNOWN_READ_GRANTED_SUBJECTS);
+        assertThat(underTest.getReadSubjects()).isEqualTo(expectedReadSubjects);
+    }
+
+    @Test
+    public void modifiedAcknowledgementRequestsAreNotReflected() {
+        final DittoHeaders underTest = DittoHeaders.newBuilder().acknowledgementRequests(KNOWN_ACK_REQUESTS).build();
+
+        underTest.getAcknowledgementRequests().clear();
+
+        assertThat(underTest.getAcknowledgementRequests()).containsExactlyElementsOf(KNOWN_ACK_REQUESTS);
+    }
+
     @Test
     public void getAuthorizationSubjectsReturnsExpected() {
         final List<AuthorizationSubject> authSubjects = AUTH_SUBJECTS.stream()
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.base.headers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link IndexedHeaderMap}.
+ */
+public final class IndexedHeaderMapTest {
+
+    private static final String CORRELATION_ID = DittoHeaderDefinition.CORRELATION_ID.getKey();
+    private static final String CHANNEL = DittoHeaderDefinition.CHANNEL.getKey();
+
+    @Test
+    public void wellKnownHeadersAreIteratedBeforeOtherHeaders() {
+        final IndexedHeaderMap underTest = IndexedHeaderMap.newInstance();
+
+        underTest.put("x-custom-b", Header.of("X-Custom-B", "b"));
+        underTest.put(CHANNEL, Header.of(CHANNEL, "live"));
+        underTest.put("x-custom-a", Header.of("X-Custom-A", "a"));
+        underTest.put(CORRELATION_ID, Header.of(CORRELATION_ID, "id"));
+
+        assertThat(underTest).hasSize(4);
+        assertThat(underTest.keySet()).containsExactly(CORRELATION_ID, CHANNEL, "x-custom-b", "x-custom-a");
+        assertThat(underTest.get("x-custom-a").getKey()).isEqualTo("X-Custom-A");
+        assertThat(underTest.containsKey(CHANNEL)).isTrue();
+        assertThat(underTest.containsKey("X-Custom-A")).isFalse();
+    }
+
+    @Test
+    public void removedHeadersAreAbsent() {
+        final IndexedHeaderMap underTest = IndexedHeaderMap.newInstance();
+        underTest.put(CHANNEL, Header.of(CHANNEL, "live"));
+        underTest.put("x-custom", Header.of("x-custom", "value"));
+
+        assertThat(underTest.remove(CHANNEL)).isEqualTo(Header.of(CHANNEL, "live"));
+        assertThat(underTest.remove(CHANNEL)).isNull();
+        assertThat(underTest.remove("x-custom")).isEqualTo(Header.of("x-custom", "value"));
+        assertThat(underTest.remove("x-missing")).isNull();
+        assertThat(underTest).isEmpty();
+    }
+
+    @Test
+    public void sharedMapsAreCopiedOnWrite() {
+        final IndexedHeaderMap original = IndexedHeaderMap.newInstance();
+        original.put(CHANNEL, Header.of(CHANNEL, "live"));
+        original.put("x-custom", Header.of("x-custom", "value"));
+
+        final IndexedHeaderMap copy = original.share();
+        copy.put(CHANNEL, Header.of(CHANNEL, "twin"));
+        copy.remove("x-custom");
+        original.put(CORRELATION_ID, Header.of(CORRELATION_ID, "id"));
+
+        assertThat(original).containsOnlyKeys(CHANNEL, "x-custom", CORRELATION_ID);
+        assertThat(original.get(CHANNEL).getValue()).isEqualTo("live");
+        assertThat(copy).containsOnlyKeys(CHANNEL);
+        assertThat(copy.get(CHANNEL).getValue()).isEqualTo("twin");
+    }
+
+    @Test
+    public void equalsAndHashCodeAreCompatibleWithOtherMaps() {
+        final Map<String, Header> expected = new LinkedHashMap<>();
+        expected.put("x-custom", Header.of("x-custom", "value"));
+        expected.put(CHANNEL, Header.of(CHANNEL, "live"));
+
+        final IndexedHeaderMap underTest = IndexedHeaderMap.of(expected);
+
+        assertThat(underTest).isEqualTo(expected);
+        assertThat(expected).isEqualTo(underTest);
+        assertThat(underTest.hashCode()).isEqualTo(expected.hashCode());
+        assertThat(underTest.toString()).isEqualTo("{" + CHANNEL + "=live, x-custom=value}");
+    }
+
+}
@@ -12,12 +12,17 @@
  */
 package org.eclipse.ditto.model.enforcers;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.Set;
 
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
 import org.eclipse.ditto.model.policies.Permissions;
@@ -89,6 +94,51 @@ public interface Enforcer {
     boolean hasUnrestrictedPermissions(ResourceKey resourceKey, AuthorizationContext authorizationContext,
             Permissions permissions);
 
+    /**
+     * Returns the resource paths of all leaves of the given {@code jsonValue} for which the {@code
+     * authorizationContext} does not have unrestricted {@code permissions} as defined by
+     * {@link #hasUnrestrictedPermissions(ResourceKey, AuthorizationContext, Permissions)}. The JSON value is located at
+     * {@code resourceKey}, the fields of a JSON object are located at the path of the object appended by their keys and
+     * all values which are no JSON objects are leaves. The null literal is a leaf, too, as it deletes the value at its
+     * path in a merge patch. An empty JSON object has no leaves.
+     * <p>
+     * The default implementation checks each leaf on its own. Implementations should override it to evaluate all leaves
+     * in a single pass, e.g. when enforcing a merge patch with many fields.
+     *
+     * @param resourceKey the ResourceKey (containing Resource type and path) at which {@code jsonValue} is located.
+     * @param jsonValue the JSON value whose leaves are checked.
+     * @param authorizationContext the authorization context to check.
+     * @param permissions the permissions to check.
+     * @return the resource paths of the denied leaves or an empty set if the permissions are given for all leaves.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @since 2.0.0
+     */
+    default Set<JsonPointer> getResourcePathsWithoutUnrestrictedPermissions(final ResourceKey resourceKey,
+            final JsonValue jsonValue,
+            final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        final Set<JsonPointer> result = new HashSet<>();
+        final Deque<JsonPointer> paths = new ArrayDeque<>();
+        final Deque<JsonValue> values = new ArrayDeque<>();
+        paths.push(resourceKey.getResourcePath());
+        values.push(jsonValue);
+        while (!paths.isEmpty()) {
+            final JsonPointer path = paths.pop();
+            final JsonValue value = values.pop();
+            if (value.isObject() && !value.isNull()) {
+                value.asObject().forEach(field -> {
+                    paths.push(path.append(field.getKey().asPointer()));
+                    values.push(field.getValue());
+                });
+            } else if (!hasUnrestrictedPermissions(ResourceKey.newInstance(resourceKey.getResourceType(), path),
+                    authorizationContext, permissions)) {
+                result.add(path);
+            }
+        }
+        return result;
+    }
+
     /**
      * Returns a set of subject ids each of which has all the given permissions granted on exactly the given resource,
      * and a set of subject ids each of which has 1 or more given permissions revoked on the given resource. Does not
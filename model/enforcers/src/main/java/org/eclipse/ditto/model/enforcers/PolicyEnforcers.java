@@ -12,8 +12,11 @@
  */
 package org.eclipse.ditto.model.enforcers;
 
+import java.util.Optional;
+
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.enforcers.tree.TreeBasedPolicyEnforcer;
 import org.eclipse.ditto.model.enforcers.trie.TrieBasedPolicyEnforcer;
 import org.eclipse.ditto.model.policies.Policy;
@@ -40,6 +43,32 @@ public final class PolicyEnforcers {
         return throughputOptimizedEvaluator(policy);
     }
 
+    /**
+     * Compiles the given Policy to the JSON form of the general purpose Enforcer. The result can be shipped to other
+     * services which restore the Enforcer by {@link #defaultEvaluatorFromCompiledPolicy(JsonObject)} without
+     * interpreting the Policy again.
+     *
+     * @param policy the Policy to compile.
+     * @return the compiled Policy.
+     * @throws NullPointerException if {@code policy} is {@code null}.
+     */
+    public static JsonObject compileDefaultEvaluator(final Policy policy) {
+        return TrieBasedPolicyEnforcer.newInstance(policy).toCompiledPolicy();
+    }
+
+    /**
+     * Restores the general purpose Enforcer from a Policy compiled by {@link #compileDefaultEvaluator(Policy)}.
+     *
+     * @param compiledPolicy the compiled Policy.
+     * @return the Enforcer or an empty Optional if {@code compiledPolicy} was compiled by a version with another
+     * format. In that case the Enforcer has to be initialized from the Policy itself.
+     * @throws NullPointerException if {@code compiledPolicy} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonParseException if {@code compiledPolicy} is malformed.
+     */
+    public static Optional<Enforcer> defaultEvaluatorFromCompiledPolicy(final JsonObject compiledPolicy) {
+        return TrieBasedPolicyEnforcer.fromCompiledPolicy(compiledPolicy).map(Enforcer.class::cast);
+    }
+
     /**
      * Returns a Enforcer which requires more memory (factor 2-4 more than {@link
      * #memoryOptimizedEvaluator(Policy)}) but delivers very high throughput for most of the Policies, especially good
@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * The tries of a {@link TrieBasedPolicyEnforcer} in a form which can be written to and read from JSON. This allows to
+ * compile a policy once where it is persisted instead of in each service which enforces it.
+ * <p>
+ * The inherited trie and the bottom-up tries have the same shape. Therefore they are written as one tree whose nodes
+ * hold the three grant-revoke-indices of the corresponding trie nodes. Subject IDs are interned in a table and
+ * referenced by their position: each permission of a grant-map or revoke-map is written as an array of alternating
+ * subject positions and weights.
+ */
+final class CompiledPolicyTries {
+
+    /**
+     * Version of the JSON format. Compiled policies of other versions are not read and have to be compiled again.
+     */
+    static final int FORMAT_VERSION = 1;
+
+    static final JsonFieldDefinition<Integer> VERSION = JsonFactory.newIntFieldDefinition("version");
+
+    private static final JsonFieldDefinition<JsonArray> SUBJECTS =
+            JsonFactory.newJsonArrayFieldDefinition("subjects");
+
+    private static final JsonFieldDefinition<JsonObject> ROOT = JsonFactory.newJsonObjectFieldDefinition("root");
+
+    private static final JsonFieldDefinition<JsonObject> INHERITED =
+            JsonFactory.newJsonObjectFieldDefinition("inherited");
+
+    private static final JsonFieldDefinition<JsonObject> BOTTOM_UP_GRANT =
+            JsonFactory.newJsonObjectFieldDefinition("bottomUpGrant");
+
+    private static final JsonFieldDefinition<JsonObject> BOTTOM_UP_REVOKE =
+            JsonFactory.newJsonObjectFieldDefinition("bottomUpRevoke");
+
+    private static final JsonFieldDefinition<JsonObject> CHILDREN =
+            JsonFactory.newJsonObjectFieldDefinition("children");
+
+    private static final JsonFieldDefinition<JsonObject> GRANTED =
+            JsonFactory.newJsonObjectFieldDefinition("granted");
+
+    private static final JsonFieldDefinition<JsonObject> REVOKED =
+            JsonFactory.newJsonObjectFieldDefinition("revoked");
+
+    private final PolicyTrie inheritedTrie;
+    private final PolicyTrie bottomUpGrantTrie;
+    private final PolicyTrie bottomUpRevokeTrie;
+
+    private CompiledPolicyTries(final PolicyTrie inheritedTrie, final PolicyTrie bottomUpGrantTrie,
+            final PolicyTrie bottomUpRevokeTrie) {
+
+        this.inheritedTrie = checkNotNull(inheritedTrie, "inherited trie");
+        this.bottomUpGrantTrie = checkNotNull(bottomUpGrantTrie, "bottom-up grant trie");
+        this.bottomUpRevokeTrie = checkNotNull(bottomUpRevokeTrie, "bottom-up revoke trie");
+    }
+
+    /**
+     * Returns the compiled form of the given tries.
+     *
+     * @param inheritedTrie the trie with grants and revokes pushed down from ancestors to descendants.
+     * @param bottomUpGrantTrie the inherited trie with grants pushed up from descendants to ancestors.
+     * @param bottomUpRevokeTrie the inherited trie with revokes pushed up from descendants to ancestors.
+     * @return the compiled tries.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    static CompiledPolicyTries of(final PolicyTrie inheritedTrie, final PolicyTrie bottomUpGrantTrie,
+            final PolicyTrie bottomUpRevokeTrie) {
+
+        return new CompiledPolicyTries(inheritedTrie, bottomUpGrantTrie, bottomUpRevokeTrie);
+    }
+
+    /**
+     * Reads compiled tries from the given JSON object.
+     *
+     * @param jsonObject the JSON object written by {@link #toJson()}.
+     * @return the compiled tries or an empty Optional if {@code jsonObject} was written in another format version.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws JsonParseException if {@code jsonObject} has the current format version but is malformed.
+     */
+    static Optional<CompiledPolicyTries> fromJson(final JsonObject jsonObject) {
+        checkNotNull(jsonObject, "JSON object of compiled policy tries");
+        final boolean isCurrentFormat = jsonObject.getValue(VERSION)
+                .filter(version -> FORMAT_VERSION == version)
+                .isPresent();
+        if (!isCurrentFormat) {
+            return Optional.empty();
+        }
+
+        try {
+            final String[] subjectIds = jsonObject.getValueOrThrow(SUBJECTS)
+                    .stream()
+                    .map(JsonValue::asString)
+                    .toArray(String[]::new);
+            final JsonObject root = jsonObject.getValueOrThrow(ROOT);
+
+            return Optional.of(new CompiledPolicyTries(readTrie(root, INHERITED, subjectIds),
+                    readTrie(root, BOTTOM_UP_GRANT, subjectIds),
+                    readTrie(root, BOTTOM_UP_REVOKE, subjectIds)));
+        } catch (final RuntimeException e) {
+            throw JsonParseException.newBuilder()
+                    .message("The compiled policy tries are malformed: " + e.getMessage())
+                    .cause(e)
+                    .build();
+        }
+    }
+
+    private static PolicyTrie readTrie(final JsonObject node, final JsonFieldDefinition<JsonObject> indexField,
+            final String[] subjectIds) {
+
+        final GrantRevokeIndex grantRevokeIndex = readGrantRevokeIndex(node.getValueOrThrow(indexField), subjectIds);
+        final Map<JsonKey, PolicyTrie> children = new HashMap<>();
+        node.getValue(CHILDREN).ifPresent(childNodes -> childNodes.forEach(childNode ->
+                children.put(childNode.getKey(), readTrie(childNode.getValue().asObject(), indexField, subjectIds))));
+
+        return PolicyTrie.of(grantRevokeIndex, children);
+    }
+
+    private static GrantRevokeIndex readGrantRevokeIndex(final JsonObject grantRevokeIndex,
+            final String[] subjectIds) {
+
+        return new GrantRevokeIndex(readPermissionSubjectsMap(grantRevokeIndex.getValueOrThrow(GRANTED), subjectIds),
+                readPermissionSubjectsMap(grantRevokeIndex.getValueOrThrow(REVOKED), subjectIds));
+    }
+
+    private static PermissionSubjectsMap readPermissionSubjectsMap(final JsonObject permissionSubjects,
+            final String[] subjectIds) {
+
+        final PermissionSubjectsMap result = new PermissionSubjectsMap();
+        permissionSubjects.forEach(permissionField -> {
+            final JsonArray subjectWeights = permissionField.getValue().asArray();
+            final Map<String, Integer> subjectWeightMap = new HashMap<>();
+            final Iterator<JsonValue> iterator = subjectWeights.iterator();
+            while (iterator.hasNext()) {
+                final String subjectId = subjectIds[iterator.next().asInt()];
+                subjectWeightMap.put(subjectId, iterator.next().asInt());
+            }
+            result.put(permissionField.getKeyName(), subjectWeightMap);
+        });
+        return result;
+    }
+
+    /**
+     * Writes these tries as JSON object.
+     *
+     * @return the JSON object.
+     */
+    JsonObject toJson() {
+        final Map<String, Integer> subjectPositions = new LinkedHashMap<>();
+        final JsonObject root = writeNode(inheritedTrie, bottomUpGrantTrie, bottomUpRevokeTrie, subjectPositions);
+        final JsonArrayBuilder subjects = JsonFactory.newArrayBuilder();
+        subjectPositions.keySet().forEach(subjects::add);
+
+        return JsonFactory.newObjectBuilder()
+                .set(VERSION, FORMAT_VERSION)
+                .set(SUBJECTS, subjects.build())
+                .set(ROOT, root)
+                .build();
+    }
+
+    private static JsonObject writeNode(final PolicyTrie inheritedNode, final PolicyTrie bottomUpGrantNode,
+            final PolicyTrie bottomUpRevokeNode, final Map<String, Integer> subjectPositions) {
+
+        final JsonObjectBuilder nodeBuilder = JsonFactory.newObjectBuilder()
+                .set(INHERITED, writeGrantRevokeIndex(inheritedNode.getGrantRevokeIndex(), subjectPositions))
+                .set(BOTTOM_UP_GRANT, writeGrantRevokeIndex(bottomUpGrantNode.getGrantRevokeIndex(), subjectPositions))
+                .set(BOTTOM_UP_REVOKE,
+                        writeGrantRevokeIndex(bottomUpRevokeNode.getGrantRevokeIndex(), subjectPositions));
+
+        final Map<JsonKey, PolicyTrie> children = inheritedNode.getChildren();
+        if (!children.isEmpty()) {
+            final JsonObjectBuilder childrenBuilder = JsonFactory.newObjectBuilder();
+            children.forEach((key, inheritedChild) -> childrenBuilder.set(key,
+                    writeNode(inheritedChild, bottomUpGrantNode.getChildren().get(key),
+                            bottomUpRevokeNode.getChildren().get(key), subjectPositions)));
+            nodeBuilder.set(CHILDREN, childrenBuilder.build());
+        }
+
+        return nodeBuilder.build();
+    }
+
+    private static JsonObject writeGrantRevokeIndex(final GrantRevokeIndex grantRevokeIndex,
+            final Map<String, Integer> subjectPositions) {
+
+        return JsonFactory.newObjectBuilder()
+                .set(GRANTED, writePermissionSubjectsMap(grantRevokeIndex.getGranted(), subjectPositions))
+                .set(REVOKED, writePermissionSubjectsMap(grantRevokeIndex.getRevoked(), subjectPositions))
+                .build();
+    }
+
+    private static JsonObject writePermissionSubjectsMap(final PermissionSubjectsMap permissionSubjectsMap,
+            final Map<String, Integer> subjectPositions) {
+
+        final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
+        permissionSubjectsMap.forEach((permission, subjectWeights) -> {
+            final JsonArrayBuilder subjectWeightsBuilder = JsonFactory.newArrayBuilder();
+            subjectWeights.forEach((subjectId, weight) -> subjectWeightsBuilder.add(
+                    subjectPositions.computeIfAbsent(subjectId, newSubjectId -> subjectPositions.size()),
+                    weight));
+            builder.set(JsonKey.of(permission), subjectWeightsBuilder.build());
+        });
+        return builder.build();
+    }
+
+    /**
+     * Returns the trie with grants and revokes pushed down from ancestors to descendants.
+     *
+     * @return the inherited trie.
+     */
+    PolicyTrie getInheritedTrie() {
+        return inheritedTrie;
+    }
+
+    /**
+     * Returns the inherited trie with grants pushed up from descendants to ancestors.
+     *
+     * @return the bottom-up grant trie.
+     */
+    PolicyTrie getBottomUpGrantTrie() {
+        return bottomUpGrantTrie;
+    }
+
+    /**
+     * Returns the inherited trie with revokes pushed up from descendants to ancestors.
+     *
+     * @return the bottom-up revoke trie.
+     */
+    PolicyTrie getBottomUpRevokeTrie() {
+        return bottomUpRevokeTrie;
+    }
+
+}
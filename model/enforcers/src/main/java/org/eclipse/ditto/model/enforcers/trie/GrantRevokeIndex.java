@@ -20,6 +20,8 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
 import org.eclipse.ditto.model.enforcers.DefaultEffectedSubjects;
 import org.eclipse.ditto.model.enforcers.EffectedSubjectIds;
@@ -28,11 +30,17 @@ import org.eclipse.ditto.model.enforcers.ImmutableEffectedSubjectIds;
 
 /**
  * Index of granted/revoked permissions and subjects for a policy resource.
+ * <p>
+ * An index is either built as a pair of {@link PermissionSubjectsMap}s which can be mutated or compacted to a pair of
+ * read-only {@link PermissionSubjectWeights}, see {@link #compact(InternedSubjectIds)}.
+ * </p>
  */
 final class GrantRevokeIndex {
 
-    private final PermissionSubjectsMap grantMap;
-    private final PermissionSubjectsMap revokeMap;
+    @Nullable private final PermissionSubjectsMap grantMap;
+    @Nullable private final PermissionSubjectsMap revokeMap;
+    @Nullable private final PermissionSubjectWeights grantWeights;
+    @Nullable private final PermissionSubjectWeights revokeWeights;
 
     /**
      * Creates an empty {@code GrantRevokeIndex}.
@@ -51,24 +59,56 @@ final class GrantRevokeIndex {
     GrantRevokeIndex(final PermissionSubjectsMap grantMap, final PermissionSubjectsMap revokeMap) {
         this.grantMap = checkNotNull(grantMap, "grant map");
         this.revokeMap = checkNotNull(revokeMap, "revoke map");
+        grantWeights = null;
+        revokeWeights = null;
+    }
+
+    private GrantRevokeIndex(final PermissionSubjectWeights grantWeights,
+            final PermissionSubjectWeights revokeWeights) {
+
+        grantMap = null;
+        revokeMap = null;
+        this.grantWeights = grantWeights;
+        this.revokeWeights = revokeWeights;
     }
 
     /**
-     * Returns the map of permissions granted to subjects.
+     * Returns a copy of this {@code GrantRevokeIndex} which holds its grant-map and its revoke-map as
+     * {@link PermissionSubjectWeights} only in order to check permissions without allocating objects. The subject IDs
+     * are interned in the given table. The returned index must not be mutated by {@link #overrideBy(GrantRevokeIndex)}.
+     *
+     * @param subjectIds the table of interned subject IDs.
+     * @return the compacted copy or this index if it is already compacted.
+     * @throws NullPointerException if {@code subjectIds} is {@code null}.
+     */
+    GrantRevokeIndex compact(final InternedSubjectIds subjectIds) {
+        if (null == grantMap || null == revokeMap) {
+            return this;
+        }
+        return new GrantRevokeIndex(PermissionSubjectWeights.of(grantMap, subjectIds),
+                PermissionSubjectWeights.of(revokeMap, subjectIds));
+    }
+
+    /**
+     * Returns the map of permissions granted to subjects. A compacted index returns a new map restored from its
+     * weights.
      *
      * @return The grant-map.
      */
+    @SuppressWarnings("ConstantConditions")
     PermissionSubjectsMap getGranted() {
-        return grantMap;
+        return null != grantMap ? grantMap : grantWeights.toPermissionSubjectsMap();
     }
 
     /**
-     * Returns the map of permissions revoked from subjects.
+     * Returns the map of permissions revoked from subjects. A compacted index returns a new map restored from its
+     * weights.
      *
      * @return The revoke-map.
      */
+    @SuppressWarnings("ConstantConditions")
     PermissionSubjectsMap getRevoked() {
-        return revokeMap;
+        return null != revokeMap ? revokeMap : revokeWeights.toPermissionSubjectsMap();
     }
 
     /**
@@ -77,7 +117,8 @@ final class GrantRevokeIndex {
      * @return A copy of {@code this} with decremented weight.
      */
     GrantRevokeIndex copyWithDecrementedWeight() {
-        return new GrantRevokeIndex(grantMap.copyWithDecrementedWeight(), revokeMap.copyWithDecrementedWeight());
+        return new GrantRevokeIndex(getGranted().copyWithDecrementedWeight(),
+                getRevoked().copyWithDecrementedWeight());
     }
 
     /**
@@ -88,11 +129,17 @@ final class GrantRevokeIndex {
      * grant-set and added to the revoke-set of this object.
      * @return This object after the mutation.
      * @throws NullPointerException if {@code update} is {@code null}.
+     * @throws IllegalStateException if this index is compacted.
      */
     GrantRevokeIndex overrideBy(final GrantRevokeIndex update) {
         checkNotNull(update, "update");
-        grantMap.addAllEntriesFrom(update.grantMap).removeAllEntriesFrom(update.revokeMap);
-        revokeMap.removeAllEntriesFrom(update.grantMap).addAllEntriesFrom(update.revokeMap);
+        if (null == grantMap || null == revokeMap) {
+            throw new IllegalStateException("A compacted GrantRevokeIndex must not be mutated!");
+        }
+        final PermissionSubjectsMap updateGrantMap = update.getGranted();
+        final PermissionSubjectsMap updateRevokeMap = update.getRevoked();
+        grantMap.addAllEntriesFrom(updateGrantMap).removeAllEntriesFrom(updateRevokeMap);
+        revokeMap.removeAllEntriesFrom(updateGrantMap).addAllEntriesFrom(updateRevokeMap);
         return this;
     }
 
@@ -105,13 +152,41 @@ final class GrantRevokeIndex {
      * @return Result of the check.
      * @throws NullPointerException if any argument is {@code null}.
      */
+    @SuppressWarnings("ConstantConditions")
     boolean hasPermissions(final Collection<String> subjectIds, final Collection<String> permissions) {
+        if (null != grantWeights && null != revokeWeights) {
+            return hasPermissions(grantWeights, revokeWeights, subjectIds, permissions);
+        }
         final Optional<Integer> grantWeight = grantMap.getMaxNonemptyWeightForAllPermissions(subjectIds, permissions);
         final Optional<Integer> revokeWeight = revokeMap.getMaxWeightForAllPermissions(subjectIds, permissions);
 
         return grantWeight.isPresent() && (!revokeWeight.isPresent() || revokeWeight.get() < grantWeight.get());
     }
 
+    private static boolean hasPermissions(final PermissionSubjectWeights grantWeights,
+            final PermissionSubjectWeights revokeWeights, final Collection<String> subjectIds,
+            final Collection<String> permissions) {
+
+        int grantWeight = PermissionSubjectWeights.NO_WEIGHT;
+        for (final String permission : permissions) {
+            final int permissionGrantWeight = grantWeights.getMaxWeight(permission, subjectIds);
+            if (PermissionSubjectWeights.NO_WEIGHT == permissionGrantWeight) {
+                return false;
+            }
+            grantWeight = Math.max(grantWeight, permissionGrantWeight);
+        }
+        if (PermissionSubjectWeights.NO_WEIGHT == grantWeight) {
+            // no permissions to check
+            return false;
+        }
+
+        int revokeWeight = PermissionSubjectWeights.NO_WEIGHT;
+        for (final String permission : permissions) {
+            revokeWeight = Math.max(revokeWeight, revokeWeights.getMaxWeight(permission, subjectIds));
+        }
+        return revokeWeight < grantWeight;
+    }
+
     /**
      * Returns the set of authorization subject IDs for whom <em>all</em> of the given permissions are granted, and the
      * set of authorization subject IDs for whom <em>any</em> of the given permissions are revoked.
@@ -151,7 +226,7 @@ final class GrantRevokeIndex {
     @Deprecated
     Set<String> getGrantedSubjectIds(final Set<String> permissions) {
         checkNotNull(permissions, "permissions to check");
-        return grantMap.getSubjectIntersect(permissions).keySet();
+        return getGrantedSubjectIdSet(permissions);
     }
 
     /**
@@ -162,7 +237,23 @@ final class GrantRevokeIndex {
      */
     Set<AuthorizationSubject> getGrantedSubjects(final Set<String> permissions) {
         checkNotNull(permissions, "permissions to check");
-        return getAuthorizationSubjects(grantMap.getSubjectIntersect(permissions).keySet());
+        return getAuthorizationSubjects(getGrantedSubjectIdSet(permissions));
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    private Set<String> getGrantedSubjectIdSet(final Set<String> permissions) {
+        if (null != grantWeights) {
+            return grantWeights.getSubjectIntersect(permissions);
+        }
+        return grantMap.getSubjectIntersect(permissions).keySet();
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    private Set<String> getRevokedSubjectIdSet(final Set<String> permissions) {
+        if (null != revokeWeights) {
+            return revokeWeights.getSubjectUnion(permissions);
+        }
+        return revokeMap.getSubjectUnion(permissions).keySet();
     }
 
     private static Set<AuthorizationSubject> getAuthorizationSubjects(final Collection<String> authSubjectIds) {
@@ -177,12 +268,12 @@ final class GrantRevokeIndex {
     @Deprecated
     Set<String> getRevokedSubjectIds(final Set<String> permissions) {
         checkNotNull(permissions, "permissions to check");
-        return revokeMap.getSubjectUnion(permissions).keySet();
+        return getRevokedSubjectIdSet(permissions);
     }
 
     Set<AuthorizationSubject> getRevokedSubjects(final Set<String> permissions) {
         checkNotNull(permissions, "permissions to check");
-        return getAuthorizationSubjects(revokeMap.getSubjectUnion(permissions).keySet());
+        return getAuthorizationSubjects(getRevokedSubjectIdSet(permissions));
     }
 
     @Override
@@ -194,19 +285,19 @@ final class GrantRevokeIndex {
             return false;
         }
         final GrantRevokeIndex that = (GrantRevokeIndex) o;
-        return Objects.equals(grantMap, that.grantMap) && Objects.equals(revokeMap, that.revokeMap);
+        return Objects.equals(getGranted(), that.getGranted()) && Objects.equals(getRevoked(), that.getRevoked());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(grantMap, revokeMap);
+        return Objects.hash(getGranted(), getRevoked());
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
-                "grantMap=" + grantMap +
-                ", revokeMap=" + revokeMap +
+                "grantMap=" + getGranted() +
+                ", revokeMap=" + getRevoked() +
                 "]";
     }
 
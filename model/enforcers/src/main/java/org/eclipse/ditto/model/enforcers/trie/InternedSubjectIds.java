@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Table of the authorization subject IDs of a policy which assigns each subject ID a position, i. e. a small
+ * non-negative int. The table is filled while the tries of a {@link TrieBasedPolicyEnforcer} are compacted and only
+ * read afterwards.
+ */
+@NotThreadSafe
+final class InternedSubjectIds {
+
+    /**
+     * Position of subject IDs which are not contained in the table.
+     */
+    static final int UNKNOWN_POSITION = -1;
+
+    private final Map<String, Integer> positions;
+    private final List<String> subjectIds;
+
+    /**
+     * Constructs a new empty {@code InternedSubjectIds} table.
+     */
+    InternedSubjectIds() {
+        positions = new HashMap<>();
+        subjectIds = new ArrayList<>();
+    }
+
+    /**
+     * Returns the position of the given subject ID and adds it to the table if it was not contained yet.
+     *
+     * @param subjectId the subject ID.
+     * @return the position of the subject ID.
+     * @throws NullPointerException if {@code subjectId} is {@code null}.
+     */
+    int intern(final String subjectId) {
+        checkNotNull(subjectId, "subject ID");
+        return positions.computeIfAbsent(subjectId, newSubjectId -> {
+            subjectIds.add(newSubjectId);
+            return subjectIds.size() - 1;
+        });
+    }
+
+    /**
+     * Returns the position of the given subject ID.
+     *
+     * @param subjectId the subject ID.
+     * @return the position or {@link #UNKNOWN_POSITION} if the subject ID is not contained in the table.
+     */
+    int getPosition(final String subjectId) {
+        final Integer position = positions.get(subjectId);
+        return null != position ? position : UNKNOWN_POSITION;
+    }
+
+    /**
+     * Returns the subject ID at the given position.
+     *
+     * @param position the position of a subject ID in this table.
+     * @return the subject ID.
+     * @throws IndexOutOfBoundsException if {@code position} is not the position of a subject ID in this table.
+     */
+    String getSubjectId(final int position) {
+        return subjectIds.get(position);
+    }
+
+    /**
+     * Returns the number of subject IDs in this table.
+     *
+     * @return the size.
+     */
+    int size() {
+        return positions.size();
+    }
+
+}
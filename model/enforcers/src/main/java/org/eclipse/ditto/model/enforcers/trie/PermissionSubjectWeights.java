@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Read-only and compact form of a {@link PermissionSubjectsMap} to check permissions.
+ * <p>
+ * Subject IDs are replaced by their positions in an {@link InternedSubjectIds} table which is shared by all nodes of
+ * the tries of an enforcer. For each permission the positions of the related subjects are held in a sorted int array
+ * and their weights in a parallel int array. Looking up the weight of a subject is therefore a binary search in a
+ * primitive array which does not allocate any objects. The relation can be restored as {@link PermissionSubjectsMap}
+ * for the rare cases which need it, e. g. serializing the tries of an enforcer.
+ */
+final class PermissionSubjectWeights {
+
+    /**
+     * Weight of subjects which are not related to a permission. It is smaller than any weight of a related subject.
+     */
+    static final int NO_WEIGHT = Integer.MIN_VALUE;
+
+    private final InternedSubjectIds subjectIds;
+    private final String[] permissions;
+    private final int[][] subjectPositions;
+    private final int[][] weights;
+
+    private PermissionSubjectWeights(final InternedSubjectIds subjectIds, final String[] permissions,
+            final int[][] subjectPositions, final int[][] weights) {
+
+        this.subjectIds = subjectIds;
+        this.permissions = permissions;
+        this.subjectPositions = subjectPositions;
+        this.weights = weights;
+    }
+
+    /**
+     * Returns the compact form of the given relation and interns its subject IDs in the given table.
+     *
+     * @param permissionSubjectsMap the relation of permissions and subjects.
+     * @param subjectIds the table of interned subject IDs.
+     * @return the compact form.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    static PermissionSubjectWeights of(final PermissionSubjectsMap permissionSubjectsMap,
+            final InternedSubjectIds subjectIds) {
+
+        checkNotNull(permissionSubjectsMap, "permission subjects map");
+        checkNotNull(subjectIds, "interned subject IDs");
+
+        final int size = permissionSubjectsMap.size();
+        final String[] permissions = new String[size];
+        final int[][] subjectPositions = new int[size][];
+        final int[][] weights = new int[size][];
+
+        int i = 0;
+        for (final Map.Entry<String, Map<String, Integer>> entry : permissionSubjectsMap.entrySet()) {
+            final long[] positionsWithWeights = getSortedPositionsWithWeights(entry.getValue(), subjectIds);
+            permissions[i] = entry.getKey();
+            subjectPositions[i] = new int[positionsWithWeights.length];
+            weights[i] = new int[positionsWithWeights.length];
+            for (int j = 0; j < positionsWithWeights.length; j++) {
+                subjectPositions[i][j] = (int) (positionsWithWeights[j] >>> Integer.SIZE);
+                weights[i][j] = (int) positionsWithWeights[j];
+            }
+            i++;
+        }
+
+        return new PermissionSubjectWeights(subjectIds, permissions, subjectPositions, weights);
+    }
+
+    /*
+     * Packs each subject position into the upper and its weight into the lower half of a long. As positions are
+     * non-negative, sorting the longs sorts the pairs by position.
+     */
+    private static long[] getSortedPositionsWithWeights(final Map<String, Integer> subjectWeights,
+            final InternedSubjectIds subjectIds) {
+
+        final long[] result = new long[subjectWeights.size()];
+        int i = 0;
+        for (final Map.Entry<String, Integer> subjectWeight : subjectWeights.entrySet()) {
+            final long position = subjectIds.intern(subjectWeight.getKey());
+            result[i++] = (position << Integer.SIZE) | (subjectWeight.getValue() & 0xFFFFFFFFL);
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * Returns the maximum weight of the given subject IDs which are related to the given permission.
+     *
+     * @param permission the permission to check.
+     * @param subjectIdsToCheck the subject IDs to check.
+     * @return the maximum weight or {@link #NO_WEIGHT} if none of the subject IDs is related to the permission.
+     */
+    int getMaxWeight(final String permission, final Iterable<String> subjectIdsToCheck) {
+        final int permissionIndex = indexOf(permission);
+        if (0 > permissionIndex) {
+            return NO_WEIGHT;
+        }
+
+        final int[] positions = subjectPositions[permissionIndex];
+        int result = NO_WEIGHT;
+        for (final String subjectId : subjectIdsToCheck) {
+            final int position = subjectIds.getPosition(subjectId);
+            if (InternedSubjectIds.UNKNOWN_POSITION != position) {
+                final int index = Arrays.binarySearch(positions, position);
+                if (0 <= index) {
+                    result = Math.max(result, weights[permissionIndex][index]);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the subject IDs each of which is related to <em>all</em> of the given permissions which are contained
+     * in this relation, like {@link PermissionSubjectsMap#getSubjectIntersect(Set)}.
+     *
+     * @param permissionsToCheck the permissions to check.
+     * @return the subject IDs.
+     * @throws NullPointerException if {@code permissionsToCheck} is {@code null}.
+     */
+    Set<String> getSubjectIntersect(final Set<String> permissionsToCheck) {
+        checkNotNull(permissionsToCheck, "permissions to check");
+        int[] result = null;
+        for (int i = 0; i < permissions.length; i++) {
+            if (permissionsToCheck.contains(permissions[i])) {
+                result = null == result ? subjectPositions[i] : intersect(result, subjectPositions[i]);
+            }
+        }
+        return null == result ? new HashSet<>() : toSubjectIds(result);
+    }
+
+    /**
+     * Returns the subject IDs each of which is related to <em>any</em> of the given permissions, like
+     * {@link PermissionSubjectsMap#getSubjectUnion(Set)}.
+     *
+     * @param permissionsToCheck the permissions to check.
+     * @return the subject IDs.
+     * @throws NullPointerException if {@code permissionsToCheck} is {@code null}.
+     */
+    Set<String> getSubjectUnion(final Set<String> permissionsToCheck) {
+        checkNotNull(permissionsToCheck, "permissions to check");
+        final Set<String> result = new HashSet<>();
+        for (int i = 0; i < permissions.length; i++) {
+            if (permissionsToCheck.contains(permissions[i])) {
+                result.addAll(toSubjectIds(subjectPositions[i]));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Restores the relation of permissions and subjects this compact form was created from.
+     *
+     * @return a new relation with the same permissions, subjects and weights.
+     */
+    PermissionSubjectsMap toPermissionSubjectsMap() {
+        final PermissionSubjectsMap result = new PermissionSubjectsMap();
+        for (int i = 0; i < permissions.length; i++) {
+            final Map<String, Integer> subjectWeights = new HashMap<>();
+            for (int j = 0; j < subjectPositions[i].length; j++) {
+                subjectWeights.put(subjectIds.getSubjectId(subjectPositions[i][j]), weights[i][j]);
+            }
+            result.put(permissions[i], subjectWeights);
+        }
+        return result;
+    }
+
+    private static int[] intersect(final int[] sortedPositions, final int[] otherSortedPositions) {
+        final int[] result = new int[Math.min(sortedPositions.length, otherSortedPositions.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < sortedPositions.length && j < otherSortedPositions.length) {
+            if (sortedPositions[i] < otherSortedPositions[j]) {
+                i++;
+            } else if (sortedPositions[i] > otherSortedPositions[j]) {
+                j++;
+            } else {
+                result[size++] = sortedPositions[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private Set<String> toSubjectIds(final int[] positions) {
+        final Set<String> result = new HashSet<>();
+        for (final int position : positions) {
+            result.add(subjectIds.getSubjectId(position));
+        }
+        return result;
+    }
+
+    // a policy uses only a handful of permissions, thus a linear search is the fastest
+    private int indexOf(final String permission) {
+        for (int i = 0; i < permissions.length; i++) {
+            if (permissions[i].equals(permission)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+}
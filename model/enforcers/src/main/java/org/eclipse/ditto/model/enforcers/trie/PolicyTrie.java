@@ -67,6 +67,18 @@ final class PolicyTrie {
         this.children = children;
     }
 
+    /**
+     * Creates a trie node from its grant-revoke-index and its children. Used to restore a trie from its compiled form.
+     *
+     * @param grantRevokeIndex the grant-revoke-index of the node.
+     * @param children the children of the node.
+     * @return the trie node.
+     * @see CompiledPolicyTries
+     */
+    static PolicyTrie of(final GrantRevokeIndex grantRevokeIndex, final Map<JsonKey, PolicyTrie> children) {
+        return new PolicyTrie(grantRevokeIndex, children);
+    }
+
     /**
      * Interprets a {@link org.eclipse.ditto.model.policies.Policy} as trie. For each policy entry, a map from
      * granted/revoked permissions to their corresponding subjects is added to a trie node at the exact location of the
@@ -218,6 +230,29 @@ final class PolicyTrie {
         return new PolicyTrie(newGrantRevokeMap, newChildren);
     }
 
+    /**
+     * Returns a copy of this trie whose grant-revoke-indices are compacted with subject IDs interned in the given
+     * table. The returned trie is meant for permission checks only and must not be modified.
+     *
+     * @param subjectIds the table of interned subject IDs shared by all tries of an enforcer.
+     * @return the compacted copy of this trie.
+     * @see GrantRevokeIndex#compact(InternedSubjectIds)
+     */
+    PolicyTrie compact(final InternedSubjectIds subjectIds) {
+        final Map<JsonKey, PolicyTrie> newChildren = new HashMap<>(children.size());
+        children.forEach((key, child) -> newChildren.put(key, child.compact(subjectIds)));
+        return new PolicyTrie(grantRevokeIndex.compact(subjectIds), newChildren);
+    }
+
+    /**
+     * Returns the children of this node.
+     *
+     * @return the children by the keys of their edges.
+     */
+    Map<JsonKey, PolicyTrie> getChildren() {
+        return children;
+    }
+
     /**
      * Returns whether a child exists for the given key.
      *
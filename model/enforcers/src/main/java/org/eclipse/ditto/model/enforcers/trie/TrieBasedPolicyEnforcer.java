@@ -14,12 +14,19 @@ package org.eclipse.ditto.model.enforcers.trie;
 
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonKey;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
 import org.eclipse.ditto.model.enforcers.EffectedSubjectIds;
@@ -51,6 +58,10 @@ import org.eclipse.ditto.model.policies.ResourceKey;
  * Each trie node has a {@link GrantRevokeIndex}, which maps each permission to the set of granted authorization
  * subjects and the set of revoked authorization subjects. The grant-revoke-indices are calculated in 4 different ways
  * to produce 4 tries of the same shape. 3 of those tries are used for policy enforcement.
+ * <p>
+ * The tries used for policy enforcement are compacted: the subject IDs of the policy are interned to ints and the
+ * grant-revoke-indices additionally hold the weights of the granted and revoked subjects per permission in primitive
+ * arrays sorted by interned subject ID. Permission checks thus do not need to stream over maps of subject IDs.
  * <ol>
  * <li><em>Raw Trie:</em>
  * For each policy entry, pairs of permissions and their granted/revoked subjects are added to the trie node at the
@@ -92,9 +103,18 @@ public final class TrieBasedPolicyEnforcer implements Enforcer {
 
     private TrieBasedPolicyEnforcer(final Iterable<PolicyEntry> policy) {
         final PolicyTrie rawTree = PolicyTrie.fromPolicy(policy);
-        inheritedTrie = rawTree.getTransitiveClosure();
-        bottomUpGrantTrie = inheritedTrie.getBottomUpGrantTrie();
-        bottomUpRevokeTrie = inheritedTrie.getBottomUpRevokeTrie();
+        final PolicyTrie transitiveClosure = rawTree.getTransitiveClosure();
+        final InternedSubjectIds subjectIds = new InternedSubjectIds();
+        inheritedTrie = transitiveClosure.compact(subjectIds);
+        bottomUpGrantTrie = transitiveClosure.getBottomUpGrantTrie().compact(subjectIds);
+        bottomUpRevokeTrie = transitiveClosure.getBottomUpRevokeTrie().compact(subjectIds);
+    }
+
+    private TrieBasedPolicyEnforcer(final CompiledPolicyTries compiledPolicyTries) {
+        final InternedSubjectIds subjectIds = new InternedSubjectIds();
+        inheritedTrie = compiledPolicyTries.getInheritedTrie().compact(subjectIds);
+        bottomUpGrantTrie = compiledPolicyTries.getBottomUpGrantTrie().compact(subjectIds);
+        bottomUpRevokeTrie = compiledPolicyTries.getBottomUpRevokeTrie().compact(subjectIds);
     }
 
     /**
@@ -108,6 +128,30 @@ public final class TrieBasedPolicyEnforcer implements Enforcer {
         return new TrieBasedPolicyEnforcer(checkNotNull(policy, "policy to interpret"));
     }
 
+    /**
+     * Restores a trie-based policy enforcer from the compiled policy of {@link #toCompiledPolicy()} without
+     * interpreting the policy again.
+     *
+     * @param compiledPolicy the compiled policy.
+     * @return the policy enforcer or an empty Optional if {@code compiledPolicy} was written in a format which is not
+     * supported by this version.
+     * @throws NullPointerException if {@code compiledPolicy} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonParseException if {@code compiledPolicy} is malformed.
+     */
+    public static Optional<TrieBasedPolicyEnforcer> fromCompiledPolicy(final JsonObject compiledPolicy) {
+        return CompiledPolicyTries.fromJson(compiledPolicy).map(TrieBasedPolicyEnforcer::new);
+    }
+
+    /**
+     * Returns the compiled policy of this enforcer, i.e. its tries as JSON object with interned subject IDs.
+     *
+     * @return the compiled policy.
+     * @see #fromCompiledPolicy(JsonObject)
+     */
+    public JsonObject toCompiledPolicy() {
+        return CompiledPolicyTries.of(inheritedTrie, bottomUpGrantTrie, bottomUpRevokeTrie).toJson();
+    }
+
     /**
      * {@inheritDoc}
      * <p>
@@ -126,6 +170,64 @@ public final class TrieBasedPolicyEnforcer implements Enforcer {
         return grantRevokeIndex.hasPermissions(authorizationContext.getAuthorizationSubjectIds(), permissions);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The JSON value and the tries are traversed together, thus each leaf is checked against the same trie node as by
+     * {@link #hasUnrestrictedPermissions(ResourceKey, AuthorizationContext, Permissions)} without seeking it from the
+     * root of the tries.
+     */
+    @Override
+    public Set<JsonPointer> getResourcePathsWithoutUnrestrictedPermissions(final ResourceKey resourceKey,
+            final JsonValue jsonValue,
+            final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkNotNull(jsonValue, "JSON value");
+        checkNotNull(authorizationContext, "authorization context");
+        checkPermissions(permissions);
+
+        final PolicyTrie exactRevokeNode =
+                bottomUpRevokeTrie.seekToExactNode(PolicyTrie.getJsonKeyIterator(resourceKey)).orElse(null);
+        final PolicyTrie inheritedNode = inheritedTrie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey));
+        final Set<JsonPointer> result = new HashSet<>();
+        collectResourcePathsWithoutUnrestrictedPermissions(resourceKey.getResourcePath(), jsonValue, exactRevokeNode,
+                inheritedNode, authorizationContext.getAuthorizationSubjectIds(), permissions, result);
+
+        return result;
+    }
+
+    /*
+     * exactRevokeNode is the node of bottomUpRevokeTrie at exactly the path of jsonValue or null if the policy does not
+     * mention the path. inheritedNode is the node of inheritedTrie at the path or at its least ancestor. As both tries
+     * have the same shape, inheritedNode is at exactly the path whenever exactRevokeNode is not null.
+     */
+    private static void collectResourcePathsWithoutUnrestrictedPermissions(final JsonPointer path,
+            final JsonValue jsonValue,
+            @Nullable final PolicyTrie exactRevokeNode,
+            final PolicyTrie inheritedNode,
+            final Collection<String> subjectIds,
+            final Permissions permissions,
+            final Set<JsonPointer> result) {
+
+        if (jsonValue.isObject() && !jsonValue.isNull()) {
+            for (final JsonField field : jsonValue.asObject()) {
+                final JsonKey key = field.getKey();
+                final PolicyTrie revokeChild = null != exactRevokeNode ? exactRevokeNode.getChildren().get(key) : null;
+                final PolicyTrie inheritedChild =
+                        null != revokeChild ? inheritedNode.getChildren().get(key) : inheritedNode;
+                collectResourcePathsWithoutUnrestrictedPermissions(path.append(key.asPointer()), field.getValue(),
+                        revokeChild, inheritedChild, subjectIds, permissions, result);
+            }
+        } else {
+            final PolicyTrie policyTrie = null != exactRevokeNode ? exactRevokeNode : inheritedNode;
+            if (!policyTrie.getGrantRevokeIndex().hasPermissions(subjectIds, permissions)) {
+                result.add(path);
+            }
+        }
+    }
+
     /**
      * {@inheritDoc}
      * <p>
@@ -15,6 +15,7 @@ package org.eclipse.ditto.model.enforcers.trie;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -31,6 +32,7 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Warning;
 
 /**
  * Unit test for {@link GrantRevokeIndex}.
@@ -89,6 +91,9 @@ public final class GrantRevokeIndexTest {
     public void testHashCodeAndEquals() {
         EqualsVerifier.forClass(GrantRevokeIndex.class)
                 .usingGetClass()
+                .withIgnoredFields("grantWeights", "revokeWeights")
+                // the maps are only null for compacted indexes which compare their restored maps
+                .suppress(Warning.NULL_FIELDS)
                 .verify();
     }
 
@@ -195,4 +200,62 @@ public final class GrantRevokeIndexTest {
         assertThat(revokedSubjectIds).as("Revoked subject IDs").containsOnly(anotherSubjectId);
     }
 
+    /** */
+    @Test
+    public void compactedIndexHasSamePermissions() {
+        final GrantRevokeIndex compacted = underTest.compact(new InternedSubjectIds());
+        final Set<String> unknownSubjectId = Collections.singleton("unknown:subject");
+        final Set<String> bothSubjectIds = new HashSet<>(2);
+        Collections.addAll(bothSubjectIds, subjectId, anotherSubjectId);
+
+        for (final Set<String> subjectIds : Arrays.asList(Collections.singleton(subjectId),
+                Collections.singleton(anotherSubjectId), unknownSubjectId, bothSubjectIds)) {
+            for (final Set<String> permissionsToCheck : Arrays.asList(permissions, Collections.singleton("READ"),
+                    Collections.singleton("WRITE"), Collections.singleton("ADMIN"), Collections.<String>emptySet())) {
+
+                assertThat(compacted.hasPermissions(subjectIds, permissionsToCheck))
+                        .as("%s has %s", subjectIds, permissionsToCheck)
+                        .isEqualTo(underTest.hasPermissions(subjectIds, permissionsToCheck));
+            }
+        }
+    }
+
+    /** */
+    @Test
+    public void compactedIndexIsEqualToOriginal() {
+        assertThat(underTest.compact(new InternedSubjectIds())).isEqualTo(underTest);
+    }
+
+    /** */
+    @Test
+    public void compactedIndexHasSameEffectedSubjectIds() {
+        final GrantRevokeIndex compacted = underTest.compact(new InternedSubjectIds());
+
+        for (final Set<String> permissionsToCheck : Arrays.asList(permissions, Collections.singleton("READ"),
+                Collections.singleton("WRITE"), Collections.singleton("ADMIN"), Collections.<String>emptySet())) {
+
+            assertThat(compacted.getEffectedSubjects(permissionsToCheck))
+                    .as("effected subjects of %s", permissionsToCheck)
+                    .isEqualTo(underTest.getEffectedSubjects(permissionsToCheck));
+        }
+    }
+
+    /** */
+    @Test
+    public void compactedIndexRestoresGrantedAndRevokedMaps() {
+        final GrantRevokeIndex compacted = underTest.compact(new InternedSubjectIds());
+
+        assertThat(compacted.getGranted()).isEqualTo(grantedMap);
+        assertThat(compacted.getRevoked()).isEqualTo(revokedMap);
+    }
+
+    /** */
+    @Test
+    public void tryToOverrideCompactedIndex() {
+        final GrantRevokeIndex compacted = underTest.compact(new InternedSubjectIds());
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> compacted.overrideBy(underTest));
+    }
+
 }
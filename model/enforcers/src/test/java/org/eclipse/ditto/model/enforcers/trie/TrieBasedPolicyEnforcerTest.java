@@ -47,6 +47,89 @@ public class TrieBasedPolicyEnforcerTest {
         assertThat(createdJsonView).isEqualTo(expectedJsonView);
     }
 
+    @Test
+    public void enforcerFromCompiledPolicyHasSamePermissions() {
+        final Policy policy = PoliciesModelFactory.newPolicyBuilder(PolicyId.of("namespace", "id"))
+                .forLabel("OWNER")
+                .setSubject("dummy:owner", SubjectType.GENERATED)
+                .setGrantedPermissions("thing", JsonPointer.empty(), Permissions.newInstance("READ", "WRITE"))
+                .setRevokedPermissions("thing", JsonPointer.of("/attributes/secret"), Permissions.newInstance("READ"))
+                .forLabel("READER")
+                .setSubject("dummy:reader", SubjectType.GENERATED)
+                .setGrantedPermissions("thing", JsonPointer.of("/features"), Permissions.newInstance("READ"))
+                .setRevision(1L)
+                .build();
+        final TrieBasedPolicyEnforcer compiled = TrieBasedPolicyEnforcer.newInstance(policy);
+
+        final TrieBasedPolicyEnforcer underTest =
+                TrieBasedPolicyEnforcer.fromCompiledPolicy(compiled.toCompiledPolicy()).get();
+
+        final AuthorizationContext owner = AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                AuthorizationSubject.newInstance("dummy:owner"));
+        final AuthorizationContext reader = AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                AuthorizationSubject.newInstance("dummy:reader"));
+        final Permissions read = Permissions.newInstance("READ");
+        for (final String path : new String[]{"/", "/attributes", "/attributes/secret", "/features/f/properties"}) {
+            final ResourceKey resourceKey = ResourceKey.newInstance("thing", path);
+            for (final AuthorizationContext authorizationContext : new AuthorizationContext[]{owner, reader}) {
+                assertThat(underTest.hasUnrestrictedPermissions(resourceKey, authorizationContext, read))
+                        .isEqualTo(compiled.hasUnrestrictedPermissions(resourceKey, authorizationContext, read));
+                assertThat(underTest.hasPartialPermissions(resourceKey, authorizationContext, read))
+                        .isEqualTo(compiled.hasPartialPermissions(resourceKey, authorizationContext, read));
+            }
+            assertThat(underTest.getSubjectsWithPermission(resourceKey, read))
+                    .isEqualTo(compiled.getSubjectsWithPermission(resourceKey, read));
+        }
+    }
+
+    @Test
+    public void compiledPolicyOfOtherFormatVersionIsNotRestored() {
+        final JsonObject compiledPolicy =
+                TrieBasedPolicyEnforcer.newInstance(defaultPolicy(PolicyId.of("namespace", "id")))
+                        .toCompiledPolicy()
+                        .setValue(CompiledPolicyTries.VERSION.getPointer(), CompiledPolicyTries.FORMAT_VERSION + 1);
+
+        assertThat(TrieBasedPolicyEnforcer.fromCompiledPolicy(compiledPolicy)).isEmpty();
+    }
+
+    @Test
+    public void getResourcePathsWithoutUnrestrictedPermissionsChecksEachLeaf() {
+        final Policy policy = PoliciesModelFactory.newPolicyBuilder(PolicyId.of("namespace", "id"))
+                .forLabel("WRITER")
+                .setSubject("dummy:writer", SubjectType.GENERATED)
+                .setGrantedPermissions("thing", JsonPointer.of("/attributes"), Permissions.newInstance("WRITE"))
+                .setRevokedPermissions("thing", JsonPointer.of("/attributes/location/secret"),
+                        Permissions.newInstance("WRITE"))
+                .setGrantedPermissions("thing", JsonPointer.of("/features/f/properties/p"),
+                        Permissions.newInstance("WRITE"))
+                .setRevision(1L)
+                .build();
+        final TrieBasedPolicyEnforcer underTest = TrieBasedPolicyEnforcer.newInstance(policy);
+        final AuthorizationContext writer = AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                AuthorizationSubject.newInstance("dummy:writer"));
+        final JsonObject mergePatch = JsonFactory.newObjectBuilder()
+                .set(JsonPointer.of("/attributes/manufacturer"), "ACME")
+                .set(JsonPointer.of("/attributes/location/latitude"), 44.67)
+                .set(JsonPointer.of("/attributes/location/secret"), "42")
+                .set(JsonPointer.of("/features/f/properties/p"), 1)
+                .set(JsonPointer.of("/features/f/properties/q"), 2)
+                .set(JsonPointer.of("/features/g"), JsonFactory.nullLiteral())
+                .set(JsonPointer.of("/policyId"), "namespace:id")
+                .set(JsonPointer.of("/features/h"), JsonFactory.newObject())
+                .build();
+
+        assertThat(underTest.getResourcePathsWithoutUnrestrictedPermissions(ResourceKey.newInstance("thing", "/"),
+                mergePatch, writer, Permissions.newInstance("WRITE")))
+                .containsExactlyInAnyOrder(JsonPointer.of("/attributes/location/secret"),
+                        JsonPointer.of("/features/f/properties/q"),
+                        JsonPointer.of("/features/g"),
+                        JsonPointer.of("/policyId"));
+        assertThat(underTest.getResourcePathsWithoutUnrestrictedPermissions(
+                ResourceKey.newInstance("thing", "/attributes/location"), mergePatch.getValue("attributes/location")
+                        .get(), writer, Permissions.newInstance("WRITE")))
+                .containsExactly(JsonPointer.of("/attributes/location/secret"));
+    }
+
     private static Policy defaultPolicy(final PolicyId policyId) {
         final Permissions permissions = Permissions.newInstance("READ", "WRITE");
         return PoliciesModelFactory.newPolicyBuilder(policyId)
@@ -84,6 +84,23 @@ final class ImmutableAttributes implements Attributes {
         return new ImmutableAttributes(JsonKeyValidator.validateJsonKeys(jsonObject));
     }
 
+    /**
+     * Returns the given attributes backed by a persistent JSON object, see
+     * {@link JsonFactory#newPersistentObject(JsonObject)}. Thus subsequent updates of single attributes only copy the
+     * path to the updated attribute instead of all attributes.
+     *
+     * @param attributes the attributes to be converted.
+     * @return the converted attributes or an empty Optional if {@code attributes} already are persistent.
+     */
+    static Optional<Attributes> toPersistent(final Attributes attributes) {
+        final JsonObject jsonObject = attributes.asObject();
+        final JsonObject persistentObject = JsonFactory.newPersistentObject(jsonObject);
+        if (persistentObject == jsonObject) {
+            return Optional.empty();
+        }
+        return Optional.of(new ImmutableAttributes(persistentObject));
+    }
+
     @Override
     public boolean isBoolean() {
         return wrapped.isBoolean();
@@ -191,7 +208,12 @@ final class ImmutableAttributes implements Attributes {
 
     @Override
     public Attributes setValue(final CharSequence key, final JsonValue value) {
-        return determineResult(() -> wrapped.setValue(key, value));
+        // the keys of the wrapped object are already valid, so only the new keys have to be validated
+        JsonKeyValidator.validate(JsonPointer.of(key));
+        if (value.isObject()) {
+            JsonKeyValidator.validateJsonKeys(value.asObject());
+        }
+        return determineValidatedResult(wrapped.setValue(key, value));
     }
 
     @Override
@@ -211,7 +233,7 @@ final class ImmutableAttributes implements Attributes {
 
     @Override
     public Attributes remove(final CharSequence key) {
-        return determineResult(() -> wrapped.remove(key));
+        return determineValidatedResult(wrapped.remove(key));
     }
 
     @Override
@@ -333,4 +355,11 @@ final class ImmutableAttributes implements Attributes {
         return this;
     }
 
+    private Attributes determineValidatedResult(final JsonObject newWrapped) {
+        if (!newWrapped.equals(wrapped)) {
+            return new ImmutableAttributes(newWrapped);
+        }
+        return this;
+    }
+
 }
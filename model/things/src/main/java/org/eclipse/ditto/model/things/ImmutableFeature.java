@@ -41,6 +41,7 @@ final class ImmutableFeature implements Feature {
     @Nullable private final FeatureDefinition definition;
     @Nullable private final FeatureProperties properties;
     @Nullable private final FeatureProperties desiredProperties;
+    private int hashCode; // 0 until it is calculated
 
     private ImmutableFeature(final String featureId, @Nullable final FeatureDefinition definition,
             @Nullable final FeatureProperties properties, @Nullable final FeatureProperties desiredProperties) {
@@ -49,6 +50,7 @@ final class ImmutableFeature implements Feature {
         this.definition = definition;
         this.properties = properties;
         this.desiredProperties = desiredProperties;
+        hashCode = 0;
     }
 
     /**
@@ -292,8 +294,23 @@ final class ImmutableFeature implements Feature {
         return jsonObjectBuilder.build();
     }
 
+    /**
+     * The hash code is calculated once on first use as it is the opaque part of the entity tag of a Feature which is
+     * evaluated for each conditional request. It is not calculated on construction because that would traverse
+     * properties which may not even be parsed yet. As the properties cache their own hash code, setting a single
+     * property does not require to traverse the other properties.
+     */
     @Override
     public int hashCode() {
+        int result = hashCode;
+        if (0 == result) {
+            result = calculateHashCode();
+            hashCode = result;
+        }
+        return result;
+    }
+
+    private int calculateHashCode() {
         return Objects.hash(featureId, definition, properties, desiredProperties);
     }
 
@@ -307,7 +324,8 @@ final class ImmutableFeature implements Feature {
             return false;
         }
         final ImmutableFeature other = (ImmutableFeature) o;
-        return Objects.equals(featureId, other.featureId) && Objects.equals(definition, other.definition) &&
+        return Objects.equals(featureId, other.featureId) &&
+                Objects.equals(definition, other.definition) &&
                 Objects.equals(properties, other.properties) &&
                 Objects.equals(desiredProperties, other.desiredProperties);
     }
@@ -82,6 +82,23 @@ final class ImmutableFeatureProperties implements FeatureProperties {
         return new ImmutableFeatureProperties(JsonKeyValidator.validateJsonKeys(jsonObject));
     }
 
+    /**
+     * Returns the given properties backed by a persistent JSON object, see
+     * {@link JsonFactory#newPersistentObject(JsonObject)}. Thus subsequent updates of single properties only copy the
+     * path to the updated property instead of all properties.
+     *
+     * @param featureProperties the properties to be converted.
+     * @return the converted properties or an empty Optional if {@code featureProperties} already are persistent.
+     */
+    static Optional<FeatureProperties> toPersistent(final FeatureProperties featureProperties) {
+        final JsonObject jsonObject = featureProperties.asObject();
+        final JsonObject persistentObject = JsonFactory.newPersistentObject(jsonObject);
+        if (persistentObject == jsonObject) {
+            return Optional.empty();
+        }
+        return Optional.of(new ImmutableFeatureProperties(persistentObject));
+    }
+
     @Override
     public boolean isBoolean() {
         return wrapped.isBoolean();
@@ -189,7 +206,12 @@ final class ImmutableFeatureProperties implements FeatureProperties {
 
     @Override
     public FeatureProperties setValue(final CharSequence key, final JsonValue value) {
-        return determineResult(() -> wrapped.setValue(key, value));
+        // the keys of the wrapped object are already valid, so only the new keys have to be validated
+        JsonKeyValidator.validate(JsonPointer.of(key));
+        if (value.isObject()) {
+            JsonKeyValidator.validateJsonKeys(value.asObject());
+        }
+        return determineValidatedResult(wrapped.setValue(key, value));
     }
 
     @Override
@@ -244,7 +266,7 @@ final class ImmutableFeatureProperties implements FeatureProperties {
 
     @Override
     public FeatureProperties remove(final CharSequence key) {
-        return determineResult(() -> wrapped.remove(key));
+        return determineValidatedResult(wrapped.remove(key));
     }
 
     @Override
@@ -331,4 +353,11 @@ final class ImmutableFeatureProperties implements FeatureProperties {
         return this;
     }
 
+    private FeatureProperties determineValidatedResult(final JsonObject newWrapped) {
+        if (!newWrapped.equals(wrapped)) {
+            return new ImmutableFeatureProperties(newWrapped);
+        }
+        return this;
+    }
+
 }
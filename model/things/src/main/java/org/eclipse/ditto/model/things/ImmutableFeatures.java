@@ -49,9 +49,23 @@ final class ImmutableFeatures implements Features {
                     JsonSchemaVersion.V_1, JsonSchemaVersion.V_2);
 
     private final Map<String, Feature> features;
+    private int hashCode; // 0 until it is calculated or derived
 
+    /**
+     * Takes ownership of the given map, i. e. the map must not be modified or exposed by the caller afterwards.
+     * Thus setting or removing a single Feature copies the map only once.
+     */
     private ImmutableFeatures(final Map<String, Feature> features) {
-        this.features = Collections.unmodifiableMap(new HashMap<>(checkNotNull(features, "features")));
+        this(checkNotNull(features, "features"), 0);
+    }
+
+    /**
+     * Takes ownership of the given map like {@link #ImmutableFeatures(Map)} but uses the given hash code which was
+     * derived from the hash code of the features this map was copied from or 0 if it is not known yet.
+     */
+    private ImmutableFeatures(final Map<String, Feature> features, final int hashCode) {
+        this.features = Collections.unmodifiableMap(features);
+        this.hashCode = hashCode;
     }
 
     /**
@@ -133,9 +147,19 @@ final class ImmutableFeatures implements Features {
     }
 
     private Features createNewFeaturesWithNewFeature(final Feature newFeature) {
+        final String featureId = newFeature.getId();
         final Map<String, Feature> featuresCopy = copyFeatures();
-        featuresCopy.put(newFeature.getId(), newFeature);
-        return new ImmutableFeatures(featuresCopy);
+        final Feature replacedFeature = featuresCopy.put(featureId, newFeature);
+
+        final int previousHashCode = hashCode;
+        if (0 == previousHashCode) {
+            return new ImmutableFeatures(featuresCopy, 0);
+        }
+        int newHashCode = previousHashCode + entryHashCode(featureId, newFeature);
+        if (null != replacedFeature) {
+            newHashCode -= entryHashCode(featureId, replacedFeature);
+        }
+        return new ImmutableFeatures(featuresCopy, newHashCode);
     }
 
     @Override
@@ -145,9 +169,21 @@ final class ImmutableFeatures implements Features {
         }
 
         final Map<String, Feature> featuresCopy = copyFeatures();
-        featuresCopy.remove(featureId);
+        final Feature removedFeature = featuresCopy.remove(featureId);
 
-        return new ImmutableFeatures(featuresCopy);
+        final int previousHashCode = hashCode;
+        if (0 == previousHashCode) {
+            return new ImmutableFeatures(featuresCopy, 0);
+        }
+        return new ImmutableFeatures(featuresCopy, previousHashCode - entryHashCode(featureId, removedFeature));
+    }
+
+    /**
+     * Returns the contribution of a single map entry to {@link Map#hashCode()}. As the map hash code is the sum of
+     * its entry hash codes it can be updated by adding and subtracting the hash code of the changed entry.
+     */
+    private static int entryHashCode(final String featureId, final Feature feature) {
+        return featureId.hashCode() ^ feature.hashCode();
     }
 
     private Map<String, Feature> copyFeatures() {
@@ -322,8 +358,22 @@ final class ImmutableFeatures implements Features {
         return Objects.equals(features, that.features);
     }
 
+    /**
+     * The hash code is the opaque part of the entity tag of Features which is evaluated for each conditional
+     * request. It is calculated on first use and, if the previous hash code is already known, derived from it whenever
+     * a single Feature is set or removed instead of being recalculated from all Features.
+     */
     @Override
     public int hashCode() {
+        int result = hashCode;
+        if (0 == result) {
+            result = calculateHashCode();
+            hashCode = result;
+        }
+        return result;
+    }
+
+    private int calculateHashCode() {
         return Objects.hash(features);
     }
 
@@ -22,6 +22,8 @@ import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonKey;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonObjectBuilder;
 import org.eclipse.ditto.json.JsonPointer;
@@ -39,6 +41,11 @@ import org.eclipse.ditto.model.policies.PolicyId;
 @Immutable
 final class ImmutableThing implements Thing {
 
+    private static final JsonKey ATTRIBUTES_KEY = getKey(JsonFields.ATTRIBUTES);
+    private static final JsonKey FEATURES_KEY = getKey(JsonFields.FEATURES);
+    private static final JsonKey PROPERTIES_KEY = getKey(Feature.JsonFields.PROPERTIES);
+    private static final JsonKey DESIRED_PROPERTIES_KEY = getKey(Feature.JsonFields.DESIRED_PROPERTIES);
+    private static final JsonKey FEATURE_DEFINITION_KEY = getKey(Feature.JsonFields.DEFINITION);
 
     @Nullable private final ThingId thingId;
     @Nullable
@@ -518,11 +525,187 @@ final class ImmutableThing implements Thing {
                 modified, created, metadata);
     }
 
+    @Override
+    public Thing setRevision(final ThingRevision revision) {
+        ConditionChecker.checkNotNull(revision, "revision to be set");
+
+        return new ImmutableThing(thingId, acl, policyId, definition, attributes, features, lifecycle, revision,
+                modified, created, metadata);
+    }
+
+    @Override
+    public Thing setModified(@Nullable final Instant modified) {
+        return new ImmutableThing(thingId, acl, policyId, definition, attributes, features, lifecycle, revision,
+                modified, created, metadata);
+    }
+
     @Override
     public Optional<Metadata> getMetadata() {
         return Optional.ofNullable(metadata);
     }
 
+    @Override
+    public Thing setMetadata(@Nullable final Metadata metadata) {
+        return new ImmutableThing(thingId, acl, policyId, definition, attributes, features, lifecycle, revision,
+                modified, created, metadata);
+    }
+
+    @Override
+    public Thing setValue(final JsonPointer pointer, final JsonValue value) {
+        checkPointer(pointer);
+        ConditionChecker.checkNotNull(value, "value to be set");
+
+        final JsonKey rootKey = pointer.getRoot().orElseThrow(IllegalStateException::new);
+        final JsonPointer subPointer = pointer.nextLevel();
+        if (ATTRIBUTES_KEY.equals(rootKey) && !subPointer.isEmpty()) {
+            return setPersistentAttribute(subPointer, value);
+        }
+        if (FEATURES_KEY.equals(rootKey) && subPointer.getLevelCount() > 1) {
+            final String featureId = getRootAsString(subPointer);
+            final JsonKey featureKey = subPointer.get(1).orElseThrow(IllegalStateException::new);
+            final JsonPointer featurePointer = subPointer.nextLevel().nextLevel();
+            if (PROPERTIES_KEY.equals(featureKey)) {
+                if (!featurePointer.isEmpty()) {
+                    return setPersistentFeatureProperty(featureId, featurePointer, value);
+                } else if (value.isObject()) {
+                    return setFeatureProperties(featureId, ThingsModelFactory.newFeatureProperties(value.asObject()));
+                }
+            } else if (DESIRED_PROPERTIES_KEY.equals(featureKey)) {
+                if (!featurePointer.isEmpty()) {
+                    return setPersistentFeatureDesiredProperty(featureId, featurePointer, value);
+                } else if (value.isObject()) {
+                    return setFeatureDesiredProperties(featureId,
+                            ThingsModelFactory.newFeatureProperties(value.asObject()));
+                }
+            } else if (FEATURE_DEFINITION_KEY.equals(featureKey) && featurePointer.isEmpty() && value.isArray()) {
+                return setFeatureDefinition(featureId, ThingsModelFactory.newFeatureDefinition(value.asArray()));
+            }
+        }
+        return ThingsModelFactory.newThing(toCompleteJson().setValue(pointer, value));
+    }
+
+    @Override
+    public Thing removeValue(final JsonPointer pointer) {
+        checkPointer(pointer);
+
+        final JsonKey rootKey = pointer.getRoot().orElseThrow(IllegalStateException::new);
+        final JsonPointer subPointer = pointer.nextLevel();
+        if (ATTRIBUTES_KEY.equals(rootKey)) {
+            return subPointer.isEmpty() ? removeAttributes() : removePersistentAttribute(subPointer);
+        }
+        if (FEATURES_KEY.equals(rootKey)) {
+            if (subPointer.isEmpty()) {
+                return removeFeatures();
+            }
+            final String featureId = getRootAsString(subPointer);
+            final Optional<JsonKey> featureKey = subPointer.get(1);
+            final JsonPointer featurePointer = subPointer.nextLevel().nextLevel();
+            if (!featureKey.isPresent()) {
+                return removeFeature(featureId);
+            } else if (PROPERTIES_KEY.equals(featureKey.get())) {
+                return featurePointer.isEmpty()
+                        ? removeFeatureProperties(featureId)
+                        : removeFeatureProperty(featureId, featurePointer);
+            } else if (DESIRED_PROPERTIES_KEY.equals(featureKey.get())) {
+                return featurePointer.isEmpty()
+                        ? removeFeatureDesiredProperties(featureId)
+                        : removeFeatureDesiredProperty(featureId, featurePointer);
+            } else if (FEATURE_DEFINITION_KEY.equals(featureKey.get()) && featurePointer.isEmpty()) {
+                return removeFeatureDefinition(featureId);
+            }
+        }
+        return ThingsModelFactory.newThing(toCompleteJson().remove(pointer));
+    }
+
+    private static void checkPointer(final JsonPointer pointer) {
+        ConditionChecker.checkNotNull(pointer, "JSON pointer");
+        ConditionChecker.checkArgument(pointer, p -> !p.isEmpty(), () -> "The JSON pointer must not be empty!");
+    }
+
+    private static String getRootAsString(final JsonPointer pointer) {
+        return pointer.getRoot().map(JsonKey::toString).orElseThrow(IllegalStateException::new);
+    }
+
+    private static JsonKey getKey(final JsonFieldDefinition<?> fieldDefinition) {
+        return fieldDefinition.getPointer().getRoot().orElseThrow(IllegalStateException::new);
+    }
+
+    /**
+     * Sets the given attribute like {@link #setAttribute(JsonPointer, JsonValue)} but converts the attributes to a
+     * persistent JSON object before, see {@link ImmutableAttributes#toPersistent(Attributes)}.
+     * Thus this and all following updates of single attributes only copy the path to the updated attribute.
+     */
+    private Thing setPersistentAttribute(final JsonPointer attributePath, final JsonValue attributeValue) {
+        if (null == attributes || attributes.isEmpty() || attributes.isNull()) {
+            return setAttribute(attributePath, attributeValue);
+        }
+        final Attributes persistentAttributes = ImmutableAttributes.toPersistent(attributes).orElse(attributes);
+        return setAttributes(persistentAttributes.setValue(attributePath, attributeValue));
+    }
+
+    /**
+     * Removes the given attribute like {@link #removeAttribute(JsonPointer)} but converts the attributes to a
+     * persistent JSON object before.
+     */
+    private Thing removePersistentAttribute(final JsonPointer attributePath) {
+        if (null == attributes || attributes.isEmpty() || attributes.isNull()) {
+            return this;
+        }
+        final Attributes persistentAttributes = ImmutableAttributes.toPersistent(attributes).orElse(attributes);
+        return setAttributes(persistentAttributes.remove(attributePath));
+    }
+
+    /**
+     * Sets the given property like {@link #setFeatureProperty(String, JsonPointer, JsonValue)} but converts the
+     * properties of the Feature to a persistent JSON object before, see
+     * {@link ImmutableFeatureProperties#toPersistent(FeatureProperties)}.
+     * Thus this and all following updates of single properties only copy the path to the updated property.
+     */
+    private Thing setPersistentFeatureProperty(final String featureId, final JsonPointer propertyPath,
+            final JsonValue propertyValue) {
+
+        final Optional<Feature> feature = getFeatures().flatMap(fs -> fs.getFeature(featureId));
+        final Optional<FeatureProperties> properties = feature.flatMap(Feature::getProperties)
+                .filter(p -> !p.isEmpty() && !p.isNull());
+        if (!properties.isPresent()) {
+            return setFeatureProperty(featureId, propertyPath, propertyValue);
+        }
+        final FeatureProperties persistentProperties = ImmutableFeatureProperties.toPersistent(properties.get())
+                .orElseGet(properties::get);
+        return setFeature(ImmutableFeature.of(featureId, feature.get().getDefinition().orElse(null),
+                persistentProperties.setValue(propertyPath, propertyValue),
+                feature.get().getDesiredProperties().orElse(null)));
+    }
+
+    /**
+     * Sets the given desired property like
+     * {@link #setFeatureDesiredProperty(CharSequence, JsonPointer, JsonValue)} but converts the desired properties of
+     * the Feature to a persistent JSON object before.
+     */
+    private Thing setPersistentFeatureDesiredProperty(final String featureId, final JsonPointer desiredPropertyPath,
+            final JsonValue desiredPropertyValue) {
+
+        final Optional<Feature> feature = getFeatures().flatMap(fs -> fs.getFeature(featureId));
+        final Optional<FeatureProperties> desiredProperties = feature.flatMap(Feature::getDesiredProperties)
+                .filter(p -> !p.isEmpty() && !p.isNull());
+        if (!desiredProperties.isPresent()) {
+            return setFeatureDesiredProperty(featureId, desiredPropertyPath, desiredPropertyValue);
+        }
+        final FeatureProperties persistentDesiredProperties =
+                ImmutableFeatureProperties.toPersistent(desiredProperties.get()).orElseGet(desiredProperties::get);
+        return setFeature(ImmutableFeature.of(featureId, feature.get().getDefinition().orElse(null),
+                feature.get().getProperties().orElse(null),
+                persistentDesiredProperties.setValue(desiredPropertyPath, desiredPropertyValue)));
+    }
+
+    /**
+     * Returns the JSON object of this Thing including all special fields, which is used to apply modifications at
+     * JSON pointers that do not point into the attributes or features.
+     */
+    private JsonObject toCompleteJson() {
+        return toJson(getImplementedSchemaVersion(), FieldType.regularOrSpecial());
+    }
+
     @Override
     public JsonObject toJson(final JsonSchemaVersion schemaVersion, final Predicate<JsonField> thePredicate) {
         final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
@@ -599,6 +782,9 @@ final class ImmutableThing implements Thing {
         if (obj == null) {
             return false;
         }
+        if (obj instanceof LazyThing) {
+            return equals(((LazyThing) obj).materialize());
+        }
         if (getClass() != obj.getClass()) {
             return false;
         }
@@ -17,6 +17,7 @@ import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 import java.text.MessageFormat;
 import java.time.Instant;
 import java.time.format.DateTimeParseException;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javax.annotation.Nullable;
@@ -557,6 +558,7 @@ final class ImmutableThingFromCopyBuilder implements ThingBuilder, ThingBuilder.
     public FromCopy setFeatureProperty(final String featureId, final JsonPointer propertyPath,
             final JsonValue propertyValue) {
 
+        usePersistentProperties(featureId);
         fromScratchBuilder.setFeatureProperty(featureId, propertyPath, propertyValue);
         return this;
     }
@@ -568,6 +570,7 @@ final class ImmutableThingFromCopyBuilder implements ThingBuilder, ThingBuilder.
             final JsonValue propertyValue) {
 
         if (testFeaturesPredicate(existingFeaturesPredicate)) {
+            usePersistentProperties(featureId);
             fromScratchBuilder.setFeatureProperty(featureId, propertyPath, propertyValue);
         }
         return this;
@@ -575,6 +578,7 @@ final class ImmutableThingFromCopyBuilder implements ThingBuilder, ThingBuilder.
 
     @Override
     public FromCopy removeFeatureProperty(final String featureId, final JsonPointer propertyPath) {
+        usePersistentProperties(featureId);
         fromScratchBuilder.removeFeatureProperty(featureId, propertyPath);
         return this;
     }
@@ -584,6 +588,7 @@ final class ImmutableThingFromCopyBuilder implements ThingBuilder, ThingBuilder.
             final JsonPointer propertyPath) {
 
         if (testFeaturesPredicate(existingFeaturesPredicate)) {
+            usePersistentProperties(featureId);
             fromScratchBuilder.removeFeatureProperty(featureId, propertyPath);
         }
         return this;
@@ -613,6 +618,7 @@ final class ImmutableThingFromCopyBuilder implements ThingBuilder, ThingBuilder.
     public FromCopy setFeatureDesiredProperty(final CharSequence featureId, final JsonPointer desiredPropertyPath,
             final JsonValue desiredPropertyValue) {
 
+        usePersistentDesiredProperties(featureId);
         fromScratchBuilder.setFeatureDesiredProperty(featureId, desiredPropertyPath, desiredPropertyValue);
         return this;
     }
@@ -624,6 +630,7 @@ final class ImmutableThingFromCopyBuilder implements ThingBuilder, ThingBuilder.
             final JsonValue desiredPropertyValue) {
 
         if (testFeaturesPredicate(existingFeaturesPredicate)) {
+            usePersistentDesiredProperties(featureId);
             fromScratchBuilder.setFeatureDesiredProperty(featureId, desiredPropertyPath, desiredPropertyValue);
         }
         return this;
@@ -631,6 +638,7 @@ final class ImmutableThingFromCopyBuilder implements ThingBuilder, ThingBuilder.
 
     @Override
     public FromCopy removeFeatureDesiredProperty(final CharSequence featureId, final JsonPointer desiredPropertyPath) {
+        usePersistentDesiredProperties(featureId);
         fromScratchBuilder.removeFeatureDesiredProperty(featureId, desiredPropertyPath);
         return this;
     }
@@ -640,6 +648,7 @@ final class ImmutableThingFromCopyBuilder implements ThingBuilder, ThingBuilder.
             final JsonPointer desiredPropertyPath) {
 
         if (testFeaturesPredicate(existingFeaturesPredicate)) {
+            usePersistentDesiredProperties(featureId);
             fromScratchBuilder.removeFeatureDesiredProperty(featureId, desiredPropertyPath);
         }
         return this;
@@ -864,6 +873,36 @@ final class ImmutableThingFromCopyBuilder implements ThingBuilder, ThingBuilder.
         return existingAttributesPredicate.test(fromScratchBuilder.getAttributes());
     }
 
+    /**
+     * Converts the properties of the feature with the given ID to a persistent JSON object unless they already are.
+     * Thus this and all following updates of single properties only copy the path to the updated property instead of
+     * all properties.
+     */
+    private void usePersistentProperties(final CharSequence featureId) {
+        getExistingFeature(featureId).ifPresent(feature -> feature.getProperties()
+                .flatMap(ImmutableFeatureProperties::toPersistent)
+                .map(properties -> ImmutableFeature.of(feature.getId(), feature.getDefinition().orElse(null),
+                        properties, feature.getDesiredProperties().orElse(null)))
+                .ifPresent(fromScratchBuilder::setFeature));
+    }
+
+    /**
+     * Converts the desired properties of the feature with the given ID to a persistent JSON object unless they
+     * already are.
+     */
+    private void usePersistentDesiredProperties(final CharSequence featureId) {
+        getExistingFeature(featureId).ifPresent(feature -> feature.getDesiredProperties()
+                .flatMap(ImmutableFeatureProperties::toPersistent)
+                .map(desiredProperties -> ImmutableFeature.of(feature.getId(), feature.getDefinition().orElse(null),
+                        feature.getProperties().orElse(null), desiredProperties))
+                .ifPresent(fromScratchBuilder::setFeature));
+    }
+
+    private Optional<Feature> getExistingFeature(final CharSequence featureId) {
+        return Optional.ofNullable(fromScratchBuilder.getFeatures())
+                .flatMap(features -> features.getFeature(featureId.toString()));
+    }
+
     private boolean testFeaturesPredicate(final Predicate<Features> existingFeaturesPredicate) {
         checkNotNull(existingFeaturesPredicate, "predicate for existing Features");
         return existingFeaturesPredicate.test(fromScratchBuilder.getFeatures());
@@ -0,0 +1,494 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.things;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.entity.metadata.Metadata;
+import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.policies.PolicyId;
+
+/**
+ * A Thing which is backed by its JSON object representation, e. g. a persisted snapshot.
+ * The scalar fields are parsed on creation; the attributes, features, ACL and metadata are only built from the JSON
+ * object when they are accessed for the first time. A modification only builds the top-level part it touches and
+ * returns a new LazyThing which shares all other parts, built or not. Modifications of the ACL, the JSON
+ * representation and equality are based on the completely built {@link ImmutableThing}.
+ */
+@Immutable
+final class LazyThing implements Thing {
+
+    private static final Set<JsonKey> LAZY_FIELDS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            getKey(JsonFields.ATTRIBUTES), getKey(JsonFields.FEATURES), getKey(JsonFields.ACL),
+            getKey(JsonFields.METADATA))));
+
+    private final Thing scalars;
+    private final LazyValue<Attributes> attributes;
+    private final LazyValue<Features> features;
+    private final LazyValue<AccessControlList> acl;
+    private final LazyValue<Metadata> metadata;
+    @Nullable private volatile Thing materialized;
+
+    private LazyThing(final Thing scalars,
+            final LazyValue<Attributes> attributes,
+            final LazyValue<Features> features,
+            final LazyValue<AccessControlList> acl,
+            final LazyValue<Metadata> metadata) {
+
+        this.scalars = scalars;
+        this.attributes = attributes;
+        this.features = features;
+        this.acl = acl;
+        this.metadata = metadata;
+        materialized = null;
+    }
+
+    /**
+     * Returns a new Thing which is backed by the given JSON object.
+     *
+     * @param jsonObject the JSON object representation of a Thing.
+     * @return the Thing.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws DittoJsonException if the scalar fields of {@code jsonObject} cannot be parsed.
+     */
+    static Thing of(final JsonObject jsonObject) {
+        checkNotNull(jsonObject, "JSON object");
+
+        final JsonObjectBuilder scalarsBuilder = JsonObject.newBuilder();
+        for (final JsonField field : jsonObject) {
+            if (!LAZY_FIELDS.contains(field.getKey())) {
+                scalarsBuilder.set(field);
+            }
+        }
+        final Thing scalars = ThingsModelFactory.newThing(scalarsBuilder.build());
+        return new LazyThing(scalars,
+                LazyValue.of(jsonObject, JsonFields.ATTRIBUTES, Thing::getAttributes),
+                LazyValue.of(jsonObject, JsonFields.FEATURES, Thing::getFeatures),
+                scalars.getPolicyEntityId().isPresent()
+                        ? LazyValue.resolved(Optional.empty())
+                        : LazyValue.of(jsonObject, JsonFields.ACL, Thing::getAccessControlList),
+                LazyValue.of(jsonObject, JsonFields.METADATA, Thing::getMetadata));
+    }
+
+    private static JsonKey getKey(final JsonFieldDefinition<?> fieldDefinition) {
+        return fieldDefinition.getPointer().getRoot().orElseThrow(IllegalStateException::new);
+    }
+
+    /**
+     * Returns the completely built Thing.
+     *
+     * @return the Thing.
+     */
+    Thing materialize() {
+        Thing result = materialized;
+        if (null == result) {
+            result = ImmutableThing.of(scalars.getEntityId().orElse(null),
+                    acl.get().orElse(null),
+                    scalars.getPolicyEntityId().orElse(null),
+                    scalars.getDefinition().orElse(null),
+                    attributes.get().orElse(null),
+                    features.get().orElse(null),
+                    scalars.getLifecycle().orElse(null),
+                    scalars.getRevision().orElse(null),
+                    scalars.getModified().orElse(null),
+                    scalars.getCreated().orElse(null),
+                    metadata.get().orElse(null));
+            materialized = result;
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<ThingRevision> getRevision() {
+        return scalars.getRevision();
+    }
+
+    @Override
+    public Optional<Instant> getModified() {
+        return scalars.getModified();
+    }
+
+    @Override
+    public Optional<Instant> getCreated() {
+        return scalars.getCreated();
+    }
+
+    @Override
+    public boolean isDeleted() {
+        return scalars.isDeleted();
+    }
+
+    @Override
+    public Optional<ThingId> getEntityId() {
+        return scalars.getEntityId();
+    }
+
+    @Override
+    public Optional<String> getNamespace() {
+        return scalars.getNamespace();
+    }
+
+    @Override
+    public Optional<Attributes> getAttributes() {
+        return attributes.get();
+    }
+
+    @Override
+    public Thing setAttributes(@Nullable final Attributes attributes) {
+        return modifyAttributes(thing -> thing.setAttributes(attributes));
+    }
+
+    @Override
+    public Thing removeAttributes() {
+        return modifyAttributes(thing -> thing.removeAttributes());
+    }
+
+    @Override
+    public Thing setAttribute(final JsonPointer attributePath, final JsonValue attributeValue) {
+        return modifyAttributes(thing -> thing.setAttribute(attributePath, attributeValue));
+    }
+
+    @Override
+    public Thing removeAttribute(final JsonPointer attributePath) {
+        return modifyAttributes(thing -> thing.removeAttribute(attributePath));
+    }
+
+    @Override
+    public Optional<ThingDefinition> getDefinition() {
+        return scalars.getDefinition();
+    }
+
+    @Override
+    public Thing setDefinition(@Nullable final CharSequence definitionIdentifier) {
+        return modifyScalars(thing -> thing.setDefinition(definitionIdentifier));
+    }
+
+    @Override
+    public Thing removeDefinition() {
+        return modifyScalars(thing -> thing.removeDefinition());
+    }
+
+    @Override
+    public Optional<Features> getFeatures() {
+        return features.get();
+    }
+
+    @Override
+    public Thing setFeatures(@Nullable final Features features) {
+        return modifyFeatures(thing -> thing.setFeatures(features));
+    }
+
+    @Override
+    public Thing removeFeatures() {
+        return modifyFeatures(thing -> thing.removeFeatures());
+    }
+
+    @Override
+    public Thing setFeature(final Feature feature) {
+        return modifyFeatures(thing -> thing.setFeature(feature));
+    }
+
+    @Override
+    public Thing removeFeature(final String featureId) {
+        return modifyFeatures(thing -> thing.removeFeature(featureId));
+    }
+
+    @Override
+    public Thing setValue(final JsonPointer pointer, final JsonValue value) {
+        return modify(pointer, thing -> thing.setValue(pointer, value));
+    }
+
+    @Override
+    public Thing removeValue(final JsonPointer pointer) {
+        return modify(pointer, thing -> thing.removeValue(pointer));
+    }
+
+    @Override
+    public Thing setFeatureDefinition(final String featureId, final FeatureDefinition definition) {
+        return modifyFeatures(thing -> thing.setFeatureDefinition(featureId, definition));
+    }
+
+    @Override
+    public Thing removeFeatureDefinition(final String featureId) {
+        return modifyFeatures(thing -> thing.removeFeatureDefinition(featureId));
+    }
+
+    @Override
+    public Thing setFeatureProperties(final String featureId, final FeatureProperties properties) {
+        return modifyFeatures(thing -> thing.setFeatureProperties(featureId, properties));
+    }
+
+    @Override
+    public Thing removeFeatureProperties(final String featureId) {
+        return modifyFeatures(thing -> thing.removeFeatureProperties(featureId));
+    }
+
+    @Override
+    public Thing setFeatureProperty(final String featureId, final JsonPointer propertyPath,
+            final JsonValue propertyValue) {
+
+        return modifyFeatures(thing -> thing.setFeatureProperty(featureId, propertyPath, propertyValue));
+    }
+
+    @Override
+    public Thing removeFeatureProperty(final String featureId, final JsonPointer propertyPath) {
+        return modifyFeatures(thing -> thing.removeFeatureProperty(featureId, propertyPath));
+    }
+
+    @Override
+    public Thing setFeatureDesiredProperties(final CharSequence featureId, final FeatureProperties desiredProperties) {
+        return modifyFeatures(thing -> thing.setFeatureDesiredProperties(featureId, desiredProperties));
+    }
+
+    @Override
+    public Thing removeFeatureDesiredProperties(final CharSequence featureId) {
+        return modifyFeatures(thing -> thing.removeFeatureDesiredProperties(featureId));
+    }
+
+    @Override
+    public Thing setFeatureDesiredProperty(final CharSequence featureId, final JsonPointer desiredPropertyPath,
+            final JsonValue desiredPropertyValue) {
+
+        return modifyFeatures(
+                thing -> thing.setFeatureDesiredProperty(featureId, desiredPropertyPath, desiredPropertyValue));
+    }
+
+    @Override
+    public Thing removeFeatureDesiredProperty(final CharSequence featureId, final JsonPointer desiredPropertyPath) {
+        return modifyFeatures(thing -> thing.removeFeatureDesiredProperty(featureId, desiredPropertyPath));
+    }
+
+    @Override
+    @Deprecated
+    public Optional<AccessControlList> getAccessControlList() {
+        return acl.get();
+    }
+
+    @Override
+    @Deprecated
+    public Thing setAccessControlList(final AccessControlList accessControlList) {
+        return materialize().setAccessControlList(accessControlList);
+    }
+
+    @Override
+    @Deprecated
+    public Thing setAclEntry(final AclEntry aclEntry) {
+        return materialize().setAclEntry(aclEntry);
+    }
+
+    @Override
+    @Deprecated
+    public Thing removeAllPermissionsOf(final AuthorizationSubject authorizationSubject) {
+        return materialize().removeAllPermissionsOf(authorizationSubject);
+    }
+
+    @Override
+    public Optional<PolicyId> getPolicyEntityId() {
+        return scalars.getPolicyEntityId();
+    }
+
+    @Override
+    public Thing setPolicyId(@Nullable final PolicyId policyId) {
+        return modifyScalars(thing -> thing.setPolicyId(policyId));
+    }
+
+    @Override
+    public Optional<ThingLifecycle> getLifecycle() {
+        return scalars.getLifecycle();
+    }
+
+    @Override
+    public Thing setLifecycle(final ThingLifecycle newLifecycle) {
+        return modifyScalars(thing -> thing.setLifecycle(newLifecycle));
+    }
+
+    @Override
+    public Thing setRevision(final ThingRevision revision) {
+        return modifyScalars(thing -> thing.setRevision(revision));
+    }
+
+    @Override
+    public Thing setModified(@Nullable final Instant modified) {
+        return modifyScalars(thing -> thing.setModified(modified));
+    }
+
+    @Override
+    public Thing setMetadata(@Nullable final Metadata metadata) {
+        return modifyMetadata(thing -> thing.setMetadata(metadata));
+    }
+
+    @Override
+    public Optional<Metadata> getMetadata() {
+        return metadata.get();
+    }
+
+    @Override
+    public JsonObject toJson(final JsonSchemaVersion schemaVersion, final Predicate<JsonField> thePredicate) {
+        return materialize().toJson(schemaVersion, thePredicate);
+    }
+
+    @Override
+    public int hashCode() {
+        return materialize().hashCode();
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof LazyThing) {
+            return materialize().equals(((LazyThing) obj).materialize());
+        }
+        return materialize().equals(obj);
+    }
+
+    /**
+     * Applies the given modification to the part of this Thing which is addressed by the root of the given pointer.
+     * Modifications of the ACL or with an empty pointer are applied to the completely built Thing.
+     */
+    private Thing modify(final JsonPointer pointer, final UnaryOperator<Thing> modification) {
+        final JsonKey rootKey = pointer.getRoot().orElse(null);
+        if (null == rootKey || getKey(JsonFields.ACL).equals(rootKey)) {
+            return modification.apply(materialize());
+        } else if (getKey(JsonFields.ATTRIBUTES).equals(rootKey)) {
+            return modifyAttributes(modification);
+        } else if (getKey(JsonFields.FEATURES).equals(rootKey)) {
+            return modifyFeatures(modification);
+        } else if (getKey(JsonFields.METADATA).equals(rootKey)) {
+            return modifyMetadata(modification);
+        }
+        return modifyScalars(modification);
+    }
+
+    private Thing modifyScalars(final UnaryOperator<Thing> modification) {
+        return new LazyThing(modification.apply(scalars), attributes, features, acl, metadata);
+    }
+
+    private Thing modifyAttributes(final UnaryOperator<Thing> modification) {
+        final Thing modified = modification.apply(scalars.setAttributes(attributes.get().orElse(null)));
+        return new LazyThing(modified.removeAttributes(), LazyValue.resolved(modified.getAttributes()), features, acl,
+                metadata);
+    }
+
+    private Thing modifyFeatures(final UnaryOperator<Thing> modification) {
+        final Thing modified = modification.apply(scalars.setFeatures(features.get().orElse(null)));
+        return new LazyThing(modified.removeFeatures(), attributes, LazyValue.resolved(modified.getFeatures()), acl,
+                metadata);
+    }
+
+    private Thing modifyMetadata(final UnaryOperator<Thing> modification) {
+        final Thing modified = modification.apply(scalars.setMetadata(metadata.get().orElse(null)));
+        return new LazyThing(modified.setMetadata(null), attributes, features, acl,
+                LazyValue.resolved(modified.getMetadata()));
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "scalars=" + scalars +
+                ", attributes=" + attributes +
+                ", features=" + features +
+                ", acl=" + acl +
+                ", metadata=" + metadata +
+                "]";
+    }
+
+    /**
+     * Builds a part of the Thing from its field of the backing JSON object when it is accessed for the first time.
+     * Concurrent first accesses may build the part more than once which is harmless as the result is the same.
+     * A part which was built by a modification is resolved from the start.
+     *
+     * @param <T> the type of the part.
+     */
+    private static final class LazyValue<T> {
+
+        @Nullable private final JsonObject jsonObject;
+        @Nullable private final JsonFieldDefinition<JsonObject> fieldDefinition;
+        @Nullable private final Function<Thing, Optional<T>> extractor;
+        @Nullable private volatile Optional<T> value;
+
+        @SuppressWarnings({"squid:S3077", "OptionalAssignedToNull", "squid:S2789"})
+        private LazyValue(@Nullable final JsonObject jsonObject,
+                @Nullable final JsonFieldDefinition<JsonObject> fieldDefinition,
+                @Nullable final Function<Thing, Optional<T>> extractor,
+                @Nullable final Optional<T> value) {
+
+            this.jsonObject = jsonObject;
+            this.fieldDefinition = fieldDefinition;
+            this.extractor = extractor;
+            this.value = value;
+        }
+
+        @SuppressWarnings("OptionalAssignedToNull")
+        static <T> LazyValue<T> of(final JsonObject jsonObject,
+                final JsonFieldDefinition<JsonObject> fieldDefinition,
+                final Function<Thing, Optional<T>> extractor) {
+
+            return new LazyValue<>(jsonObject, fieldDefinition, extractor, null);
+        }
+
+        static <T> LazyValue<T> resolved(final Optional<T> value) {
+            return new LazyValue<>(null, null, null, value);
+        }
+
+        @SuppressWarnings({"squid:S3077", "OptionalAssignedToNull", "ConstantConditions"})
+        Optional<T> get() {
+            Optional<T> result = value;
+            if (null == result) {
+                result = jsonObject.getValue(fieldDefinition.getPointer())
+                        .map(fieldValue -> DittoJsonException.wrapJsonRuntimeException(() ->
+                                extractor.apply(ImmutableThingFromCopyBuilder.of(
+                                        JsonObject.newBuilder().set(fieldDefinition.getPointer(), fieldValue).build())
+                                        .build())))
+                        .orElseGet(Optional::empty);
+                value = result;
+            }
+            return result;
+        }
+
+        @SuppressWarnings({"OptionalAssignedToNull", "ConstantConditions"})
+        @Override
+        public String toString() {
+            final Optional<T> result = value;
+            if (null == result) {
+                return String.valueOf(jsonObject.getValue(fieldDefinition.getPointer()).orElse(null));
+            }
+            return String.valueOf(result.orElse(null));
+        }
+
+    }
+
+}
@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.model.things;
 
+import java.time.Instant;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -26,6 +27,7 @@ import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
 import org.eclipse.ditto.model.base.entity.Entity;
+import org.eclipse.ditto.model.base.entity.metadata.Metadata;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
@@ -584,6 +586,34 @@ public interface Thing extends Entity<ThingRevision> {
      */
     Thing setLifecycle(ThingLifecycle newLifecycle);
 
+    /**
+     * Sets the given revision to a copy of this Thing.
+     *
+     * @param revision the revision to set.
+     * @return a copy of this Thing with the revision set to {@code revision}.
+     * @throws NullPointerException if {@code revision} is {@code null}.
+     * @since 2.0.0
+     */
+    Thing setRevision(ThingRevision revision);
+
+    /**
+     * Sets the given modified timestamp to a copy of this Thing.
+     *
+     * @param modified the modified timestamp to set or {@code null} to remove it.
+     * @return a copy of this Thing with the modified timestamp set to {@code modified}.
+     * @since 2.0.0
+     */
+    Thing setModified(@Nullable Instant modified);
+
+    /**
+     * Sets the given metadata to a copy of this Thing.
+     *
+     * @param metadata the metadata to set or {@code null} to remove it.
+     * @return a copy of this Thing with the metadata set to {@code metadata}.
+     * @since 2.0.0
+     */
+    Thing setMetadata(@Nullable Metadata metadata);
+
     /**
      * Indicates whether this Thing has the given lifecycle.
      *
@@ -717,6 +747,35 @@ public interface Thing extends Entity<ThingRevision> {
      */
     Thing removeFeature(String featureId);
 
+    /**
+     * Sets the given value at the given JSON pointer to a copy of this Thing.
+     * Only the parts of this Thing on the path to the value are copied, all other parts are shared with this Thing.
+     * For example setting {@code /features/lamp/properties/on} copies the Features and the Feature {@code lamp} but
+     * neither the attributes nor the other Features.
+     *
+     * @param pointer the JSON pointer of the value to be set, relative to the root of the Thing.
+     * @param value the value to be set.
+     * @return a copy of this Thing with the given value set.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IllegalArgumentException if {@code pointer} is empty.
+     * @throws org.eclipse.ditto.json.JsonParseException if {@code value} is not valid for the part of the Thing
+     * at {@code pointer}.
+     * @since 2.0.0
+     */
+    Thing setValue(JsonPointer pointer, JsonValue value);
+
+    /**
+     * Removes the value at the given JSON pointer from a copy of this Thing.
+     * Only the parts of this Thing on the path to the value are copied, all other parts are shared with this Thing.
+     *
+     * @param pointer the JSON pointer of the value to be removed, relative to the root of the Thing.
+     * @return a copy of this Thing without the value at {@code pointer}.
+     * @throws NullPointerException if {@code pointer} is {@code null}.
+     * @throws IllegalArgumentException if {@code pointer} is empty.
+     * @since 2.0.0
+     */
+    Thing removeValue(JsonPointer pointer);
+
     /**
      * @deprecated this method does nothing anymore. IDs are now typed and already validated.
      */
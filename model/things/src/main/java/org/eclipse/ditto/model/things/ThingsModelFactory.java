@@ -907,6 +907,23 @@ public final class ThingsModelFactory {
         return newThingBuilder(jsonObject).build();
     }
 
+    /**
+     * Returns a new immutable {@link Thing} which is backed by the given JSON object. Only the scalar fields like ID,
+     * policy ID and revision are parsed immediately; attributes, features, ACL and metadata are built on first access.
+     * Thus reading single values of a Thing which was e. g. recovered from a snapshot does not require building all of
+     * its features.
+     *
+     * @param jsonObject the JSON object representation of a Thing.
+     * @return the new Thing.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws DittoJsonException if the scalar fields of {@code jsonObject} cannot be parsed. The lazily built parts
+     * throw this exception when they are accessed.
+     * @since 2.0.0
+     */
+    public static Thing newThingLazily(final JsonObject jsonObject) {
+        return LazyThing.of(jsonObject);
+    }
+
     /**
      * Returns a new immutable {@link Thing} based on the given JSON string.
      *
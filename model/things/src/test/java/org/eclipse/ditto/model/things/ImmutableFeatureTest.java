@@ -60,9 +60,13 @@ public final class ImmutableFeatureTest {
     public void testHashCodeAndEquals() {
         final SoftReference<JsonObject> red = new SoftReference<>(JsonFactory.newObject("{\"foo\": 1}"));
         final SoftReference<JsonObject> black = new SoftReference<>(JsonFactory.newObject("{\"foo\": 2}"));
+        final ImmutableFeature example = ImmutableFeature.of("foo");
+        // the hash code is cached on first use
+        example.hashCode();
 
         EqualsVerifier.forClass(ImmutableFeature.class)
                 .withPrefabValues(SoftReference.class, red, black)
+                .withCachedHashCode("hashCode", "calculateHashCode", example)
                 .verify();
     }
 
@@ -78,7 +82,7 @@ public final class ImmutableFeatureTest {
         assertInstancesOf(ImmutableFeature.class,
                 areImmutable(),
                 provided(knownImmutableTypes).areAlsoImmutable(),
-                assumingFields("cachedJsonObject").areModifiedAsPartOfAnUnobservableCachingStrategy());
+                assumingFields("cachedJsonObject", "hashCode").areModifiedAsPartOfAnUnobservableCachingStrategy());
     }
 
     @Test(expected = NullPointerException.class)
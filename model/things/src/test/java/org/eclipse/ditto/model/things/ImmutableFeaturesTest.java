@@ -60,10 +60,14 @@ public final class ImmutableFeaturesTest {
     public void testHashCodeAndEquals() {
         final SoftReference<JsonObject> red = new SoftReference<>(JsonFactory.newObject("{\"foo\": 1}"));
         final SoftReference<JsonObject> black = new SoftReference<>(JsonFactory.newObject("{\"foo\": 2}"));
+        final ImmutableFeatures example = ImmutableFeatures.of(FLUX_CAPACITOR);
+        // the hash code is cached on first use
+        example.hashCode();
 
         EqualsVerifier.forClass(ImmutableFeatures.class)
                 .usingGetClass()
                 .withPrefabValues(SoftReference.class, red, black)
+                .withCachedHashCode("hashCode", "calculateHashCode", example)
                 .verify();
     }
 
@@ -72,7 +76,38 @@ public final class ImmutableFeaturesTest {
         assertInstancesOf(ImmutableFeatures.class,
                 areImmutable(),
                 provided(JsonObject.class, Feature.class).isAlsoImmutable(),
-                assumingFields("features").areSafelyCopiedUnmodifiableCollectionsWithImmutableElements());
+                assumingFields("features").areSafelyCopiedUnmodifiableCollectionsWithImmutableElements(),
+                assumingFields("hashCode").areModifiedAsPartOfAnUnobservableCachingStrategy());
+    }
+
+    @Test
+    public void hashCodeOfModifiedFeaturesIsEqualToRecalculatedHashCode() {
+        final Feature otherFeature = ImmutableFeature.of("other", FLUX_CAPACITOR_PROPERTIES);
+        // the hash codes of the modified features are derived only from a known hash code
+        underTest.hashCode();
+
+        final Features withAddedFeature = underTest.setFeature(otherFeature);
+        final Features withReplacedFeature = withAddedFeature.setProperty(FLUX_CAPACITOR_ID,
+                DE_LOREAN_PROPERTY_POINTER, DE_LOREAN);
+        final Features withRemovedFeature = withReplacedFeature.removeFeature("other");
+
+        assertThat(withAddedFeature.hashCode())
+                .isEqualTo(ImmutableFeatures.of(FLUX_CAPACITOR, otherFeature).hashCode());
+        assertThat(withReplacedFeature.hashCode())
+                .isEqualTo(ImmutableFeatures.of(withReplacedFeature).hashCode());
+        assertThat(withRemovedFeature.hashCode())
+                .isEqualTo(ImmutableFeatures.of(withRemovedFeature).hashCode());
+    }
+
+    @Test
+    public void hashCodeOfModifiedFeaturesWithUnknownHashCodeIsCalculated() {
+        final Feature otherFeature = ImmutableFeature.of("other", FLUX_CAPACITOR_PROPERTIES);
+
+        final Features withAddedFeature = ImmutableFeatures.of(FLUX_CAPACITOR).setFeature(otherFeature);
+
+        assertThat(withAddedFeature.hashCode())
+                .isEqualTo(ImmutableFeatures.of(FLUX_CAPACITOR, otherFeature).hashCode());
+        assertThat(withAddedFeature.removeFeature("other").hashCode()).isEqualTo(underTest.hashCode());
     }
 
     @Test(expected = NullPointerException.class)
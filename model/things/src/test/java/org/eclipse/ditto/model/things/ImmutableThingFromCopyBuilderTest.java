@@ -333,6 +333,41 @@ public final class ImmutableThingFromCopyBuilderTest {
         assertThat(thing).hasFeatureProperty(FLUX_CAPACITOR_ID, PROPERTY_PATH, PROPERTY_VALUE);
     }
 
+    @Test
+    public void updateFeaturePropertiesOfThingWithManyProperties() {
+        final FeaturePropertiesBuilder propertiesBuilder = FeatureProperties.newBuilder();
+        for (int i = 0; i < 100; i++) {
+            propertiesBuilder.set("property" + i, JsonObject.newBuilder().set("value", i).build());
+        }
+        final FeatureProperties properties = propertiesBuilder.build();
+        final Feature feature = Feature.newBuilder()
+                .properties(properties)
+                .desiredProperties(properties)
+                .withId(FLUX_CAPACITOR_ID)
+                .build();
+        final Thing thing = Thing.newBuilder().setId(THING_ID).setFeature(feature).build();
+
+        final Thing updatedThing = ImmutableThingFromCopyBuilder.of(thing)
+                .setFeatureProperty(FLUX_CAPACITOR_ID, JsonPointer.of("property7/value"), PROPERTY_VALUE)
+                .setFeatureProperty(FLUX_CAPACITOR_ID, PROPERTY_PATH, PROPERTY_VALUE)
+                .removeFeatureProperty(FLUX_CAPACITOR_ID, JsonPointer.of("property8"))
+                .setFeatureDesiredProperty(FLUX_CAPACITOR_ID, JsonPointer.of("property9/value"), PROPERTY_VALUE)
+                .build();
+
+        assertThat(updatedThing)
+                .hasFeatureProperty(FLUX_CAPACITOR_ID, JsonPointer.of("property7/value"), PROPERTY_VALUE)
+                .hasFeatureProperty(FLUX_CAPACITOR_ID, PROPERTY_PATH, PROPERTY_VALUE)
+                .hasFeatureDesiredProperty(FLUX_CAPACITOR_ID, JsonPointer.of("property9/value"), PROPERTY_VALUE)
+                .hasFeatureProperty(FLUX_CAPACITOR_ID, JsonPointer.of("property9/value"), JsonValue.of(9));
+        assertThat(updatedThing.getFeatures().flatMap(features -> features.getFeature(FLUX_CAPACITOR_ID))
+                .flatMap(Feature::getProperties)
+                .flatMap(featureProperties -> featureProperties.getValue("property8"))).isEmpty();
+        assertThat(updatedThing.toBuilder().setFeatureProperty(FLUX_CAPACITOR_ID, PROPERTY_PATH, JsonValue.of(1))
+                .build()).isNotEqualTo(updatedThing);
+        assertThat(thing.getFeatures().flatMap(features -> features.getFeature(FLUX_CAPACITOR_ID)))
+                .contains(feature);
+    }
+
     @Test
     public void setFeatureDesiredPropertyOnEmptyBuilder() {
         underTestV2.setFeatureDesiredProperty(FLUX_CAPACITOR_ID, PROPERTY_PATH, PROPERTY_VALUE);
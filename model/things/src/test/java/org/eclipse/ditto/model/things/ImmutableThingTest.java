@@ -33,11 +33,13 @@ import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstance
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
 import java.lang.ref.SoftReference;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
 import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonKeyInvalidException;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
@@ -702,6 +704,99 @@ public final class ImmutableThingTest {
                 .hasRevision(REVISION);
     }
 
+    @Test
+    public void setValueAtFeaturePropertyPathWorksAsExpected() {
+        final JsonPointer propertyPath = JsonFactory.newPointer("target_year_4");
+        final JsonValue newPropertyValue = JsonFactory.newValue(1337);
+
+        final Thing changedThing = KNOWN_THING_V2.setValue(
+                JsonFactory.newPointer("features/" + FLUX_CAPACITOR_ID + "/properties").append(propertyPath),
+                newPropertyValue);
+
+        assertThat(changedThing)
+                .isEqualTo(KNOWN_THING_V2.setFeatureProperty(FLUX_CAPACITOR_ID, propertyPath, newPropertyValue));
+        assertThat(changedThing.getAttributes()).containsSame(ATTRIBUTES);
+    }
+
+    @Test
+    public void removeValueAtFeaturePropertyPathWorksAsExpected() {
+        final JsonPointer propertyPath = JsonFactory.newPointer("target_year_2");
+
+        final Thing changedThing = KNOWN_THING_V2.removeValue(
+                JsonFactory.newPointer("features/" + FLUX_CAPACITOR_ID + "/properties").append(propertyPath));
+
+        assertThat(changedThing)
+                .isEqualTo(KNOWN_THING_V2.removeFeatureProperty(FLUX_CAPACITOR_ID, propertyPath));
+        assertThat(changedThing.getAttributes()).containsSame(ATTRIBUTES);
+    }
+
+    @Test
+    public void setValueAtAttributePathWorksAsExpected() {
+        final JsonPointer attributePath = JsonFactory.newPointer("maker/name");
+        final JsonValue newAttributeValue = JsonFactory.newValue("ACME");
+
+        final Thing changedThing =
+                KNOWN_THING_V2.setValue(JsonFactory.newPointer("attributes").append(attributePath), newAttributeValue);
+
+        assertThat(changedThing).isEqualTo(KNOWN_THING_V2.setAttribute(attributePath, newAttributeValue));
+        assertThat(changedThing.getFeatures()).containsSame(FEATURES);
+    }
+
+    @Test
+    public void removeValueAtAttributePathWorksAsExpected() {
+        final JsonPointer attributePath = JsonFactory.newPointer("maker");
+
+        final Thing changedThing =
+                KNOWN_THING_V2.removeValue(JsonFactory.newPointer("attributes").append(attributePath));
+
+        assertThat(changedThing).isEqualTo(KNOWN_THING_V2.removeAttribute(attributePath));
+        assertThat(changedThing.getFeatures()).containsSame(FEATURES);
+    }
+
+    @Test
+    public void tryToSetValueWithInvalidKeyAtAttributePath() {
+        final JsonObject valueWithInvalidKey = JsonObject.newBuilder().set("invalid\u0001key", 42).build();
+
+        assertThatExceptionOfType(JsonKeyInvalidException.class)
+                .isThrownBy(() -> KNOWN_THING_V2.setValue(JsonPointer.of("attributes/maker/name"),
+                        valueWithInvalidKey));
+    }
+
+    @Test
+    public void setValueAtPolicyIdWorksAsExpected() {
+        final PolicyId newPolicyId = PolicyId.of("org.eclipse.ditto", "otherPolicy");
+
+        final Thing changedThing =
+                KNOWN_THING_V2.setValue(JsonFactory.newPointer("policyId"), JsonValue.of(newPolicyId.toString()));
+
+        assertThat(changedThing)
+                .hasId(THING_ID)
+                .hasPolicyId(newPolicyId)
+                .hasAttributes(ATTRIBUTES)
+                .hasFeatures(FEATURES)
+                .hasRevision(REVISION);
+    }
+
+    @Test
+    public void tryToSetValueAtEmptyPointer() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> KNOWN_THING_V2.setValue(JsonPointer.empty(), JsonValue.of(42)));
+    }
+
+    @Test
+    public void setRevisionAndModifiedWorksAsExpected() {
+        final ThingRevision newRevision = ThingsModelFactory.newThingRevision(REVISION.toLong() + 1);
+        final Instant newModified = MODIFIED.plusSeconds(1);
+
+        final Thing changedThing = KNOWN_THING_V2.setRevision(newRevision).setModified(newModified);
+
+        assertThat(changedThing)
+                .hasRevision(newRevision)
+                .hasModified(newModified)
+                .hasAttributes(ATTRIBUTES)
+                .hasFeatures(FEATURES);
+    }
+
     @Test
     public void tryToCreateThingWithValidThingIdNamespace() {
         ImmutableThing.of(ThingId.of("foo.bar", "foobar2000"), ACL, ATTRIBUTES, EMPTY_FEATURES, LIFECYCLE, REVISION,
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.things;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link LazyThing}.
+ */
+public final class LazyThingTest {
+
+    @Test
+    public void lazyThingEqualsEagerlyBuiltThing() {
+        final JsonObject jsonObject = TestConstants.Thing.THING_V2.toJson(FieldType.regularOrSpecial());
+        final Thing expected = ThingsModelFactory.newThing(jsonObject);
+
+        final Thing underTest = ThingsModelFactory.newThingLazily(jsonObject);
+
+        assertThat(underTest).isEqualTo(expected);
+        assertThat(expected).isEqualTo(underTest);
+        assertThat(underTest.hashCode()).isEqualTo(expected.hashCode());
+        assertThat(underTest.getAttributes()).isEqualTo(expected.getAttributes());
+        assertThat(underTest.getFeatures()).isEqualTo(expected.getFeatures());
+        assertThat(underTest.getRevision()).isEqualTo(expected.getRevision());
+        assertThat((Object) underTest.getImplementedSchemaVersion()).isEqualTo(JsonSchemaVersion.V_2);
+        assertThat(underTest.toJson(FieldType.regularOrSpecial()))
+                .isEqualTo(expected.toJson(FieldType.regularOrSpecial()));
+    }
+
+    @Test
+    public void lazyThingWithAclEqualsEagerlyBuiltThing() {
+        final JsonObject jsonObject =
+                TestConstants.Thing.THING_V1.toJson(JsonSchemaVersion.V_1, FieldType.regularOrSpecial());
+        final Thing expected = ThingsModelFactory.newThing(jsonObject);
+
+        final Thing underTest = ThingsModelFactory.newThingLazily(jsonObject);
+
+        assertThat(underTest.getAccessControlList()).isEqualTo(expected.getAccessControlList());
+        assertThat((Object) underTest.getImplementedSchemaVersion()).isEqualTo(JsonSchemaVersion.V_1);
+        assertThat(underTest).isEqualTo(expected);
+    }
+
+    @Test
+    public void featuresAreOnlyBuiltOnAccess() {
+        final JsonObject jsonObject = JsonObject.newBuilder()
+                .set(Thing.JsonFields.ID, TestConstants.Thing.THING_ID.toString())
+                .set(Thing.JsonFields.ATTRIBUTES, JsonObject.newBuilder().set("manufacturer", "ACME").build())
+                .set(Thing.JsonFields.FEATURES, JsonObject.newBuilder().set("broken", 42).build())
+                .build();
+
+        final Thing underTest = ThingsModelFactory.newThingLazily(jsonObject);
+
+        assertThat(underTest.getEntityId()).contains(TestConstants.Thing.THING_ID);
+        assertThat(underTest.getAttributes().flatMap(attributes -> attributes.getValue("manufacturer")))
+                .contains(JsonValue.of("ACME"));
+        assertThatExceptionOfType(DittoJsonException.class).isThrownBy(underTest::getFeatures);
+    }
+
+    @Test
+    public void modificationsEqualModificationsOfEagerlyBuiltThing() {
+        final JsonObject jsonObject = TestConstants.Thing.THING_V2.toJson(FieldType.regularOrSpecial());
+        final JsonPointer attributePath = JsonPointer.of("location/latitude");
+        final Thing lazyThing = ThingsModelFactory.newThingLazily(jsonObject);
+        final Thing eagerThing = ThingsModelFactory.newThing(jsonObject);
+
+        assertThat(lazyThing.setAttribute(attributePath, JsonValue.of(1.0)))
+                .isEqualTo(eagerThing.setAttribute(attributePath, JsonValue.of(1.0)));
+        assertThat(lazyThing.removeFeature(TestConstants.Feature.FLUX_CAPACITOR_ID))
+                .isEqualTo(eagerThing.removeFeature(TestConstants.Feature.FLUX_CAPACITOR_ID));
+        assertThat(lazyThing.setRevision(ThingRevision.newInstance(1337L)))
+                .isEqualTo(eagerThing.setRevision(ThingRevision.newInstance(1337L)));
+        assertThat(lazyThing.setValue(JsonPointer.of("policyId"), JsonValue.of("org.eclipse.ditto:other")))
+                .isEqualTo(eagerThing.setValue(JsonPointer.of("policyId"), JsonValue.of("org.eclipse.ditto:other")));
+        assertThat(lazyThing.removeValue(JsonPointer.of("attributes/maker")))
+                .isEqualTo(eagerThing.removeValue(JsonPointer.of("attributes/maker")));
+    }
+
+    @Test
+    public void modificationsOnlyBuildTheModifiedPart() {
+        final JsonObject jsonObject = JsonObject.newBuilder()
+                .set(Thing.JsonFields.ID, TestConstants.Thing.THING_ID.toString())
+                .set(Thing.JsonFields.REVISION, 1L)
+                .set(Thing.JsonFields.ATTRIBUTES, JsonObject.newBuilder().set("manufacturer", "ACME").build())
+                .set(Thing.JsonFields.FEATURES, JsonObject.newBuilder().set("broken", 42).build())
+                .build();
+
+        final Thing modified = ThingsModelFactory.newThingLazily(jsonObject)
+                .setValue(JsonPointer.of("attributes/location"), JsonValue.of("Berlin"))
+                .setRevision(ThingRevision.newInstance(2L));
+
+        assertThat(modified).isInstanceOf(LazyThing.class);
+        assertThat(modified.getRevision()).contains(ThingRevision.newInstance(2L));
+        assertThat(modified.getAttributes()).contains(ThingsModelFactory.newAttributesBuilder()
+                .set("manufacturer", "ACME")
+                .set("location", "Berlin")
+                .build());
+        assertThatExceptionOfType(DittoJsonException.class).isThrownBy(modified::getFeatures);
+    }
+
+    @Test
+    public void missingPartsAreAbsent() {
+        final Thing underTest = ThingsModelFactory.newThingLazily(JsonObject.newBuilder()
+                .set(Thing.JsonFields.ID, TestConstants.Thing.THING_ID.toString())
+                .build());
+
+        assertThat(underTest.getAttributes()).isEmpty();
+        assertThat(underTest.getFeatures()).isEmpty();
+        assertThat(underTest.getAccessControlList()).isEmpty();
+        assertThat(underTest.getMetadata()).isEmpty();
+    }
+
+}
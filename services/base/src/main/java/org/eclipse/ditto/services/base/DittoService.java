@@ -39,6 +39,7 @@ import org.eclipse.ditto.services.utils.devops.DevOpsCommandsActor;
 import org.eclipse.ditto.services.utils.devops.LogbackLoggingFacade;
 import org.eclipse.ditto.services.utils.health.status.StatusSupplierActor;
 import org.eclipse.ditto.services.utils.metrics.config.MetricsConfig;
+import org.eclipse.ditto.services.utils.metrics.json.JsonInternCacheMetrics;
 import org.eclipse.ditto.services.utils.metrics.prometheus.PrometheusReporterRoute;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.MongoDbConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.WithMongoDbConfig;
@@ -105,6 +106,8 @@ public abstract class DittoService<C extends ServiceSpecificConfig> {
      */
     public static final String DITTO_CONFIG_PATH = ScopedConfig.DITTO_SCOPE;
 
+    private static final Duration JSON_INTERN_CACHE_METRICS_INTERVAL = Duration.ofSeconds(30);
+
     private final Logger logger;
     private final String serviceName;
     private final String rootActorName;
@@ -220,6 +223,7 @@ public abstract class DittoService<C extends ServiceSpecificConfig> {
         final ActorSystem actorSystem = createActorSystem(actorSystemConfig);
         initializeActorSystem(actorSystem);
         startKamonPrometheusHttpEndpoint(actorSystem);
+        startJsonInternCacheMetrics(actorSystem);
         return actorSystem;
     }
 
@@ -324,6 +328,12 @@ public abstract class DittoService<C extends ServiceSpecificConfig> {
         }
     }
 
+    private void startJsonInternCacheMetrics(final ActorSystem actorSystem) {
+        actorSystem.scheduler()
+                .scheduleWithFixedDelay(JSON_INTERN_CACHE_METRICS_INTERVAL, JSON_INTERN_CACHE_METRICS_INTERVAL,
+                        JsonInternCacheMetrics.newInstance(), actorSystem.dispatcher());
+    }
+
     /**
      * Creates the Akka actor system. May be overridden to change the way how the actor system is created.
      *
@@ -46,6 +46,14 @@ public interface CachesConfig {
      */
     CacheConfig getEnforcerCacheConfig();
 
+    /**
+     * Returns how many decisions each cached policy enforcer remembers. Decisions are not cached if the value is not
+     * positive.
+     *
+     * @return the maximum number of decisions per enforcer.
+     */
+    long getEnforcerDecisionCacheSize();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code CachesConfig}.
@@ -55,7 +63,13 @@ public interface CachesConfig {
         /**
          * The duration to wait for entity shard regions.
          */
-        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(10L));
+        ASK_TIMEOUT("ask-timeout", Duration.ofSeconds(10L)),
+
+        /**
+         * How many decisions each cached policy enforcer remembers; 0 disables the decision caches.
+         * Each decision cache costs about 1 KiB plus about 100 bytes per remembered decision.
+         */
+        ENFORCER_DECISION_CACHE_SIZE("enforcer-decision-cache-size", 0L);
 
         private final String path;
         private final Object defaultValue;
@@ -35,11 +35,14 @@ public final class DefaultCachesConfig implements CachesConfig {
     private final Duration askTimeout;
     private final CacheConfig idCacheConfig;
     private final CacheConfig enforcerCacheConfig;
+    private final long enforcerDecisionCacheSize;
 
     private DefaultCachesConfig(final ScopedConfig config) {
         askTimeout = config.getDuration(CachesConfigValue.ASK_TIMEOUT.getConfigPath());
         idCacheConfig = DefaultCacheConfig.of(config, "id");
         enforcerCacheConfig = DefaultCacheConfig.of(config, "enforcer");
+        enforcerDecisionCacheSize =
+                config.getLong(CachesConfigValue.ENFORCER_DECISION_CACHE_SIZE.getConfigPath());
     }
 
     /**
@@ -68,6 +71,11 @@ public final class DefaultCachesConfig implements CachesConfig {
         return enforcerCacheConfig;
     }
 
+    @Override
+    public long getEnforcerDecisionCacheSize() {
+        return enforcerDecisionCacheSize;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -79,12 +87,13 @@ public final class DefaultCachesConfig implements CachesConfig {
         final DefaultCachesConfig that = (DefaultCachesConfig) o;
         return askTimeout.equals(that.askTimeout) &&
                 idCacheConfig.equals(that.idCacheConfig) &&
-                enforcerCacheConfig.equals(that.enforcerCacheConfig);
+                enforcerCacheConfig.equals(that.enforcerCacheConfig) &&
+                enforcerDecisionCacheSize == that.enforcerDecisionCacheSize;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(askTimeout, idCacheConfig, enforcerCacheConfig);
+        return Objects.hash(askTimeout, idCacheConfig, enforcerCacheConfig, enforcerDecisionCacheSize);
     }
 
     @Override
@@ -93,6 +102,7 @@ public final class DefaultCachesConfig implements CachesConfig {
                 "askTimeout=" + askTimeout +
                 ", idCacheConfig=" + idCacheConfig +
                 ", enforcerCacheConfig=" + enforcerCacheConfig +
+                ", enforcerDecisionCacheSize=" + enforcerDecisionCacheSize +
                 "]";
     }
 
@@ -13,6 +13,9 @@
 package org.eclipse.ditto.services.concierge.common;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 import javax.annotation.concurrent.Immutable;
@@ -32,12 +35,17 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
     private final Duration askTimeout;
     private final int bufferSize;
     private final boolean globalLiveResponseDispatching;
+    private final int schedulerLanes;
+    private final List<String> queryCoalescingNamespaces;
 
     private DefaultEnforcementConfig(final ConfigWithFallback configWithFallback) {
         askTimeout = configWithFallback.getDuration(EnforcementConfigValue.ASK_TIMEOUT.getConfigPath());
         bufferSize = configWithFallback.getInt(EnforcementConfigValue.BUFFER_SIZE.getConfigPath());
         globalLiveResponseDispatching =
                 configWithFallback.getBoolean(EnforcementConfigValue.GLOBAL_LIVE_RESPONSE_DISPATCHING.getConfigPath());
+        schedulerLanes = configWithFallback.getInt(EnforcementConfigValue.SCHEDULER_LANES.getConfigPath());
+        queryCoalescingNamespaces = Collections.unmodifiableList(new ArrayList<>(
+                configWithFallback.getStringList(EnforcementConfigValue.QUERY_COALESCING_NAMESPACES.getConfigPath())));
     }
 
     /**
@@ -67,6 +75,16 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
         return globalLiveResponseDispatching;
     }
 
+    @Override
+    public int getSchedulerLanes() {
+        return schedulerLanes;
+    }
+
+    @Override
+    public List<String> getQueryCoalescingNamespaces() {
+        return queryCoalescingNamespaces;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -77,12 +95,15 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
         }
         final DefaultEnforcementConfig that = (DefaultEnforcementConfig) o;
         return bufferSize == that.bufferSize && askTimeout.equals(that.askTimeout) &&
-                globalLiveResponseDispatching == that.globalLiveResponseDispatching;
+                globalLiveResponseDispatching == that.globalLiveResponseDispatching &&
+                schedulerLanes == that.schedulerLanes &&
+                queryCoalescingNamespaces.equals(that.queryCoalescingNamespaces);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(askTimeout, bufferSize, globalLiveResponseDispatching);
+        return Objects.hash(askTimeout, bufferSize, globalLiveResponseDispatching, schedulerLanes,
+                queryCoalescingNamespaces);
     }
 
     @Override
@@ -91,6 +112,8 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
                 "askTimeout=" + askTimeout +
                 ", bufferSize=" + bufferSize +
                 ", globalLiveResponseDispatching=" + globalLiveResponseDispatching +
+                ", schedulerLanes=" + schedulerLanes +
+                ", queryCoalescingNamespaces=" + queryCoalescingNamespaces +
                 "]";
     }
 
@@ -13,6 +13,8 @@
 package org.eclipse.ditto.services.concierge.common;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
 
 import javax.annotation.concurrent.Immutable;
 
@@ -45,6 +47,22 @@ public interface EnforcementConfig {
      */
     boolean shouldDispatchLiveResponsesGlobally();
 
+    /**
+     * Returns the number of lanes of the enforcement scheduler of each enforcer actor. Tasks of the same entity are
+     * always scheduled in the same lane.
+     *
+     * @return the number of scheduler lanes.
+     */
+    int getSchedulerLanes();
+
+    /**
+     * Returns the namespaces of the things whose concurrent identical retrieve commands share one request to the
+     * things shard region. Empty if query coalescing is disabled.
+     *
+     * @return the namespaces with query coalescing.
+     */
+    List<String> getQueryCoalescingNamespaces();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code EnforcementConfig}.
@@ -64,7 +82,17 @@ public interface EnforcementConfig {
         /**
          * Whether to enable dispatching live responses from channels other than the subscribers.
          */
-        GLOBAL_LIVE_RESPONSE_DISPATCHING("global-live-response-dispatching", false);
+        GLOBAL_LIVE_RESPONSE_DISPATCHING("global-live-response-dispatching", false),
+
+        /**
+         * The number of lanes of the enforcement scheduler of each enforcer actor.
+         */
+        SCHEDULER_LANES("scheduler-lanes", 1),
+
+        /**
+         * The namespaces of the things whose concurrent identical retrieve commands are coalesced.
+         */
+        QUERY_COALESCING_NAMESPACES("query-coalescing-namespaces", Collections.emptyList());
 
         private final String path;
         private final Object defaultValue;
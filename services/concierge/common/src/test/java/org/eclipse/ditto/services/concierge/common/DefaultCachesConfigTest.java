@@ -62,6 +62,9 @@ public final class DefaultCachesConfigTest {
         softly.assertThat(underTest.getAskTimeout())
                 .as("getAskTimeout")
                 .isEqualTo(CachesConfig.CachesConfigValue.ASK_TIMEOUT.getDefaultValue());
+        softly.assertThat(underTest.getEnforcerDecisionCacheSize())
+                .as("getEnforcerDecisionCacheSize")
+                .isEqualTo(CachesConfig.CachesConfigValue.ENFORCER_DECISION_CACHE_SIZE.getDefaultValue());
     }
 
     @Test
@@ -72,6 +75,10 @@ public final class DefaultCachesConfigTest {
                 .as(CachesConfig.CachesConfigValue.ASK_TIMEOUT.getConfigPath())
                 .isEqualTo(Duration.ofSeconds(30L));
 
+        softly.assertThat(underTest.getEnforcerDecisionCacheSize())
+                .as(CachesConfig.CachesConfigValue.ENFORCER_DECISION_CACHE_SIZE.getConfigPath())
+                .isEqualTo(100L);
+
         softly.assertThat(underTest.getEnforcerCacheConfig())
                 .as("enforcerCacheConfig")
                 .satisfies(enforcerCacheConfig -> {
@@ -64,6 +64,12 @@ public final class DefaultEnforcementConfigTest {
         softly.assertThat(underTest.getBufferSize())
                 .as(EnforcementConfig.EnforcementConfigValue.BUFFER_SIZE.getConfigPath())
                 .isEqualTo(EnforcementConfig.EnforcementConfigValue.BUFFER_SIZE.getDefaultValue());
+        softly.assertThat(underTest.getSchedulerLanes())
+                .as(EnforcementConfig.EnforcementConfigValue.SCHEDULER_LANES.getConfigPath())
+                .isEqualTo(EnforcementConfig.EnforcementConfigValue.SCHEDULER_LANES.getDefaultValue());
+        softly.assertThat(underTest.getQueryCoalescingNamespaces())
+                .as(EnforcementConfig.EnforcementConfigValue.QUERY_COALESCING_NAMESPACES.getConfigPath())
+                .isEqualTo(EnforcementConfig.EnforcementConfigValue.QUERY_COALESCING_NAMESPACES.getDefaultValue());
     }
 
     @Test
@@ -76,6 +82,12 @@ public final class DefaultEnforcementConfigTest {
         softly.assertThat(underTest.getBufferSize())
                 .as(EnforcementConfig.EnforcementConfigValue.BUFFER_SIZE.getConfigPath())
                 .isEqualTo(1337);
+        softly.assertThat(underTest.getSchedulerLanes())
+                .as(EnforcementConfig.EnforcementConfigValue.SCHEDULER_LANES.getConfigPath())
+                .isEqualTo(4);
+        softly.assertThat(underTest.getQueryCoalescingNamespaces())
+                .as(EnforcementConfig.EnforcementConfigValue.QUERY_COALESCING_NAMESPACES.getConfigPath())
+                .containsExactly("org.eclipse.ditto");
     }
 
 }
@@ -12,9 +12,12 @@
  */
 package org.eclipse.ditto.services.concierge.enforcement;
 
+import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.DittoHeadersBuilder;
 import org.eclipse.ditto.model.enforcers.Enforcer;
 import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.commands.base.CommandResponse;
@@ -66,6 +69,51 @@ public abstract class AbstractEnforcementWithAsk<C extends Signal<?>, R extends
                 .thenApply(response -> filterJsonView(response, enforcer));
     }
 
+    /**
+     * Asks the given {@code actorToAsk} for a response by telling {@code commandWithReadSubjects} unless an identical
+     * command is already in flight, in which case its response is shared. The response carries the headers of
+     * {@code commandWithReadSubjects} and is filtered by using the {@code enforcer}.
+     *
+     * @param actorToAsk the actor that should be asked.
+     * @param commandWithReadSubjects the command that is used to ask.
+     * @param enforcer the enforced used to filter the JSON view.
+     * @param queryCoalescer decides which commands are identical and keeps track of the in-flight ones.
+     * @return A completion stage which either completes with a filtered response of type {@link R} or fails with a
+     * {@link DittoRuntimeException}.
+     */
+    protected CompletionStage<R> askCoalescedAndBuildJsonView(
+            final ActorRef actorToAsk,
+            final C commandWithReadSubjects,
+            final Enforcer enforcer,
+            final QueryCoalescer queryCoalescer) {
+
+        final Optional<QueryCoalescer.QueryKey> key = queryCoalescer.getKey(commandWithReadSubjects);
+        if (!key.isPresent()) {
+            return askAndBuildJsonView(actorToAsk, commandWithReadSubjects, enforcer);
+        }
+        final String hint = "before building JsonView of coalesced query";
+        final DittoHeaders dittoHeaders = commandWithReadSubjects.getDittoHeaders();
+        return queryCoalescer.<R>coalesce(key.get(), () -> ask(actorToAsk, commandWithReadSubjects, hint))
+                .handle((response, error) -> {
+                    if (null != error) {
+                        // the error may carry the headers of another command
+                        throw reportError(hint, error).setDittoHeaders(dittoHeaders);
+                    }
+                    return filterJsonView(withDittoHeaders(response, dittoHeaders), enforcer);
+                });
+    }
+
+    /**
+     * Sets the headers of the given command to a shared response. Of the headers of the response only the entity tag
+     * is kept, as the others may belong to the command which started the request.
+     */
+    @SuppressWarnings("unchecked") // setting headers does not change the type of a command response
+    private R withDittoHeaders(final R response, final DittoHeaders dittoHeaders) {
+        final DittoHeadersBuilder<?, ?> responseHeadersBuilder = dittoHeaders.toBuilder();
+        response.getDittoHeaders().getETag().ifPresent(responseHeadersBuilder::eTag);
+        return (R) response.setDittoHeaders(responseHeadersBuilder.build());
+    }
+
     /**
      * Asks the given {@code actorToAsk} for a response by telling {@code commandWithReadSubjects}.
      *
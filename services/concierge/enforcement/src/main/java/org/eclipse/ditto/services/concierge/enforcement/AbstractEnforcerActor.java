@@ -13,6 +13,8 @@
 package org.eclipse.ditto.services.concierge.enforcement;
 
 import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import javax.annotation.Nullable;
 
@@ -109,10 +111,10 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
     protected void preEnhancement(final ReceiveBuilder receiveBuilder) {
         receiveBuilder
                 .match(PolicyTag.class, policyTag -> {
-                    logger.debug("Received <{}> -> Invalidating caches...", policyTag);
+                    logger.debug("Received <{}> -> Invalidating outdated caches...", policyTag);
                     final EntityIdWithResourceType entityId = EntityIdWithResourceType.of(PolicyCommand.RESOURCE_TYPE,
                             policyTag.getEntityId());
-                    invalidateCaches(entityId);
+                    invalidateCachesOlderThan(entityId, policyTag.getRevision());
                 })
                 .match(InvalidateCacheEntry.class, invalidateCacheEntry -> {
                     logger.debug("Received <{}> -> Invalidating caches...", invalidateCacheEntry);
@@ -121,6 +123,27 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
                 });
     }
 
+    /**
+     * Invalidates the caches for a policy unless the cached policy enforcer already has at least the given revision,
+     * which is the case if the policy enforcer updater applied the policy event of that revision.
+     */
+    private void invalidateCachesOlderThan(final EntityIdWithResourceType entityId, final long revision) {
+        if (policyEnforcerCache != null) {
+            final CompletableFuture<Optional<Entry<Enforcer>>> cachedEntry =
+                    policyEnforcerCache.getIfPresent(entityId);
+            final boolean upToDate = cachedEntry.isDone() && !cachedEntry.isCompletedExceptionally() &&
+                    cachedEntry.join()
+                            .filter(entry -> entry.exists() && entry.getRevision() >= revision)
+                            .isPresent();
+            if (upToDate) {
+                logger.debug("Policy enforcer cache for entity ID <{}> is up to date with revision <{}>", entityId,
+                        revision);
+                return;
+            }
+        }
+        invalidateCaches(entityId);
+    }
+
     private void invalidateCaches(final EntityIdWithResourceType entityId) {
         if (thingIdCache != null) {
             final boolean invalidated = thingIdCache.invalidate(entityId);
@@ -164,6 +187,13 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
         return enforcementConfig.getBufferSize();
     }
 
+    /**
+     * @return the enforcement config of this actor.
+     */
+    protected EnforcementConfig getEnforcementConfig() {
+        return enforcementConfig;
+    }
+
     @Override
     protected Contextual<WithDittoHeaders<?>> mapMessage(final WithDittoHeaders<?> message) {
         return contextual.withReceivedMessage(message, getSender());
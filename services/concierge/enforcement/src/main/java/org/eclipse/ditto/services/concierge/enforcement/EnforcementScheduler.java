@@ -17,6 +17,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
@@ -28,6 +29,8 @@ import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.services.utils.akka.logging.ThreadSafeDittoLoggingAdapter;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreparedTimer;
 
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
@@ -37,6 +40,9 @@ import akka.pattern.Patterns;
 
 /**
  * Actor that schedules enforcement tasks. Relying on the inherent timeout of enforcement tasks to not leak memory.
+ * <p>
+ * Each instance is one lane of {@link EnforcementSchedulerLanes}: it orders the tasks of the entities assigned to it
+ * and reports its metrics tagged with its lane number.
  */
 final class EnforcementScheduler extends AbstractActor {
 
@@ -45,6 +51,8 @@ final class EnforcementScheduler extends AbstractActor {
      */
     static final String ACTOR_NAME = "scheduler";
 
+    private static final String LANE_TAG = "lane";
+
     /**
      * Cache of started enforcement tasks for each entity ID.
      */
@@ -52,16 +60,32 @@ final class EnforcementScheduler extends AbstractActor {
     private final DittoDiagnosticLoggingAdapter log;
     private final Counter scheduledEnforcementTasks;
     private final Counter completedEnforcementTasks;
+    private final Gauge inFlightEnforcementTasks;
+    private final PreparedTimer schedulingLatency;
 
-    private EnforcementScheduler() {
+    @SuppressWarnings("unused")
+    private EnforcementScheduler(final int lane) {
         futuresMap = new HashMap<>();
         log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
-        scheduledEnforcementTasks = DittoMetrics.counter("scheduled_enforcement_tasks");
-        completedEnforcementTasks = DittoMetrics.counter("completed_enforcement_tasks");
+        final String laneTag = String.valueOf(lane);
+        scheduledEnforcementTasks = DittoMetrics.counter("scheduled_enforcement_tasks").tag(LANE_TAG, laneTag);
+        completedEnforcementTasks = DittoMetrics.counter("completed_enforcement_tasks").tag(LANE_TAG, laneTag);
+        inFlightEnforcementTasks = DittoMetrics.gauge("in_flight_enforcement_tasks").tag(LANE_TAG, laneTag);
+        schedulingLatency = DittoMetrics.timer("enforcement_scheduling_latency").tag(LANE_TAG, laneTag);
     }
 
     static Props props() {
-        return Props.create(EnforcementScheduler.class);
+        return props(0);
+    }
+
+    /**
+     * Creates Akka configuration object Props for one lane of the scheduler.
+     *
+     * @param lane the number of the lane by which the metrics of the scheduler are tagged.
+     * @return the Props object.
+     */
+    static Props props(final int lane) {
+        return Props.create(EnforcementScheduler.class, lane);
     }
 
     @Override
@@ -82,6 +106,7 @@ final class EnforcementScheduler extends AbstractActor {
             } else {
                 log.debug("Scheduling <{}> at <{}>", task, cachedFutures);
                 final Futures previousFutures = cachedFutures != null ? cachedFutures : Futures.initial();
+                inFlightEnforcementTasks.increment();
                 return scheduleTaskAfter(previousFutures, task);
             }
         });
@@ -95,6 +120,7 @@ final class EnforcementScheduler extends AbstractActor {
             log.debug("Reducing reference count <{}>", futures);
             return futures.onComplete();
         });
+        inFlightEnforcementTasks.decrement();
         completedEnforcementTasks.increment();
     }
 
@@ -142,7 +168,7 @@ final class EnforcementScheduler extends AbstractActor {
     private Futures scheduleTaskAfter(final Futures previousFutures, final EnforcementTask task) {
         final CompletionStage<?> taskFuture =
                 previousFutures.beforeStartFuture.thenCompose(authChangeComplete ->
-                        previousFutures.beforeCompleteFuture.thenCombine(task.start(),
+                        previousFutures.beforeCompleteFuture.thenCombine(startTask(task),
                                 (previousTaskComplete, enforcementResult) -> dispatchEnforcedMessage(enforcementResult)
                         )
                 ).handle((result, error) -> sendFutureComplete(task, error));
@@ -151,6 +177,11 @@ final class EnforcementScheduler extends AbstractActor {
                 : previousFutures.appendBeforeCompleteFuture(taskFuture);
     }
 
+    private CompletionStage<Contextual<?>> startTask(final EnforcementTask task) {
+        schedulingLatency.record(System.nanoTime() - task.getCreationNanoTime(), TimeUnit.NANOSECONDS);
+        return task.start();
+    }
+
     private Void sendFutureComplete(final EnforcementTask task, @Nullable final Throwable error) {
         getSelf().tell(FutureComplete.of(task.getEntityId(), error), ActorRef.noSender());
         return null;
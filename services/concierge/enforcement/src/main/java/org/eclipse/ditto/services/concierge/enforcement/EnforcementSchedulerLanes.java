@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.enforcement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.concurrent.Immutable;
+
+import akka.actor.ActorContext;
+import akka.actor.ActorRef;
+
+/**
+ * Stripes enforcement tasks over several {@link EnforcementScheduler} actors. The lane of a task is selected by the
+ * hash of its entity ID, so that all tasks of one entity are ordered by the same scheduler while tasks of different
+ * entities are scheduled in parallel.
+ */
+@Immutable
+final class EnforcementSchedulerLanes {
+
+    private final List<ActorRef> lanes;
+
+    private EnforcementSchedulerLanes(final List<ActorRef> lanes) {
+        this.lanes = Collections.unmodifiableList(lanes);
+    }
+
+    /**
+     * Starts the schedulers of all lanes as children of the given actor context.
+     *
+     * @param actorContext context of the parent actor, which should be EnforcerActor.
+     * @param numberOfLanes how many schedulers to start; at least one is started.
+     * @return the lanes.
+     */
+    static EnforcementSchedulerLanes start(final ActorContext actorContext, final int numberOfLanes) {
+        final int lanesToStart = Math.max(1, numberOfLanes);
+        final List<ActorRef> lanes = new ArrayList<>(lanesToStart);
+        for (int lane = 0; lane < lanesToStart; lane++) {
+            final String actorName = 1 == lanesToStart
+                    ? EnforcementScheduler.ACTOR_NAME
+                    : EnforcementScheduler.ACTOR_NAME + "-" + lane;
+            lanes.add(actorContext.actorOf(EnforcementScheduler.props(lane), actorName));
+        }
+        return new EnforcementSchedulerLanes(lanes);
+    }
+
+    /**
+     * Sends a task to the scheduler of the lane of its entity ID.
+     *
+     * @param task the task to schedule.
+     */
+    void schedule(final EnforcementTask task) {
+        getLane(task).tell(task, ActorRef.noSender());
+    }
+
+    private ActorRef getLane(final EnforcementTask task) {
+        return lanes.get(Math.floorMod(task.getEntityId().hashCode(), lanes.size()));
+    }
+
+}
@@ -26,12 +26,14 @@ final class EnforcementTask {
     private final EntityId entityId;
     private final boolean changesAuthorization;
     private final Supplier<CompletionStage<Contextual<?>>> taskSupplier;
+    private final long creationNanoTime;
 
     private EnforcementTask(final EntityId entityId,
             final boolean changesAuthorization, final Supplier<CompletionStage<Contextual<?>>> taskSupplier) {
         this.entityId = entityId;
         this.taskSupplier = taskSupplier;
         this.changesAuthorization = changesAuthorization;
+        creationNanoTime = System.nanoTime();
     }
 
     /**
@@ -61,6 +63,14 @@ final class EnforcementTask {
         return changesAuthorization;
     }
 
+    /**
+     * @return the value of {@link System#nanoTime()} when this task was created, to measure how long it waited
+     * before it was started.
+     */
+    long getCreationNanoTime() {
+        return creationNanoTime;
+    }
+
     CompletionStage<Contextual<?>> start() {
         return taskSupplier.get();
     }
@@ -61,8 +61,8 @@ public final class EnforcerActor extends AbstractEnforcerActor {
             @Nullable final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache) {
 
         super(pubSubMediator, conciergeForwarder, thingIdCache, aclEnforcerCache, policyEnforcerCache);
-        final ActorRef enforcementScheduler =
-                getContext().actorOf(EnforcementScheduler.props(), EnforcementScheduler.ACTOR_NAME);
+        final EnforcementSchedulerLanes enforcementScheduler =
+                EnforcementSchedulerLanes.start(getContext(), getEnforcementConfig().getSchedulerLanes());
         sink = assembleSink(enforcementProviders, preEnforcer, enforcementScheduler);
     }
 
@@ -130,7 +130,7 @@ public final class EnforcerActor extends AbstractEnforcerActor {
     private Sink<Contextual<WithDittoHeaders<?>>, CompletionStage<Done>> assembleSink(
             final Set<EnforcementProvider<?>> enforcementProviders,
             @Nullable final PreEnforcer preEnforcer,
-            final ActorRef enforcementScheduler) {
+            final EnforcementSchedulerLanes enforcementScheduler) {
 
         final PreEnforcer preEnforcerStep =
                 preEnforcer != null ? preEnforcer : CompletableFuture::completedStage;
@@ -152,6 +152,6 @@ public final class EnforcerActor extends AbstractEnforcerActor {
 
         return Flow.<Contextual<WithDittoHeaders<?>>>create()
                 .via(enforcerFlow)
-                .toMat(Sink.foreach(task -> enforcementScheduler.tell(task, ActorRef.noSender())), Keep.right());
+                .toMat(Sink.foreach(enforcementScheduler::schedule), Keep.right());
     }
 }
@@ -323,6 +323,8 @@ public final class PolicyCommandEnforcement
     /**
      * Whenever a Command changed the authorization, the caches must be invalidated - otherwise a directly following
      * Command targeted for the same entity will probably fail as the enforcer was not yet updated.
+     * The caches of all concierge nodes are invalidated preemptively, so that no node relies on receiving the resulting
+     * policy event, e. g. a node which would detect a revision gap.
      *
      * @param policyId the ID of the Policy to invalidate caches for.
      */
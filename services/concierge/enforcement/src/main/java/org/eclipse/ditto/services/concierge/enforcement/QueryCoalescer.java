@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.enforcement;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.signals.base.Signal;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+
+/**
+ * Lets concurrent identical queries share one request. A query joins the request of an identical query that is
+ * in flight; the request is forgotten as soon as it completes, thus responses are never cached beyond that.
+ * <p>
+ * Currently {@link RetrieveThing} commands without snapshot revision and conditional headers of things in the
+ * configured namespaces are coalesced. Queries are identical if they have the same thing ID, selected fields, schema
+ * version and authorization subjects.
+ * <p>
+ * The in-flight queries are indexed by thing ID, thus a modification of a thing forgets its queries without looking
+ * at the queries of other things.
+ */
+@ThreadSafe
+public final class QueryCoalescer {
+
+    private static final String METRIC_NAME = "enforcement_query_coalescing";
+    private static final String RESULT_TAG = "result";
+
+    private static final QueryCoalescer DISABLED = new QueryCoalescer(Collections.emptySet());
+
+    private final Set<String> namespaces;
+    /**
+     * In-flight queries by thing ID. The inner maps are only accessed within the atomic operations of the outer map.
+     */
+    private final ConcurrentMap<ThingId, Map<QueryKey, CompletableFuture<?>>> inFlightQueries;
+    private final Counter hits;
+    private final Counter misses;
+
+    private QueryCoalescer(final Set<String> namespaces) {
+        this.namespaces = namespaces;
+        inFlightQueries = new ConcurrentHashMap<>();
+        hits = DittoMetrics.counter(METRIC_NAME).tag(RESULT_TAG, "hit");
+        misses = DittoMetrics.counter(METRIC_NAME).tag(RESULT_TAG, "miss");
+    }
+
+    /**
+     * Returns a coalescer for the queries of entities in the given namespaces.
+     *
+     * @param namespaces the namespaces whose queries are coalesced.
+     * @return the coalescer.
+     * @throws NullPointerException if {@code namespaces} is {@code null}.
+     */
+    public static QueryCoalescer of(final Collection<String> namespaces) {
+        if (namespaces.isEmpty()) {
+            return DISABLED;
+        }
+        return new QueryCoalescer(Collections.unmodifiableSet(new HashSet<>(namespaces)));
+    }
+
+    /**
+     * Returns a coalescer which never coalesces queries.
+     *
+     * @return the coalescer.
+     */
+    public static QueryCoalescer disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Returns the key by which the given query is identified among the in-flight queries.
+     *
+     * @param query the query.
+     * @return the key or an empty Optional if the query is not coalesced.
+     */
+    Optional<QueryKey> getKey(final Signal<?> query) {
+        if (namespaces.isEmpty() || !(query instanceof RetrieveThing)) {
+            return Optional.empty();
+        }
+        final RetrieveThing retrieveThing = (RetrieveThing) query;
+        final ThingId thingId = retrieveThing.getThingEntityId();
+        final DittoHeaders dittoHeaders = retrieveThing.getDittoHeaders();
+        if (!namespaces.contains(thingId.getNamespace()) ||
+                retrieveThing.getSnapshotRevision().isPresent() ||
+                dittoHeaders.getIfMatch().isPresent() ||
+                dittoHeaders.getIfNoneMatch().isPresent()) {
+            return Optional.empty();
+        }
+        return Optional.of(new QueryKey(thingId, retrieveThing.getSelectedFields().orElse(null),
+                retrieveThing.getImplementedSchemaVersion(),
+                dittoHeaders.getAuthorizationContext().getAuthorizationSubjectIds()));
+    }
+
+    /**
+     * Joins the in-flight query with the given key or starts it with the given request if there is none.
+     *
+     * @param key the key of the query as returned by {@link #getKey(Signal)}.
+     * @param request starts the request of the query.
+     * @param <R> the type of the response.
+     * @return the response of the request shared by all identical in-flight queries.
+     */
+    @SuppressWarnings("unchecked") // the key determines the type of the response
+    <R> CompletionStage<R> coalesce(final QueryKey key, final Supplier<CompletionStage<R>> request) {
+        final CompletableFuture<R> response = new CompletableFuture<>();
+        final CompletableFuture<?> inFlightResponse = putIfAbsent(key, response);
+        if (null != inFlightResponse) {
+            hits.increment();
+            return (CompletionStage<R>) inFlightResponse;
+        }
+        misses.increment();
+        final CompletionStage<R> requestedResponse;
+        try {
+            requestedResponse = request.get();
+        } catch (final RuntimeException e) {
+            // queries which joined meanwhile must not wait for a request which was never started
+            remove(key, response);
+            response.completeExceptionally(e);
+            return response;
+        }
+        requestedResponse.whenComplete((result, error) -> {
+            // forget the query before completing it so that queries arriving afterwards start a new request
+            remove(key, response);
+            if (null != error) {
+                response.completeExceptionally(error);
+            } else {
+                response.complete(result);
+            }
+        });
+        return response;
+    }
+
+    @Nullable
+    private CompletableFuture<?> putIfAbsent(final QueryKey key, final CompletableFuture<?> response) {
+        final AtomicReference<CompletableFuture<?>> inFlightResponse = new AtomicReference<>();
+        inFlightQueries.compute(key.thingId, (thingId, queries) -> {
+            final Map<QueryKey, CompletableFuture<?>> result = null != queries ? queries : new HashMap<>();
+            inFlightResponse.set(result.putIfAbsent(key, response));
+            return result;
+        });
+        return inFlightResponse.get();
+    }
+
+    private void remove(final QueryKey key, final CompletableFuture<?> response) {
+        inFlightQueries.computeIfPresent(key.thingId, (thingId, queries) -> {
+            queries.remove(key, response);
+            return queries.isEmpty() ? null : queries;
+        });
+    }
+
+    /**
+     * Forgets the in-flight queries of the given thing so that queries arriving afterwards start a new request.
+     * Queries which already joined a request still get its response.
+     *
+     * @param thingId the ID of the thing.
+     */
+    void forgetInFlightQueries(final ThingId thingId) {
+        inFlightQueries.remove(thingId);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "namespaces=" + namespaces +
+                ", thingsWithInFlightQueries=" + inFlightQueries.size() +
+                "]";
+    }
+
+    /**
+     * Identifies a query among the in-flight queries.
+     */
+    static final class QueryKey {
+
+        private final ThingId thingId;
+        @Nullable private final JsonFieldSelector selectedFields;
+        private final JsonSchemaVersion schemaVersion;
+        private final List<String> authorizationSubjectIds;
+
+        private QueryKey(final ThingId thingId, @Nullable final JsonFieldSelector selectedFields,
+                final JsonSchemaVersion schemaVersion, final List<String> authorizationSubjectIds) {
+
+            this.thingId = requireNonNull(thingId);
+            this.selectedFields = selectedFields;
+            this.schemaVersion = requireNonNull(schemaVersion);
+            this.authorizationSubjectIds = requireNonNull(authorizationSubjectIds);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final QueryKey that = (QueryKey) o;
+            return thingId.equals(that.thingId) &&
+                    Objects.equals(selectedFields, that.selectedFields) &&
+                    schemaVersion == that.schemaVersion &&
+                    authorizationSubjectIds.equals(that.authorizationSubjectIds);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(thingId, selectedFields, schemaVersion, authorizationSubjectIds);
+        }
+
+    }
+
+}
@@ -17,7 +17,6 @@ import static org.eclipse.ditto.model.things.Permission.ADMINISTRATE;
 import static org.eclipse.ditto.services.models.policies.Permission.MIN_REQUIRED_POLICY_PERMISSIONS;
 
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -34,7 +33,6 @@ import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonFieldSelectorBuilder;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonObjectBuilder;
-import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonRuntimeException;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
@@ -145,6 +143,7 @@ public final class ThingCommandEnforcement
     private final PreEnforcer preEnforcer;
     private final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache;
     private final PolicyIdReferencePlaceholderResolver policyIdReferencePlaceholderResolver;
+    private final QueryCoalescer queryCoalescer;
 
     private ThingCommandEnforcement(final Contextual<ThingCommand<?>> data,
             final ActorRef thingsShardRegion,
@@ -153,7 +152,8 @@ public final class ThingCommandEnforcement
             final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
             final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache,
             final PreEnforcer preEnforcer,
-            final List<SubjectIssuer> subjectIssuersForPolicyMigration) {
+            final List<SubjectIssuer> subjectIssuersForPolicyMigration,
+            final QueryCoalescer queryCoalescer) {
 
         super(data, ThingQueryCommandResponse.class);
         this.thingsShardRegion = requireNonNull(thingsShardRegion);
@@ -169,6 +169,7 @@ public final class ThingCommandEnforcement
         policyEnforcerRetriever = new EnforcerRetriever<Enforcer>(IdentityCache.INSTANCE, policyEnforcerCache);
         policyIdReferencePlaceholderResolver =
                 PolicyIdReferencePlaceholderResolver.of(conciergeForwarder(), getAskTimeout());
+        this.queryCoalescer = requireNonNull(queryCoalescer);
     }
 
     @Override
@@ -341,7 +342,8 @@ public final class ThingCommandEnforcement
                         () -> retrieveThingAndPolicy(retrieveThing, policyId, enforcer));
             } else {
                 result = withMessageToReceiverViaAskFuture(thingQueryCommand, sender(),
-                        () -> askAndBuildJsonView(thingsShardRegion, thingQueryCommand, enforcer));
+                        () -> askCoalescedAndBuildJsonView(thingsShardRegion, thingQueryCommand, enforcer,
+                                queryCoalescer));
             }
         } else {
             result = forwardToThingsShardRegion(commandWithReadSubjects);
@@ -572,6 +574,8 @@ public final class ThingCommandEnforcement
         if (command instanceof ThingModifyCommand && ((ThingModifyCommand<?>) command).changesAuthorization()) {
             invalidateThingCaches(command.getThingEntityId());
         }
+        // queries sent after this command must not join requests sent before it
+        queryCoalescer.forgetInFlightQueries(command.getThingEntityId());
         return withMessageToReceiver(command, thingsShardRegion);
     }
 
@@ -898,30 +902,16 @@ public final class ThingCommandEnforcement
             return true;
         } else if (policyEnforcer.hasPartialPermissions(thingResourceKey, authorizationContext, Permission.WRITE)) {
             // in case of partial permissions at thingResourceKey level check all leaves of merge patch for
-            // unrestricted permissions
-            final Set<ResourceKey> resourceKeys = calculateLeaves(command.getPath(), command.getValue());
-            return policyEnforcer.hasUnrestrictedPermissions(resourceKeys, authorizationContext, Permission.WRITE);
+            // unrestricted permissions in a single pass over the policy
+            final ResourceKey mergeResourceKey = PoliciesResourceType.thingResource(command.getPath());
+            return policyEnforcer.getResourcePathsWithoutUnrestrictedPermissions(mergeResourceKey, command.getValue(),
+                    authorizationContext, Permissions.newInstance(Permission.WRITE)).isEmpty();
         } else {
             // not even partial permission
             return false;
         }
     }
 
-    private static Set<ResourceKey> calculateLeaves(final JsonPointer path, final JsonValue value) {
-        if (value.isObject()) {
-            return value.asObject().stream()
-                    .map(f -> calculateLeaves(path.append(f.getKey().asPointer()), f.getValue()))
-                    .reduce(new HashSet<>(), ThingCommandEnforcement::addAll, ThingCommandEnforcement::addAll);
-        } else {
-            return Set.of(PoliciesResourceType.thingResource(path));
-        }
-    }
-
-    private static Set<ResourceKey> addAll(final Set<ResourceKey> result, final Set<ResourceKey> toBeAdded) {
-        result.addAll(toBeAdded);
-        return result;
-    }
-
     /**
      * Authorizes a thing-command by an ACL enforcer.
      *
@@ -1218,6 +1208,7 @@ public final class ThingCommandEnforcement
         private final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache;
         private final PreEnforcer preEnforcer;
         private final List<SubjectIssuer> subjectIssuersForPolicyMigration;
+        private final QueryCoalescer queryCoalescer;
 
         /**
          * Constructor.
@@ -1261,6 +1252,42 @@ public final class ThingCommandEnforcement
                 @Nullable final PreEnforcer preEnforcer,
                 final List<SubjectIssuer> subjectIssuersForPolicyMigration) {
 
+            this(thingsShardRegion, policiesShardRegion, thingIdCache, policyEnforcerCache, aclEnforcerCache,
+                    preEnforcer, subjectIssuersForPolicyMigration, QueryCoalescer.disabled());
+        }
+
+        /**
+         * Constructor.
+         *
+         * @param thingsShardRegion the ActorRef to the Things shard region.
+         * @param policiesShardRegion the ActorRef to the Policies shard region.
+         * @param thingIdCache the thing-id-cache.
+         * @param policyEnforcerCache the policy-enforcer cache.
+         * @param aclEnforcerCache the acl-enforcer cache.
+         * @param preEnforcer pre-enforcer function to block undesirable messages to policies shard region.
+         * @param queryCoalescer lets concurrent identical queries share one request to the Things shard region.
+         */
+        public Provider(final ActorRef thingsShardRegion,
+                final ActorRef policiesShardRegion,
+                final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache,
+                final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
+                final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache,
+                @Nullable final PreEnforcer preEnforcer,
+                final QueryCoalescer queryCoalescer) {
+
+            this(thingsShardRegion, policiesShardRegion, thingIdCache, policyEnforcerCache, aclEnforcerCache,
+                    preEnforcer, DEFAULT_SUBJECT_ISSUERS_FOR_POLICY_MIGRATION, queryCoalescer);
+        }
+
+        private Provider(final ActorRef thingsShardRegion,
+                final ActorRef policiesShardRegion,
+                final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache,
+                final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
+                final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache,
+                @Nullable final PreEnforcer preEnforcer,
+                final List<SubjectIssuer> subjectIssuersForPolicyMigration,
+                final QueryCoalescer queryCoalescer) {
+
             this.thingsShardRegion = requireNonNull(thingsShardRegion);
             this.policiesShardRegion = requireNonNull(policiesShardRegion);
             this.thingIdCache = requireNonNull(thingIdCache);
@@ -1268,6 +1295,7 @@ public final class ThingCommandEnforcement
             this.aclEnforcerCache = requireNonNull(aclEnforcerCache);
             this.preEnforcer = Optional.ofNullable(preEnforcer).orElse(CompletableFuture::completedFuture);
             this.subjectIssuersForPolicyMigration = requireNonNull(subjectIssuersForPolicyMigration);
+            this.queryCoalescer = requireNonNull(queryCoalescer);
         }
 
         @Override
@@ -1291,7 +1319,8 @@ public final class ThingCommandEnforcement
         @Override
         public AbstractEnforcement<ThingCommand<?>> createEnforcement(final Contextual<ThingCommand<?>> context) {
             return new ThingCommandEnforcement(context, thingsShardRegion, policiesShardRegion, thingIdCache,
-                    policyEnforcerCache, aclEnforcerCache, preEnforcer, subjectIssuersForPolicyMigration);
+                    policyEnforcerCache, aclEnforcerCache, preEnforcer, subjectIssuersForPolicyMigration,
+                    queryCoalescer);
         }
 
     }
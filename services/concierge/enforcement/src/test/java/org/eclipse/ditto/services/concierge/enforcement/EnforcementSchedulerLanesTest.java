@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.enforcement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.awaitility.Awaitility;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.utils.akka.logging.ThreadSafeDittoLoggingAdapter;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyPolicyId;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.japi.pf.ReceiveBuilder;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+import scala.concurrent.duration.FiniteDuration;
+
+/**
+ * Unit test for {@link EnforcementSchedulerLanes}.
+ */
+public final class EnforcementSchedulerLanesTest {
+
+    private static final int NUMBER_OF_LANES = 2;
+
+    private static ActorSystem actorSystem;
+
+    @BeforeClass
+    public static void beforeClass() {
+        actorSystem = ActorSystem.create();
+    }
+
+    @AfterClass
+    public static void afterClass() {
+        if (actorSystem != null) {
+            actorSystem.terminate();
+            actorSystem = null;
+        }
+    }
+
+    @Test
+    public void tasksOfOneEntityAreOrderedWhileOtherEntitiesProceed() {
+        new TestKit(actorSystem) {{
+            final TestProbe receiverProbe = TestProbe.apply(actorSystem);
+            final ThreadSafeDittoLoggingAdapter mockLogger = Mockito.mock(ThreadSafeDittoLoggingAdapter.class);
+            doAnswer(invocation -> mockLogger).when(mockLogger).withCorrelationId(any(DittoHeaders.class));
+            doAnswer(invocation -> mockLogger).when(mockLogger).withCorrelationId(any(WithDittoHeaders.class));
+            doAnswer(invocation -> mockLogger).when(mockLogger).withCorrelationId(any(CharSequence.class));
+            final Contextual<WithDittoHeaders> baseContextual = Contextual.forActor(getRef(),
+                    TestProbe.apply(actorSystem).ref(), TestProbe.apply(actorSystem).ref(),
+                    TestProbe.apply(actorSystem).ref(), Duration.ofSeconds(10), mockLogger, null);
+            final ActorRef underTest = actorSystem.actorOf(LanesParent.props(NUMBER_OF_LANES));
+
+            final ThingId busyThingId = thingIdInLane(0);
+            final ThingId otherThingId = thingIdInLane(1);
+            final ModifyPolicyId modifyPolicyId =
+                    ModifyPolicyId.of(busyThingId, PolicyId.of("some", "policy"), DittoHeaders.empty());
+            final RetrieveThing retrieveBusyThing = RetrieveThing.of(busyThingId, DittoHeaders.empty());
+            final RetrieveThing retrieveOtherThing = RetrieveThing.of(otherThingId, DittoHeaders.empty());
+
+            final CompletableFuture<Contextual<ModifyPolicyId>> pendingModifyPolicyId = new CompletableFuture<>();
+            final EnforcementTask modifyPolicyIdTask =
+                    Mockito.spy(EnforcementTask.of(busyThingId, true, () -> pendingModifyPolicyId));
+            final EnforcementTask retrieveBusyThingTask =
+                    Mockito.spy(EnforcementTask.of(busyThingId, false, () -> CompletableFuture.completedFuture(
+                            baseContextual.withMessage(retrieveBusyThing).withReceiver(receiverProbe.ref()))));
+            final EnforcementTask retrieveOtherThingTask =
+                    Mockito.spy(EnforcementTask.of(otherThingId, false, () -> CompletableFuture.completedFuture(
+                            baseContextual.withMessage(retrieveOtherThing).withReceiver(receiverProbe.ref()))));
+
+            underTest.tell(modifyPolicyIdTask, getRef());
+            underTest.tell(retrieveBusyThingTask, getRef());
+            underTest.tell(retrieveOtherThingTask, getRef());
+
+            // the other entity is not blocked by the authorization change of the busy entity
+            verify(modifyPolicyIdTask, timeout(2000)).start();
+            receiverProbe.expectMsg(FiniteDuration.create(5, TimeUnit.SECONDS), retrieveOtherThing);
+            verify(retrieveBusyThingTask, after(1000).never()).start();
+
+            pendingModifyPolicyId.complete(
+                    baseContextual.withMessage(modifyPolicyId).withReceiver(receiverProbe.ref()));
+
+            receiverProbe.expectMsg(modifyPolicyId);
+            receiverProbe.expectMsg(retrieveBusyThing);
+
+            Awaitility.await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
+                for (int lane = 0; lane < NUMBER_OF_LANES; lane++) {
+                    assertThat(DittoMetrics.gauge("in_flight_enforcement_tasks")
+                            .tag("lane", String.valueOf(lane))
+                            .get())
+                            .isZero();
+                }
+            });
+        }};
+    }
+
+    private static ThingId thingIdInLane(final int lane) {
+        int i = 0;
+        ThingId thingId;
+        do {
+            thingId = ThingId.of("lane", "thing-" + i++);
+        } while (Math.floorMod(thingId.hashCode(), NUMBER_OF_LANES) != lane);
+        return thingId;
+    }
+
+    private static final class LanesParent extends AbstractActor {
+
+        private final EnforcementSchedulerLanes lanes;
+
+        @SuppressWarnings("unused")
+        private LanesParent(final int numberOfLanes) {
+            lanes = EnforcementSchedulerLanes.start(getContext(), numberOfLanes);
+        }
+
+        private static Props props(final int numberOfLanes) {
+            return Props.create(LanesParent.class, numberOfLanes);
+        }
+
+        @Override
+        public Receive createReceive() {
+            return ReceiveBuilder.create()
+                    .match(EnforcementTask.class, lanes::schedule)
+                    .build();
+        }
+
+    }
+
+}
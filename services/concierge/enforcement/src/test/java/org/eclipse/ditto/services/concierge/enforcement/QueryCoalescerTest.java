@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.enforcement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.entitytag.EntityTagMatchers;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link QueryCoalescer}.
+ */
+public final class QueryCoalescerTest {
+
+    private static final ThingId THING_ID = ThingId.of("coalesced", "thing");
+
+    private final QueryCoalescer underTest = QueryCoalescer.of(Collections.singletonList("coalesced"));
+
+    @Test
+    public void identicalQueriesWithDifferentCorrelationIdsHaveTheSameKey() {
+        final Optional<QueryCoalescer.QueryKey> key1 = underTest.getKey(retrieveThing(THING_ID, "user", "correlation-1"));
+        final Optional<QueryCoalescer.QueryKey> key2 = underTest.getKey(retrieveThing(THING_ID, "user", "correlation-2"));
+
+        assertThat(key1).isPresent();
+        assertThat(key1).isEqualTo(key2);
+    }
+
+    @Test
+    public void queriesOfDifferentSubjectsHaveDifferentKeys() {
+        final Optional<QueryCoalescer.QueryKey> key1 = underTest.getKey(retrieveThing(THING_ID, "user", "correlation-1"));
+        final Optional<QueryCoalescer.QueryKey> key2 = underTest.getKey(retrieveThing(THING_ID, "other", "correlation-2"));
+
+        assertThat(key1).isNotEqualTo(key2);
+    }
+
+    @Test
+    public void queriesOfOtherNamespacesAndConditionalQueriesAreNotCoalesced() {
+        final RetrieveThing conditionalQuery = RetrieveThing.of(THING_ID,
+                retrieveThing(THING_ID, "user", "correlation").getDittoHeaders().toBuilder()
+                        .ifNoneMatch(EntityTagMatchers.fromCommaSeparatedString("*"))
+                        .build());
+
+        assertThat(underTest.getKey(retrieveThing(ThingId.of("other", "thing"), "user", "correlation"))).isEmpty();
+        assertThat(underTest.getKey(conditionalQuery)).isEmpty();
+        assertThat(QueryCoalescer.disabled().getKey(retrieveThing(THING_ID, "user", "correlation"))).isEmpty();
+    }
+
+    @Test
+    public void inFlightQueriesShareOneRequest() {
+        final QueryCoalescer.QueryKey key = underTest.getKey(retrieveThing(THING_ID, "user", "correlation")).get();
+        final AtomicInteger requests = new AtomicInteger();
+        final CompletableFuture<String> request = new CompletableFuture<>();
+
+        final CompletionStage<String> response1 = underTest.coalesce(key, () -> countRequest(requests, request));
+        final CompletionStage<String> response2 = underTest.coalesce(key, () -> countRequest(requests, request));
+        request.complete("response");
+        final CompletionStage<String> response3 =
+                underTest.coalesce(key, () -> countRequest(requests, CompletableFuture.completedFuture("next")));
+
+        assertThat(requests).hasValue(2);
+        assertThat(response1.toCompletableFuture().join()).isEqualTo("response");
+        assertThat(response2.toCompletableFuture().join()).isEqualTo("response");
+        assertThat(response3.toCompletableFuture().join()).isEqualTo("next");
+    }
+
+    @Test
+    public void forgottenQueriesAreNotJoined() {
+        final QueryCoalescer.QueryKey key = underTest.getKey(retrieveThing(THING_ID, "user", "correlation")).get();
+        final AtomicInteger requests = new AtomicInteger();
+
+        underTest.coalesce(key, () -> countRequest(requests, new CompletableFuture<String>()));
+        underTest.forgetInFlightQueries(THING_ID);
+        underTest.coalesce(key, () -> countRequest(requests, new CompletableFuture<String>()));
+
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    public void queriesOfOtherThingsAreNotForgotten() {
+        final QueryCoalescer.QueryKey key = underTest.getKey(retrieveThing(THING_ID, "user", "correlation")).get();
+        final AtomicInteger requests = new AtomicInteger();
+
+        underTest.coalesce(key, () -> countRequest(requests, new CompletableFuture<String>()));
+        underTest.forgetInFlightQueries(ThingId.of("coalesced", "other-thing"));
+        underTest.coalesce(key, () -> countRequest(requests, new CompletableFuture<String>()));
+
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    public void requestWhichFailsToStartIsNotJoined() {
+        final QueryCoalescer.QueryKey key = underTest.getKey(retrieveThing(THING_ID, "user", "correlation")).get();
+        final IllegalStateException failure = new IllegalStateException("request not started");
+
+        final CompletionStage<String> failedResponse = underTest.coalesce(key, () -> {
+            throw failure;
+        });
+        final CompletionStage<String> nextResponse =
+                underTest.coalesce(key, () -> CompletableFuture.completedFuture("next"));
+
+        assertThat(failedResponse.toCompletableFuture()).hasFailedWithThrowableThat().isEqualTo(failure);
+        assertThat(nextResponse.toCompletableFuture().join()).isEqualTo("next");
+    }
+
+    private static <T> CompletionStage<T> countRequest(final AtomicInteger requests,
+            final CompletionStage<T> request) {
+
+        requests.incrementAndGet();
+        return request;
+    }
+
+    private static RetrieveThing retrieveThing(final ThingId thingId, final String subjectId,
+            final String correlationId) {
+
+        return RetrieveThing.of(thingId, DittoHeaders.newBuilder()
+                .correlationId(correlationId)
+                .authorizationContext(AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                        AuthorizationSubject.newInstance(subjectId)))
+                .build());
+    }
+
+}
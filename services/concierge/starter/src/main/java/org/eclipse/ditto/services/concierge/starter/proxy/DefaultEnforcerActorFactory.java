@@ -37,6 +37,7 @@ import org.eclipse.ditto.services.concierge.enforcement.EnforcerActor;
 import org.eclipse.ditto.services.concierge.enforcement.LiveSignalEnforcement;
 import org.eclipse.ditto.services.concierge.enforcement.PolicyCommandEnforcement;
 import org.eclipse.ditto.services.concierge.enforcement.PreEnforcer;
+import org.eclipse.ditto.services.concierge.enforcement.QueryCoalescer;
 import org.eclipse.ditto.services.concierge.enforcement.ThingCommandEnforcement;
 import org.eclipse.ditto.services.concierge.enforcement.placeholders.PlaceholderSubstitution;
 import org.eclipse.ditto.services.concierge.enforcement.validators.CommandWithOptionalEntityValidator;
@@ -52,6 +53,8 @@ import org.eclipse.ditto.services.utils.cache.entry.Entry;
 import org.eclipse.ditto.services.utils.cacheloaders.AclEnforcerCacheLoader;
 import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcer;
 import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcerCacheLoader;
+import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcerUpdateActor;
+import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcerUpdater;
 import org.eclipse.ditto.services.utils.cacheloaders.ThingEnforcementIdCacheLoader;
 import org.eclipse.ditto.services.utils.cluster.ClusterUtil;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
@@ -102,8 +105,9 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
                         ID_CACHE_METRIC_NAME_PREFIX + ThingCommand.RESOURCE_TYPE,
                         actorSystem.dispatchers().lookup("thing-id-cache-dispatcher"));
 
-        final AsyncCacheLoader<EntityIdWithResourceType, Entry<PolicyEnforcer>> policyEnforcerCacheLoader =
-                new PolicyEnforcerCacheLoader(askTimeout, policiesShardRegionProxy);
+        final PolicyEnforcerCacheLoader policyEnforcerCacheLoader =
+                new PolicyEnforcerCacheLoader(askTimeout, policiesShardRegionProxy,
+                        cachesConfig.getEnforcerDecisionCacheSize());
         final Cache<EntityIdWithResourceType, Entry<PolicyEnforcer>> policyEnforcerCache =
                 CacheFactory.createCache(policyEnforcerCacheLoader, cachesConfig.getEnforcerCacheConfig(),
                         ENFORCER_CACHE_METRIC_NAME_PREFIX + "policy",
@@ -126,8 +130,11 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
         final LiveSignalPub liveSignalPub = LiveSignalPub.of(context, distributedAcks);
 
         final Set<EnforcementProvider<?>> enforcementProviders = new HashSet<>();
+        final QueryCoalescer queryCoalescer =
+                QueryCoalescer.of(conciergeConfig.getEnforcementConfig().getQueryCoalescingNamespaces());
         enforcementProviders.add(new ThingCommandEnforcement.Provider(thingsShardRegionProxy,
-                policiesShardRegionProxy, thingIdCache, projectedEnforcerCache, aclEnforcerCache, preEnforcer));
+                policiesShardRegionProxy, thingIdCache, projectedEnforcerCache, aclEnforcerCache, preEnforcer,
+                queryCoalescer));
         enforcementProviders.add(new PolicyCommandEnforcement.Provider(policiesShardRegionProxy, policyEnforcerCache));
         enforcementProviders.add(new LiveSignalEnforcement.Provider(thingIdCache, projectedEnforcerCache,
                 aclEnforcerCache, liveSignalPub));
@@ -150,6 +157,12 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
                         Arrays.asList(thingIdCache, policyEnforcerCache, aclEnforcerCache));
         context.actorOf(cachedNamespaceInvalidatorProps, CachedNamespaceInvalidator.ACTOR_NAME);
 
+        // start updater of the policy enforcer cache of this node by policy events
+        final PolicyEnforcerUpdater policyEnforcerUpdater =
+                PolicyEnforcerUpdater.of(policyEnforcerCache, policyEnforcerCacheLoader);
+        context.actorOf(PolicyEnforcerUpdateActor.props(pubSubMediator, policyEnforcerUpdater),
+                PolicyEnforcerUpdateActor.ACTOR_NAME);
+
         // start cluster singleton that writes to the distributed cache of blocked namespaces
         final Props blockedNamespacesUpdaterProps = BlockedNamespacesUpdater.props(blockedNamespaces, pubSubMediator);
         ClusterUtil.startSingleton(actorSystem, context, CLUSTER_ROLE,
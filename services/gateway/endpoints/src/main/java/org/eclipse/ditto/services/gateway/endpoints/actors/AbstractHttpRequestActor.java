@@ -45,6 +45,7 @@ import org.eclipse.ditto.services.gateway.endpoints.routes.whoami.DefaultUserInf
 import org.eclipse.ditto.services.gateway.endpoints.routes.whoami.UserInformation;
 import org.eclipse.ditto.services.gateway.endpoints.routes.whoami.Whoami;
 import org.eclipse.ditto.services.gateway.endpoints.routes.whoami.WhoamiResponse;
+import org.eclipse.ditto.services.gateway.endpoints.utils.HttpUtils;
 import org.eclipse.ditto.services.gateway.util.config.endpoints.CommandConfig;
 import org.eclipse.ditto.services.gateway.util.config.endpoints.HttpConfig;
 import org.eclipse.ditto.services.models.acks.AcknowledgementAggregatorActorStarter;
@@ -534,15 +535,11 @@ public abstract class AbstractHttpRequestActor extends AbstractActor {
     private static HttpResponse addEntityAccordingToContentType(final HttpResponse response, final JsonValue entity,
             final ContentType contentType) {
 
-        final String entityString;
-
         if (contentType.isJson()) {
-            entityString = entity.toString();
-        } else {
-            entityString = entity.asString();
+            return response.withEntity(ContentTypes.parse(contentType.getValue()), HttpUtils.toUtf8ByteString(entity));
         }
 
-        return addEntityAccordingToContentType(response, entityString, contentType);
+        return addEntityAccordingToContentType(response, entity.asString(), contentType);
     }
 
     private static ContentType getContentType(final DittoHeaders dittoHeaders) {
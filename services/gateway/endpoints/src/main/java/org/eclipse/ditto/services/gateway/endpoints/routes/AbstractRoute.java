@@ -14,8 +14,6 @@ package org.eclipse.ditto.services.gateway.endpoints.routes;
 
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.Set;
@@ -41,6 +39,7 @@ import org.eclipse.ditto.services.base.config.ThrottlingConfig;
 import org.eclipse.ditto.services.gateway.endpoints.actors.AbstractHttpRequestActor;
 import org.eclipse.ditto.services.gateway.endpoints.actors.HttpRequestActorPropsFactory;
 import org.eclipse.ditto.services.gateway.endpoints.directives.ContentTypeValidationDirective;
+import org.eclipse.ditto.services.gateway.endpoints.utils.HttpUtils;
 import org.eclipse.ditto.services.gateway.util.config.endpoints.CommandConfig;
 import org.eclipse.ditto.services.gateway.util.config.endpoints.HttpConfig;
 import org.eclipse.ditto.services.utils.akka.AkkaClassLoader;
@@ -71,7 +70,6 @@ import akka.stream.javadsl.Keep;
 import akka.stream.javadsl.RunnableGraph;
 import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
-import akka.stream.javadsl.StreamConverters;
 import akka.util.ByteString;
 
 /**
@@ -255,30 +253,34 @@ public abstract class AbstractRoute extends AllDirectives {
 
         // optional step: transform the response entity:
         if (responseTransformFunction != null) {
-            final CompletableFuture<HttpResponse> transformedResponse = httpResponseFuture.thenApply(response -> {
+            final CompletableFuture<HttpResponse> transformedResponse = httpResponseFuture.thenCompose(response -> {
                 final boolean isSuccessfulResponse = response.status().isSuccess();
                 // we have to check if response is empty, because otherwise we'll get an IOException when trying to
                 // read it
                 final boolean isEmptyResponse = response.entity().isKnownEmpty();
                 if (isSuccessfulResponse && !isEmptyResponse) {
-                    final InputStream inputStream = runWithSupervisionStrategy(response.entity()
+                    // parse the UTF-8 bytes of the entity directly without decoding them to a String first
+                    final CompletionStage<ByteString> entityBytes = runWithSupervisionStrategy(response.entity()
                             .getDataBytes()
                             .fold(ByteString.emptyByteString(), ByteString::concat)
-                            .toMat(StreamConverters.asInputStream(), Keep.right())
+                            .toMat(Sink.head(), Keep.right())
                     );
-                    final JsonValue jsonValue = JsonFactory.readFrom(new InputStreamReader(inputStream));
-                    try {
-                        final JsonValue transformed = responseTransformFunction.apply(jsonValue);
-                        return response.withEntity(ContentTypes.APPLICATION_JSON, transformed.toString());
-                    } catch (final Exception e) {
-                        throw JsonParseException.newBuilder()
-                                .message("Could not transform JSON: " + e.getMessage())
-                                .cause(e)
-                                .build();
-                    }
+                    return entityBytes.thenApply(byteString -> {
+                        final JsonValue jsonValue = JsonFactory.readFrom(byteString.toArray());
+                        try {
+                            final JsonValue transformed = responseTransformFunction.apply(jsonValue);
+                            return response.withEntity(ContentTypes.APPLICATION_JSON,
+                                    HttpUtils.toUtf8ByteString(transformed));
+                        } catch (final Exception e) {
+                            throw JsonParseException.newBuilder()
+                                    .message("Could not transform JSON: " + e.getMessage())
+                                    .cause(e)
+                                    .build();
+                        }
+                    });
                 } else {
                     // for non-successful and empty responses, don't transform the response body
-                    return response;
+                    return CompletableFuture.completedFuture(response);
                 }
             });
             return completeWithFuture(preprocessResponse(transformedResponse));
@@ -12,13 +12,19 @@
  */
 package org.eclipse.ditto.services.gateway.endpoints.utils;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.json.JsonValue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import akka.http.javadsl.model.HttpRequest;
 import akka.http.javadsl.model.headers.RawRequestURI;
+import akka.util.ByteString;
+import akka.util.ByteStringBuilder;
 
 /**
  * Utilities for Akka-Http.
@@ -49,4 +55,24 @@ public final class HttpUtils {
                 });
     }
 
+    /**
+     * Writes the UTF-8 encoded JSON representation of the given JSON value into a ByteString without creating an
+     * intermediate String of the whole value.
+     *
+     * @param jsonValue the JSON value to be encoded.
+     * @return the ByteString containing the UTF-8 encoded JSON.
+     * @throws NullPointerException if {@code jsonValue} is {@code null}.
+     * @since 2.0.0
+     */
+    public static ByteString toUtf8ByteString(final JsonValue jsonValue) {
+        final ByteStringBuilder byteStringBuilder = ByteString.createBuilder();
+        try {
+            jsonValue.writeTo(byteStringBuilder.asOutputStream());
+        } catch (final IOException e) {
+            // ByteStringBuilder's OutputStream does not throw IOExceptions
+            throw new UncheckedIOException(e);
+        }
+        return byteStringBuilder.result();
+    }
+
 }
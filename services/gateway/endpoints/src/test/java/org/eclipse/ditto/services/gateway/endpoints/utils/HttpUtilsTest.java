@@ -12,9 +12,11 @@
  */
 package org.eclipse.ditto.services.gateway.endpoints.utils;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
+import org.eclipse.ditto.json.JsonObject;
 import org.junit.Test;
 
 /**
@@ -27,4 +29,14 @@ public final class HttpUtilsTest {
         assertInstancesOf(HttpUtils.class, areImmutable());
     }
 
+    @Test
+    public void toUtf8ByteStringEqualsUtf8EncodedJsonString() {
+        final JsonObject jsonObject = JsonObject.newBuilder()
+                .set("thingId", "org.eclipse.ditto:myThing")
+                .set("value", "\u00e4\u20ac \"quoted\"")
+                .build();
+
+        assertThat(HttpUtils.toUtf8ByteString(jsonObject).utf8String()).isEqualTo(jsonObject.toString());
+    }
+
 }
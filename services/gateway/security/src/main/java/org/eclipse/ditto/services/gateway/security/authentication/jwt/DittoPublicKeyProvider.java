@@ -188,7 +188,7 @@ public final class DittoPublicKeyProvider implements PublicKeyProvider {
             handleNonSuccessResponse(response);
         }
         return response.entity().getDataBytes().fold(ByteString.emptyByteString(), ByteString::concat)
-                .map(ByteString::utf8String)
+                .map(ByteString::toArray)
                 .map(JsonFactory::readFrom)
                 .map(JsonValue::asObject)
                 .runWith(Sink.head(), materializer);
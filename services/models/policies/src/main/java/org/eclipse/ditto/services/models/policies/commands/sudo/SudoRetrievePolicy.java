@@ -51,6 +51,12 @@ public final class SudoRetrievePolicy extends AbstractCommand<SudoRetrievePolicy
      */
     public static final String TYPE = SudoCommand.TYPE_PREFIX + NAME;
 
+    /**
+     * Header which requests the compiled form of the Policy's enforcer in the {@link SudoRetrievePolicyResponse} if
+     * its value is {@code true}.
+     */
+    public static final String COMPILED_POLICY_REQUESTED_HEADER = "ditto-sudo-compiled-policy-requested";
+
     private final PolicyId policyId;
 
     private SudoRetrievePolicy(final PolicyId policyId, final DittoHeaders dittoHeaders) {
@@ -115,6 +121,16 @@ public final class SudoRetrievePolicy extends AbstractCommand<SudoRetrievePolicy
         return policyId;
     }
 
+    /**
+     * Indicates whether the sender of this command requested the compiled form of the Policy's enforcer by the header
+     * {@value #COMPILED_POLICY_REQUESTED_HEADER}.
+     *
+     * @return {@code true} if the compiled Policy is to be included in the response.
+     */
+    public boolean isCompiledPolicyRequested() {
+        return Boolean.parseBoolean(getDittoHeaders().get(COMPILED_POLICY_REQUESTED_HEADER));
+    }
+
     @Override
     protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
             final Predicate<JsonField> thePredicate) {
@@ -15,6 +15,7 @@ package org.eclipse.ditto.services.models.policies.commands.sudo;
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javax.annotation.Nullable;
@@ -53,17 +54,24 @@ public final class SudoRetrievePolicyResponse extends AbstractCommandResponse<Su
     static final JsonFieldDefinition<JsonObject> JSON_POLICY =
             JsonFactory.newJsonObjectFieldDefinition("payload/policy", FieldType.REGULAR, JsonSchemaVersion.V_2);
 
+    static final JsonFieldDefinition<JsonObject> JSON_COMPILED_POLICY =
+            JsonFactory.newJsonObjectFieldDefinition("payload/compiledPolicy", FieldType.REGULAR,
+                    JsonSchemaVersion.V_2);
+
     private final PolicyId policyId;
     private final JsonObject policy;
+    @Nullable private final JsonObject compiledPolicy;
 
     private SudoRetrievePolicyResponse(final PolicyId policyId,
             final HttpStatus httpStatus,
             final JsonObject policy,
+            @Nullable final JsonObject compiledPolicy,
             final DittoHeaders dittoHeaders) {
 
         super(TYPE, httpStatus, dittoHeaders);
         this.policyId = checkNotNull(policyId, "Policy ID");
         this.policy = checkNotNull(policy, "Policy");
+        this.compiledPolicy = compiledPolicy;
     }
 
     /**
@@ -78,10 +86,29 @@ public final class SudoRetrievePolicyResponse extends AbstractCommandResponse<Su
     public static SudoRetrievePolicyResponse of(final PolicyId policyId, final Policy policy,
             final DittoHeaders dittoHeaders) {
 
+        return of(policyId, policy, null, dittoHeaders);
+    }
+
+    /**
+     * Creates a response to a {@code SudoRetrievePolicyResponse} command which additionally contains the compiled form
+     * of the Policy's enforcer (see {@code PolicyEnforcers.compileDefaultEvaluator}) so that the receiver does not
+     * have to compile the Policy again.
+     *
+     * @param policyId the Policy ID.
+     * @param policy the retrieved Policy.
+     * @param compiledPolicy the compiled Policy or {@code null} if the receiver has to compile the Policy itself.
+     * @param dittoHeaders the headers of the preceding command.
+     * @return the response.
+     * @throws NullPointerException if any argument but {@code compiledPolicy} is {@code null}.
+     */
+    public static SudoRetrievePolicyResponse of(final PolicyId policyId, final Policy policy,
+            @Nullable final JsonObject compiledPolicy, final DittoHeaders dittoHeaders) {
+
         return new SudoRetrievePolicyResponse(policyId, HttpStatus.OK,
                 checkNotNull(policy, "Policy")
                         .toJson(dittoHeaders.getSchemaVersion().orElse(policy.getLatestSchemaVersion()),
                                 FieldType.regularOrSpecial()),
+                compiledPolicy,
                 dittoHeaders);
     }
 
@@ -97,7 +124,7 @@ public final class SudoRetrievePolicyResponse extends AbstractCommandResponse<Su
     public static SudoRetrievePolicyResponse of(final PolicyId policyId, final JsonObject policy,
             final DittoHeaders dittoHeaders) {
 
-        return new SudoRetrievePolicyResponse(policyId, HttpStatus.OK, policy, dittoHeaders);
+        return new SudoRetrievePolicyResponse(policyId, HttpStatus.OK, policy, null, dittoHeaders);
     }
 
     /**
@@ -132,8 +159,10 @@ public final class SudoRetrievePolicyResponse extends AbstractCommandResponse<Su
                             jsonObject.getValueOrThrow(SudoCommandResponse.JsonFields.JSON_POLICY_ID);
                     final var policyId = PolicyId.of(extractedPolicyId);
                     final var extractedPolicy = jsonObject.getValueOrThrow(JSON_POLICY);
+                    final var extractedCompiledPolicy = jsonObject.getValue(JSON_COMPILED_POLICY).orElse(null);
 
-                    return of(policyId, extractedPolicy, dittoHeaders);
+                    return new SudoRetrievePolicyResponse(policyId, httpStatus, extractedPolicy,
+                            extractedCompiledPolicy, dittoHeaders);
                 });
     }
 
@@ -151,6 +180,16 @@ public final class SudoRetrievePolicyResponse extends AbstractCommandResponse<Su
         return PoliciesModelFactory.newPolicy(policy);
     }
 
+    /**
+     * Returns the compiled form of the Policy's enforcer if the sender provided it. It can be restored by
+     * {@code PolicyEnforcers.defaultEvaluatorFromCompiledPolicy}.
+     *
+     * @return the compiled Policy or an empty Optional.
+     */
+    public Optional<JsonObject> getCompiledPolicy() {
+        return Optional.ofNullable(compiledPolicy);
+    }
+
     @Override
     public JsonValue getEntity(final JsonSchemaVersion schemaVersion) {
         return policy;
@@ -164,7 +203,7 @@ public final class SudoRetrievePolicyResponse extends AbstractCommandResponse<Su
 
     @Override
     public SudoRetrievePolicyResponse setDittoHeaders(final DittoHeaders dittoHeaders) {
-        return of(policyId, policy, dittoHeaders);
+        return new SudoRetrievePolicyResponse(policyId, getHttpStatus(), policy, compiledPolicy, dittoHeaders);
     }
 
     @Override
@@ -174,6 +213,9 @@ public final class SudoRetrievePolicyResponse extends AbstractCommandResponse<Su
         final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
         jsonObjectBuilder.set(SudoCommandResponse.JsonFields.JSON_POLICY_ID, String.valueOf(policyId), predicate);
         jsonObjectBuilder.set(JSON_POLICY, policy, predicate);
+        if (null != compiledPolicy) {
+            jsonObjectBuilder.set(JSON_COMPILED_POLICY, compiledPolicy, predicate);
+        }
     }
 
     @Override
@@ -193,17 +235,19 @@ public final class SudoRetrievePolicyResponse extends AbstractCommandResponse<Su
         return that.canEqual(this) &&
                 Objects.equals(policyId, that.policyId) &&
                 Objects.equals(policy, that.policy) &&
+                Objects.equals(compiledPolicy, that.compiledPolicy) &&
                 super.equals(o);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), policyId, policy);
+        return Objects.hash(super.hashCode(), policyId, policy, compiledPolicy);
     }
 
     @Override
     public String toString() {
-        return super.toString() + "policyId=" + policyId + "policy=" + policy + "]";
+        return super.toString() + "policyId=" + policyId + "policy=" + policy + ", compiledPolicy=" +
+                compiledPolicy + "]";
     }
 
 }
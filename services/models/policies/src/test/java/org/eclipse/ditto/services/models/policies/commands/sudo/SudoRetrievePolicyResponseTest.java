@@ -94,6 +94,21 @@ public final class SudoRetrievePolicyResponseTest {
         assertThat(underTest.getPolicy().toJson()).isEqualTo(TestConstants.Policy.POLICY.toJson());
     }
 
+    /** */
+    @Test
+    public void compiledPolicyIsRestoredFromJson() {
+        final JsonObject compiledPolicy = JsonFactory.newObjectBuilder().set("version", 1).build();
+        final SudoRetrievePolicyResponse underTest =
+                SudoRetrievePolicyResponse.of(TestConstants.Policy.POLICY_ID, TestConstants.Policy.POLICY,
+                        compiledPolicy, EMPTY_DITTO_HEADERS);
+
+        final SudoRetrievePolicyResponse restored =
+                SudoRetrievePolicyResponse.fromJson(underTest.toJson(), EMPTY_DITTO_HEADERS);
+
+        assertThat(restored.getCompiledPolicy()).contains(compiledPolicy);
+        assertThat(restored).isEqualTo(underTest);
+    }
+
     /** */
     @Test
     public void checkSudoCommandResponseRegistryWorks() {
@@ -81,4 +81,18 @@ public final class SudoRetrievePolicyTest {
         assertThat((CharSequence) underTest.getEntityId()).isEqualTo(TestConstants.Policy.POLICY_ID);
     }
 
+    /** */
+    @Test
+    public void compiledPolicyIsOnlyRequestedByHeader() {
+        final SudoRetrievePolicy withoutHeader =
+                SudoRetrievePolicy.of(TestConstants.Policy.POLICY_ID, EMPTY_DITTO_HEADERS);
+        final SudoRetrievePolicy withHeader = SudoRetrievePolicy.of(TestConstants.Policy.POLICY_ID,
+                DittoHeaders.newBuilder()
+                        .putHeader(SudoRetrievePolicy.COMPILED_POLICY_REQUESTED_HEADER, "true")
+                        .build());
+
+        assertThat(withoutHeader.isCompiledPolicyRequested()).isFalse();
+        assertThat(withHeader.isCompiledPolicyRequested()).isTrue();
+    }
+
 }
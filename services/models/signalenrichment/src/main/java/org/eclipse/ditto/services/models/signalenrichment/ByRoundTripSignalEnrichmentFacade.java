@@ -22,6 +22,7 @@ import java.util.concurrent.CompletionStage;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
@@ -91,16 +92,22 @@ public final class ByRoundTripSignalEnrichmentFacade implements SignalEnrichment
 
         final CompletionStage<Object> askResult = Patterns.ask(commandHandler, command, askTimeout);
 
-        return askResult.thenCompose(ByRoundTripSignalEnrichmentFacade::extractPartialThing);
+        return askResult.thenCompose(response -> extractPartialThing(response, jsonFieldSelector));
     }
 
-    private static CompletionStage<JsonObject> extractPartialThing(final Object object) {
+    private static CompletionStage<JsonObject> extractPartialThing(final Object object,
+            final JsonFieldSelector jsonFieldSelector) {
+
         if (object instanceof RetrieveThingResponse) {
             final RetrieveThingResponse retrieveThingResponse = (RetrieveThingResponse) object;
             final JsonSchemaVersion jsonSchemaVersion = retrieveThingResponse.getDittoHeaders()
                     .getSchemaVersion()
                     .orElse(JsonSchemaVersion.LATEST);
-            return CompletableFuture.completedFuture(retrieveThingResponse.getEntity(jsonSchemaVersion));
+            // parse only the selected fields of the plain JSON instead of building the whole thing first
+            final JsonObject partialThing = retrieveThingResponse.getEntityPlainString()
+                    .map(thingPlainJson -> JsonFactory.newObject(thingPlainJson, jsonFieldSelector))
+                    .orElseGet(() -> retrieveThingResponse.getEntity(jsonSchemaVersion));
+            return CompletableFuture.completedFuture(partialThing);
         } else {
             final CompletableFuture<JsonObject> failedFuture = new CompletableFuture<>();
             failedFuture.completeExceptionally(toThrowable(object));
@@ -14,6 +14,8 @@ package org.eclipse.ditto.services.models.signalenrichment;
 
 import java.time.Duration;
 
+import org.eclipse.ditto.json.JsonObject;
+
 import akka.actor.ActorSelection;
 import akka.testkit.javadsl.TestKit;
 
@@ -27,4 +29,20 @@ public final class ByRoundTripSignalEnrichmentFacadeTest extends AbstractSignalE
         final ActorSelection commandHandler = ActorSelection.apply(kit.getRef(), "");
         return ByRoundTripSignalEnrichmentFacade.of(commandHandler, duration);
     }
+
+    @Override
+    protected JsonObject getThingResponseThingJson() {
+        // fields which were not selected are not part of the result
+        return JsonObject.of("{\n" +
+                "  \"policyId\": \"" + RESULT_POLICY_ID + "\",\n" +
+                "  \"attributes\": {\"x\":  5, \"unselected\": [1, {\"a\": \"b\"}]},\n" +
+                "  \"features\": {\"y\": {\"properties\": {\"z\":  true}}, \"other\": {\"properties\": {}}}\n" +
+                "}");
+    }
+
+    @Override
+    protected JsonObject getExpectedThingJson() {
+        return getThingResponseThingJson().get(SELECTOR);
+    }
+
 }
@@ -16,8 +16,10 @@ import java.util.Optional;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.entity.metadata.Metadata;
 import org.eclipse.ditto.model.base.headers.entitytag.EntityTag;
+import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
 import org.eclipse.ditto.model.policies.Policy;
 import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicy;
@@ -27,13 +29,27 @@ import org.eclipse.ditto.services.utils.persistentactors.results.Result;
 import org.eclipse.ditto.services.utils.persistentactors.results.ResultFactory;
 import org.eclipse.ditto.signals.events.policies.PolicyEvent;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 /**
  * This strategy handles the {@link org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicy} command w/o valid authorization context.
+ * <p>
+ * If the command requests it, the response contains the compiled enforcer of the policy, thus the services which load
+ * policy enforcers on a cache miss do not have to compile the policy themselves.
  */
 final class SudoRetrievePolicyStrategy extends AbstractPolicyQueryCommandStrategy<SudoRetrievePolicy> {
 
+    /**
+     * Compiled policies by the policy entity they were compiled from. Weak keys are compared by identity, thus each
+     * entity is compiled at most once and its entry is dropped after the policy actor replaced the entity because of a
+     * modification or stopped.
+     */
+    private final Cache<Policy, JsonObject> compiledPolicies;
+
     SudoRetrievePolicyStrategy(final PolicyConfig policyConfig) {
         super(SudoRetrievePolicy.class, policyConfig);
+        compiledPolicies = Caffeine.newBuilder().weakKeys().build();
     }
 
     @Override
@@ -43,8 +59,11 @@ final class SudoRetrievePolicyStrategy extends AbstractPolicyQueryCommandStrateg
             final SudoRetrievePolicy command,
             @Nullable final Metadata metadata) {
 
+        final JsonObject compiledPolicy = null != entity && command.isCompiledPolicyRequested()
+                ? compiledPolicies.get(entity, PolicyEnforcers::compileDefaultEvaluator)
+                : null;
         final SudoRetrievePolicyResponse rawResponse =
-                SudoRetrievePolicyResponse.of(context.getState(), entity, command.getDittoHeaders());
+                SudoRetrievePolicyResponse.of(context.getState(), entity, compiledPolicy, command.getDittoHeaders());
         return ResultFactory.newQueryResult(command, appendETagHeaderIfProvided(command, rawResponse, entity));
     }
 
@@ -19,7 +19,7 @@ import java.util.function.Supplier;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
-import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonMergeResult;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonRuntimeException;
@@ -28,11 +28,10 @@ import org.eclipse.ditto.model.base.entity.metadata.Metadata;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.base.headers.entitytag.EntityTag;
-import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
-import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.things.persistence.actors.strategies.events.ThingMerger;
 import org.eclipse.ditto.services.utils.persistentactors.results.Result;
 import org.eclipse.ditto.services.utils.persistentactors.results.ResultFactory;
 import org.eclipse.ditto.signals.commands.base.Command;
@@ -115,17 +114,19 @@ final class MergeThingStrategy extends AbstractThingCommandStrategy<MergeThing>
 
     private Thing mergeThing(final Context<ThingId> context, final MergeThing command, final Thing thing,
             final Instant eventTs, final long nextRevision) {
-        final JsonObject existingThingJson = thing.toJson(FieldType.all());
-        final JsonObject mergePatch = JsonFactory.newObject(command.getPath(), command.getValue());
-        final JsonObject mergedJson = JsonFactory.mergeJsonValues(mergePatch, existingThingJson).asObject();
-
-        ThingCommandSizeValidator.getInstance().ensureValidSize(
-                mergedJson::getUpperBoundForStringSize,
-                () -> mergedJson.toString().length(),
-                command::getDittoHeaders);
+        final JsonMergeResult mergeResult = ThingMerger.mergeIntoThing(thing, command.getPath(), command.getValue());
+        final JsonObject mergedJson = mergeResult.getMergedValue().asObject();
+
+        if (mergeResult.hasChanges()) {
+            ThingCommandSizeValidator.getInstance().ensureValidSize(
+                    mergedJson::getUpperBoundForStringSize,
+                    () -> mergedJson.toString().length(),
+                    command::getDittoHeaders);
+        }
 
-        context.getLog().debug("Result of JSON merge: {}", mergedJson);
-        final Thing mergedThing = ThingsModelFactory.newThingBuilder(mergedJson)
+        context.getLog().debug("Result of JSON merge: {} with changed pointers: {}", mergedJson,
+                mergeResult.getChangedPointers());
+        final Thing mergedThing = ThingMerger.toMergedThingBuilder(thing, mergeResult)
                 .setRevision(nextRevision)
                 .setModified(eventTs).build();
         context.getLog().debug("Thing created from merged JSON: {}", mergedThing);
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors.strategies.events;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.signals.events.things.ThingEvent;
+
+/**
+ * This abstract implementation of {@code EventStrategy} handles events which set or remove a single value of a Thing,
+ * e. g. a feature property.
+ * Instead of deriving a ThingBuilder from the Thing the event is applied directly to the Thing by
+ * {@link Thing#setValue(org.eclipse.ditto.json.JsonPointer, org.eclipse.ditto.json.JsonValue)} or
+ * {@link Thing#removeValue(org.eclipse.ditto.json.JsonPointer)}. Thus only the parts of the Thing on the path to the
+ * value are copied.
+ *
+ * @param <T> the type of the handled ThingEvent.
+ */
+@Immutable
+abstract class AbstractThingValueEventStrategy<T extends ThingEvent<T>> extends AbstractThingEventStrategy<T> {
+
+    /**
+     * Constructs a new {@code AbstractThingValueEventStrategy} object.
+     */
+    protected AbstractThingValueEventStrategy() {
+        super();
+    }
+
+    @Nullable
+    @Override
+    public Thing handle(final T event, @Nullable final Thing thing, final long revision) {
+        if (null != thing) {
+            return applyEvent(event, thing)
+                    .setRevision(ThingsModelFactory.newThingRevision(revision))
+                    .setModified(event.getTimestamp().orElse(null))
+                    .setMetadata(mergeMetadata(thing, event));
+        }
+        return null;
+    }
+
+    /**
+     * Apply the specified event to the also specified Thing.
+     * The revision, the modified timestamp and the metadata are set afterwards.
+     *
+     * @param event the ThingEvent to be applied.
+     * @param thing the Thing to apply {@code event} to.
+     * @return a copy of {@code thing} with {@code event} applied.
+     */
+    protected abstract Thing applyEvent(T event, Thing thing);
+
+}
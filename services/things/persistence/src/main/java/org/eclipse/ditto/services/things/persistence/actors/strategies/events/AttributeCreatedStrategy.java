@@ -14,22 +14,22 @@ package org.eclipse.ditto.services.things.persistence.actors.strategies.events;
 
 import javax.annotation.concurrent.Immutable;
 
-import org.eclipse.ditto.model.things.ThingBuilder;
+import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.signals.events.things.AttributeCreated;
 
 /**
  * This strategy handles the {@link org.eclipse.ditto.signals.events.things.AttributeCreated} event.
  */
 @Immutable
-final class AttributeCreatedStrategy extends AbstractThingEventStrategy<AttributeCreated> {
+final class AttributeCreatedStrategy extends AbstractThingValueEventStrategy<AttributeCreated> {
 
     protected AttributeCreatedStrategy() {
         super();
     }
 
     @Override
-    protected ThingBuilder.FromCopy applyEvent(final AttributeCreated event, final ThingBuilder.FromCopy thingBuilder) {
-        return thingBuilder.setAttribute(event.getAttributePointer(), event.getAttributeValue());
+    protected Thing applyEvent(final AttributeCreated event, final Thing thing) {
+        return thing.setValue(event.getResourcePath(), event.getAttributeValue());
     }
 
 }
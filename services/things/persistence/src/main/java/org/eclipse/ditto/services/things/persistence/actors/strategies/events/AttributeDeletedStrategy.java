@@ -14,18 +14,18 @@ package org.eclipse.ditto.services.things.persistence.actors.strategies.events;
 
 import javax.annotation.concurrent.Immutable;
 
-import org.eclipse.ditto.model.things.ThingBuilder;
+import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.signals.events.things.AttributeDeleted;
 
 /**
  * This strategy handles the {@link org.eclipse.ditto.signals.events.things.AttributeDeleted} event.
  */
 @Immutable
-final class AttributeDeletedStrategy extends AbstractThingEventStrategy<AttributeDeleted> {
+final class AttributeDeletedStrategy extends AbstractThingValueEventStrategy<AttributeDeleted> {
 
     @Override
-    protected ThingBuilder.FromCopy applyEvent(final AttributeDeleted event, final ThingBuilder.FromCopy thingBuilder) {
-        return thingBuilder.removeAttribute(event.getAttributePointer());
+    protected Thing applyEvent(final AttributeDeleted event, final Thing thing) {
+        return thing.removeValue(event.getResourcePath());
     }
 
 }
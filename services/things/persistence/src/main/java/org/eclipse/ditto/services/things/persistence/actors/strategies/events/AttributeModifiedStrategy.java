@@ -14,24 +14,22 @@ package org.eclipse.ditto.services.things.persistence.actors.strategies.events;
 
 import javax.annotation.concurrent.Immutable;
 
-import org.eclipse.ditto.model.things.ThingBuilder;
+import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.signals.events.things.AttributeModified;
 
 /**
  * This strategy handles the {@link org.eclipse.ditto.signals.events.things.AttributeModified} event.
  */
 @Immutable
-final class AttributeModifiedStrategy extends AbstractThingEventStrategy<AttributeModified> {
+final class AttributeModifiedStrategy extends AbstractThingValueEventStrategy<AttributeModified> {
 
     protected AttributeModifiedStrategy() {
         super();
     }
 
     @Override
-    protected ThingBuilder.FromCopy applyEvent(final AttributeModified event,
-            final ThingBuilder.FromCopy thingBuilder) {
-
-        return thingBuilder.setAttribute(event.getAttributePointer(), event.getAttributeValue());
+    protected Thing applyEvent(final AttributeModified event, final Thing thing) {
+        return thing.setValue(event.getResourcePath(), event.getAttributeValue());
     }
 
 }
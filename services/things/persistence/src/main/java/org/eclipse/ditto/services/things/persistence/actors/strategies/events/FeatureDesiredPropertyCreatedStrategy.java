@@ -14,25 +14,22 @@ package org.eclipse.ditto.services.things.persistence.actors.strategies.events;
 
 import javax.annotation.concurrent.Immutable;
 
-import org.eclipse.ditto.model.things.ThingBuilder;
+import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.signals.events.things.FeatureDesiredPropertyCreated;
 
 /**
  * This strategy handles the {@link org.eclipse.ditto.signals.events.things.FeatureDesiredPropertyCreated} event.
  */
 @Immutable
-final class FeatureDesiredPropertyCreatedStrategy extends AbstractThingEventStrategy<FeatureDesiredPropertyCreated> {
+final class FeatureDesiredPropertyCreatedStrategy extends AbstractThingValueEventStrategy<FeatureDesiredPropertyCreated> {
 
     protected FeatureDesiredPropertyCreatedStrategy() {
         super();
     }
 
     @Override
-    protected ThingBuilder.FromCopy applyEvent(final FeatureDesiredPropertyCreated event,
-            final ThingBuilder.FromCopy thingBuilder) {
-
-        return thingBuilder.setFeatureDesiredProperty(event.getFeatureId(), event.getDesiredPropertyPointer(),
-                event.getDesiredPropertyValue());
+    protected Thing applyEvent(final FeatureDesiredPropertyCreated event, final Thing thing) {
+        return thing.setValue(event.getResourcePath(), event.getDesiredPropertyValue());
     }
 
 }
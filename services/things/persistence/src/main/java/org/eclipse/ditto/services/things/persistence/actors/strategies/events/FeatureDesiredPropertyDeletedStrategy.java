@@ -14,20 +14,18 @@ package org.eclipse.ditto.services.things.persistence.actors.strategies.events;
 
 import javax.annotation.concurrent.Immutable;
 
-import org.eclipse.ditto.model.things.ThingBuilder;
+import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.signals.events.things.FeatureDesiredPropertyDeleted;
 
 /**
  * This strategy handles the {@link org.eclipse.ditto.signals.events.things.FeatureDesiredPropertyDeleted} event.
  */
 @Immutable
-final class FeatureDesiredPropertyDeletedStrategy extends AbstractThingEventStrategy<FeatureDesiredPropertyDeleted> {
+final class FeatureDesiredPropertyDeletedStrategy extends AbstractThingValueEventStrategy<FeatureDesiredPropertyDeleted> {
 
     @Override
-    protected ThingBuilder.FromCopy applyEvent(final FeatureDesiredPropertyDeleted event,
-            final ThingBuilder.FromCopy thingBuilder) {
-
-        return thingBuilder.removeFeatureDesiredProperty(event.getFeatureId(), event.getDesiredPropertyPointer());
+    protected Thing applyEvent(final FeatureDesiredPropertyDeleted event, final Thing thing) {
+        return thing.removeValue(event.getResourcePath());
     }
 
 }
@@ -14,25 +14,22 @@ package org.eclipse.ditto.services.things.persistence.actors.strategies.events;
 
 import javax.annotation.concurrent.Immutable;
 
-import org.eclipse.ditto.model.things.ThingBuilder;
+import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.signals.events.things.FeatureDesiredPropertyModified;
 
 /**
  * This strategy handles the {@link org.eclipse.ditto.signals.events.things.FeatureDesiredPropertyModified} event.
  */
 @Immutable
-final class FeatureDesiredPropertyModifiedStrategy extends AbstractThingEventStrategy<FeatureDesiredPropertyModified> {
+final class FeatureDesiredPropertyModifiedStrategy extends AbstractThingValueEventStrategy<FeatureDesiredPropertyModified> {
 
     protected FeatureDesiredPropertyModifiedStrategy() {
         super();
     }
 
     @Override
-    protected ThingBuilder.FromCopy applyEvent(final FeatureDesiredPropertyModified event,
-            final ThingBuilder.FromCopy thingBuilder) {
-
-        return thingBuilder.setFeatureDesiredProperty(event.getFeatureId(), event.getDesiredPropertyPointer(),
-                event.getDesiredPropertyValue());
+    protected Thing applyEvent(final FeatureDesiredPropertyModified event, final Thing thing) {
+        return thing.setValue(event.getResourcePath(), event.getDesiredPropertyValue());
     }
 
 }
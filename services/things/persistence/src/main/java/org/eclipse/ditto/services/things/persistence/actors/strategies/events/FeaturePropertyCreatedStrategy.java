@@ -14,25 +14,22 @@ package org.eclipse.ditto.services.things.persistence.actors.strategies.events;
 
 import javax.annotation.concurrent.Immutable;
 
-import org.eclipse.ditto.model.things.ThingBuilder;
+import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.signals.events.things.FeaturePropertyCreated;
 
 /**
  * This strategy handles the {@link org.eclipse.ditto.signals.events.things.FeaturePropertyCreated} event.
  */
 @Immutable
-final class FeaturePropertyCreatedStrategy extends AbstractThingEventStrategy<FeaturePropertyCreated> {
+final class FeaturePropertyCreatedStrategy extends AbstractThingValueEventStrategy<FeaturePropertyCreated> {
 
     protected FeaturePropertyCreatedStrategy() {
         super();
     }
 
     @Override
-    protected ThingBuilder.FromCopy applyEvent(final FeaturePropertyCreated event,
-            final ThingBuilder.FromCopy thingBuilder) {
-
-        return thingBuilder.setFeatureProperty(event.getFeatureId(), event.getPropertyPointer(),
-                event.getPropertyValue());
+    protected Thing applyEvent(final FeaturePropertyCreated event, final Thing thing) {
+        return thing.setValue(event.getResourcePath(), event.getPropertyValue());
     }
 
 }
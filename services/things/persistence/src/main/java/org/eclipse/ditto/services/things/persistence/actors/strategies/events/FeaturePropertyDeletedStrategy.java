@@ -14,20 +14,18 @@ package org.eclipse.ditto.services.things.persistence.actors.strategies.events;
 
 import javax.annotation.concurrent.Immutable;
 
-import org.eclipse.ditto.model.things.ThingBuilder;
+import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.signals.events.things.FeaturePropertyDeleted;
 
 /**
  * This strategy handles the {@link org.eclipse.ditto.signals.events.things.FeaturePropertyDeleted} event.
  */
 @Immutable
-final class FeaturePropertyDeletedStrategy extends AbstractThingEventStrategy<FeaturePropertyDeleted> {
+final class FeaturePropertyDeletedStrategy extends AbstractThingValueEventStrategy<FeaturePropertyDeleted> {
 
     @Override
-    protected ThingBuilder.FromCopy applyEvent(final FeaturePropertyDeleted event,
-            final ThingBuilder.FromCopy thingBuilder) {
-
-        return thingBuilder.removeFeatureProperty(event.getFeatureId(), event.getPropertyPointer());
+    protected Thing applyEvent(final FeaturePropertyDeleted event, final Thing thing) {
+        return thing.removeValue(event.getResourcePath());
     }
 
 }
@@ -14,25 +14,22 @@ package org.eclipse.ditto.services.things.persistence.actors.strategies.events;
 
 import javax.annotation.concurrent.Immutable;
 
-import org.eclipse.ditto.model.things.ThingBuilder;
+import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.signals.events.things.FeaturePropertyModified;
 
 /**
  * This strategy handles the {@link org.eclipse.ditto.signals.events.things.FeaturePropertyModified} event.
  */
 @Immutable
-final class FeaturePropertyModifiedStrategy extends AbstractThingEventStrategy<FeaturePropertyModified> {
+final class FeaturePropertyModifiedStrategy extends AbstractThingValueEventStrategy<FeaturePropertyModified> {
 
     protected FeaturePropertyModifiedStrategy() {
         super();
     }
 
     @Override
-    protected ThingBuilder.FromCopy applyEvent(final FeaturePropertyModified event,
-            final ThingBuilder.FromCopy thingBuilder) {
-
-        return thingBuilder.setFeatureProperty(event.getFeatureId(), event.getPropertyPointer(),
-                event.getPropertyValue());
+    protected Thing applyEvent(final FeaturePropertyModified event, final Thing thing) {
+        return thing.setValue(event.getResourcePath(), event.getPropertyValue());
     }
 
 }
@@ -15,12 +15,9 @@ package org.eclipse.ditto.services.things.persistence.actors.strategies.events;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
-import org.eclipse.ditto.json.JsonFactory;
-import org.eclipse.ditto.json.JsonObject;
-import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.json.JsonMergeResult;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingLifecycle;
-import org.eclipse.ditto.model.things.ThingsModelFactory;
 import org.eclipse.ditto.signals.events.things.ThingMerged;
 
 /**
@@ -37,10 +34,9 @@ final class ThingMergedStrategy extends AbstractThingEventStrategy<ThingMerged>
     @Override
     public Thing handle(final ThingMerged event, @Nullable final Thing thing, final long revision) {
         if (null != thing) {
-            final JsonObject jsonObject = thing.toJson(FieldType.all());
-            final JsonObject mergePatch = JsonFactory.newObject(event.getResourcePath(), event.getValue());
-            final JsonObject mergedJson = JsonFactory.mergeJsonValues(mergePatch, jsonObject).asObject();
-            return ThingsModelFactory.newThingBuilder(mergedJson)
+            final JsonMergeResult mergeResult =
+                    ThingMerger.mergeIntoThing(thing, event.getResourcePath(), event.getValue());
+            return ThingMerger.toMergedThingBuilder(thing, mergeResult)
                     .setRevision(revision)
                     .setModified(event.getTimestamp().orElse(null))
                     .setLifecycle(ThingLifecycle.ACTIVE)
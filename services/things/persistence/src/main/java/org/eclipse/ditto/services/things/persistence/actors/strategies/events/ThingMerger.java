@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors.strategies.events;
+
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonMergeResult;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingBuilder;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+
+/**
+ * Applies JSON merge patches to things.
+ * The merge engine reports which values of the thing were changed by the patch. Only the changed attributes and
+ * features are deserialized again if nothing else was changed; all other parts of the existing thing are reused.
+ */
+@Immutable
+public final class ThingMerger {
+
+    private static final JsonKey ATTRIBUTES_KEY = JsonKey.of("attributes");
+    private static final JsonKey FEATURES_KEY = JsonKey.of("features");
+
+    private ThingMerger() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Applies the merge patch which is defined by the given path and value to the JSON representation of the given
+     * thing.
+     *
+     * @param thing the thing to be patched.
+     * @param path the path of the merge patch.
+     * @param value the value of the merge patch at {@code path}.
+     * @return the result of the merge.
+     * @throws org.eclipse.ditto.json.JsonRuntimeException if the merge patch is invalid.
+     */
+    public static JsonMergeResult mergeIntoThing(final Thing thing, final JsonPointer path, final JsonValue value) {
+        final JsonObject mergePatch = JsonFactory.newObject(path, value);
+        return JsonFactory.applyMergePatch(mergePatch, thing.toJson(FieldType.all()));
+    }
+
+    /**
+     * Returns a builder for the thing which results from the given merge of the given thing.
+     *
+     * @param thing the thing which was patched.
+     * @param mergeResult the result of {@link #mergeIntoThing(Thing, JsonPointer, JsonValue)} for {@code thing}.
+     * @return a builder which is initialised with the merged thing.
+     * @throws org.eclipse.ditto.model.base.exceptions.DittoJsonException if the merged JSON is no valid thing.
+     */
+    public static ThingBuilder.FromCopy toMergedThingBuilder(final Thing thing, final JsonMergeResult mergeResult) {
+        final JsonObject mergedJson = mergeResult.getMergedValue().asObject();
+        return DittoJsonException.wrapJsonRuntimeException(() ->
+                reuseUnchangedParts(thing, mergedJson, mergeResult.getChangedPointers())
+                        .orElseGet(() -> ThingsModelFactory.newThingBuilder(mergedJson)));
+    }
+
+    private static Optional<ThingBuilder.FromCopy> reuseUnchangedParts(final Thing thing,
+            final JsonObject mergedJson, final Set<JsonPointer> changedPointers) {
+
+        boolean attributesChanged = false;
+        final Set<String> changedFeatureIds = new LinkedHashSet<>();
+        for (final JsonPointer changedPointer : changedPointers) {
+            final JsonKey rootKey = changedPointer.getRoot().orElse(null);
+            if (ATTRIBUTES_KEY.equals(rootKey) && 1 < changedPointer.getLevelCount()) {
+                attributesChanged = true;
+            } else if (FEATURES_KEY.equals(rootKey) && 1 < changedPointer.getLevelCount()) {
+                changedPointer.get(1).map(JsonKey::toString).ifPresent(changedFeatureIds::add);
+            } else {
+                return Optional.empty();
+            }
+        }
+
+        final ThingBuilder.FromCopy builder = thing.toBuilder();
+        if (attributesChanged) {
+            final Optional<JsonObject> attributes = mergedJson.getValue(Thing.JsonFields.ATTRIBUTES);
+            if (attributes.isPresent()) {
+                builder.setAttributes(ThingsModelFactory.newAttributes(attributes.get()));
+            } else {
+                builder.removeAllAttributes();
+            }
+        }
+        for (final String featureId : changedFeatureIds) {
+            final Optional<JsonValue> feature =
+                    mergedJson.getValue(Thing.JsonFields.FEATURES.getPointer().addLeaf(JsonKey.of(featureId)));
+            if (!feature.isPresent()) {
+                builder.removeFeature(featureId);
+            } else if (feature.get().isObject() && !JsonSchemaVersion.getJsonKey().equals(JsonKey.of(featureId))) {
+                builder.setFeature(ThingsModelFactory.newFeatureBuilder(feature.get().asObject())
+                        .useId(featureId)
+                        .build());
+            } else {
+                // let the deserialization of the whole thing report the invalid feature
+                return Optional.empty();
+            }
+        }
+        return Optional.of(builder);
+    }
+
+}
@@ -53,7 +53,7 @@ public final class ThingMongoSnapshotAdapter extends AbstractMongoSnapshotAdapte
 
     @Override
     protected Thing createJsonifiableFrom(final JsonObject jsonObject) {
-        return ThingsModelFactory.newThing(jsonObject);
+        return ThingsModelFactory.newThingLazily(jsonObject);
     }
 
     @Override
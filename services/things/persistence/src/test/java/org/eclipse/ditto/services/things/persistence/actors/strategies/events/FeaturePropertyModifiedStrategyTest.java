@@ -16,7 +16,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
+import java.time.Instant;
+
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.Feature;
+import org.eclipse.ditto.model.things.FeatureProperties;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.signals.events.things.FeaturePropertyModified;
 import org.junit.Test;
@@ -46,4 +50,31 @@ public final class FeaturePropertyModifiedStrategyTest extends AbstractStrategyT
         assertThat(thingWithEventApplied).isEqualTo(expected);
     }
 
+    @Test
+    public void appliesEventWithoutCopyingUnaffectedParts() {
+        final Feature otherFeature = Feature.newBuilder()
+                .properties(FeatureProperties.newBuilder().set("temperature", 23.5).build())
+                .withId("thermometer")
+                .build();
+        final Thing thing = THING.toBuilder()
+                .setAttributes(ATTRIBUTES)
+                .setFeature(FEATURE_ID, FeatureProperties.newBuilder().set("on", false).build())
+                .setFeature(otherFeature)
+                .build();
+        final FeaturePropertyModified event = FeaturePropertyModified.of(THING_ID, FEATURE_ID, FEATURE_PROPERTY_POINTER,
+                FEATURE_PROPERTY_VALUE, REVISION, Instant.EPOCH, DittoHeaders.empty());
+
+        final Thing thingWithEventApplied = new FeaturePropertyModifiedStrategy().handle(event, thing, NEXT_REVISION);
+
+        assertThat(thingWithEventApplied.getFeatures().flatMap(features -> features.getFeature("thermometer")))
+                .containsSame(thing.getFeatures().flatMap(features -> features.getFeature("thermometer")).get());
+        assertThat(thingWithEventApplied.getAttributes()).containsSame(thing.getAttributes().get());
+        assertThat(thingWithEventApplied.getModified()).contains(Instant.EPOCH);
+        assertThat(thingWithEventApplied).isEqualTo(thing.toBuilder()
+                .setFeatureProperty(FEATURE_ID, FEATURE_PROPERTY_POINTER, FEATURE_PROPERTY_VALUE)
+                .setRevision(NEXT_REVISION)
+                .setModified(Instant.EPOCH)
+                .build());
+    }
+
 }
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors.strategies.events;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.things.FeatureProperties;
+import org.eclipse.ditto.model.things.FeaturePropertiesBuilder;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingBuilder;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.events.things.AttributeModified;
+import org.eclipse.ditto.signals.events.things.FeaturePropertyModified;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark of applying {@code FeaturePropertyModified} and {@code AttributeModified} events to a Thing like the
+ * {@code ThingPersistenceActor} does on recovery and after persisting an event: each event is applied to the result of
+ * the previous one.
+ * <p>
+ * {@code applyWithThingBuilder} and {@code applyAttributeWithThingBuilder} apply the events through
+ * {@link ThingBuilder.FromCopy} like the event strategies did before; {@code applyWithEventStrategies} and
+ * {@code applyAttributeWithEventStrategies} use {@link ThingEventStrategies} which set the value directly at the
+ * resource path of the event.
+ * </p>
+ * <p>
+ * Run with the test classpath, e.g. {@code java -cp ... org.openjdk.jmh.Main ThingEventStrategiesBenchmark -prof gc}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+public class ThingEventStrategiesBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto", "benchmark");
+    private static final int EVENT_COUNT = 64;
+
+    @Param({"10", "100"})
+    public int featureCount;
+
+    @Param({"10", "1000"})
+    public int propertyCount;
+
+    private FeaturePropertyModified[] events;
+    private AttributeModified[] attributeEvents;
+    private Thing thingForBuilder;
+    private Thing thingForStrategies;
+    private long revision;
+
+    @Setup
+    public void setup() {
+        final ThingBuilder.FromScratch thingBuilder = Thing.newBuilder()
+                .setId(THING_ID)
+                .setPolicyId(PolicyId.of(THING_ID))
+                .setAttribute(JsonPointer.of("location"), JsonValue.of("Berlin"))
+                .setRevision(1L)
+                .setModified(Instant.now());
+        for (int j = 0; j < propertyCount; j++) {
+            thingBuilder.setAttribute(JsonPointer.of("status/value" + j), JsonValue.of(j));
+        }
+        for (int i = 0; i < featureCount; i++) {
+            final FeaturePropertiesBuilder propertiesBuilder = FeatureProperties.newBuilder();
+            for (int j = 0; j < propertyCount; j++) {
+                propertiesBuilder.set(JsonPointer.of("status/value" + j), JsonValue.of(j));
+            }
+            thingBuilder.setFeature("feature" + i, propertiesBuilder.build());
+        }
+        thingForBuilder = thingBuilder.build();
+        thingForStrategies = thingForBuilder;
+        revision = 1L;
+
+        // two consecutive events set the same value differently, thus each of the cycled events changes the Thing
+        events = new FeaturePropertyModified[EVENT_COUNT];
+        for (int i = 0; i < events.length; i++) {
+            events[i] = FeaturePropertyModified.of(THING_ID, "feature" + (i / 2 % featureCount),
+                    JsonPointer.of("status/value" + (i / 2 % propertyCount)), JsonValue.of(-i), i, Instant.now(),
+                    DittoHeaders.empty());
+        }
+        attributeEvents = new AttributeModified[EVENT_COUNT];
+        for (int i = 0; i < attributeEvents.length; i++) {
+            attributeEvents[i] = AttributeModified.of(THING_ID,
+                    JsonPointer.of("status/value" + (i / 2 % propertyCount)), JsonValue.of(-i), i, Instant.now(),
+                    DittoHeaders.empty());
+        }
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public Thing applyWithThingBuilder() {
+        final FeaturePropertyModified event = nextEvent();
+        thingForBuilder = thingForBuilder.toBuilder()
+                .setRevision(revision)
+                .setModified(event.getTimestamp().orElse(null))
+                .setFeatureProperty(event.getFeatureId(), event.getPropertyPointer(), event.getPropertyValue())
+                .build();
+        return thingForBuilder;
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public Thing applyWithEventStrategies() {
+        final FeaturePropertyModified event = nextEvent();
+        thingForStrategies = ThingEventStrategies.getInstance().handle(event, thingForStrategies, revision);
+        return thingForStrategies;
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public Thing applyAttributeWithThingBuilder() {
+        final AttributeModified event = nextAttributeEvent();
+        thingForBuilder = thingForBuilder.toBuilder()
+                .setRevision(revision)
+                .setModified(event.getTimestamp().orElse(null))
+                .setAttribute(event.getAttributePointer(), event.getAttributeValue())
+                .build();
+        return thingForBuilder;
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public Thing applyAttributeWithEventStrategies() {
+        final AttributeModified event = nextAttributeEvent();
+        thingForStrategies = ThingEventStrategies.getInstance().handle(event, thingForStrategies, revision);
+        return thingForStrategies;
+    }
+
+    private AttributeModified nextAttributeEvent() {
+        revision++;
+        return attributeEvents[(int) (revision % attributeEvents.length)];
+    }
+
+    private FeaturePropertyModified nextEvent() {
+        revision++;
+        return events[(int) (revision % events.length)];
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors.strategies.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonMergeResult;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.things.Feature;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ThingMerger}.
+ */
+public final class ThingMergerTest extends AbstractStrategyTest {
+
+    private static final Feature UNTOUCHED_FEATURE = Feature.newBuilder()
+            .properties(JsonObject.newBuilder().set("value", 1).build())
+            .withId("untouched")
+            .build();
+
+    private static final Thing KNOWN_THING = THING.toBuilder()
+            .setPolicyId("org.example:policy")
+            .setAttributes(ATTRIBUTES)
+            .setFeature(UNTOUCHED_FEATURE)
+            .setFeature(Feature.newBuilder()
+                    .properties(JsonObject.newBuilder().set("value", 21.5).set("unit", "Celsius").build())
+                    .withId("sensor")
+                    .build())
+            .build();
+
+    @Test
+    public void mergeOfFeaturePropertyReusesUnchangedParts() {
+        final JsonPointer path = JsonPointer.of("features/sensor/properties/value");
+
+        final JsonMergeResult mergeResult = ThingMerger.mergeIntoThing(KNOWN_THING, path, JsonValue.of(22.0));
+        final Thing mergedThing = ThingMerger.toMergedThingBuilder(KNOWN_THING, mergeResult).build();
+
+        assertThat(mergeResult.getChangedPointers()).containsExactly(path);
+        assertThat(mergedThing).isEqualTo(mergeCompletely(path, JsonValue.of(22.0)));
+        assertThat(mergedThing.getFeatures().flatMap(features -> features.getFeature("untouched")))
+                .containsSame(UNTOUCHED_FEATURE);
+    }
+
+    @Test
+    public void mergeRemovingAttributesAndFeaturesEqualsCompleteMerge() {
+        final JsonObject value = JsonObject.newBuilder()
+                .set("attributes", JsonObject.newBuilder().set(ATTRIBUTE_POINTER, JsonValue.nullLiteral()).build())
+                .set("features", JsonObject.newBuilder()
+                        .set("untouched", JsonValue.nullLiteral())
+                        .set("added", JsonObject.newBuilder()
+                                .set("definition", JsonFactory.newArrayBuilder().add("org.example:sensor:1.0.0").build())
+                                .build())
+                        .build())
+                .build();
+
+        final JsonMergeResult mergeResult = ThingMerger.mergeIntoThing(KNOWN_THING, JsonPointer.empty(), value);
+        final Thing mergedThing = ThingMerger.toMergedThingBuilder(KNOWN_THING, mergeResult).build();
+
+        assertThat(mergedThing).isEqualTo(mergeCompletely(JsonPointer.empty(), value));
+    }
+
+    @Test
+    public void mergeOfOtherFieldsEqualsCompleteMerge() {
+        final JsonObject value = JsonObject.newBuilder()
+                .set("policyId", "org.example:other-policy")
+                .set("features", JsonObject.newBuilder()
+                        .set("sensor", JsonObject.newBuilder()
+                                .set("properties", JsonObject.newBuilder().set("unit", "Kelvin").build())
+                                .build())
+                        .build())
+                .build();
+
+        final JsonMergeResult mergeResult = ThingMerger.mergeIntoThing(KNOWN_THING, JsonPointer.empty(), value);
+        final Thing mergedThing = ThingMerger.toMergedThingBuilder(KNOWN_THING, mergeResult).build();
+
+        assertThat(mergedThing).isEqualTo(mergeCompletely(JsonPointer.empty(), value));
+        assertThat(mergedThing.getPolicyEntityId()).map(String::valueOf).contains("org.example:other-policy");
+    }
+
+    @Test
+    public void mergeWithoutChangesReturnsEqualThing() {
+        final JsonMergeResult mergeResult =
+                ThingMerger.mergeIntoThing(KNOWN_THING, JsonPointer.of("attributes/bumlux"), ATTRIBUTE_VALUE);
+
+        assertThat(mergeResult.hasChanges()).isFalse();
+        assertThat(ThingMerger.toMergedThingBuilder(KNOWN_THING, mergeResult).build()).isEqualTo(KNOWN_THING);
+    }
+
+    private static Thing mergeCompletely(final JsonPointer path, final JsonValue value) {
+        final JsonObject mergedJson = JsonFactory.mergeJsonValues(JsonFactory.newObject(path, value),
+                KNOWN_THING.toJson(FieldType.all())).asObject();
+        return ThingsModelFactory.newThingBuilder(mergedJson).build();
+    }
+
+}
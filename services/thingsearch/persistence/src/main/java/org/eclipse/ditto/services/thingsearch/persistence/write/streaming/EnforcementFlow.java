@@ -44,13 +44,12 @@ import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
 import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcer;
 import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcerCacheLoader;
+import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcerUpdater;
 import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
-
 import akka.NotUsed;
 import akka.actor.ActorRef;
 import akka.dispatch.MessageDispatcher;
@@ -70,18 +69,21 @@ final class EnforcementFlow {
     private final Logger log = LoggerFactory.getLogger(getClass());
     private final ActorRef thingsShardRegion;
     private final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache;
+    private final PolicyEnforcerUpdater policyEnforcerUpdater;
     private final Duration thingsTimeout;
     private final Duration cacheRetryDelay;
     private final int maxArraySize;
 
     private EnforcementFlow(final ActorRef thingsShardRegion,
             final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
+            final PolicyEnforcerUpdater policyEnforcerUpdater,
             final Duration thingsTimeout,
             final Duration cacheRetryDelay,
             final int maxArraySize) {
 
         this.thingsShardRegion = thingsShardRegion;
         this.policyEnforcerCache = policyEnforcerCache;
+        this.policyEnforcerUpdater = policyEnforcerUpdater;
         this.thingsTimeout = thingsTimeout;
         this.cacheRetryDelay = cacheRetryDelay;
         this.maxArraySize = maxArraySize;
@@ -104,15 +106,25 @@ final class EnforcementFlow {
         final Duration askTimeout = updaterStreamConfig.getAskTimeout();
         final StreamCacheConfig streamCacheConfig = updaterStreamConfig.getCacheConfig();
 
-        final AsyncCacheLoader<EntityIdWithResourceType, Entry<PolicyEnforcer>> policyEnforcerCacheLoader =
+        final PolicyEnforcerCacheLoader policyEnforcerCacheLoader =
                 new PolicyEnforcerCacheLoader(askTimeout, policiesShardRegion);
-        final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache =
+        final Cache<EntityIdWithResourceType, Entry<PolicyEnforcer>> policyEnforcerCache =
                 CacheFactory.createCache(policyEnforcerCacheLoader, streamCacheConfig,
-                        EnforcementFlow.class.getCanonicalName() + ".cache", cacheDispatcher)
-                        .projectValues(PolicyEnforcer::project, PolicyEnforcer::embed);
+                        EnforcementFlow.class.getCanonicalName() + ".cache", cacheDispatcher);
+
+        return new EnforcementFlow(thingsShardRegion,
+                policyEnforcerCache.projectValues(PolicyEnforcer::project, PolicyEnforcer::embed),
+                PolicyEnforcerUpdater.of(policyEnforcerCache, policyEnforcerCacheLoader),
+                askTimeout, streamCacheConfig.getRetryDelay(), updaterStreamConfig.getMaxArraySize());
+    }
 
-        return new EnforcementFlow(thingsShardRegion, policyEnforcerCache, askTimeout,
-                streamCacheConfig.getRetryDelay(), updaterStreamConfig.getMaxArraySize());
+    /**
+     * Returns the updater of the enforcer cache of this flow by policy events.
+     *
+     * @return the updater.
+     */
+    PolicyEnforcerUpdater getPolicyEnforcerUpdater() {
+        return policyEnforcerUpdater;
     }
 
     private static EntityIdWithResourceType getPolicyEntityId(final PolicyId policyId) {
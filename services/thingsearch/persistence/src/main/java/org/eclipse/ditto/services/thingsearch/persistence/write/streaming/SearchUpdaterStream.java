@@ -25,6 +25,7 @@ import org.eclipse.ditto.services.thingsearch.common.config.StreamConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamStageConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.UpdaterConfig;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
+import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcerUpdater;
 import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
 
 import com.mongodb.reactivestreams.client.MongoDatabase;
@@ -110,6 +111,16 @@ public final class SearchUpdaterStream {
                 changeQueueActor, blockedNamespaces);
     }
 
+    /**
+     * Returns the updater of the policy enforcer cache of this stream. It should receive all policy events so that the
+     * cached enforcers need not be reloaded after each policy change.
+     *
+     * @return the updater.
+     */
+    public PolicyEnforcerUpdater getPolicyEnforcerUpdater() {
+        return enforcementFlow.getPolicyEnforcerUpdater();
+    }
+
     /**
      * Start a perpetual search updater stream killed only by the kill-switch.
      *
@@ -24,6 +24,7 @@ import org.eclipse.ditto.services.thingsearch.persistence.write.impl.MongoThings
 import org.eclipse.ditto.services.thingsearch.persistence.write.streaming.ChangeQueueActor;
 import org.eclipse.ditto.services.thingsearch.persistence.write.streaming.SearchUpdaterStream;
 import org.eclipse.ditto.services.utils.akka.streaming.TimestampPersistence;
+import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcerUpdateActor;
 import org.eclipse.ditto.services.utils.cluster.ClusterUtil;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.cluster.config.ClusterConfig;
@@ -121,6 +122,8 @@ public final class SearchUpdaterRootActor extends AbstractActor {
                         changeQueueActor, dittoMongoClient.getDefaultDatabase(), blockedNamespaces);
         updaterStreamKillSwitch = searchUpdaterStream.start(getContext(), false);
         updaterStreamWithAcknowledgementsKillSwitch = searchUpdaterStream.start(getContext(), true);
+        startChildActor(PolicyEnforcerUpdateActor.ACTOR_NAME,
+                PolicyEnforcerUpdateActor.props(pubSubMediator, searchUpdaterStream.getPolicyEnforcerUpdater()));
 
         final ThingsSearchUpdaterPersistence searchUpdaterPersistence =
                 MongoThingsSearchUpdaterPersistence.of(dittoMongoClient.getDefaultDatabase());
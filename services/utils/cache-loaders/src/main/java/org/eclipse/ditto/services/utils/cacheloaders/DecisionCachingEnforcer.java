@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cacheloaders;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.enforcers.EffectedSubjectIds;
+import org.eclipse.ditto.model.enforcers.EffectedSubjects;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.ResourceKey;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+
+/**
+ * Enforcer which remembers the results of {@code hasUnrestrictedPermissions} and {@code hasPartialPermissions} of
+ * another enforcer in a bounded cache. The decisions are keyed by the authorization subject IDs of the authorization
+ * context, the resource key and the permissions. All other methods are delegated without caching.
+ * <p>
+ * The cache belongs to this enforcer, thus it is discarded together with the cache entry holding the enforcer. It is
+ * created on the first decision as many cached enforcers are never asked for one before they are evicted.
+ */
+@ThreadSafe
+final class DecisionCachingEnforcer implements Enforcer {
+
+    private final Enforcer delegate;
+    private final long maximumSize;
+    private final StatsCounter statsCounter;
+    @Nullable private volatile Cache<DecisionKey, Boolean> decisions; // null until the first decision
+
+    private DecisionCachingEnforcer(final Enforcer delegate, final long maximumSize,
+            final StatsCounter statsCounter) {
+
+        this.delegate = delegate;
+        this.maximumSize = maximumSize;
+        this.statsCounter = statsCounter;
+        decisions = null;
+    }
+
+    /**
+     * Returns an enforcer which caches the decisions of the given enforcer.
+     *
+     * @param delegate the enforcer to ask on cache misses.
+     * @param maximumSize how many decisions to cache at most.
+     * @param statsCounter the counter of hits and misses which may be shared by many enforcers.
+     * @return the enforcer.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    static DecisionCachingEnforcer of(final Enforcer delegate, final long maximumSize,
+            final StatsCounter statsCounter) {
+
+        return new DecisionCachingEnforcer(requireNonNull(delegate), maximumSize, requireNonNull(statsCounter));
+    }
+
+    @Override
+    public boolean hasUnrestrictedPermissions(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        final DecisionKey key = new DecisionKey(true, authorizationContext, resourceKey, permissions);
+        return getDecisions().get(key,
+                k -> delegate.hasUnrestrictedPermissions(resourceKey, authorizationContext, permissions));
+    }
+
+    @Override
+    public boolean hasPartialPermissions(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        final DecisionKey key = new DecisionKey(false, authorizationContext, resourceKey, permissions);
+        return getDecisions().get(key,
+                k -> delegate.hasPartialPermissions(resourceKey, authorizationContext, permissions));
+    }
+
+    private Cache<DecisionKey, Boolean> getDecisions() {
+        Cache<DecisionKey, Boolean> result = decisions;
+        if (null == result) {
+            synchronized (this) {
+                result = decisions;
+                if (null == result) {
+                    result = Caffeine.newBuilder()
+                            .maximumSize(maximumSize)
+                            .recordStats(() -> statsCounter)
+                            .build();
+                    decisions = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Set<JsonPointer> getResourcePathsWithoutUnrestrictedPermissions(final ResourceKey resourceKey,
+            final JsonValue jsonValue, final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        return delegate.getResourcePathsWithoutUnrestrictedPermissions(resourceKey, jsonValue, authorizationContext,
+                permissions);
+    }
+
+    @Override
+    @Deprecated
+    public EffectedSubjectIds getSubjectIdsWithPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        return delegate.getSubjectIdsWithPermission(resourceKey, permissions);
+    }
+
+    @Override
+    public EffectedSubjects getSubjectsWithPermission(final ResourceKey resourceKey, final Permissions permissions) {
+        return delegate.getSubjectsWithPermission(resourceKey, permissions);
+    }
+
+    @Override
+    @Deprecated
+    public Set<String> getSubjectIdsWithPartialPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        return delegate.getSubjectIdsWithPartialPermission(resourceKey, permissions);
+    }
+
+    @Override
+    public Set<AuthorizationSubject> getSubjectsWithPartialPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        return delegate.getSubjectsWithPartialPermission(resourceKey, permissions);
+    }
+
+    @Override
+    public JsonObject buildJsonView(final ResourceKey resourceKey, final Iterable<JsonField> jsonFields,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        return delegate.buildJsonView(resourceKey, jsonFields, authorizationContext, permissions);
+    }
+
+    @Override
+    public String toString() {
+        final Cache<DecisionKey, Boolean> currentDecisions = decisions;
+        return getClass().getSimpleName() + " [" +
+                "delegate=" + delegate +
+                ", estimatedDecisions=" + (null != currentDecisions ? currentDecisions.estimatedSize() : 0L) +
+                "]";
+    }
+
+    /**
+     * Key of a decision. Only the subject IDs of the authorization context are relevant for policy checks.
+     */
+    private static final class DecisionKey {
+
+        private final boolean unrestricted;
+        private final List<String> subjectIds;
+        private final ResourceKey resourceKey;
+        private final Permissions permissions;
+        private final int hashCode;
+
+        private DecisionKey(final boolean unrestricted, final AuthorizationContext authorizationContext,
+                final ResourceKey resourceKey, final Permissions permissions) {
+
+            this.unrestricted = unrestricted;
+            subjectIds = authorizationContext.getAuthorizationSubjectIds();
+            this.resourceKey = requireNonNull(resourceKey);
+            this.permissions = requireNonNull(permissions);
+            hashCode = Objects.hash(unrestricted, subjectIds, resourceKey, permissions);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final DecisionKey that = (DecisionKey) o;
+            return hashCode == that.hashCode &&
+                    unrestricted == that.unrestricted &&
+                    subjectIds.equals(that.subjectIds) &&
+                    resourceKey.equals(that.resourceKey) &&
+                    permissions.equals(that.permissions);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+    }
+
+}
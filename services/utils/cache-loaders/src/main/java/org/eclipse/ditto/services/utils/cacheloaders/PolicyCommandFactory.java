@@ -50,7 +50,7 @@ final class PolicyCommandFactory {
     }
 
     /**
-     * Creates a sudo command for retrieving a policy.
+     * Creates a sudo command for retrieving a policy together with the compiled form of its enforcer.
      *
      * @param policyId the policyId.
      * @param cacheLookupContext the context to apply when doing the cache lookup.
@@ -65,11 +65,13 @@ final class PolicyCommandFactory {
                                 .schemaVersion(headers.getImplementedSchemaVersion())
                                 .correlationId("sudoRetrievePolicy-" +
                                         headers.getCorrelationId().orElseGet(() -> UUID.randomUUID().toString()))
+                                .putHeader(SudoRetrievePolicy.COMPILED_POLICY_REQUESTED_HEADER, "true")
                                 .build()
                         )
                         .orElseGet(() ->
                                 DittoHeaders.newBuilder()
                                         .correlationId("sudoRetrievePolicy-" + UUID.randomUUID().toString())
+                                        .putHeader(SudoRetrievePolicy.COMPILED_POLICY_REQUESTED_HEADER, "true")
                                         .build()));
     }
 
@@ -18,23 +18,26 @@ import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
+import java.util.function.UnaryOperator;
 
-import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.model.enforcers.Enforcer;
 import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
 import org.eclipse.ditto.model.policies.Policy;
 import org.eclipse.ditto.model.policies.PolicyRevision;
 import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicyResponse;
 import org.eclipse.ditto.services.utils.cache.CacheLookupContext;
 import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.MetricsStatsCounter;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
 import org.eclipse.ditto.signals.commands.policies.exceptions.PolicyNotAccessibleException;
 
 import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 
 import akka.actor.ActorRef;
 
@@ -45,6 +48,12 @@ import akka.actor.ActorRef;
 public final class PolicyEnforcerCacheLoader implements AsyncCacheLoader<EntityIdWithResourceType,
         Entry<PolicyEnforcer>> {
 
+    /**
+     * Name of the metrics of the decision caches of the loaded enforcers.
+     */
+    public static final String DECISION_CACHE_METRIC_NAME = "ditto_authorization_enforcer_decision_cache";
+
+    private final UnaryOperator<Enforcer> enforcerDecorator;
     private final ActorAskCacheLoader<PolicyEnforcer, Command<?>> delegate;
 
     /**
@@ -54,13 +63,36 @@ public final class PolicyEnforcerCacheLoader implements AsyncCacheLoader<EntityI
      * @param policiesShardRegionProxy the shard-region-proxy.
      */
     public PolicyEnforcerCacheLoader(final Duration askTimeout, final ActorRef policiesShardRegionProxy) {
+        this(askTimeout, policiesShardRegionProxy, 0L);
+    }
+
+    /**
+     * Constructor for a loader whose enforcers cache their decisions.
+     *
+     * @param askTimeout the ask-timeout for communicating with the shard-region-proxy.
+     * @param policiesShardRegionProxy the shard-region-proxy.
+     * @param decisionCacheSize how many decisions each loaded enforcer caches. Decisions are not cached if the value
+     * is not positive. Hits and misses of all decision caches are reported as metrics named
+     * {@value #DECISION_CACHE_METRIC_NAME}.
+     */
+    public PolicyEnforcerCacheLoader(final Duration askTimeout, final ActorRef policiesShardRegionProxy,
+            final long decisionCacheSize) {
+
         requireNonNull(askTimeout);
         requireNonNull(policiesShardRegionProxy);
 
+        if (0 < decisionCacheSize) {
+            final StatsCounter statsCounter =
+                    MetricsStatsCounter.forSharedCaches(DECISION_CACHE_METRIC_NAME, decisionCacheSize);
+            enforcerDecorator = enforcer -> DecisionCachingEnforcer.of(enforcer, decisionCacheSize, statsCounter);
+        } else {
+            enforcerDecorator = UnaryOperator.identity();
+        }
+
         final BiFunction<EntityId, CacheLookupContext, Command<?>> commandCreator =
                 PolicyCommandFactory::sudoRetrievePolicy;
         final BiFunction<Object, CacheLookupContext, Entry<PolicyEnforcer>> responseTransformer =
-                PolicyEnforcerCacheLoader::handleSudoRetrievePolicyResponse;
+                (response, cacheLookupContext) -> handleSudoRetrievePolicyResponse(response);
 
         delegate = ActorAskCacheLoader.forShard(askTimeout, PolicyCommand.RESOURCE_TYPE, policiesShardRegionProxy,
                 commandCreator, responseTransformer);
@@ -72,14 +104,26 @@ public final class PolicyEnforcerCacheLoader implements AsyncCacheLoader<EntityI
         return delegate.asyncLoad(key, executor);
     }
 
-    private static Entry<PolicyEnforcer> handleSudoRetrievePolicyResponse(final Object response,
-            @Nullable final CacheLookupContext cacheLookupContext) {
+    /**
+     * Creates the policy enforcer of a policy in the same way as the loaded policy enforcers are created.
+     *
+     * @param policy the policy.
+     * @return the policy enforcer.
+     */
+    PolicyEnforcer newPolicyEnforcer(final Policy policy) {
+        return PolicyEnforcer.of(policy, enforcerDecorator.apply(PolicyEnforcers.defaultEvaluator(policy)));
+    }
+
+    private Entry<PolicyEnforcer> handleSudoRetrievePolicyResponse(final Object response) {
         if (response instanceof SudoRetrievePolicyResponse) {
             final SudoRetrievePolicyResponse sudoRetrievePolicyResponse = (SudoRetrievePolicyResponse) response;
             final Policy policy = sudoRetrievePolicyResponse.getPolicy();
             final long revision = policy.getRevision().map(PolicyRevision::toLong)
                     .orElseThrow(() -> new IllegalStateException("Bad SudoRetrievePolicyResponse: no revision"));
-            return Entry.of(revision, PolicyEnforcer.of(policy, PolicyEnforcers.defaultEvaluator(policy)));
+            final Enforcer enforcer = sudoRetrievePolicyResponse.getCompiledPolicy()
+                    .flatMap(PolicyEnforcers::defaultEvaluatorFromCompiledPolicy)
+                    .orElseGet(() -> PolicyEnforcers.defaultEvaluator(policy));
+            return Entry.of(revision, PolicyEnforcer.of(policy, enforcerDecorator.apply(enforcer)));
         } else if (response instanceof PolicyNotAccessibleException) {
             return Entry.nonexistent();
         } else {
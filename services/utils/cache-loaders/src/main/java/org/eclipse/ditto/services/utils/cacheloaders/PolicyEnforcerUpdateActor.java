@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cacheloaders;
+
+import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.signals.events.policies.PolicyEvent;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.cluster.Cluster;
+import akka.cluster.pubsub.DistributedPubSubMediator;
+import akka.japi.pf.ReceiveBuilder;
+
+/**
+ * Actor which updates the policy enforcer cache of its cluster node by all policy events.
+ * <p>
+ * Policy events are published to one subscriber per group. Each instance of this actor subscribes with a group
+ * unique to its cluster node, so that the caches of all nodes receive every policy event.
+ */
+public final class PolicyEnforcerUpdateActor extends AbstractActor {
+
+    /**
+     * The name of this actor.
+     */
+    public static final String ACTOR_NAME = "policyEnforcerUpdater";
+
+    private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+
+    private final PolicyEnforcerUpdater policyEnforcerUpdater;
+
+    @SuppressWarnings("unused")
+    private PolicyEnforcerUpdateActor(final ActorRef pubSubMediator,
+            final PolicyEnforcerUpdater policyEnforcerUpdater) {
+
+        this.policyEnforcerUpdater = policyEnforcerUpdater;
+
+        final String group = ACTOR_NAME + "-" + Cluster.get(getContext().getSystem()).selfUniqueAddress().longUid();
+        pubSubMediator.tell(DistPubSubAccess.subscribeViaGroup(PolicyEvent.TYPE_PREFIX, group, getSelf()),
+                getSelf());
+    }
+
+    /**
+     * Creates Akka configuration object Props for this actor.
+     *
+     * @param pubSubMediator Akka pub-sub-mediator to subscribe for policy events.
+     * @param policyEnforcerUpdater the updater of the policy enforcer cache.
+     * @return the Props object.
+     */
+    public static Props props(final ActorRef pubSubMediator, final PolicyEnforcerUpdater policyEnforcerUpdater) {
+        return Props.create(PolicyEnforcerUpdateActor.class, pubSubMediator, policyEnforcerUpdater);
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(PolicyEvent.class, this::policyEvent)
+                .match(DistributedPubSubMediator.SubscribeAck.class, ack ->
+                        log.info("Subscribed for policy events: <{}>", ack.subscribe()))
+                .matchAny(message -> log.warning("Unexpected message: <{}>", message))
+                .build();
+    }
+
+    private void policyEvent(final PolicyEvent<?> policyEvent) {
+        final boolean updated = policyEnforcerUpdater.updateOrInvalidate(policyEvent);
+        log.withCorrelationId(policyEvent)
+                .debug("Policy enforcer of <{}> {} by event <{}> with revision <{}>.",
+                        policyEvent.getPolicyEntityId(), updated ? "updated" : "not cached or invalidated",
+                        policyEvent.getType(), policyEvent.getRevision());
+    }
+
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cacheloaders;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyBuilder;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
+import org.eclipse.ditto.signals.events.policies.PolicyEntriesModified;
+import org.eclipse.ditto.signals.events.policies.PolicyEntryCreated;
+import org.eclipse.ditto.signals.events.policies.PolicyEntryDeleted;
+import org.eclipse.ditto.signals.events.policies.PolicyEntryModified;
+import org.eclipse.ditto.signals.events.policies.PolicyEvent;
+import org.eclipse.ditto.signals.events.policies.PolicyModified;
+import org.eclipse.ditto.signals.events.policies.ResourceCreated;
+import org.eclipse.ditto.signals.events.policies.ResourceDeleted;
+import org.eclipse.ditto.signals.events.policies.ResourceModified;
+import org.eclipse.ditto.signals.events.policies.ResourcesModified;
+import org.eclipse.ditto.signals.events.policies.SubjectCreated;
+import org.eclipse.ditto.signals.events.policies.SubjectDeleted;
+import org.eclipse.ditto.signals.events.policies.SubjectModified;
+import org.eclipse.ditto.signals.events.policies.SubjectsModified;
+
+/**
+ * Updates the entries of a policy enforcer cache by policy events instead of reloading the policies.
+ * <p>
+ * An event is applied to the policy of the cached entry if the event has the revision directly following the
+ * revision of the entry. The updated policy shares all unchanged policy entries with the cached policy, the enforcer
+ * however is rebuilt completely from the updated policy as its compacted tries cannot be patched. The cache entry is
+ * invalidated and thus reloaded on demand if there is a revision gap or if the event cannot be applied, e.g. because it
+ * depends on the current time like partial subject modifications. Modifications of policies via concierge additionally
+ * invalidate the entries of all concierge nodes preemptively.
+ */
+@ThreadSafe
+public final class PolicyEnforcerUpdater {
+
+    private final Cache<EntityIdWithResourceType, Entry<PolicyEnforcer>> policyEnforcerCache;
+    private final PolicyEnforcerCacheLoader policyEnforcerCacheLoader;
+
+    private PolicyEnforcerUpdater(final Cache<EntityIdWithResourceType, Entry<PolicyEnforcer>> policyEnforcerCache,
+            final PolicyEnforcerCacheLoader policyEnforcerCacheLoader) {
+
+        this.policyEnforcerCache = policyEnforcerCache;
+        this.policyEnforcerCacheLoader = policyEnforcerCacheLoader;
+    }
+
+    /**
+     * Returns an updater for the given cache.
+     *
+     * @param policyEnforcerCache the cache whose entries to update.
+     * @param policyEnforcerCacheLoader the loader of the cache which also creates the enforcers of updated policies.
+     * @return the updater.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static PolicyEnforcerUpdater of(
+            final Cache<EntityIdWithResourceType, Entry<PolicyEnforcer>> policyEnforcerCache,
+            final PolicyEnforcerCacheLoader policyEnforcerCacheLoader) {
+
+        return new PolicyEnforcerUpdater(requireNonNull(policyEnforcerCache),
+                requireNonNull(policyEnforcerCacheLoader));
+    }
+
+    /**
+     * Updates the cached entry of the policy of the given event or invalidates it if the event cannot be applied.
+     * Nothing happens if the policy is not cached.
+     *
+     * @param policyEvent the policy event.
+     * @return {@code true} if the cached entry is up to date after this call, {@code false} if it was invalidated or
+     * not cached.
+     */
+    public boolean updateOrInvalidate(final PolicyEvent<?> policyEvent) {
+        final EntityIdWithResourceType key =
+                EntityIdWithResourceType.of(PolicyCommand.RESOURCE_TYPE, policyEvent.getPolicyEntityId());
+        final CompletableFuture<Optional<Entry<PolicyEnforcer>>> cachedEntry = policyEnforcerCache.getIfPresent(key);
+        if (!cachedEntry.isDone() || cachedEntry.isCompletedExceptionally()) {
+            // do not block on loading entries; they may or may not contain the event
+            policyEnforcerCache.invalidate(key);
+            return false;
+        }
+        final Optional<Entry<PolicyEnforcer>> entry = cachedEntry.join();
+        if (!entry.isPresent()) {
+            return false;
+        }
+
+        // the enforcer is built outside of the map's lock and installed only if no other event or reload changed the
+        // entry meanwhile, thus events processed concurrently do not overwrite each other
+        final long revision = policyEvent.getRevision();
+        final long cachedRevision = entry.get().getRevision();
+        @Nullable final Entry<PolicyEnforcer> updatedEntry = applyEvent(entry.get(), policyEvent);
+        final Entry<PolicyEnforcer> installedEntry = policyEnforcerCache.asMap().computeIfPresent(key,
+                (k, currentEntry) -> {
+                    if (currentEntry.exists() && currentEntry.getRevision() >= revision) {
+                        return currentEntry;
+                    } else if (null != updatedEntry && currentEntry.getRevision() == cachedRevision) {
+                        return updatedEntry;
+                    } else {
+                        return null;
+                    }
+                });
+        return null != installedEntry;
+    }
+
+    @Nullable
+    private Entry<PolicyEnforcer> applyEvent(final Entry<PolicyEnforcer> entry, final PolicyEvent<?> policyEvent) {
+        final long revision = policyEvent.getRevision();
+        if (!entry.exists() || revision != entry.getRevision() + 1) {
+            return null;
+        }
+
+        return entry.getValueOrThrow()
+                .getPolicy()
+                .flatMap(policy -> applyEvent(policyEvent, policy))
+                .map(updatedPolicy -> Entry.of(revision, policyEnforcerCacheLoader.newPolicyEnforcer(updatedPolicy)))
+                .orElse(null);
+    }
+
+    /**
+     * Applies the given event to the given policy in the same way as the policies service does.
+     *
+     * @param policyEvent the event to apply.
+     * @param policy the policy with the revision preceding the revision of the event.
+     * @return the updated policy or an empty Optional if the event cannot be applied without the policies service.
+     */
+    static Optional<Policy> applyEvent(final PolicyEvent<?> policyEvent, final Policy policy) {
+        final PolicyBuilder policyBuilder = policy.toBuilder()
+                .setRevision(policyEvent.getRevision())
+                .setModified(policyEvent.getTimestamp().orElse(null));
+
+        if (policyEvent instanceof PolicyModified) {
+            policyBuilder.removeAll(policy.getEntriesSet())
+                    .setAll(((PolicyModified) policyEvent).getPolicy().getEntriesSet());
+        } else if (policyEvent instanceof PolicyEntriesModified) {
+            policyBuilder.removeAll(policy.getEntriesSet())
+                    .setAll(((PolicyEntriesModified) policyEvent).getPolicyEntries());
+        } else if (policyEvent instanceof PolicyEntryCreated) {
+            policyBuilder.set(((PolicyEntryCreated) policyEvent).getPolicyEntry());
+        } else if (policyEvent instanceof PolicyEntryModified) {
+            policyBuilder.set(((PolicyEntryModified) policyEvent).getPolicyEntry());
+        } else if (policyEvent instanceof PolicyEntryDeleted) {
+            policyBuilder.remove(((PolicyEntryDeleted) policyEvent).getLabel());
+        } else if (policyEvent instanceof SubjectsModified) {
+            final SubjectsModified subjectsModified = (SubjectsModified) policyEvent;
+            final Optional<PolicyBuilder> withModifiedEntry = policy.getEntryFor(subjectsModified.getLabel())
+                    .map(policyEntry -> PoliciesModelFactory.newPolicyEntry(subjectsModified.getLabel(),
+                            subjectsModified.getSubjects(), policyEntry.getResources()))
+                    .map(policyBuilder::set);
+            if (!withModifiedEntry.isPresent()) {
+                policyBuilder.setSubjectsFor(subjectsModified.getLabel(), subjectsModified.getSubjects());
+            }
+        } else if (policyEvent instanceof SubjectCreated) {
+            final SubjectCreated subjectCreated = (SubjectCreated) policyEvent;
+            policyBuilder.setSubjectFor(subjectCreated.getLabel(), subjectCreated.getSubject());
+        } else if (policyEvent instanceof SubjectModified) {
+            final SubjectModified subjectModified = (SubjectModified) policyEvent;
+            policyBuilder.setSubjectFor(subjectModified.getLabel(), subjectModified.getSubject());
+        } else if (policyEvent instanceof SubjectDeleted) {
+            final SubjectDeleted subjectDeleted = (SubjectDeleted) policyEvent;
+            policyBuilder.removeSubjectFor(subjectDeleted.getLabel(), subjectDeleted.getSubjectId());
+        } else if (policyEvent instanceof ResourcesModified) {
+            final ResourcesModified resourcesModified = (ResourcesModified) policyEvent;
+            final Optional<PolicyBuilder> withModifiedEntry = policy.getEntryFor(resourcesModified.getLabel())
+                    .map(policyEntry -> PoliciesModelFactory.newPolicyEntry(resourcesModified.getLabel(),
+                            policyEntry.getSubjects(), resourcesModified.getResources()))
+                    .map(policyBuilder::set);
+            if (!withModifiedEntry.isPresent()) {
+                policyBuilder.setResourcesFor(resourcesModified.getLabel(), resourcesModified.getResources());
+            }
+        } else if (policyEvent instanceof ResourceCreated) {
+            final ResourceCreated resourceCreated = (ResourceCreated) policyEvent;
+            policyBuilder.setResourceFor(resourceCreated.getLabel(), resourceCreated.getResource());
+        } else if (policyEvent instanceof ResourceModified) {
+            final ResourceModified resourceModified = (ResourceModified) policyEvent;
+            policyBuilder.setResourceFor(resourceModified.getLabel(), resourceModified.getResource());
+        } else if (policyEvent instanceof ResourceDeleted) {
+            final ResourceDeleted resourceDeleted = (ResourceDeleted) policyEvent;
+            policyBuilder.removeResourceFor(resourceDeleted.getLabel(), resourceDeleted.getResourceKey());
+        } else {
+            return Optional.empty();
+        }
+
+        return Optional.of(policyBuilder.build());
+    }
+
+}
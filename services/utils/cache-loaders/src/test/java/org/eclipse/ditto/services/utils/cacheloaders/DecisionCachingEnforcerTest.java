@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cacheloaders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.ResourceKey;
+import org.junit.Test;
+
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+
+/**
+ * Unit test for {@link DecisionCachingEnforcer}.
+ */
+public final class DecisionCachingEnforcerTest {
+
+    private static final ResourceKey RESOURCE_KEY = ResourceKey.newInstance("thing", "/features/f/properties/p");
+    private static final Permissions WRITE = Permissions.newInstance("WRITE");
+
+    @Test
+    public void repeatedDecisionsAreAnsweredFromCache() {
+        final Enforcer delegate = mock(Enforcer.class);
+        when(delegate.hasUnrestrictedPermissions(any(ResourceKey.class), any(AuthorizationContext.class),
+                any(Permissions.class))).thenReturn(true);
+        final ConcurrentStatsCounter statsCounter = new ConcurrentStatsCounter();
+        final DecisionCachingEnforcer underTest = DecisionCachingEnforcer.of(delegate, 10L, statsCounter);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(underTest.hasUnrestrictedPermissions(RESOURCE_KEY, authorizationContext("device"), WRITE))
+                    .isTrue();
+        }
+
+        verify(delegate, times(1)).hasUnrestrictedPermissions(RESOURCE_KEY, authorizationContext("device"), WRITE);
+        assertThat(statsCounter.snapshot().hitCount()).isEqualTo(2L);
+        assertThat(statsCounter.snapshot().missCount()).isEqualTo(1L);
+    }
+
+    @Test
+    public void decisionsAreKeyedBySubjectsResourceAndKindOfCheck() {
+        final Enforcer delegate = mock(Enforcer.class);
+        when(delegate.hasUnrestrictedPermissions(RESOURCE_KEY, authorizationContext("device"), WRITE))
+                .thenReturn(true);
+        final DecisionCachingEnforcer underTest = DecisionCachingEnforcer.of(delegate, 10L,
+                new ConcurrentStatsCounter());
+
+        assertThat(underTest.hasUnrestrictedPermissions(RESOURCE_KEY, authorizationContext("device"), WRITE))
+                .isTrue();
+        assertThat(underTest.hasUnrestrictedPermissions(RESOURCE_KEY, authorizationContext("other"), WRITE))
+                .isFalse();
+        assertThat(underTest.hasUnrestrictedPermissions(ResourceKey.newInstance("thing", "/"),
+                authorizationContext("device"), WRITE)).isFalse();
+        assertThat(underTest.hasPartialPermissions(RESOURCE_KEY, authorizationContext("device"), WRITE)).isFalse();
+    }
+
+    private static AuthorizationContext authorizationContext(final String subjectId) {
+        return AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                AuthorizationSubject.newInstance(subjectId));
+    }
+
+}
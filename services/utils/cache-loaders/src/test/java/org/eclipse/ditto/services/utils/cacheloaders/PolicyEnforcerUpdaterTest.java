@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cacheloaders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.policies.Label;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.PolicyRevision;
+import org.eclipse.ditto.model.policies.ResourceKey;
+import org.eclipse.ditto.model.policies.Subject;
+import org.eclipse.ditto.model.policies.SubjectIssuer;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.CaffeineCache;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
+import org.eclipse.ditto.signals.events.policies.PolicyDeleted;
+import org.eclipse.ditto.signals.events.policies.ResourceDeleted;
+import org.eclipse.ditto.signals.events.policies.SubjectCreated;
+import org.junit.Test;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import akka.actor.ActorRef;
+
+/**
+ * Unit test for {@link PolicyEnforcerUpdater}.
+ */
+public final class PolicyEnforcerUpdaterTest {
+
+    private static final PolicyId POLICY_ID = PolicyId.of("org.eclipse.ditto:policy");
+    private static final Label LABEL = Label.of("DEFAULT");
+    private static final ResourceKey ATTRIBUTES = ResourceKey.newInstance("thing", "/attributes");
+
+    private static final Policy POLICY = PoliciesModelFactory.newPolicyBuilder(POLICY_ID)
+            .forLabel(LABEL)
+            .setSubject(SubjectIssuer.GOOGLE, "owner")
+            .setGrantedPermissions("thing", "/", "READ", "WRITE")
+            .setGrantedPermissions("thing", "/attributes", "READ")
+            .setRevision(1L)
+            .build();
+
+    private static final EntityIdWithResourceType KEY =
+            EntityIdWithResourceType.of(PolicyCommand.RESOURCE_TYPE, POLICY_ID);
+
+    @Test
+    public void subjectCreatedIsApplied() {
+        final Subject subject = Subject.newInstance(SubjectIssuer.GOOGLE, "device");
+        final SubjectCreated event = SubjectCreated.of(POLICY_ID, LABEL, subject, 2L, DittoHeaders.empty());
+
+        final Optional<Policy> result = PolicyEnforcerUpdater.applyEvent(event, POLICY);
+
+        assertThat(result).isPresent();
+        assertThat(result.get().getRevision()).contains(PolicyRevision.newInstance(2L));
+        assertThat(result.get().getEntryFor(LABEL).map(entry -> entry.getSubjects().getSubject(subject.getId())))
+                .contains(Optional.of(subject));
+    }
+
+    @Test
+    public void resourceDeletedIsApplied() {
+        final ResourceDeleted event = ResourceDeleted.of(POLICY_ID, LABEL, ATTRIBUTES, 2L, DittoHeaders.empty());
+
+        final Optional<Policy> result = PolicyEnforcerUpdater.applyEvent(event, POLICY);
+
+        assertThat(result).isPresent();
+        assertThat(result.get().getEntryFor(LABEL).map(entry -> entry.getResources().getResource(ATTRIBUTES)))
+                .contains(Optional.empty());
+    }
+
+    @Test
+    public void policyDeletedIsNotApplied() {
+        final PolicyDeleted event = PolicyDeleted.of(POLICY_ID, 2L, DittoHeaders.empty());
+
+        assertThat(PolicyEnforcerUpdater.applyEvent(event, POLICY)).isEmpty();
+    }
+
+    @Test
+    public void cachedEntryIsUpdatedByFollowingEvent() {
+        final PolicyEnforcerCacheLoader cacheLoader =
+                new PolicyEnforcerCacheLoader(Duration.ofSeconds(1L), mock(ActorRef.class));
+        final Cache<EntityIdWithResourceType, Entry<PolicyEnforcer>> cache = CaffeineCache.of(Caffeine.newBuilder());
+        cache.put(KEY, Entry.of(1L, cacheLoader.newPolicyEnforcer(POLICY)));
+        final PolicyEnforcerUpdater underTest = PolicyEnforcerUpdater.of(cache, cacheLoader);
+
+        final boolean upToDate = underTest.updateOrInvalidate(SubjectCreated.of(POLICY_ID, LABEL,
+                Subject.newInstance(SubjectIssuer.GOOGLE, "device"), 2L, DittoHeaders.empty()));
+
+        assertThat(upToDate).isTrue();
+        assertThat(cache.getBlocking(KEY).map(Entry::getRevision)).contains(2L);
+    }
+
+    @Test
+    public void cachedEntryIsInvalidatedOnRevisionGap() {
+        final PolicyEnforcerCacheLoader cacheLoader =
+                new PolicyEnforcerCacheLoader(Duration.ofSeconds(1L), mock(ActorRef.class));
+        final Cache<EntityIdWithResourceType, Entry<PolicyEnforcer>> cache = CaffeineCache.of(Caffeine.newBuilder());
+        cache.put(KEY, Entry.of(1L, cacheLoader.newPolicyEnforcer(POLICY)));
+        final PolicyEnforcerUpdater underTest = PolicyEnforcerUpdater.of(cache, cacheLoader);
+
+        final boolean upToDate = underTest.updateOrInvalidate(
+                ResourceDeleted.of(POLICY_ID, LABEL, ATTRIBUTES, 3L, DittoHeaders.empty()));
+
+        assertThat(upToDate).isFalse();
+        assertThat(cache.asMap()).doesNotContainKey(KEY);
+    }
+
+    @Test
+    public void newerCachedEntryIsKept() {
+        final PolicyEnforcerCacheLoader cacheLoader =
+                new PolicyEnforcerCacheLoader(Duration.ofSeconds(1L), mock(ActorRef.class));
+        final Cache<EntityIdWithResourceType, Entry<PolicyEnforcer>> cache = CaffeineCache.of(Caffeine.newBuilder());
+        final Entry<PolicyEnforcer> cachedEntry = Entry.of(3L, cacheLoader.newPolicyEnforcer(POLICY));
+        cache.put(KEY, cachedEntry);
+        final PolicyEnforcerUpdater underTest = PolicyEnforcerUpdater.of(cache, cacheLoader);
+
+        final boolean upToDate = underTest.updateOrInvalidate(
+                ResourceDeleted.of(POLICY_ID, LABEL, ATTRIBUTES, 2L, DittoHeaders.empty()));
+
+        assertThat(upToDate).isTrue();
+        assertThat(cache.asMap()).containsEntry(KEY, cachedEntry);
+    }
+
+}
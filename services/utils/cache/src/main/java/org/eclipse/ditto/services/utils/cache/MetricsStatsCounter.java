@@ -162,6 +162,19 @@ public final class MetricsStatsCounter implements StatsCounter {
         return new MetricsStatsCounter(cacheName, maxSizeSupplier, estimatedSizeSupplier);
     }
 
+    /**
+     * Creates an instance to be shared by many small caches of the same kind, e.g. caches which are part of the values
+     * of another cache. Hits, misses and evictions are summed up over all caches. The maximum size is reported as the
+     * maximum size of each single cache, the estimated size is not tracked and reported as 0.
+     *
+     * @param cacheName The name of the caches.
+     * @param maximumSizeOfEachCache the maximum size of each single cache.
+     * @return the instance.
+     */
+    public static MetricsStatsCounter forSharedCaches(final String cacheName, final long maximumSizeOfEachCache) {
+        return new MetricsStatsCounter(cacheName, () -> maximumSizeOfEachCache, () -> 0L);
+    }
+
     @Override
     public void recordHits(final int count) {
         hitCount.increment(count);
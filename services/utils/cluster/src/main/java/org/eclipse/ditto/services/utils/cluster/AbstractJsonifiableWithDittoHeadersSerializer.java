@@ -16,12 +16,15 @@ import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
 import java.io.IOException;
 import java.io.NotSerializableException;
+import java.io.OutputStream;
 import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import javax.annotation.Nullable;
@@ -29,7 +32,6 @@ import javax.annotation.Nullable;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonFieldDefinition;
 import org.eclipse.ditto.json.JsonObject;
-import org.eclipse.ditto.json.JsonObjectBuilder;
 import org.eclipse.ditto.json.JsonParseException;
 import org.eclipse.ditto.json.JsonRuntimeException;
 import org.eclipse.ditto.json.JsonValue;
@@ -37,6 +39,7 @@ import org.eclipse.ditto.json.cbor.BinaryToHexConverter;
 import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.DittoHeadersBinaryCodec;
 import org.eclipse.ditto.model.base.headers.DittoHeadersBuilder;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.base.json.FieldType;
@@ -44,6 +47,7 @@ import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.base.json.Jsonifiable;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
 import org.eclipse.ditto.signals.base.JsonParsable;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.slf4j.Logger;
@@ -81,21 +85,42 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
     private static final String CONFIG_DIRECT_BUFFER_POOL_LIMIT =
             "akka.actor.serializers-json.direct-buffer-pool-limit";
 
+    private static final String CONFIG_BINARY_HEADERS = "akka.actor.serializers-json.binary-headers";
+    private static final String CONFIG_COMPRESSION_THRESHOLD = "akka.actor.serializers-json.compression-threshold";
+    private static final String CONFIG_COMPRESSION_LEVEL = "akka.actor.serializers-json.compression-level";
+    private static final String CONFIG_MAX_DECOMPRESSED_SIZE = "akka.actor.serializers-json.max-decompressed-size";
+    private static final String CONFIG_LAZY_READ_THRESHOLD = "akka.actor.serializers-json.lazy-read-threshold";
+
     private static final Config FALLBACK_CONF = ConfigFactory.empty()
             .withValue(CONFIG_DIRECT_BUFFER_SIZE, ConfigValueFactory.fromAnyRef("64 KiB"))
-            .withValue(CONFIG_DIRECT_BUFFER_POOL_LIMIT, ConfigValueFactory.fromAnyRef("500"));
+            .withValue(CONFIG_DIRECT_BUFFER_POOL_LIMIT, ConfigValueFactory.fromAnyRef("500"))
+            .withValue(CONFIG_BINARY_HEADERS, ConfigValueFactory.fromAnyRef(false))
+            .withValue(CONFIG_COMPRESSION_THRESHOLD, ConfigValueFactory.fromAnyRef("0"))
+            .withValue(CONFIG_COMPRESSION_LEVEL, ConfigValueFactory.fromAnyRef(1))
+            .withValue(CONFIG_MAX_DECOMPRESSED_SIZE, ConfigValueFactory.fromAnyRef("256 KiB"))
+            .withValue(CONFIG_LAZY_READ_THRESHOLD, ConfigValueFactory.fromAnyRef("0"));
+
+    private static final char MANIFEST_OPTION_SEPARATOR = '#';
+    private static final String BINARY_HEADERS_MANIFEST_OPTION = "binary-headers";
+    private static final String DEFLATE_MANIFEST_OPTION = "deflate";
 
     private static final String METRIC_NAME_SUFFIX = "_serializer_messages";
+    private static final String SIZE_METRIC_NAME_SUFFIX = "_serializer_message_bytes";
     private static final String METRIC_DIRECTION = "direction";
+    private static final String METRIC_MANIFEST = "manifest";
 
     private final int identifier;
     private final MappingStrategies mappingStrategies;
     private final Function<Object, String> manifestProvider;
     private final BufferPool byteBufferPool;
-    private final Long defaultBufferSize;
     private final Counter inCounter;
     private final Counter outCounter;
+    private final Map<String, Histogram> inSizeHistograms;
+    private final Map<String, Histogram> outSizeHistograms;
     private final String serializerName;
+    private final boolean binaryHeaders;
+    private final DeflateCompression compression;
+    private final long lazyReadThreshold;
 
     /**
      * Constructs a new {@code AbstractJsonifiableWithDittoHeadersSerializer} object.
@@ -117,14 +142,22 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
 
         final ActorSystem.Settings settings = actorSystem.settings();
         final Config config = settings.config();
-        defaultBufferSize = config.withFallback(FALLBACK_CONF).getBytes(CONFIG_DIRECT_BUFFER_SIZE);
+        final Long defaultBufferSize = config.withFallback(FALLBACK_CONF).getBytes(CONFIG_DIRECT_BUFFER_SIZE);
         final int maxPoolEntries = config.withFallback(FALLBACK_CONF).getInt(CONFIG_DIRECT_BUFFER_POOL_LIMIT);
         byteBufferPool = new DirectByteBufferPool(defaultBufferSize.intValue(), maxPoolEntries);
+        binaryHeaders = config.withFallback(FALLBACK_CONF).getBoolean(CONFIG_BINARY_HEADERS);
+        compression = DeflateCompression.of(config.withFallback(FALLBACK_CONF).getBytes(CONFIG_COMPRESSION_THRESHOLD),
+                config.withFallback(FALLBACK_CONF).getInt(CONFIG_COMPRESSION_LEVEL),
+                config.withFallback(FALLBACK_CONF).getBytes(CONFIG_MAX_DECOMPRESSED_SIZE),
+                serializerName.toLowerCase());
+        lazyReadThreshold = config.withFallback(FALLBACK_CONF).getBytes(CONFIG_LAZY_READ_THRESHOLD);
 
         inCounter = DittoMetrics.counter(serializerName.toLowerCase() + METRIC_NAME_SUFFIX)
                 .tag(METRIC_DIRECTION, "in");
         outCounter = DittoMetrics.counter(serializerName.toLowerCase() + METRIC_NAME_SUFFIX)
                 .tag(METRIC_DIRECTION, "out");
+        inSizeHistograms = new ConcurrentHashMap<>();
+        outSizeHistograms = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -132,35 +165,80 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
         return identifier;
     }
 
+    /**
+     * Returns the manifest of the passed object which consists of its type and the options the object is serialized
+     * with, each of them prefixed with {@code #}.
+     *
+     * @param o the object to be serialized.
+     * @return the manifest.
+     */
     @Override
     public String manifest(final Object o) {
-        return manifestProvider.apply(o);
+        final StringBuilder manifestBuilder = new StringBuilder(manifestProvider.apply(o));
+        if (binaryHeaders) {
+            manifestBuilder.append(MANIFEST_OPTION_SEPARATOR).append(BINARY_HEADERS_MANIFEST_OPTION);
+        }
+        if (compression.isEnabled()) {
+            // whether a message is actually compressed depends on its size and is marked in its bytes
+            manifestBuilder.append(MANIFEST_OPTION_SEPARATOR).append(DEFLATE_MANIFEST_OPTION);
+        }
+        return manifestBuilder.toString();
+    }
+
+    /**
+     * Returns the first option of the passed {@code manifest} which starts with the passed {@code optionPrefix}.
+     *
+     * @param manifest the manifest of a message.
+     * @param optionPrefix the prefix of the option to look for.
+     * @return the option including its prefix or an empty Optional if the manifest contains no such option.
+     * @since 2.0.0
+     */
+    protected static Optional<String> getManifestOption(final String manifest, final String optionPrefix) {
+        int optionStart = manifest.indexOf(MANIFEST_OPTION_SEPARATOR);
+        while (0 <= optionStart) {
+            final int optionEnd = manifest.indexOf(MANIFEST_OPTION_SEPARATOR, optionStart + 1);
+            final String option = manifest.substring(optionStart + 1, 0 <= optionEnd ? optionEnd : manifest.length());
+            if (option.startsWith(optionPrefix)) {
+                return Optional.of(option);
+            }
+            optionStart = optionEnd;
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the part of the passed {@code manifest} which denotes the type of the serialized object and is used to
+     * look up its mapping strategy, i.e. the manifest without its options.
+     *
+     * @param manifest the manifest of a message.
+     * @return the type manifest.
+     */
+    private static String getTypeManifest(final String manifest) {
+        final int optionsStart = manifest.indexOf(MANIFEST_OPTION_SEPARATOR);
+        return 0 <= optionsStart ? manifest.substring(0, optionsStart) : manifest;
     }
 
     @Override
     public void toBinary(final Object object, final ByteBuffer buf) {
         if (object instanceof Jsonifiable) {
-            final JsonObjectBuilder jsonObjectBuilder = JsonObject.newBuilder();
             final DittoHeaders dittoHeaders = getDittoHeadersOrEmpty(object);
-            jsonObjectBuilder.set(JSON_DITTO_HEADERS, dittoHeaders.toJson());
-
-            final JsonValue jsonValue;
-
-            if (object instanceof Jsonifiable.WithPredicate) {
-                final JsonSchemaVersion schemaVersion =
-                        dittoHeaders.getSchemaVersion().orElse(JsonSchemaVersion.LATEST);
-
-                jsonValue = ((Jsonifiable.WithPredicate) object).toJson(schemaVersion, FieldType.regularOrSpecial());
-            } else {
-                jsonValue = ((Jsonifiable<?>) object).toJson();
-            }
-
-            jsonObjectBuilder.set(JSON_PAYLOAD, jsonValue);
-            final JsonObject jsonObject = jsonObjectBuilder.build();
+            final JsonObject jsonObject = toJsonObject(object, dittoHeaders);
+            final String typeManifest = manifestProvider.apply(object);
             try {
+                final int startPosition = buf.position();
+                if (compression.isEnabled()) {
+                    buf.put(DeflateCompression.STORED);
+                }
+                if (binaryHeaders) {
+                    buf.put(DittoHeadersBinaryCodec.encode(dittoHeaders));
+                }
                 serializeIntoByteBuffer(jsonObject, buf);
+                if (compression.isEnabled()) {
+                    compression.compress(buf, startPosition, typeManifest);
+                }
                 LOG.trace("toBinary jsonStr about to send 'out': {}", jsonObject);
                 outCounter.increment();
+                recordOutgoingMessageSize(typeManifest, buf.position() - startPosition);
             } catch (final BufferOverflowException e) {
                 final String errorMessage = MessageFormat.format(
                         "Could not put bytes of JSON string <{0}> into ByteBuffer due to BufferOverflow", jsonObject);
@@ -181,6 +259,46 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
         }
     }
 
+    /*
+     * Returns the JSON object to serialize for the passed object: with binary headers only its payload, otherwise the
+     * payload together with the headers.
+     */
+    private JsonObject toJsonObject(final Object jsonifiable, final DittoHeaders dittoHeaders) {
+        final JsonValue jsonValue;
+
+        if (jsonifiable instanceof Jsonifiable.WithPredicate) {
+            final JsonSchemaVersion schemaVersion =
+                    dittoHeaders.getSchemaVersion().orElse(JsonSchemaVersion.LATEST);
+
+            jsonValue = ((Jsonifiable.WithPredicate) jsonifiable).toJson(schemaVersion, FieldType.regularOrSpecial());
+        } else {
+            jsonValue = ((Jsonifiable<?>) jsonifiable).toJson();
+        }
+
+        if (binaryHeaders) {
+            // the payload of a message with binary headers is deserialized as payload object directly
+            return toPayloadObject(jsonValue);
+        }
+        return JsonObject.newBuilder()
+                .set(JSON_DITTO_HEADERS, dittoHeaders.toJson())
+                .set(JSON_PAYLOAD, jsonValue)
+                .build();
+    }
+
+    private void recordOutgoingMessageSize(final String typeManifest, final long size) {
+        outSizeHistograms.computeIfAbsent(typeManifest, manifest -> newSizeHistogram("out", manifest)).record(size);
+    }
+
+    private void recordIncomingMessageSize(final String typeManifest, final long size) {
+        inSizeHistograms.computeIfAbsent(typeManifest, manifest -> newSizeHistogram("in", manifest)).record(size);
+    }
+
+    private Histogram newSizeHistogram(final String direction, final String typeManifest) {
+        return DittoMetrics.histogram(serializerName.toLowerCase() + SIZE_METRIC_NAME_SUFFIX)
+                .tag(METRIC_DIRECTION, direction)
+                .tag(METRIC_MANIFEST, typeManifest);
+    }
+
     /**
      * Serializes the passed {@code jsonObject} into the passed {@code byteBuffer}.
      *
@@ -190,24 +308,55 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
      */
     protected abstract void serializeIntoByteBuffer(JsonObject jsonObject, ByteBuffer byteBuffer) throws IOException;
 
+    /**
+     * Serializes the passed {@code jsonObject} into the passed {@code outputStream}.
+     *
+     * @param jsonObject the JsonObject to serialize.
+     * @param outputStream the OutputStream to serialize into; it must neither be flushed nor closed.
+     * @throws IOException in case writing to the OutputStream fails.
+     * @since 2.0.0
+     */
+    protected abstract void serializeIntoOutputStream(JsonObject jsonObject, OutputStream outputStream)
+            throws IOException;
+
+    /**
+     * Serializes the passed {@code object} into a byte array.
+     * The object is written into a growing list of pooled direct buffers, thus its size is not limited by the configured
+     * direct buffer size, and copied once into an array of the exact size. If it is compressed, it is copied once more.
+     *
+     * @param object the object to serialize.
+     * @return the serialized bytes.
+     */
     @Override
     public byte[] toBinary(final Object object) {
-        final ByteBuffer buf = byteBufferPool.acquire();
-
-        try {
-            toBinary(object, buf);
-            buf.flip();
-            final byte[] bytes = new byte[buf.remaining()];
-            buf.get(bytes);
+        if (!(object instanceof Jsonifiable)) {
+            LOG.error("Could not serialize class <{}> as it does not implement <{}>!", object.getClass(),
+                    Jsonifiable.WithPredicate.class);
+            final String error = new NotSerializableException(object.getClass().getName()).getMessage();
+            return error.getBytes(CHARSET);
+        }
+        final DittoHeaders dittoHeaders = getDittoHeadersOrEmpty(object);
+        final JsonObject jsonObject = toJsonObject(object, dittoHeaders);
+        final String typeManifest = manifestProvider.apply(object);
+        try (final PooledByteBufferOutputStream outputStream = new PooledByteBufferOutputStream(byteBufferPool)) {
+            if (compression.isEnabled()) {
+                outputStream.write(DeflateCompression.STORED);
+            }
+            if (binaryHeaders) {
+                outputStream.write(DittoHeadersBinaryCodec.encode(dittoHeaders));
+            }
+            serializeIntoOutputStream(jsonObject, outputStream);
+            final byte[] bytes = compression.compress(outputStream.toByteArray(), typeManifest);
+            LOG.trace("toBinary jsonStr about to send 'out': {}", jsonObject);
+            outCounter.increment();
+            recordOutgoingMessageSize(typeManifest, bytes.length);
             return bytes;
-        } catch (final BufferOverflowException e) {
-            final String errorMessage =
-                    MessageFormat.format("BufferOverflow when serializing object <{0}>, max buffer size was: <{1}>",
-                            object, defaultBufferSize);
-            LOG.error(errorMessage, e);
-            throw new IllegalArgumentException(errorMessage, e);
-        } finally {
-            byteBufferPool.release(buf);
+        } catch (final IOException e) {
+            final String errorMessage = MessageFormat.format(
+                    "Serialization failed with {0} on Jsonifiable with string representation <{1}>",
+                    e.getClass().getName(), jsonObject);
+            LOG.warn(errorMessage, e);
+            throw new RuntimeException(errorMessage, e);
         }
     }
 
@@ -226,12 +375,15 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
     @Override
     public Object fromBinary(final ByteBuffer buf, final String manifest) {
         try {
+            final int size = buf.remaining();
             final Jsonifiable<?> jsonifiable = tryToCreateKnownJsonifiableFrom(manifest, buf);
             if (LOG.isTraceEnabled()) {
                 LOG.trace("fromBinary {} which got 'in': {}", serializerName,
                         BinaryToHexConverter.createDebugMessageByTryingToConvertToHexString(buf));
             }
             inCounter.increment();
+            // only recorded for known manifests to not create a histogram per arbitrary manifest
+            recordIncomingMessageSize(getTypeManifest(manifest), size);
             return jsonifiable;
         } catch (final NotSerializableException e) {
             return e;
@@ -256,10 +408,24 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
         }
     }
 
-    private Jsonifiable<?> createJsonifiableFrom(final String manifest, final ByteBuffer bytebuffer)
+    private Jsonifiable<?> createJsonifiableFrom(final String manifest, final ByteBuffer compressedByteBuffer)
             throws NotSerializableException {
 
-        final JsonValue jsonValue = deserializeFromByteBuffer(bytebuffer);
+        final ByteBuffer bytebuffer;
+        if (getManifestOption(manifest, DEFLATE_MANIFEST_OPTION).isPresent()) {
+            bytebuffer = compression.decompress(compressedByteBuffer);
+        } else {
+            bytebuffer = compressedByteBuffer;
+        }
+
+        if (getManifestOption(manifest, BINARY_HEADERS_MANIFEST_OPTION).isPresent()) {
+            // the headers were validated by the sender, thus they are not validated again
+            final DittoHeaders dittoHeaders = DittoHeadersBinaryCodec.decode(bytebuffer);
+            final JsonObject payload = toPayloadObject(deserializeFromByteBuffer(bytebuffer, manifest));
+            return deserializeJson(payload, getTypeManifest(manifest), dittoHeaders);
+        }
+
+        final JsonValue jsonValue = deserializeFromByteBuffer(bytebuffer, manifest);
 
         final JsonObject jsonObject;
         if (jsonValue.isObject()) {
@@ -280,7 +446,7 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
                 .map(DittoHeaders::newBuilder)
                 .orElseGet(DittoHeaders::newBuilder);
 
-        return deserializeJson(payload, manifest, dittoHeadersBuilder.build());
+        return deserializeJson(payload, getTypeManifest(manifest), dittoHeadersBuilder.build());
     }
 
     private Jsonifiable<?> deserializeJson(final JsonObject jsonPayload, final String manifest,
@@ -302,30 +468,57 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
 
     /**
      * Deserializes the passed {@code byteBuffer} into a JsonValue.
+     * A JSON object may be read lazily as long as its bytes are copied, because the buffer is re-used afterwards; see
+     * {@link #isToBeReadLazily(ByteBuffer)}.
      *
      * @param byteBuffer the ByteBuffer to derserialize.
      * @return the deserialized JsonValue.
      */
     protected abstract JsonValue deserializeFromByteBuffer(ByteBuffer byteBuffer);
 
+    /**
+     * Indicates whether the remaining bytes of the passed {@code byteBuffer} are to be read lazily, i.e. whether they
+     * reach the configured {@value #CONFIG_LAZY_READ_THRESHOLD}. Reading lazily only pays off for large messages of
+     * which few fields are accessed, thus it is disabled by default.
+     *
+     * @param byteBuffer the ByteBuffer to deserialize.
+     * @return {@code true} if the message is to be read lazily, {@code false} if it is to be parsed completely.
+     * @since 2.0.0
+     */
+    protected boolean isToBeReadLazily(final ByteBuffer byteBuffer) {
+        return 0 < lazyReadThreshold && lazyReadThreshold <= byteBuffer.remaining();
+    }
+
+    /**
+     * Deserializes the passed {@code byteBuffer} which was received with the passed {@code manifest} into a
+     * JsonValue. Serializers which encode information about the format in the manifest override this method; by
+     * default the manifest is ignored.
+     *
+     * @param byteBuffer the ByteBuffer to derserialize.
+     * @param manifest the manifest of the message.
+     * @return the deserialized JsonValue.
+     * @throws NotSerializableException if the format denoted by the manifest is not supported.
+     * @since 2.0.0
+     */
+    protected JsonValue deserializeFromByteBuffer(final ByteBuffer byteBuffer, final String manifest)
+            throws NotSerializableException {
+
+        return deserializeFromByteBuffer(byteBuffer);
+    }
+
     private static JsonObject getPayload(final JsonObject sourceJsonObject) {
-        final JsonObject result;
-
-        final Optional<JsonValue> payloadJsonOptional = sourceJsonObject.getValue(JSON_PAYLOAD);
-        if (payloadJsonOptional.isPresent()) {
-            final JsonValue payloadJson = payloadJsonOptional.get();
-            if (!payloadJson.isObject()) {
-                final String msgPattern = "Value <{0}> for <{1}> was not of type <{2}>!";
-                final String simpleName = JSON_PAYLOAD.getValueType().getSimpleName();
-                final String msg = MessageFormat.format(msgPattern, payloadJson, JSON_PAYLOAD.getPointer(), simpleName);
-                throw new DittoJsonException(new IllegalArgumentException(msg));
-            } else {
-                result = payloadJson.asObject();
-            }
-        } else {
-            result = JsonFactory.newObject();
-        }
+        return sourceJsonObject.getValue(JSON_PAYLOAD)
+                .map(AbstractJsonifiableWithDittoHeadersSerializer::toPayloadObject)
+                .orElseGet(JsonFactory::newObject);
+    }
 
-        return result;
+    private static JsonObject toPayloadObject(final JsonValue payloadJson) {
+        if (!payloadJson.isObject()) {
+            final String msgPattern = "Value <{0}> for <{1}> was not of type <{2}>!";
+            final String simpleName = JSON_PAYLOAD.getValueType().getSimpleName();
+            final String msg = MessageFormat.format(msgPattern, payloadJson, JSON_PAYLOAD.getPointer(), simpleName);
+            throw new DittoJsonException(new IllegalArgumentException(msg));
+        }
+        return payloadJson.asObject();
     }
 }
@@ -13,23 +13,42 @@
 package org.eclipse.ditto.services.utils.cluster;
 
 import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.stream.StreamSupport;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.json.CborFactory;
+import org.eclipse.ditto.json.CborKeyDictionary;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.cbor.CborKeyDictionaries;
+
+import com.typesafe.config.Config;
 
 import akka.actor.ExtendedActorSystem;
 
 /**
  * Serializer of Eclipse Ditto for Jsonifiables via CBOR-based {@code ditto-json}.
+ * <p>
+ * If {@value #CONFIG_KEY_DICTIONARY_VERSION} is configured, the well-known keys of the messages are encoded with that
+ * version of the {@link CborKeyDictionaries}. The version is appended to the manifest of each message, thus messages
+ * with plain keys and with keys of any published dictionary version can always be deserialized.
+ * </p>
  */
 public final class CborJsonifiableSerializer extends AbstractJsonifiableWithDittoHeadersSerializer {
 
     private static final int UNIQUE_IDENTIFIER = 656329405;
 
+    private static final String CONFIG_KEY_DICTIONARY_VERSION =
+            "akka.actor.serializers-json.cbor-key-dictionary-version";
+
+    private static final String KEY_DICTIONARY_MANIFEST_OPTION = "cbor-keys-v";
+
     private static final CborFactory CBOR_FACTORY;
 
     static {
@@ -44,6 +63,8 @@ public final class CborJsonifiableSerializer extends AbstractJsonifiableWithDitt
         }
     }
 
+    @Nullable private final CborKeyDictionary keyDictionary;
+
     /**
      * Constructs a new {@code CborJsonifiableSerializer} object.
      *
@@ -51,15 +72,83 @@ public final class CborJsonifiableSerializer extends AbstractJsonifiableWithDitt
      */
     public CborJsonifiableSerializer(final ExtendedActorSystem actorSystem) {
         super(UNIQUE_IDENTIFIER, actorSystem, ManifestProvider.getInstance(), "CBOR");
+        keyDictionary = getConfiguredKeyDictionary(actorSystem.settings().config());
+    }
+
+    @Nullable
+    private static CborKeyDictionary getConfiguredKeyDictionary(final Config config) {
+        if (!config.hasPath(CONFIG_KEY_DICTIONARY_VERSION)) {
+            return null;
+        }
+        final int version = config.getInt(CONFIG_KEY_DICTIONARY_VERSION);
+        if (0 == version) {
+            return null;
+        }
+        return CborKeyDictionaries.getByVersion(version)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Unknown CBOR key dictionary version <" + version + "> configured at <" +
+                                CONFIG_KEY_DICTIONARY_VERSION + ">!"));
+    }
+
+    @Override
+    public String manifest(final Object o) {
+        final String manifest = super.manifest(o);
+        if (null != keyDictionary) {
+            return manifest + "#" + KEY_DICTIONARY_MANIFEST_OPTION + keyDictionary.getVersion();
+        }
+        return manifest;
     }
 
     @Override
     protected void serializeIntoByteBuffer(final JsonObject jsonObject, final ByteBuffer byteBuffer) throws IOException {
-        CBOR_FACTORY.writeToByteBuffer(jsonObject, byteBuffer);
+        if (null != keyDictionary) {
+            CBOR_FACTORY.writeToByteBuffer(jsonObject, byteBuffer, keyDictionary);
+        } else {
+            CBOR_FACTORY.writeToByteBuffer(jsonObject, byteBuffer);
+        }
+    }
+
+    @Override
+    protected void serializeIntoOutputStream(final JsonObject jsonObject, final OutputStream outputStream)
+            throws IOException {
+
+        if (null != keyDictionary) {
+            CBOR_FACTORY.writeToOutputStream(jsonObject, outputStream, keyDictionary);
+        } else {
+            CBOR_FACTORY.writeToOutputStream(jsonObject, outputStream);
+        }
+    }
+
+    @Override
+    protected JsonValue deserializeFromByteBuffer(final ByteBuffer byteBuffer, final String manifest)
+            throws NotSerializableException {
+
+        final Optional<String> keyDictionaryOption = getManifestOption(manifest, KEY_DICTIONARY_MANIFEST_OPTION);
+        if (keyDictionaryOption.isEmpty()) {
+            return deserializeFromByteBuffer(byteBuffer);
+        }
+        final String version = keyDictionaryOption.get().substring(KEY_DICTIONARY_MANIFEST_OPTION.length());
+        final CborKeyDictionary messageKeyDictionary;
+        try {
+            messageKeyDictionary = CborKeyDictionaries.getByVersion(Integer.parseInt(version))
+                    .orElseThrow(() -> new NotSerializableException(manifest));
+        } catch (final NumberFormatException e) {
+            throw new NotSerializableException(manifest);
+        }
+        if (isToBeReadLazily(byteBuffer)) {
+            return CBOR_FACTORY.readLazilyFrom(byteBuffer, messageKeyDictionary);
+        }
+        final byte[] bytes = new byte[byteBuffer.remaining()];
+        byteBuffer.get(bytes);
+        return CBOR_FACTORY.readFrom(bytes, 0, bytes.length, messageKeyDictionary);
     }
 
     @Override
     protected JsonValue deserializeFromByteBuffer(final ByteBuffer byteBuffer) {
+        if (isToBeReadLazily(byteBuffer)) {
+            // the bytes are validated here, but only the fields accessed by the mapping strategy are decoded
+            return CBOR_FACTORY.readLazilyFrom(byteBuffer);
+        }
         return CBOR_FACTORY.readFrom(byteBuffer);
     }
 }
@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
+
+/**
+ * Compresses the serialized bytes of messages which are at least as large as a threshold with the JDK
+ * {@link Deflater}.
+ * <p>
+ * The compressed section starts with a marker byte: {@value #STORED} if the following bytes are not compressed,
+ * {@value #DEFLATED} if they are followed by the 4 byte length of the uncompressed bytes and the raw deflate stream.
+ * Bytes are stored uncompressed if they are smaller than the threshold, larger than the maximum size or if compressing
+ * them does not save space. Compressed sections can always be decompressed, even if compression is disabled by a
+ * threshold of 0, unless their uncompressed size exceeds the maximum size.
+ * </p>
+ * <p>
+ * The ratio of compressed to uncompressed size is reported in percent per manifest, the CPU time spent for deflating
+ * and inflating in nanoseconds.
+ * </p>
+ */
+@ThreadSafe
+final class DeflateCompression {
+
+    static final byte STORED = 0;
+    static final byte DEFLATED = 1;
+
+    private static final int DEFLATED_HEADER_SIZE = 1 + Integer.BYTES;
+
+    private static final String RATIO_METRIC_NAME_SUFFIX = "_serializer_compression_ratio_percent";
+    private static final String CPU_TIME_METRIC_NAME_SUFFIX = "_serializer_compression_cpu_nanos";
+    private static final String METRIC_MANIFEST = "manifest";
+    private static final String METRIC_OPERATION = "operation";
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    private final long threshold;
+    private final long maxUncompressedSize;
+    private final String metricNamePrefix;
+    private final ThreadLocal<Deflater> deflaters;
+    private final ThreadLocal<Inflater> inflaters;
+    private final Map<String, Histogram> ratioHistograms;
+    private final Histogram deflateCpuTime;
+    private final Histogram inflateCpuTime;
+
+    private DeflateCompression(final long threshold, final int level, final long maxUncompressedSize,
+            final String metricNamePrefix) {
+
+        this.threshold = threshold;
+        this.maxUncompressedSize = maxUncompressedSize;
+        this.metricNamePrefix = metricNamePrefix;
+        // Deflater and Inflater hold native memory which is expensive to allocate, thus they are re-used per thread
+        deflaters = ThreadLocal.withInitial(() -> new Deflater(level, true));
+        inflaters = ThreadLocal.withInitial(() -> new Inflater(true));
+        ratioHistograms = new ConcurrentHashMap<>();
+        deflateCpuTime = DittoMetrics.histogram(metricNamePrefix + CPU_TIME_METRIC_NAME_SUFFIX)
+                .tag(METRIC_OPERATION, "deflate");
+        inflateCpuTime = DittoMetrics.histogram(metricNamePrefix + CPU_TIME_METRIC_NAME_SUFFIX)
+                .tag(METRIC_OPERATION, "inflate");
+    }
+
+    /**
+     * Returns a new instance of {@code DeflateCompression}.
+     *
+     * @param threshold the minimum number of bytes to compress or 0 to disable compression.
+     * @param level the compression level of the {@link Deflater} between 0 and 9.
+     * @param maxUncompressedSize the maximum number of bytes to compress and to decompress. Decompressing allocates
+     * the uncompressed size read from the compressed section, thus it has to be bounded.
+     * @param metricNamePrefix the prefix of the names of the reported metrics.
+     * @return the instance.
+     * @throws IllegalArgumentException if {@code threshold} or {@code maxUncompressedSize} is negative or
+     * {@code level} is invalid.
+     */
+    static DeflateCompression of(final long threshold, final int level, final long maxUncompressedSize,
+            final String metricNamePrefix) {
+
+        if (threshold < 0) {
+            throw new IllegalArgumentException("The compression threshold must not be negative but was <" +
+                    threshold + ">!");
+        }
+        if (level < Deflater.NO_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("The compression level must be between 0 and 9 but was <" + level +
+                    ">!");
+        }
+        if (maxUncompressedSize < 0) {
+            throw new IllegalArgumentException("The maximum uncompressed size must not be negative but was <" +
+                    maxUncompressedSize + ">!");
+        }
+        return new DeflateCompression(threshold, level, maxUncompressedSize, metricNamePrefix);
+    }
+
+    /**
+     * Indicates whether messages are compressed at all.
+     *
+     * @return {@code true} if the threshold is positive.
+     */
+    boolean isEnabled() {
+        return 0 < threshold;
+    }
+
+    // the compressed section of fewer bytes than its header could not be smaller than the bytes themselves
+    private boolean isToBeCompressed(final int uncompressedSize) {
+        return isEnabled() && threshold <= uncompressedSize && DEFLATED_HEADER_SIZE < uncompressedSize &&
+                uncompressedSize <= maxUncompressedSize;
+    }
+
+    /**
+     * Compresses the passed bytes following the marker byte at {@code bytes[0]} which the caller reserved by writing
+     * {@link #STORED}.
+     *
+     * @param bytes the marker byte followed by the bytes to compress.
+     * @param typeManifest the type manifest of the message to report the compression ratio for.
+     * @return the compressed section or {@code bytes} if they are stored uncompressed.
+     */
+    byte[] compress(final byte[] bytes, final String typeManifest) {
+        final int uncompressedSize = bytes.length - 1;
+        if (!isToBeCompressed(uncompressedSize)) {
+            return bytes;
+        }
+        @Nullable final byte[] deflated = deflate(ByteBuffer.wrap(bytes, 1, uncompressedSize), typeManifest);
+        if (null == deflated) {
+            return bytes;
+        }
+        return deflated;
+    }
+
+    /**
+     * Compresses the bytes which were written into the passed {@code byteBuffer} after the marker byte at
+     * {@code markerPosition} which the caller reserved by writing {@link #STORED}. If the bytes are compressed, they
+     * are overwritten by the compressed section and the position of the buffer is set to its end.
+     *
+     * @param byteBuffer the buffer the bytes were written into.
+     * @param markerPosition the position of the marker byte.
+     * @param typeManifest the type manifest of the message to report the compression ratio for.
+     */
+    void compress(final ByteBuffer byteBuffer, final int markerPosition, final String typeManifest) {
+        final int uncompressedSize = byteBuffer.position() - markerPosition - 1;
+        if (!isToBeCompressed(uncompressedSize)) {
+            return;
+        }
+        final ByteBuffer uncompressed = byteBuffer.duplicate();
+        uncompressed.limit(byteBuffer.position()).position(markerPosition + 1);
+        @Nullable final byte[] deflated = deflate(uncompressed, typeManifest);
+        if (null != deflated) {
+            byteBuffer.position(markerPosition);
+            byteBuffer.put(deflated);
+        }
+    }
+
+    /**
+     * Returns the compressed section with the deflated bytes or {@code null} if the bytes could not be compressed to
+     * less than their size.
+     */
+    @Nullable
+    private byte[] deflate(final ByteBuffer uncompressed, final String typeManifest) {
+        final int uncompressedSize = uncompressed.remaining();
+        final byte[] result = new byte[uncompressedSize];
+        final ByteBuffer output = ByteBuffer.wrap(result, DEFLATED_HEADER_SIZE, uncompressedSize - DEFLATED_HEADER_SIZE);
+        final long startCpuTime = currentThreadCpuTime();
+        final Deflater deflater = deflaters.get();
+        try {
+            deflater.setInput(uncompressed);
+            deflater.finish();
+            while (!deflater.finished() && output.hasRemaining()) {
+                deflater.deflate(output);
+            }
+            if (!deflater.finished()) {
+                return null;
+            }
+        } finally {
+            deflater.reset();
+            deflateCpuTime.record(currentThreadCpuTime() - startCpuTime);
+        }
+        ratioHistograms.computeIfAbsent(typeManifest, this::newRatioHistogram)
+                .record(100L * output.position() / uncompressedSize);
+        ByteBuffer.wrap(result).put(DEFLATED).putInt(uncompressedSize);
+        return Arrays.copyOf(result, output.position());
+    }
+
+    /**
+     * Decompresses the compressed section starting at the position of the passed {@code byteBuffer}.
+     *
+     * @param byteBuffer the buffer containing the compressed section.
+     * @return {@code byteBuffer} positioned after the marker byte if the bytes are stored uncompressed, otherwise a
+     * new buffer with the inflated bytes.
+     * @throws JsonParseException if the compressed section is malformed or if its uncompressed size exceeds the maximum
+     * size.
+     */
+    ByteBuffer decompress(final ByteBuffer byteBuffer) {
+        if (!byteBuffer.hasRemaining()) {
+            throw newMalformedSectionException("it is empty");
+        }
+        final byte marker = byteBuffer.get();
+        if (STORED == marker) {
+            return byteBuffer;
+        }
+        if (DEFLATED != marker || byteBuffer.remaining() < Integer.BYTES) {
+            throw newMalformedSectionException("unknown marker <" + marker + ">");
+        }
+        final int uncompressedSize = byteBuffer.getInt();
+        if (uncompressedSize < 0) {
+            throw newMalformedSectionException("negative size <" + uncompressedSize + ">");
+        }
+        if (uncompressedSize > maxUncompressedSize) {
+            throw newMalformedSectionException("its size <" + uncompressedSize + "> exceeds the maximum size <" +
+                    maxUncompressedSize + ">");
+        }
+        final ByteBuffer result = ByteBuffer.allocate(uncompressedSize);
+        final long startCpuTime = currentThreadCpuTime();
+        final Inflater inflater = inflaters.get();
+        try {
+            inflater.setInput(byteBuffer);
+            while (!inflater.finished() && result.hasRemaining()) {
+                if (0 == inflater.inflate(result) && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw newMalformedSectionException("the deflate stream is truncated");
+                }
+            }
+            if (!inflater.finished() || result.hasRemaining()) {
+                throw newMalformedSectionException("its size is not <" + uncompressedSize + ">");
+            }
+        } catch (final DataFormatException e) {
+            throw newMalformedSectionException(e.getMessage());
+        } finally {
+            inflater.reset();
+            inflateCpuTime.record(currentThreadCpuTime() - startCpuTime);
+        }
+        return result.flip();
+    }
+
+    private Histogram newRatioHistogram(final String typeManifest) {
+        return DittoMetrics.histogram(metricNamePrefix + RATIO_METRIC_NAME_SUFFIX).tag(METRIC_MANIFEST, typeManifest);
+    }
+
+    private static long currentThreadCpuTime() {
+        if (THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported()) {
+            return THREAD_MX_BEAN.getCurrentThreadCpuTime();
+        }
+        return System.nanoTime();
+    }
+
+    private static JsonParseException newMalformedSectionException(final String reason) {
+        return JsonParseException.newBuilder()
+                .message("Failed to decompress the message as " + reason + "!")
+                .build();
+    }
+
+}
@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.services.utils.cluster;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 
 import javax.annotation.concurrent.NotThreadSafe;
@@ -41,13 +43,22 @@ public final class JsonJsonifiableSerializer extends AbstractJsonifiableWithDitt
 
     @Override
     protected void serializeIntoByteBuffer(final JsonObject jsonObject, final ByteBuffer byteBuffer) {
-        final String jsonStr = jsonObject.toString();
-        byteBuffer.put(CHARSET.encode(jsonStr));
+        jsonObject.writeTo(byteBuffer);
+    }
+
+    @Override
+    protected void serializeIntoOutputStream(final JsonObject jsonObject, final OutputStream outputStream)
+            throws IOException {
+
+        jsonObject.writeTo(outputStream);
     }
 
     @Override
     protected JsonValue deserializeFromByteBuffer(final ByteBuffer byteBuffer) {
-        String json = CHARSET.decode(byteBuffer).toString();
-        return JsonFactory.readFrom(json);
+        if (isToBeReadLazily(byteBuffer)) {
+            // the bytes are validated here, but only the fields accessed by the mapping strategy are parsed
+            return JsonFactory.readLazilyFrom(byteBuffer);
+        }
+        return JsonFactory.readFrom(byteBuffer);
     }
 }
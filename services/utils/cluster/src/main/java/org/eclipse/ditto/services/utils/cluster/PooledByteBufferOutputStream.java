@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import akka.io.BufferPool;
+
+/**
+ * An OutputStream which writes into a growing list of segments acquired from a {@link BufferPool}. Thus the written
+ * data is not limited to the size of a pooled buffer and already written bytes are never copied when the stream grows.
+ * The segments are released to the pool when the stream is closed; the stream must not be used afterwards.
+ */
+@NotThreadSafe
+final class PooledByteBufferOutputStream extends OutputStream {
+
+    private final BufferPool bufferPool;
+    private final List<ByteBuffer> segments;
+    @Nullable private ByteBuffer currentSegment;
+    private long size;
+
+    /**
+     * Constructs a new {@code PooledByteBufferOutputStream} object.
+     *
+     * @param bufferPool the pool to acquire the segments from and to release them to.
+     */
+    PooledByteBufferOutputStream(final BufferPool bufferPool) {
+        this.bufferPool = bufferPool;
+        segments = new ArrayList<>();
+        currentSegment = null;
+        size = 0;
+    }
+
+    @Override
+    public void write(final int b) {
+        writableSegment().put((byte) b);
+        size++;
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) {
+        Objects.checkFromIndexSize(off, len, b.length);
+        int offset = off;
+        int remaining = len;
+        while (remaining > 0) {
+            final ByteBuffer segment = writableSegment();
+            final int count = Math.min(remaining, segment.remaining());
+            segment.put(b, offset, count);
+            offset += count;
+            remaining -= count;
+        }
+        size += len;
+    }
+
+    private ByteBuffer writableSegment() {
+        ByteBuffer result = currentSegment;
+        if (null == result || !result.hasRemaining()) {
+            result = bufferPool.acquire();
+            result.clear();
+            segments.add(result);
+            currentSegment = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of bytes written to this stream.
+     *
+     * @return the number of bytes.
+     */
+    long size() {
+        return size;
+    }
+
+    /**
+     * Returns the written bytes as one array of exactly their size.
+     *
+     * @return the written bytes.
+     * @throws IOException if more bytes were written than an array can hold.
+     */
+    byte[] toByteArray() throws IOException {
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IOException("Too many bytes for an array: " + size);
+        }
+        final byte[] result = new byte[(int) size];
+        int position = 0;
+        for (final ByteBuffer segment : segments) {
+            final ByteBuffer written = segment.duplicate();
+            written.flip();
+            final int count = written.remaining();
+            written.get(result, position, count);
+            position += count;
+        }
+        return result;
+    }
+
+    @Override
+    public void close() {
+        segments.forEach(bufferPool::release);
+        segments.clear();
+        currentSegment = null;
+    }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.eclipse.ditto.json.JsonParseException;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link DeflateCompression}.
+ */
+public final class DeflateCompressionTest {
+
+    private static final int THRESHOLD = 64;
+    private static final int MAX_SIZE = 10_000;
+
+    private final DeflateCompression underTest = DeflateCompression.of(THRESHOLD, 1, MAX_SIZE, "test");
+
+    @Test
+    public void bytesAboveThresholdAreDeflated() {
+        final byte[] uncompressed = withMarker(repetitiveBytes(1000));
+
+        final byte[] compressed = underTest.compress(uncompressed, "type");
+
+        assertThat(compressed[0]).isEqualTo(DeflateCompression.DEFLATED);
+        assertThat(compressed.length).isLessThan(uncompressed.length / 4);
+        assertThat(toArray(underTest.decompress(ByteBuffer.wrap(compressed))))
+                .isEqualTo(Arrays.copyOfRange(uncompressed, 1, uncompressed.length));
+    }
+
+    @Test
+    public void bytesBelowThresholdAreStored() {
+        final byte[] uncompressed = withMarker(repetitiveBytes(THRESHOLD - 1));
+
+        final byte[] compressed = underTest.compress(uncompressed, "type");
+
+        assertThat(compressed).isSameAs(uncompressed);
+        assertThat(toArray(underTest.decompress(ByteBuffer.wrap(compressed))))
+                .isEqualTo(Arrays.copyOfRange(uncompressed, 1, uncompressed.length));
+    }
+
+    @Test
+    public void incompressibleBytesAreStored() {
+        final byte[] random = new byte[1000];
+        new Random(42).nextBytes(random);
+        final byte[] uncompressed = withMarker(random);
+
+        assertThat(underTest.compress(uncompressed, "type")).isSameAs(uncompressed);
+    }
+
+    @Test
+    public void bytesInByteBufferAreDeflatedInPlace() {
+        final byte[] payload = repetitiveBytes(1000);
+        final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(2000);
+        byteBuffer.put((byte) 7).put(DeflateCompression.STORED).put(payload);
+
+        underTest.compress(byteBuffer, 1, "type");
+        byteBuffer.flip().position(1);
+
+        assertThat(byteBuffer.remaining()).isLessThan(payload.length / 4);
+        assertThat(toArray(underTest.decompress(byteBuffer))).isEqualTo(payload);
+    }
+
+    @Test
+    public void disabledCompressionStillDecompresses() {
+        final DeflateCompression disabled = DeflateCompression.of(0, 1, MAX_SIZE, "test");
+        final byte[] uncompressed = withMarker(repetitiveBytes(1000));
+
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(disabled.compress(uncompressed, "type")).isSameAs(uncompressed);
+        assertThat(toArray(disabled.decompress(ByteBuffer.wrap(underTest.compress(uncompressed, "type")))))
+                .isEqualTo(Arrays.copyOfRange(uncompressed, 1, uncompressed.length));
+    }
+
+    @Test
+    public void bytesNotLargerThanTheSectionHeaderAreStored() {
+        final DeflateCompression smallThreshold = DeflateCompression.of(1, 1, MAX_SIZE, "test");
+        for (int size = 0; size <= 5; size++) {
+            final byte[] uncompressed = withMarker(repetitiveBytes(size));
+            final ByteBuffer byteBuffer = ByteBuffer.allocate(16).put(uncompressed);
+
+            assertThat(smallThreshold.compress(uncompressed, "type")).isSameAs(uncompressed);
+            smallThreshold.compress(byteBuffer, 0, "type");
+            assertThat(byteBuffer.position()).isEqualTo(uncompressed.length);
+        }
+    }
+
+    @Test
+    public void bytesAboveMaximumSizeAreStored() {
+        final byte[] uncompressed = withMarker(repetitiveBytes(MAX_SIZE + 1));
+
+        assertThat(underTest.compress(uncompressed, "type")).isSameAs(uncompressed);
+    }
+
+    @Test
+    public void sectionExceedingMaximumSizeThrowsException() {
+        final byte[] compressed = DeflateCompression.of(THRESHOLD, 1, 2 * MAX_SIZE, "test")
+                .compress(withMarker(repetitiveBytes(MAX_SIZE + 1)), "type");
+        final byte[] hugeSize = ByteBuffer.allocate(5).put(DeflateCompression.DEFLATED).putInt(Integer.MAX_VALUE)
+                .array();
+
+        assertThat(compressed[0]).isEqualTo(DeflateCompression.DEFLATED);
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> underTest.decompress(ByteBuffer.wrap(compressed)));
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> underTest.decompress(ByteBuffer.wrap(hugeSize)));
+    }
+
+    @Test
+    public void truncatedSectionThrowsException() {
+        final byte[] compressed = underTest.compress(withMarker(repetitiveBytes(1000)), "type");
+        final byte[] truncated = Arrays.copyOf(compressed, compressed.length - 10);
+
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> underTest.decompress(ByteBuffer.wrap(truncated)));
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> underTest.decompress(ByteBuffer.wrap(new byte[]{5})));
+    }
+
+    private static byte[] repetitiveBytes(final int length) {
+        final StringBuilder stringBuilder = new StringBuilder();
+        for (int i = 0; stringBuilder.length() < length; i++) {
+            stringBuilder.append("{\"thingId\":\"org.eclipse.ditto:thing-").append(i).append("\"}");
+        }
+        return stringBuilder.substring(0, length).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] withMarker(final byte[] bytes) {
+        final byte[] result = new byte[bytes.length + 1];
+        result[0] = DeflateCompression.STORED;
+        System.arraycopy(bytes, 0, result, 1, bytes.length);
+        return result;
+    }
+
+    private static byte[] toArray(final ByteBuffer byteBuffer) {
+        final byte[] result = new byte[byteBuffer.remaining()];
+        byteBuffer.get(result);
+        return result;
+    }
+
+}
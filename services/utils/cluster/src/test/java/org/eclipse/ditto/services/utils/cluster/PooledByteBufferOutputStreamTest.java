@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import akka.io.BufferPool;
+
+/**
+ * Unit test for {@link PooledByteBufferOutputStream}.
+ */
+public final class PooledByteBufferOutputStreamTest {
+
+    private static final int SEGMENT_SIZE = 8;
+
+    @Test
+    public void writtenBytesSpanSeveralSegments() throws IOException {
+        final RecordingBufferPool bufferPool = new RecordingBufferPool();
+        final byte[] expected = new byte[45];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = (byte) i;
+        }
+
+        final byte[] actual;
+        try (final PooledByteBufferOutputStream underTest = new PooledByteBufferOutputStream(bufferPool)) {
+            underTest.write(expected[0]);
+            underTest.write(expected, 1, 20);
+            underTest.write(expected, 21, 0);
+            underTest.write(expected, 21, expected.length - 21);
+
+            assertThat(underTest.size()).isEqualTo(expected.length);
+            actual = underTest.toByteArray();
+        }
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(bufferPool.acquired).isEqualTo(6);
+        assertThat(bufferPool.released).hasSize(6);
+    }
+
+    @Test
+    public void emptyStreamAcquiresNoSegment() throws IOException {
+        final RecordingBufferPool bufferPool = new RecordingBufferPool();
+
+        try (final PooledByteBufferOutputStream underTest = new PooledByteBufferOutputStream(bufferPool)) {
+            assertThat(underTest.toByteArray()).isEmpty();
+        }
+
+        assertThat(bufferPool.acquired).isZero();
+    }
+
+    private static final class RecordingBufferPool implements BufferPool {
+
+        private int acquired = 0;
+        private final List<ByteBuffer> released = new ArrayList<>();
+
+        @Override
+        public ByteBuffer acquire() {
+            acquired++;
+            // dirty buffers must be cleared by the stream
+            final ByteBuffer buffer = ByteBuffer.allocate(SEGMENT_SIZE);
+            buffer.position(3);
+            return buffer;
+        }
+
+        @Override
+        public void release(final ByteBuffer buf) {
+            released.add(buf);
+        }
+
+    }
+
+}
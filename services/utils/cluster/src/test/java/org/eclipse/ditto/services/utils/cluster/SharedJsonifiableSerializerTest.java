@@ -14,10 +14,15 @@ package org.eclipse.ditto.services.utils.cluster;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.NotSerializableException;
+import java.nio.ByteBuffer;
 import java.util.Map;
 
 import org.assertj.core.api.AutoCloseableSoftAssertions;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
 import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
@@ -141,6 +146,23 @@ public final class SharedJsonifiableSerializerTest {
             assertThat(deserialized).isEqualTo(createThingResponse);
         }
 
+        @Test
+        public void messageLargerThanDirectBufferIsSerializedToByteArray() {
+            final StringBuilder largeValue = new StringBuilder();
+            for (int i = 0; i < 10_000; i++) {
+                largeValue.append("a large attribute value ");
+            }
+            final Thing largeThing = thing.toBuilder().setAttribute(JsonPointer.of("large"),
+                    JsonValue.of(largeValue.toString())).build();
+            final CreateThing createThing = CreateThing.of(largeThing, null, DITTO_HEADERS);
+
+            final byte[] serialized = underTest.toBinary(createThing);
+            final Object deserialized = underTest.fromBinary(serialized, underTest.manifest(createThing));
+
+            assertThat(serialized.length).isGreaterThan(128 * 1024);
+            assertThat(deserialized).isEqualTo(createThing);
+        }
+
         @Test
         public void shardedMessageEnvelopeSerializationWorksAsExpected() {
             final EntityId id = DefaultEntityId.generateRandom();
@@ -243,4 +265,258 @@ public final class SharedJsonifiableSerializerTest {
 
     }
 
+    public static final class CborKeyDictionaryTest {
+
+        private static ExtendedActorSystem actorSystem;
+        private static ExtendedActorSystem actorSystemWithKeyDictionary;
+
+        @BeforeClass
+        public static void setUpClass() {
+            actorSystem = getActorSystem(ThingCommandsStrategyTest.ThingCommandsStrategy.class);
+            final Config cfg = ConfigFactory.parseMap(Map.of(
+                    "ditto.mapping-strategy.implementation",
+                    ThingCommandsStrategyTest.ThingCommandsStrategy.class.getName(),
+                    "akka.actor.serializers-json.cbor-key-dictionary-version", 1));
+            actorSystemWithKeyDictionary = (ExtendedActorSystem) ExtendedActorSystem.create("test", cfg);
+        }
+
+        @AfterClass
+        public static void tearDownClass() {
+            TestKit.shutdownActorSystem(actorSystem);
+            TestKit.shutdownActorSystem(actorSystemWithKeyDictionary);
+        }
+
+        @Test
+        public void messagesOfBothFormatsAreReadBySerializersOfBothFormats() {
+            final CborJsonifiableSerializer plainSerializer = new CborJsonifiableSerializer(actorSystem);
+            final CborJsonifiableSerializer dictionarySerializer =
+                    new CborJsonifiableSerializer(actorSystemWithKeyDictionary);
+            final CreateThing createThing =
+                    CreateThing.of(Thing.newBuilder().setId(ThingId.generateRandom()).build(), null, DITTO_HEADERS);
+
+            final byte[] plainBytes = plainSerializer.toBinary(createThing);
+            final String plainManifest = plainSerializer.manifest(createThing);
+            final byte[] dictionaryBytes = dictionarySerializer.toBinary(createThing);
+            final String dictionaryManifest = dictionarySerializer.manifest(createThing);
+
+            assertThat(dictionaryManifest).isEqualTo(plainManifest + "#cbor-keys-v1");
+            assertThat(dictionaryBytes.length).isLessThan(plainBytes.length);
+            assertThat(plainSerializer.fromBinary(dictionaryBytes, dictionaryManifest)).isEqualTo(createThing);
+            assertThat(dictionarySerializer.fromBinary(dictionaryBytes, dictionaryManifest)).isEqualTo(createThing);
+            assertThat(dictionarySerializer.fromBinary(plainBytes, plainManifest)).isEqualTo(createThing);
+        }
+
+        @Test
+        public void unknownDictionaryVersionIsNotSerializable() {
+            final CborJsonifiableSerializer underTest = new CborJsonifiableSerializer(actorSystemWithKeyDictionary);
+            final CreateThing createThing =
+                    CreateThing.of(Thing.newBuilder().setId(ThingId.generateRandom()).build(), null, DITTO_HEADERS);
+
+            final Object deserialized = underTest.fromBinary(underTest.toBinary(createThing),
+                    CreateThing.TYPE + "#cbor-keys-v999");
+
+            assertThat(deserialized).isInstanceOf(NotSerializableException.class);
+        }
+
+    }
+
+    public static final class BinaryHeadersTest {
+
+        private static ExtendedActorSystem actorSystem;
+        private static ExtendedActorSystem actorSystemWithBinaryHeaders;
+
+        @BeforeClass
+        public static void setUpClass() {
+            actorSystem = getActorSystem(ThingCommandsStrategyTest.ThingCommandsStrategy.class);
+            final Config cfg = ConfigFactory.parseMap(Map.of(
+                    "ditto.mapping-strategy.implementation",
+                    ThingCommandsStrategyTest.ThingCommandsStrategy.class.getName(),
+                    "akka.actor.serializers-json.binary-headers", true,
+                    "akka.actor.serializers-json.cbor-key-dictionary-version", 1));
+            actorSystemWithBinaryHeaders = (ExtendedActorSystem) ExtendedActorSystem.create("test", cfg);
+        }
+
+        @AfterClass
+        public static void tearDownClass() {
+            TestKit.shutdownActorSystem(actorSystem);
+            TestKit.shutdownActorSystem(actorSystemWithBinaryHeaders);
+        }
+
+        @Test
+        public void cborMessagesWithBinaryHeadersAreReadBySerializersOfBothFormats() {
+            final CborJsonifiableSerializer plainSerializer = new CborJsonifiableSerializer(actorSystem);
+            final CborJsonifiableSerializer binaryHeadersSerializer =
+                    new CborJsonifiableSerializer(actorSystemWithBinaryHeaders);
+
+            assertBothFormatsAreRead(plainSerializer, binaryHeadersSerializer, "#binary-headers#cbor-keys-v1");
+        }
+
+        @Test
+        public void jsonMessagesWithBinaryHeadersAreReadBySerializersOfBothFormats() {
+            final JsonJsonifiableSerializer plainSerializer = new JsonJsonifiableSerializer(actorSystem);
+            final JsonJsonifiableSerializer binaryHeadersSerializer =
+                    new JsonJsonifiableSerializer(actorSystemWithBinaryHeaders);
+
+            assertBothFormatsAreRead(plainSerializer, binaryHeadersSerializer, "#binary-headers");
+        }
+
+        @Test
+        public void messageWithBinaryHeadersIsSerializedIntoByteBuffer() {
+            final CborJsonifiableSerializer underTest = new CborJsonifiableSerializer(actorSystemWithBinaryHeaders);
+            final CreateThing createThing =
+                    CreateThing.of(Thing.newBuilder().setId(ThingId.generateRandom()).build(), null, DITTO_HEADERS);
+            final ByteBuffer byteBuffer = ByteBuffer.allocate(4096);
+
+            underTest.toBinary(createThing, byteBuffer);
+            byteBuffer.flip();
+
+            assertThat(underTest.fromBinary(byteBuffer, underTest.manifest(createThing))).isEqualTo(createThing);
+        }
+
+        private static void assertBothFormatsAreRead(final AbstractJsonifiableWithDittoHeadersSerializer plainSerializer,
+                final AbstractJsonifiableWithDittoHeadersSerializer binaryHeadersSerializer,
+                final String expectedManifestOptions) {
+
+            final CreateThing createThing =
+                    CreateThing.of(Thing.newBuilder().setId(ThingId.generateRandom()).build(), null, DITTO_HEADERS);
+
+            final byte[] plainBytes = plainSerializer.toBinary(createThing);
+            final String plainManifest = plainSerializer.manifest(createThing);
+            final byte[] binaryHeadersBytes = binaryHeadersSerializer.toBinary(createThing);
+            final String binaryHeadersManifest = binaryHeadersSerializer.manifest(createThing);
+
+            assertThat(binaryHeadersManifest).isEqualTo(plainManifest + expectedManifestOptions);
+            assertThat(binaryHeadersBytes.length).isLessThan(plainBytes.length);
+            assertThat(plainSerializer.fromBinary(binaryHeadersBytes, binaryHeadersManifest)).isEqualTo(createThing);
+            assertThat(binaryHeadersSerializer.fromBinary(binaryHeadersBytes, binaryHeadersManifest))
+                    .isEqualTo(createThing);
+            assertThat(binaryHeadersSerializer.fromBinary(plainBytes, plainManifest)).isEqualTo(createThing);
+        }
+
+    }
+
+    public static final class CompressionTest {
+
+        private static ExtendedActorSystem actorSystem;
+        private static ExtendedActorSystem actorSystemWithCompression;
+
+        @BeforeClass
+        public static void setUpClass() {
+            actorSystem = getActorSystem(ThingCommandsStrategyTest.ThingCommandsStrategy.class);
+            final Config cfg = ConfigFactory.parseMap(Map.of(
+                    "ditto.mapping-strategy.implementation",
+                    ThingCommandsStrategyTest.ThingCommandsStrategy.class.getName(),
+                    "akka.actor.serializers-json.binary-headers", true,
+                    "akka.actor.serializers-json.compression-threshold", "1 KiB"));
+            actorSystemWithCompression = (ExtendedActorSystem) ExtendedActorSystem.create("test", cfg);
+        }
+
+        @AfterClass
+        public static void tearDownClass() {
+            TestKit.shutdownActorSystem(actorSystem);
+            TestKit.shutdownActorSystem(actorSystemWithCompression);
+        }
+
+        @Test
+        public void largeMessagesAreCompressedAndReadBySerializersOfBothFormats() {
+            final CborJsonifiableSerializer plainSerializer = new CborJsonifiableSerializer(actorSystem);
+            final CborJsonifiableSerializer compressingSerializer =
+                    new CborJsonifiableSerializer(actorSystemWithCompression);
+            final CreateThing createThing = CreateThing.of(newThingWithAttributes(100), null, DITTO_HEADERS);
+
+            final byte[] plainBytes = plainSerializer.toBinary(createThing);
+            final String plainManifest = plainSerializer.manifest(createThing);
+            final byte[] compressedBytes = compressingSerializer.toBinary(createThing);
+            final String compressedManifest = compressingSerializer.manifest(createThing);
+
+            assertThat(compressedManifest).isEqualTo(plainManifest + "#binary-headers#deflate");
+            assertThat(compressedBytes.length).isLessThan(plainBytes.length / 2);
+            assertThat(plainSerializer.fromBinary(compressedBytes, compressedManifest)).isEqualTo(createThing);
+            assertThat(compressingSerializer.fromBinary(compressedBytes, compressedManifest)).isEqualTo(createThing);
+            assertThat(compressingSerializer.fromBinary(plainBytes, plainManifest)).isEqualTo(createThing);
+        }
+
+        @Test
+        public void messagesAreCompressedIntoByteBuffer() {
+            final JsonJsonifiableSerializer underTest = new JsonJsonifiableSerializer(actorSystemWithCompression);
+            final CreateThing smallCreateThing = CreateThing.of(newThingWithAttributes(1), null, DITTO_HEADERS);
+            final CreateThing largeCreateThing = CreateThing.of(newThingWithAttributes(100), null, DITTO_HEADERS);
+            final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(64 * 1024);
+
+            underTest.toBinary(smallCreateThing, byteBuffer);
+            final int smallSize = byteBuffer.flip().remaining();
+            final Object smallDeserialized = underTest.fromBinary(byteBuffer, underTest.manifest(smallCreateThing));
+            underTest.toBinary(largeCreateThing, byteBuffer.clear());
+            final int largeSize = byteBuffer.flip().remaining();
+            final Object largeDeserialized = underTest.fromBinary(byteBuffer, underTest.manifest(largeCreateThing));
+
+            assertThat(smallDeserialized).isEqualTo(smallCreateThing);
+            assertThat(largeDeserialized).isEqualTo(largeCreateThing);
+            assertThat(smallSize).isLessThan(1024);
+            assertThat(largeSize).isLessThan(largeCreateThing.toJsonString().length() / 2);
+        }
+
+        private static Thing newThingWithAttributes(final int count) {
+            final JsonObjectBuilder attributesBuilder = JsonObject.newBuilder();
+            for (int i = 0; i < count; i++) {
+                attributesBuilder.set("attribute-" + i, "value of attribute number " + i);
+            }
+            return Thing.newBuilder()
+                    .setId(ThingId.generateRandom())
+                    .setAttributes(ThingsModelFactory.newAttributes(attributesBuilder.build()))
+                    .build();
+        }
+
+    }
+
+    public static final class LazyReadTest {
+
+        private static ExtendedActorSystem actorSystemWithLazyRead;
+
+        @BeforeClass
+        public static void setUpClass() {
+            final Config cfg = ConfigFactory.parseMap(Map.of(
+                    "ditto.mapping-strategy.implementation",
+                    ThingCommandsStrategyTest.ThingCommandsStrategy.class.getName(),
+                    "akka.actor.serializers-json.cbor-key-dictionary-version", 1,
+                    "akka.actor.serializers-json.lazy-read-threshold", "1 KiB"));
+            actorSystemWithLazyRead = (ExtendedActorSystem) ExtendedActorSystem.create("test", cfg);
+        }
+
+        @AfterClass
+        public static void tearDownClass() {
+            TestKit.shutdownActorSystem(actorSystemWithLazyRead);
+        }
+
+        @Test
+        public void smallAndLargeMessagesAreReadByCborSerializer() {
+            assertSmallAndLargeMessagesAreRead(new CborJsonifiableSerializer(actorSystemWithLazyRead));
+        }
+
+        @Test
+        public void smallAndLargeMessagesAreReadByJsonSerializer() {
+            assertSmallAndLargeMessagesAreRead(new JsonJsonifiableSerializer(actorSystemWithLazyRead));
+        }
+
+        private static void assertSmallAndLargeMessagesAreRead(
+                final AbstractJsonifiableWithDittoHeadersSerializer underTest) {
+
+            final CreateThing smallCreateThing =
+                    CreateThing.of(CompressionTest.newThingWithAttributes(1), null, DITTO_HEADERS);
+            final CreateThing largeCreateThing =
+                    CreateThing.of(CompressionTest.newThingWithAttributes(100), null, DITTO_HEADERS);
+
+            final byte[] smallBytes = underTest.toBinary(smallCreateThing);
+            final byte[] largeBytes = underTest.toBinary(largeCreateThing);
+
+            assertThat(smallBytes.length).isLessThan(1024);
+            assertThat(largeBytes.length).isGreaterThan(1024);
+            assertThat(underTest.fromBinary(smallBytes, underTest.manifest(smallCreateThing)))
+                    .isEqualTo(smallCreateThing);
+            assertThat(underTest.fromBinary(largeBytes, underTest.manifest(largeCreateThing)))
+                    .isEqualTo(largeCreateThing);
+        }
+
+    }
+
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.metrics.json;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonInternCacheStatistics;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+
+/**
+ * Reports the statistics of the caches which intern JSON keys and JSON pointers via {@link DittoMetrics}.
+ * Each run increments the hit and miss counters by the lookups since the previous run and sets the gauges for the
+ * hit rate in percent and the capacity. It is intended to be scheduled periodically.
+ *
+ * @since 2.0.0
+ */
+@NotThreadSafe
+public final class JsonInternCacheMetrics implements Runnable {
+
+    private static final String CACHE_PREFIX = "json_intern_cache";
+    private static final String CACHE_NAME_TAG = "cache_name";
+
+    /**
+     * Name of the counter of lookups which returned an already interned instance.
+     */
+    public static final String HITS = CACHE_PREFIX + "_hits";
+
+    /**
+     * Name of the counter of lookups which had to create a new instance.
+     */
+    public static final String MISSES = CACHE_PREFIX + "_misses";
+
+    /**
+     * Name of the gauge of the hit rate in percent since the start of the JVM.
+     */
+    public static final String HIT_RATE = CACHE_PREFIX + "_hit_rate";
+
+    /**
+     * Name of the gauge of the maximum number of entries.
+     */
+    public static final String CAPACITY = CACHE_PREFIX + "_capacity";
+
+    private final Supplier<List<JsonInternCacheStatistics>> statisticsSupplier;
+    private final Map<String, JsonInternCacheStatistics> lastReported;
+
+    private JsonInternCacheMetrics(final Supplier<List<JsonInternCacheStatistics>> statisticsSupplier) {
+        this.statisticsSupplier = statisticsSupplier;
+        lastReported = new HashMap<>();
+    }
+
+    /**
+     * Returns a new instance which reports the statistics of {@link JsonFactory#getInternCacheStatistics()}.
+     *
+     * @return the instance.
+     */
+    public static JsonInternCacheMetrics newInstance() {
+        return of(JsonFactory::getInternCacheStatistics);
+    }
+
+    /**
+     * Returns a new instance which reports the statistics of the given supplier.
+     *
+     * @param statisticsSupplier supplies the current statistics of the caches.
+     * @return the instance.
+     * @throws NullPointerException if {@code statisticsSupplier} is {@code null}.
+     */
+    public static JsonInternCacheMetrics of(final Supplier<List<JsonInternCacheStatistics>> statisticsSupplier) {
+        return new JsonInternCacheMetrics(checkNotNull(statisticsSupplier, "statisticsSupplier"));
+    }
+
+    @Override
+    public void run() {
+        for (final JsonInternCacheStatistics statistics : statisticsSupplier.get()) {
+            report(statistics);
+        }
+    }
+
+    private void report(final JsonInternCacheStatistics statistics) {
+        final String cacheName = statistics.getCacheName();
+        final JsonInternCacheStatistics previous = lastReported.put(cacheName, statistics);
+        final long previousHits = null != previous ? previous.getHitCount() : 0L;
+        final long previousMisses = null != previous ? previous.getMissCount() : 0L;
+
+        DittoMetrics.counter(HITS)
+                .tag(CACHE_NAME_TAG, cacheName)
+                .increment(Math.max(0L, statistics.getHitCount() - previousHits));
+        DittoMetrics.counter(MISSES)
+                .tag(CACHE_NAME_TAG, cacheName)
+                .increment(Math.max(0L, statistics.getMissCount() - previousMisses));
+        DittoMetrics.gauge(HIT_RATE)
+                .tag(CACHE_NAME_TAG, cacheName)
+                .set(Math.round(statistics.getHitRate() * 100));
+        DittoMetrics.gauge(CAPACITY)
+                .tag(CACHE_NAME_TAG, cacheName)
+                .set((long) statistics.getCapacity());
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2021 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.metrics.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.ditto.json.JsonInternCacheStatistics;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link JsonInternCacheMetrics}.
+ */
+public final class JsonInternCacheMetricsTest {
+
+    private static final String TEST_CACHE_NAME = "testKeys";
+
+    private final Counter hitCount = DittoMetrics.counter(JsonInternCacheMetrics.HITS)
+            .tag("cache_name", TEST_CACHE_NAME);
+    private final Counter missCount = DittoMetrics.counter(JsonInternCacheMetrics.MISSES)
+            .tag("cache_name", TEST_CACHE_NAME);
+    private final Gauge hitRate = DittoMetrics.gauge(JsonInternCacheMetrics.HIT_RATE)
+            .tag("cache_name", TEST_CACHE_NAME);
+    private final Gauge capacity = DittoMetrics.gauge(JsonInternCacheMetrics.CAPACITY)
+            .tag("cache_name", TEST_CACHE_NAME);
+
+    @Before
+    public void resetMetrics() {
+        hitCount.reset();
+        missCount.reset();
+        hitRate.reset();
+        capacity.reset();
+    }
+
+    @Test
+    public void reportsDeltasOfCountsAndCurrentGauges() {
+        final AtomicReference<JsonInternCacheStatistics> statistics =
+                new AtomicReference<>(new TestStatistics(30L, 10L));
+        final JsonInternCacheMetrics underTest =
+                JsonInternCacheMetrics.of(() -> Collections.singletonList(statistics.get()));
+
+        underTest.run();
+
+        assertThat(hitCount.getCount()).isEqualTo(30L);
+        assertThat(missCount.getCount()).isEqualTo(10L);
+        assertThat(hitRate.get()).isEqualTo(75L);
+        assertThat(capacity.get()).isEqualTo(64L);
+
+        statistics.set(new TestStatistics(90L, 10L));
+        underTest.run();
+
+        assertThat(hitCount.getCount()).isEqualTo(90L);
+        assertThat(missCount.getCount()).isEqualTo(10L);
+        assertThat(hitRate.get()).isEqualTo(90L);
+    }
+
+    private static final class TestStatistics implements JsonInternCacheStatistics {
+
+        private final long hitCount;
+        private final long missCount;
+
+        private TestStatistics(final long hitCount, final long missCount) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+        }
+
+        @Override
+        public String getCacheName() {
+            return TEST_CACHE_NAME;
+        }
+
+        @Override
+        public int getCapacity() {
+            return 64;
+        }
+
+        @Override
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        @Override
+        public long getMissCount() {
+            return missCount;
+        }
+
+    }
+
+}